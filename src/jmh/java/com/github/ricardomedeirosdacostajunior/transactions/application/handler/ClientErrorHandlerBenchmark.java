@@ -0,0 +1,49 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.handler;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A posting refused for its operation type, from the throw to the answer of the handler. Run with
+ * the gc profiler to see the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientErrorHandlerBenchmark {
+
+  private ClientErrorHandler clientErrorHandler;
+  private Integer invalidOperationType;
+
+  @Setup
+  public void setup() {
+    clientErrorHandler = new ClientErrorHandler(new SimpleMeterRegistry());
+    invalidOperationType = 5;
+  }
+
+  @Benchmark
+  public ResponseEntity<String> invalidOperationType() {
+    try {
+      return ResponseEntity.ok(OperationTypesEnumeration.valueOf(invalidOperationType).name());
+    } catch (ClientErrorException clientErrorException) {
+      return clientErrorHandler.clientErrorException(clientErrorException);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson binding of the DTOs with the same modules Spring Boot registers for the controllers, in
+ * JSON and in Smile. {@code reflective} brings back the bean binding the hand-written codecs
+ * replaced. The setup prints the payload size of each DTO in both encodings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  @Param({"hand-written", "reflective"})
+  private String binding;
+
+  private ObjectWriter writer;
+  private ObjectReader transactionReader;
+  private ObjectReader accountReader;
+  private ObjectWriter smileWriter;
+  private ObjectReader smileTransactionReader;
+  private ObjectReader smileAccountReader;
+  private TransactionDTO transactionDTO;
+  private AccountDTO accountDTO;
+  private String transactionJson;
+  private String accountJson;
+  private byte[] transactionSmile;
+  private byte[] accountSmile;
+
+  @Setup
+  public void setup() throws IOException {
+    var objectMapper =
+        binding(Jackson2ObjectMapperBuilder.json().featuresToDisable(WRITE_DATES_AS_TIMESTAMPS));
+    var smileObjectMapper =
+        binding(Jackson2ObjectMapperBuilder.smile().featuresToDisable(WRITE_DATES_AS_TIMESTAMPS));
+
+    writer = objectMapper.writer();
+    transactionReader = objectMapper.readerFor(TransactionDTO.class);
+    accountReader = objectMapper.readerFor(AccountDTO.class);
+    smileWriter = smileObjectMapper.writer();
+    smileTransactionReader = smileObjectMapper.readerFor(TransactionDTO.class);
+    smileAccountReader = smileObjectMapper.readerFor(AccountDTO.class);
+    transactionDTO =
+        TransactionDTO.builder()
+            .uuid(randomUUID())
+            .accountUuid(randomUUID())
+            .operationType(1)
+            .amount(1_000L)
+            .eventDate(now())
+            .build();
+    accountDTO =
+        AccountDTO.builder()
+            .uuid(randomUUID())
+            .documentNumber("06388715907")
+            .availableCreditLimit(1_000L)
+            .build();
+    transactionJson = writer.writeValueAsString(transactionDTO);
+    accountJson = writer.writeValueAsString(accountDTO);
+    transactionSmile = smileWriter.writeValueAsBytes(transactionDTO);
+    accountSmile = smileWriter.writeValueAsBytes(accountDTO);
+
+    System.out.printf(
+        "%nPayload bytes, %s binding: transaction %d JSON, %d Smile; account %d JSON, %d Smile%n",
+        binding,
+        writer.writeValueAsBytes(transactionDTO).length,
+        transactionSmile.length,
+        writer.writeValueAsBytes(accountDTO).length,
+        accountSmile.length);
+  }
+
+  @Benchmark
+  public String serializeTransaction() throws IOException {
+    return writer.writeValueAsString(transactionDTO);
+  }
+
+  @Benchmark
+  public TransactionDTO deserializeTransaction() throws IOException {
+    return transactionReader.readValue(transactionJson);
+  }
+
+  @Benchmark
+  public String serializeAccount() throws IOException {
+    return writer.writeValueAsString(accountDTO);
+  }
+
+  @Benchmark
+  public AccountDTO deserializeAccount() throws IOException {
+    return accountReader.readValue(accountJson);
+  }
+
+  @Benchmark
+  public byte[] serializeTransactionSmile() throws IOException {
+    return smileWriter.writeValueAsBytes(transactionDTO);
+  }
+
+  @Benchmark
+  public TransactionDTO deserializeTransactionSmile() throws IOException {
+    return smileTransactionReader.readValue(transactionSmile);
+  }
+
+  @Benchmark
+  public byte[] serializeAccountSmile() throws IOException {
+    return smileWriter.writeValueAsBytes(accountDTO);
+  }
+
+  @Benchmark
+  public AccountDTO deserializeAccountSmile() throws IOException {
+    return smileAccountReader.readValue(accountSmile);
+  }
+
+  private ObjectMapper binding(final Jackson2ObjectMapperBuilder builder) {
+    if ("reflective".equals(binding))
+      builder
+          .mixIn(TransactionDTO.class, ReflectiveBinding.class)
+          .mixIn(AccountDTO.class, ReflectiveBinding.class);
+
+    return builder.build();
+  }
+
+  // Mixed in, takes the place of the class annotations and brings the bean binding back.
+  @JsonSerialize
+  @JsonDeserialize
+  private abstract static class ReflectiveBinding {}
+}
@@ -0,0 +1,36 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationTypesEnumerationBenchmark {
+
+  @Param({"1", "4"})
+  private Integer value;
+
+  @Benchmark
+  public OperationTypesEnumeration valueOf() {
+    return OperationTypesEnumeration.valueOf(value);
+  }
+
+  @Benchmark
+  public boolean isNegative() {
+    return OperationTypesEnumeration.valueOf(value).isNegative();
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static java.math.BigDecimal.ZERO;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.math.BigDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The amount arithmetic of a posting, sign by operation type and limit check, and the amount
+ * parsing, with {@link BigDecimal} against cents in a {@code long}. Run with the gc profiler to see
+ * the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CentsBenchmark {
+
+  @Param({"123.45", "-98765.4"})
+  private String amount;
+
+  private char[] amountCharacters;
+  private BigDecimal decimalAmount;
+  private BigDecimal decimalLimit;
+  private long centsAmount;
+  private long centsLimit;
+
+  @Setup
+  public void setup() {
+    amountCharacters = amount.toCharArray();
+    decimalAmount = new BigDecimal(amount);
+    decimalLimit = new BigDecimal("1000000.00");
+    centsAmount = Cents.fromDecimal(decimalAmount);
+    centsLimit = Cents.fromDecimal(decimalLimit);
+  }
+
+  @Benchmark
+  public boolean decimalPosting() {
+    var absoluteAmount = decimalAmount.abs();
+    var signedAmount = absoluteAmount.negate();
+
+    return decimalLimit.add(signedAmount).compareTo(ZERO) > 0;
+  }
+
+  @Benchmark
+  public boolean centsPosting() {
+    var absoluteAmount = Math.abs(centsAmount);
+    var signedAmount = -absoluteAmount;
+
+    return centsLimit + signedAmount > 0;
+  }
+
+  @Benchmark
+  public BigDecimal decimalParse() {
+    return new BigDecimal(amountCharacters, 0, amountCharacters.length);
+  }
+
+  @Benchmark
+  public long centsParse() {
+    return Cents.parse(amountCharacters, 0, amountCharacters.length);
+  }
+}
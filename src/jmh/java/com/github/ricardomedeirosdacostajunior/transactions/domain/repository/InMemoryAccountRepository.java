@@ -0,0 +1,127 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.StreamSupport;
+
+/** Keeps accounts in a map, so benchmarks measure the application code and not a database. */
+public class InMemoryAccountRepository implements AccountRepository {
+
+  private final ConcurrentMap<UUID, Account> accounts = new ConcurrentHashMap<>();
+
+  @Override
+  public Account insert(final Account account) {
+    accounts.put(account.getUuid(), account);
+
+    return account;
+  }
+
+  @Override
+  public int addToAvailableCreditLimit(final UUID uuid, final long amount) {
+    var updated = new int[1];
+
+    accounts.computeIfPresent(
+        uuid,
+        (key, account) -> {
+          var newLimit = account.getAvailableCreditLimit() + amount;
+
+          if (newLimit <= 0) return account;
+
+          updated[0] = 1;
+          return account.withAvailableCreditLimit(newLimit);
+        });
+
+    return updated[0];
+  }
+
+  @Override
+  public int replaceAvailableCreditLimit(
+      final UUID uuid, final long expectedLimit, final long newLimit) {
+    var updated = new int[1];
+
+    accounts.computeIfPresent(
+        uuid,
+        (key, account) -> {
+          if (account.getAvailableCreditLimit() != expectedLimit) return account;
+
+          updated[0] = 1;
+          return account.withAvailableCreditLimit(newLimit);
+        });
+
+    return updated[0];
+  }
+
+  @Override
+  public List<UUID> findUuids(final UUID from, final UUID to, final UUID after, final int limit) {
+    return List.of();
+  }
+
+  @Override
+  public <S extends Account> S save(final S account) {
+    accounts.put(account.getUuid(), account);
+
+    return account;
+  }
+
+  @Override
+  public <S extends Account> Iterable<S> saveAll(final Iterable<S> accounts) {
+    accounts.forEach(this::save);
+
+    return accounts;
+  }
+
+  @Override
+  public Optional<Account> findById(final UUID uuid) {
+    return ofNullable(accounts.get(uuid));
+  }
+
+  @Override
+  public boolean existsById(final UUID uuid) {
+    return accounts.containsKey(uuid);
+  }
+
+  @Override
+  public Iterable<Account> findAll() {
+    return accounts.values();
+  }
+
+  @Override
+  public Iterable<Account> findAllById(final Iterable<UUID> uuids) {
+    return StreamSupport.stream(uuids.spliterator(), false)
+        .map(accounts::get)
+        .filter(account -> account != null)
+        .collect(toList());
+  }
+
+  @Override
+  public long count() {
+    return accounts.size();
+  }
+
+  @Override
+  public void deleteById(final UUID uuid) {
+    accounts.remove(uuid);
+  }
+
+  @Override
+  public void delete(final Account account) {
+    accounts.remove(account.getUuid());
+  }
+
+  @Override
+  public void deleteAll(final Iterable<? extends Account> accounts) {
+    accounts.forEach(this::delete);
+  }
+
+  @Override
+  public void deleteAll() {
+    accounts.clear();
+  }
+}
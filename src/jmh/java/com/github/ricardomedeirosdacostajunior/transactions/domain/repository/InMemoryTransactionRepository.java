@@ -0,0 +1,121 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.Optional.empty;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Counts transactions instead of keeping them, so a long benchmark run does not turn into a heap
+ * growth measurement.
+ */
+public class InMemoryTransactionRepository implements TransactionRepository {
+
+  private final LongAdder transactions = new LongAdder();
+
+  @Override
+  public Transaction insert(final Transaction transaction) {
+    transactions.increment();
+
+    return transaction;
+  }
+
+  @Override
+  public void insertAll(final List<Transaction> transactions) {
+    this.transactions.add(transactions.size());
+  }
+
+  @Override
+  public List<Transaction> findPage(
+      final UUID accountUuid,
+      final OperationTypesEnumeration operationType,
+      final TransactionCursor after,
+      final int limit) {
+    return List.of();
+  }
+
+  @Override
+  public List<Transaction> findTransactionsAfter(
+      final TransactionCursor after, final LocalDateTime settledBefore, final int limit) {
+    return List.of();
+  }
+
+  @Override
+  public void export(
+      final UUID accountUuid,
+      final LocalDateTime from,
+      final LocalDateTime to,
+      final Consumer<Transaction> transactions) {}
+
+  @Override
+  public List<YearMonth> findPartitions() {
+    return List.of();
+  }
+
+  @Override
+  public void createPartition(final YearMonth month) {}
+
+  @Override
+  public void detachPartition(final YearMonth month) {}
+
+  @Override
+  public <S extends Transaction> S save(final S transaction) {
+    transactions.increment();
+
+    return transaction;
+  }
+
+  @Override
+  public <S extends Transaction> Iterable<S> saveAll(final Iterable<S> transactions) {
+    transactions.forEach(this::save);
+
+    return transactions;
+  }
+
+  @Override
+  public Optional<Transaction> findById(final UUID uuid) {
+    return empty();
+  }
+
+  @Override
+  public boolean existsById(final UUID uuid) {
+    return false;
+  }
+
+  @Override
+  public Iterable<Transaction> findAll() {
+    return List.of();
+  }
+
+  @Override
+  public Iterable<Transaction> findAllById(final Iterable<UUID> uuids) {
+    return List.of();
+  }
+
+  @Override
+  public long count() {
+    return transactions.sum();
+  }
+
+  @Override
+  public void deleteById(final UUID uuid) {}
+
+  @Override
+  public void delete(final Transaction transaction) {}
+
+  @Override
+  public void deleteAll(final Iterable<? extends Transaction> transactions) {}
+
+  @Override
+  public void deleteAll() {
+    transactions.reset();
+  }
+}
@@ -0,0 +1,90 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.Optional.empty;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.DatabaseLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DTO to entity mapping, as done on every request. Transactions are mapped with constructors,
+ * accounts still go through the Lombok builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+  private TransactionService transactionService;
+  private Account account;
+  private AccountDTO accountDTO;
+  private TransactionDTO transactionDTO;
+  private Transaction transaction;
+
+  @Setup
+  public void setup() {
+    transactionService =
+        new TransactionService(
+            null,
+            null,
+            new DatabaseLedgerEngine(null),
+            new TimeOrderedUuidGenerator(),
+            new TransactionMetrics(new SimpleMeterRegistry()),
+            empty(),
+            empty());
+    account =
+        Account.builder()
+            .uuid(randomUUID())
+            .documentNumber("06388715907")
+            .availableCreditLimit(1_000L)
+            .build();
+    accountDTO =
+        AccountDTO.builder().documentNumber("06388715907").availableCreditLimit(1_000L).build();
+    transactionDTO =
+        TransactionDTO.builder()
+            .accountUuid(account.getUuid())
+            .operationType(1)
+            .amount(1_000L)
+            .build();
+    transaction = transactionService.dtoToEntity(transactionDTO, account);
+  }
+
+  @Benchmark
+  public Account accountDtoToEntity() {
+    return Account.builder()
+        .uuid(randomUUID())
+        .documentNumber(accountDTO.getDocumentNumber())
+        .availableCreditLimit(accountDTO.getAvailableCreditLimit())
+        .build();
+  }
+
+  @Benchmark
+  public Transaction transactionDtoToEntity() {
+    return transactionService.dtoToEntity(transactionDTO, account);
+  }
+
+  @Benchmark
+  public TransactionDTO transactionEntityToDto() {
+    return transactionService.entityToDto(transaction);
+  }
+}
@@ -0,0 +1,118 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.cache.AccountCache;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.DatabaseLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.LedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.ShardedLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.PrimaryReadRouter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.InMemoryAccountRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.InMemoryTransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link TransactionService#create} over in-memory repositories, for each ledger
+ * mode. Purchases and payments of the same value alternate, so the limits never run out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TransactionServiceBenchmark {
+
+  private static final int ACCOUNTS = 1024;
+  private static final int IN_CASH = 1;
+  private static final int PAYMENT = 4;
+
+  @Param({"database", "sharded"})
+  private String ledgerMode;
+
+  private LedgerEngine ledgerEngine;
+  private TransactionService transactionService;
+  private TransactionDTO[] transactionDTOs;
+
+  @Setup
+  public void setup() {
+    var accountRepository = new InMemoryAccountRepository();
+    var accountService =
+        new AccountService(
+            accountRepository,
+            new TimeOrderedUuidGenerator(),
+            new AccountCache(ACCOUNTS, Duration.ofMinutes(1)),
+            new PrimaryReadRouter());
+
+    ledgerEngine =
+        "sharded".equals(ledgerMode)
+            ? new ShardedLedgerEngine(accountService, withoutTransaction(), 8)
+            : new DatabaseLedgerEngine(accountService);
+    transactionService =
+        new TransactionService(
+            accountService,
+            new InMemoryTransactionRepository(),
+            ledgerEngine,
+            new TimeOrderedUuidGenerator(),
+            new TransactionMetrics(new SimpleMeterRegistry()),
+            empty(),
+            empty());
+    transactionDTOs = new TransactionDTO[ACCOUNTS * 2];
+
+    for (var index = 0; index < ACCOUNTS; index++) {
+      var accountUuid = UUID.randomUUID();
+
+      accountRepository.insert(
+          Account.builder()
+              .uuid(accountUuid)
+              .documentNumber(String.valueOf(index))
+              .availableCreditLimit(100_000_000L)
+              .build());
+      transactionDTOs[index * 2] = transactionDTO(accountUuid, IN_CASH);
+      transactionDTOs[index * 2 + 1] = transactionDTO(accountUuid, PAYMENT);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (ledgerEngine instanceof ShardedLedgerEngine)
+      ((ShardedLedgerEngine) ledgerEngine).shutdown();
+  }
+
+  @Benchmark
+  public TransactionDTO create() {
+    return transactionService.create(
+        transactionDTOs[ThreadLocalRandom.current().nextInt(transactionDTOs.length)]);
+  }
+
+  private TransactionDTO transactionDTO(final UUID accountUuid, final int operationType) {
+    return TransactionDTO.builder()
+        .accountUuid(accountUuid)
+        .operationType(operationType)
+        .amount(100L)
+        .build();
+  }
+}
@@ -0,0 +1,162 @@
+package com.github.ricardomedeirosdacostajunior.transactions.loadtest;
+
+import static java.lang.System.nanoTime;
+
+import com.github.ricardomedeirosdacostajunior.transactions.TransactionsApplication;
+import com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat;
+import com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExporter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.UuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionExportService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Boots the application without its web server against the configured Postgres, inserts {@code
+ * rows} transactions and exports the whole table {@code runs} times. Every run prints the
+ * throughput of the cursor alone, the rows read and mapped but not written, then of the export to
+ * a discarding stream in {@code format}, so the database and the serialization show apart against
+ * the target of hundreds of thousands of rows per second.
+ *
+ * <p>Options, all as {@code --name=value}: {@code rows} (rows inserted first, 0 exports the rows
+ * already in the table, 5000000), {@code batch-size} (rows per insert transaction, 5000), {@code
+ * accounts} (accounts the rows are spread over, 100), {@code format} ({@code ndjson} or {@code
+ * csv}, ndjson), {@code gzip} (false) and {@code runs} (3). The rows are left in the database.
+ */
+public class ExportBenchmark {
+
+  private final Map<String, String> options;
+
+  private ExportBenchmark(final Map<String, String> options) {
+    this.options = options;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    var options = new HashMap<String, String>();
+
+    for (var arg : args) {
+      var option = arg.replaceFirst("^--", "").split("=", 2);
+      options.put(option[0], option.length > 1 ? option[1] : "true");
+    }
+
+    new ExportBenchmark(options).run();
+  }
+
+  private void run() throws IOException {
+    var builder =
+        new SpringApplicationBuilder(TransactionsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.jpa.show-sql=false",
+                // The folders would read the table while it is exported, they wait out the run.
+                "transactions.snapshot.interval=365d",
+                "transactions.daily-total.interval=365d");
+
+    try (var context = builder.run()) {
+      insert(context);
+
+      var format = TransactionExportFormat.of(options.getOrDefault("format", "ndjson"));
+      var gzip = Boolean.parseBoolean(options.getOrDefault("gzip", "false"));
+      var transactionExportService = context.getBean(TransactionExportService.class);
+      var transactionExporter = context.getBean(TransactionExporter.class);
+
+      System.out.printf(
+          "%n%4s %12s %14s %14s %10s%n", "run", "rows", "cursor rows/s", "export rows/s", "MB");
+
+      for (var run = 1; run <= intOption("runs", 3); run++) {
+        var start = nanoTime();
+        var read = transactionExportService.export(null, null, null, transactionDTO -> {});
+        var readNanos = nanoTime() - start;
+
+        var output = new CountingOutputStream();
+        start = nanoTime();
+        var exported = transactionExporter.export(format, gzip, null, null, null, output);
+        var exportNanos = nanoTime() - start;
+
+        System.out.printf(
+            "%4d %12d %14.0f %14.0f %10d%n",
+            run,
+            exported,
+            read / (readNanos / 1e9),
+            exported / (exportNanos / 1e9),
+            output.bytes / (1024 * 1024));
+      }
+    }
+  }
+
+  private void insert(final ConfigurableApplicationContext context) {
+    var rows = intOption("rows", 5_000_000);
+    if (rows == 0) return;
+
+    var accountService = context.getBean(AccountService.class);
+    var uuidGenerator = context.getBean(UuidGenerator.class);
+    var transactionRepository = context.getBean(TransactionRepository.class);
+    var transactionOperations = context.getBean(TransactionOperations.class);
+    var batchSize = intOption("batch-size", 5000);
+    var random = ThreadLocalRandom.current();
+    var accounts = new ArrayList<Account>();
+
+    for (var index = 0; index < intOption("accounts", 100); index++)
+      accounts.add(
+          Account.builder()
+              .uuid(
+                  accountService
+                      .create(
+                          AccountDTO.builder()
+                              .documentNumber("06388715907")
+                              .availableCreditLimit(Long.MAX_VALUE / 2)
+                              .build())
+                      .getUuid())
+              .build());
+
+    for (var inserted = 0; inserted < rows; ) {
+      var batch = new ArrayList<Transaction>(batchSize);
+
+      while (batch.size() < batchSize && inserted + batch.size() < rows)
+        batch.add(
+            new Transaction(
+                uuidGenerator.next(),
+                accounts.get(random.nextInt(accounts.size())),
+                OperationTypesEnumeration.PAYMENT,
+                LocalDateTime.now(),
+                random.nextInt(1, 5000)));
+
+      transactionOperations.executeWithoutResult(status -> transactionRepository.insertAll(batch));
+      inserted += batch.size();
+    }
+  }
+
+  private int intOption(final String name, final int defaultValue) {
+    return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+  }
+
+  /** Discards what is written, counting its bytes. */
+  private static final class CountingOutputStream extends OutputStream {
+
+    private long bytes;
+
+    @Override
+    public void write(final int b) {
+      bytes++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      bytes += len;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.github.ricardomedeirosdacostajunior.transactions.loadtest;
+
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionResponse;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.GetAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.TransactionsGrpc;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.TransactionsGrpc.TransactionsStub;
+import com.google.protobuf.Int64Value;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The load test's client of the gRPC service, answering with futures as the HTTP client does. The
+ * transactions are created with unary calls, or over {@code streams} bidirectional streams taken in
+ * turn when that is above zero.
+ */
+class GrpcClient implements AutoCloseable {
+
+  private final ManagedChannel channel;
+  private final TransactionsStub stub;
+  private final List<TransactionStream> streams = new ArrayList<>();
+  private final AtomicInteger nextStream = new AtomicInteger();
+
+  GrpcClient(final int port, final int streams) {
+    this.channel = ManagedChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+    this.stub = TransactionsGrpc.newStub(channel);
+
+    for (var index = 0; index < streams; index++) this.streams.add(new TransactionStream());
+  }
+
+  /**
+   * The HTTP status the REST API answers for the outcome of a call: {@code 200}, {@code 400} for a
+   * client error, {@code 404} for a missing account and {@code 500} for anything else.
+   */
+  static int status(final Throwable throwable) {
+    switch (Status.fromThrowable(throwable).getCode()) {
+      case OK:
+        return 200;
+      case INVALID_ARGUMENT:
+        return 400;
+      case NOT_FOUND:
+        return 404;
+      default:
+        return 500;
+    }
+  }
+
+  CompletableFuture<UUID> createAccount(final String documentNumber, final long limitCents) {
+    var request =
+        CreateAccountRequest.newBuilder()
+            .setDocumentNumber(documentNumber)
+            .setAvailableCreditLimitCents(Int64Value.of(limitCents))
+            .build();
+    var response = new UnaryResponse<Account>();
+    stub.createAccount(request, response);
+
+    return response.result.thenApply(account -> UUID.fromString(account.getId()));
+  }
+
+  CompletableFuture<Account> findAccount(final UUID uuid) {
+    var response = new UnaryResponse<Account>();
+    stub.getAccount(GetAccountRequest.newBuilder().setId(uuid.toString()).build(), response);
+
+    return response.result;
+  }
+
+  CompletableFuture<Transaction> createTransaction(
+      final UUID accountUuid, final int operationType, final long amountCents) {
+    var request =
+        CreateTransactionRequest.newBuilder()
+            .setAccountId(accountUuid.toString())
+            .setOperationType(operationType)
+            .setAmountCents(amountCents)
+            .build();
+
+    if (!streams.isEmpty())
+      return streams
+          .get(Math.floorMod(nextStream.getAndIncrement(), streams.size()))
+          .send(request);
+
+    var response = new UnaryResponse<Transaction>();
+    stub.createTransaction(request, response);
+
+    return response.result;
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    streams.forEach(TransactionStream::close);
+    channel.shutdown().awaitTermination(10, SECONDS);
+  }
+
+  private static final class UnaryResponse<T> implements StreamObserver<T> {
+
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    @Override
+    public void onNext(final T value) {
+      result.complete(value);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+      // Completed by its single value.
+    }
+  }
+
+  /** A stream of transactions, its answers come in the order of the requests. */
+  private final class TransactionStream implements StreamObserver<CreateTransactionResponse> {
+
+    private final Queue<CompletableFuture<Transaction>> pending = new ArrayDeque<>();
+    private final StreamObserver<CreateTransactionRequest> requests;
+
+    private TransactionStream() {
+      this.requests = stub.createTransactions(this);
+    }
+
+    // Queued and sent under the same lock, so the queue keeps the order of the stream.
+    private synchronized CompletableFuture<Transaction> send(
+        final CreateTransactionRequest request) {
+      var result = new CompletableFuture<Transaction>();
+      pending.add(result);
+      requests.onNext(request);
+
+      return result;
+    }
+
+    private synchronized void close() {
+      requests.onCompleted();
+    }
+
+    @Override
+    public void onNext(final CreateTransactionResponse response) {
+      var result = poll();
+
+      if (response.hasTransaction()) result.complete(response.getTransaction());
+      else
+        result.completeExceptionally(
+            Status.INVALID_ARGUMENT
+                .withDescription(response.getError().getMessage())
+                .asRuntimeException());
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      for (var result = poll(); nonNull(result); result = poll())
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+      onError(Status.UNAVAILABLE.withDescription("Stream completed").asRuntimeException());
+    }
+
+    private synchronized CompletableFuture<Transaction> poll() {
+      return pending.poll();
+    }
+  }
+}
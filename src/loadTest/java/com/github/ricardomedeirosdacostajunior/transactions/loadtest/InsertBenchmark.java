@@ -0,0 +1,154 @@
+package com.github.ricardomedeirosdacostajunior.transactions.loadtest;
+
+import static java.lang.System.nanoTime;
+
+import com.github.ricardomedeirosdacostajunior.transactions.TransactionsApplication;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.UuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Boots the application without its web server against the configured Postgres and inserts {@code
+ * rows} transactions in JDBC batches, keyed by the {@code transactions.identifier.mode} under test.
+ * Every {@code report-every} rows it prints the insert throughput of those rows, so the slowdown of
+ * random keys, whose primary key pages stop fitting in memory as the index grows, shows against
+ * time-ordered ones. At the end it prints the size of the primary key indexes of the table.
+ *
+ * <p>Options, all as {@code --name=value}: {@code mode} ({@code time-ordered} or {@code random},
+ * time-ordered), {@code rows} (20000000), {@code batch-size} (rows per database transaction, 5000),
+ * {@code report-every} (1000000) and {@code accounts} (accounts the rows are spread over, 100).
+ * Each mode is meant to run on an empty database, the rows are left in it.
+ */
+public class InsertBenchmark {
+
+  // The primary key index of every monthly partition, the default one included.
+  private static final String PRIMARY_KEY_SIZE =
+      "select coalesce(sum(pg_relation_size(i.indexrelid)), 0) from pg_index i"
+          + " join pg_inherits h on h.inhrelid = i.indrelid"
+          + " where h.inhparent = 'transaction'::regclass and i.indisprimary";
+
+  private final Map<String, String> options;
+
+  private InsertBenchmark(final Map<String, String> options) {
+    this.options = options;
+  }
+
+  public static void main(final String[] args) {
+    var options = new HashMap<String, String>();
+
+    for (var arg : args) {
+      var option = arg.replaceFirst("^--", "").split("=", 2);
+      options.put(option[0], option.length > 1 ? option[1] : "true");
+    }
+
+    new InsertBenchmark(options).run();
+  }
+
+  private void run() {
+    var mode = options.getOrDefault("mode", "time-ordered");
+    var builder =
+        new SpringApplicationBuilder(TransactionsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.jpa.show-sql=false",
+                "transactions.identifier.mode=" + mode,
+                // The folders would read the table while it is written, they wait out the run.
+                "transactions.snapshot.interval=365d",
+                "transactions.daily-total.interval=365d");
+
+    try (var context = builder.run()) {
+      var accountService = context.getBean(AccountService.class);
+      var accounts = new ArrayList<Account>();
+
+      for (var index = 0; index < intOption("accounts", 100); index++)
+        accounts.add(
+            Account.builder()
+                .uuid(
+                    accountService
+                        .create(
+                            AccountDTO.builder()
+                                .documentNumber("06388715907")
+                                .availableCreditLimit(Long.MAX_VALUE / 2)
+                                .build())
+                        .getUuid())
+                .build());
+
+      var elapsed =
+          insert(
+              accounts,
+              context.getBean(UuidGenerator.class),
+              context.getBean(TransactionRepository.class),
+              context.getBean(TransactionOperations.class));
+      var rows = intOption("rows", 20_000_000);
+
+      System.out.printf(
+          "%n%s keys: %d rows in %.1f s, %.0f rows/s, primary key indexes %d MB%n",
+          mode,
+          rows,
+          elapsed / 1e9,
+          rows / (elapsed / 1e9),
+          context.getBean(JdbcTemplate.class).queryForObject(PRIMARY_KEY_SIZE, Long.class)
+              / (1024 * 1024));
+    }
+  }
+
+  private long insert(
+      final List<Account> accounts,
+      final UuidGenerator uuidGenerator,
+      final TransactionRepository transactionRepository,
+      final TransactionOperations transactionOperations) {
+    var rows = intOption("rows", 20_000_000);
+    var batchSize = intOption("batch-size", 5000);
+    var reportEvery = intOption("report-every", 1_000_000);
+    var random = ThreadLocalRandom.current();
+    var start = nanoTime();
+    var windowStart = start;
+    var windowRows = 0;
+
+    System.out.printf("%n%12s %12s%n", "rows", "rows/s");
+
+    for (var inserted = 0; inserted < rows; ) {
+      var batch = new ArrayList<Transaction>(batchSize);
+
+      while (batch.size() < batchSize && inserted + batch.size() < rows)
+        batch.add(
+            new Transaction(
+                uuidGenerator.next(),
+                accounts.get(random.nextInt(accounts.size())),
+                OperationTypesEnumeration.PAYMENT,
+                LocalDateTime.now(),
+                random.nextInt(1, 5000)));
+
+      transactionOperations.executeWithoutResult(status -> transactionRepository.insertAll(batch));
+      inserted += batch.size();
+      windowRows += batch.size();
+
+      if (windowRows >= reportEvery || inserted == rows) {
+        var now = nanoTime();
+        System.out.printf("%12d %12.0f%n", inserted, windowRows / ((now - windowStart) / 1e9));
+        windowStart = now;
+        windowRows = 0;
+      }
+    }
+
+    return nanoTime() - start;
+  }
+
+  private int intOption(final String name, final int defaultValue) {
+    return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+  }
+}
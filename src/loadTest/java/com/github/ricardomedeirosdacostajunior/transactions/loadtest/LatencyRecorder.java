@@ -0,0 +1,41 @@
+package com.github.ricardomedeirosdacostajunior.transactions.loadtest;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+
+/**
+ * Latencies of one operation, in nanoseconds, measured from the instant the request was due and
+ * not from the instant it was sent, so a stalled server is charged for the requests queued behind
+ * it.
+ */
+final class LatencyRecorder {
+
+  private long[] latencies = new long[1024];
+  private int count;
+  private int errors;
+
+  synchronized void record(final long latency, final boolean error) {
+    if (count == latencies.length) latencies = copyOf(latencies, count * 2);
+
+    latencies[count++] = latency;
+
+    if (error) errors++;
+  }
+
+  synchronized int count() {
+    return count;
+  }
+
+  synchronized int errors() {
+    return errors;
+  }
+
+  synchronized long percentile(final double percentile) {
+    if (count == 0) return 0;
+
+    var sorted = copyOf(latencies, count);
+    sort(sorted);
+
+    return sorted[Math.min(count - 1, (int) Math.ceil(percentile / 100 * count) - 1)];
+  }
+}
@@ -0,0 +1,374 @@
+package com.github.ricardomedeirosdacostajunior.transactions.loadtest;
+
+import static java.lang.System.nanoTime;
+import static java.util.Collections.nCopies;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ricardomedeirosdacostajunior.transactions.TransactionsApplication;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.GrpcServer;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application and drives an open-loop mix of requests against it: request {@code i} is
+ * due at {@code start + i / rate} whether or not the previous ones have been answered, and its
+ * latency is measured from that instant. At the end it prints p50/p99/p999 per operation and checks
+ * every account's available credit limit against the sum of the transactions the service accepted.
+ *
+ * <p>Options, all as {@code --name=value}: {@code rate} (requests per second, 200), {@code
+ * duration} (seconds, 30), {@code mix} (weights of create account, find account and create
+ * transaction, 5:25:70), {@code accounts} (accounts created before the run, 100), {@code
+ * database} ({@code h2} or {@code postgres}, h2), {@code stack} ({@code servlet} or {@code
+ * reactive}, servlet), {@code execution} ({@code worker} or {@code virtual}, worker, servlet stack
+ * only), {@code pool-size} (connections of the JDBC and R2DBC pools, their defaults), {@code
+ * protocol} ({@code rest}, {@code grpc} or {@code grpc-stream}, rest), {@code streams}
+ * (bidirectional streams the transactions are spread over with {@code grpc-stream}, 4), {@code
+ * replica-urls} (JDBC URLs of replicas the account and history reads are routed to, none) and
+ * {@code replicas} (read-only pools on the load test's own database standing in for replicas, 0).
+ *
+ * <p>With {@code grpc} every request is a unary call to the gRPC service, with {@code grpc-stream}
+ * the transactions go over long-lived streams instead. A call failing with {@code INVALID_ARGUMENT}
+ * or {@code NOT_FOUND} counts as the {@code 400} or {@code 404} the REST API would answer.
+ */
+public class LoadTest {
+
+  private static final long INITIAL_LIMIT = 100_000L;
+  private static final String JSON = "application/json";
+
+  private enum Operation {
+    CREATE_ACCOUNT,
+    FIND_ACCOUNT,
+    CREATE_TRANSACTION
+  }
+
+  private final Map<String, String> options;
+  private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+  private final List<UUID> accounts = new CopyOnWriteArrayList<>();
+  private final Map<UUID, Long> expectedLimits = new ConcurrentHashMap<>();
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  private ObjectMapper objectMapper;
+  private URI baseUri;
+  private GrpcClient grpcClient;
+
+  private LoadTest(final Map<String, String> options) {
+    this.options = options;
+
+    for (var operation : Operation.values()) recorders.put(operation, new LatencyRecorder());
+  }
+
+  public static void main(final String[] args) throws Exception {
+    var options = new HashMap<String, String>();
+
+    for (var arg : args) {
+      var option = arg.replaceFirst("^--", "").split("=", 2);
+      options.put(option[0], option.length > 1 ? option[1] : "true");
+    }
+
+    System.exit(new LoadTest(options).run() ? 0 : 1);
+  }
+
+  private boolean run() throws Exception {
+    try (var context = boot()) {
+      objectMapper = context.getBean(ObjectMapper.class);
+      baseUri =
+          URI.create(
+              "http://localhost:"
+                  + ((WebServerApplicationContext) context).getWebServer().getPort());
+
+      var protocol = options.getOrDefault("protocol", "rest");
+      if (protocol.startsWith("grpc"))
+        grpcClient =
+            new GrpcClient(
+                context.getBean(GrpcServer.class).getPort(),
+                "grpc-stream".equals(protocol) ? intOption("streams", 4) : 0);
+
+      try {
+        for (var index = 0; index < intOption("accounts", 100); index++) createAccount().join();
+
+        var elapsed = drive();
+        report(elapsed);
+      } finally {
+        if (nonNull(grpcClient)) grpcClient.close();
+      }
+
+      return verify(context.getBean(AccountRepository.class));
+    }
+  }
+
+  private ConfigurableApplicationContext boot() {
+    var builder =
+        new SpringApplicationBuilder(TransactionsApplication.class)
+            .properties(
+                "server.port=0",
+                "transactions.grpc.port=0",
+                "spring.jpa.show-sql=false",
+                "transactions.execution.mode=" + options.getOrDefault("execution", "worker"));
+
+    if ("h2".equals(options.getOrDefault("database", "h2")))
+      builder.properties(
+          "spring.datasource.platform=h2",
+          "spring.datasource.driverClassName=org.h2.Driver",
+          "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+          "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+          "spring.r2dbc.url=r2dbc:h2:mem:///loadtest?options=DB_CLOSE_DELAY=-1",
+          // H2 has no partitioning, the postgresql migrations are skipped too.
+          "transactions.partition.mode=none");
+
+    if (options.containsKey("pool-size"))
+      builder.properties(
+          "spring.datasource.hikari.maximum-pool-size=" + options.get("pool-size"),
+          "spring.r2dbc.pool.initial-size=1",
+          "spring.r2dbc.pool.max-size=" + options.get("pool-size"));
+
+    if (options.containsKey("replica-urls"))
+      builder.properties(
+          "transactions.read.mode=replica",
+          "transactions.replica.urls=" + options.get("replica-urls"));
+    else if (intOption("replicas", 0) > 0)
+      builder.properties(
+          "transactions.read.mode=replica",
+          "transactions.replica.urls="
+              + String.join(",", nCopies(intOption("replicas", 0), "${spring.datasource.url}")));
+
+    if ("reactive".equals(options.getOrDefault("stack", "servlet"))) builder.profiles("reactive");
+
+    return builder.run();
+  }
+
+  private long drive() throws InterruptedException {
+    var rate = intOption("rate", 200);
+    var requests = rate * intOption("duration", 30);
+    var intervalNanos = SECONDS.toNanos(1) / rate;
+    var weights = options.getOrDefault("mix", "5:25:70").split(":");
+    var completed = new CountDownLatch(requests);
+    var start = nanoTime();
+
+    for (var index = 0L; index < requests; index++) {
+      var due = start + index * intervalNanos;
+      var operation = nextOperation(weights);
+      var recorder = recorders.get(operation);
+
+      LockSupport.parkNanos(due - nanoTime());
+
+      send(operation)
+          .whenComplete(
+              (status, throwable) -> {
+                recorder.record(nanoTime() - due, throwable != null || status >= 500);
+                completed.countDown();
+              });
+    }
+
+    completed.await(1, MINUTES);
+
+    return nanoTime() - start;
+  }
+
+  private Operation nextOperation(final String[] weights) {
+    var createAccount = Integer.parseInt(weights[0]);
+    var findAccount = Integer.parseInt(weights[1]);
+    var draw =
+        ThreadLocalRandom.current()
+            .nextInt(createAccount + findAccount + Integer.parseInt(weights[2]));
+
+    if (draw < createAccount) return Operation.CREATE_ACCOUNT;
+
+    return draw < createAccount + findAccount
+        ? Operation.FIND_ACCOUNT
+        : Operation.CREATE_TRANSACTION;
+  }
+
+  private CompletableFuture<Integer> send(final Operation operation) {
+    switch (operation) {
+      case CREATE_ACCOUNT:
+        return createAccount();
+      case FIND_ACCOUNT:
+        if (nonNull(grpcClient))
+          return grpcClient
+              .findAccount(anAccount())
+              .thenApply(account -> 200)
+              .exceptionally(GrpcClient::status);
+
+        return httpClient
+            .sendAsync(
+                HttpRequest.newBuilder(baseUri.resolve("/accounts/" + anAccount())).build(),
+                BodyHandlers.ofString())
+            .thenApply(HttpResponse::statusCode);
+      default:
+        return createTransaction();
+    }
+  }
+
+  private CompletableFuture<Integer> createAccount() {
+    if (nonNull(grpcClient))
+      return grpcClient
+          .createAccount("06388715907", INITIAL_LIMIT)
+          .thenApply(
+              uuid -> {
+                expectedLimits.put(uuid, INITIAL_LIMIT);
+                accounts.add(uuid);
+
+                return 200;
+              })
+          .exceptionally(GrpcClient::status);
+
+    var accountDTO =
+        AccountDTO.builder()
+            .documentNumber("06388715907")
+            .availableCreditLimit(INITIAL_LIMIT)
+            .build();
+
+    return post("/accounts", accountDTO)
+        .thenApply(
+            response -> {
+              if (response.statusCode() == 200) {
+                var uuid = read(response.body(), AccountDTO.class).getUuid();
+                expectedLimits.put(uuid, INITIAL_LIMIT);
+                accounts.add(uuid);
+              }
+
+              return response.statusCode();
+            });
+  }
+
+  private CompletableFuture<Integer> createTransaction() {
+    var random = ThreadLocalRandom.current();
+    var accountUuid = anAccount();
+    var operationType = random.nextInt(1, 5);
+    var amount = (long) random.nextInt(1, 5000);
+
+    if (nonNull(grpcClient))
+      return grpcClient
+          .createTransaction(accountUuid, operationType, amount)
+          .thenApply(
+              created -> {
+                expectedLimits.merge(accountUuid, created.getAmountCents(), Long::sum);
+
+                return 200;
+              })
+          .exceptionally(GrpcClient::status);
+
+    var transactionDTO =
+        TransactionDTO.builder()
+            .accountUuid(accountUuid)
+            .operationType(operationType)
+            .amount(amount)
+            .build();
+
+    return post("/transactions", transactionDTO)
+        .thenApply(
+            response -> {
+              if (response.statusCode() == 200) {
+                var created = read(response.body(), TransactionDTO.class);
+                expectedLimits.merge(created.getAccountUuid(), created.getAmount(), Long::sum);
+              }
+
+              return response.statusCode();
+            });
+  }
+
+  private CompletableFuture<HttpResponse<String>> post(final String path, final Object body) {
+    try {
+      return httpClient.sendAsync(
+          HttpRequest.newBuilder(baseUri.resolve(path))
+              .header("Content-Type", JSON)
+              .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+              .build(),
+          BodyHandlers.ofString());
+    } catch (IOException ioException) {
+      throw new UncheckedIOException(ioException);
+    }
+  }
+
+  private <T> T read(final String body, final Class<T> type) {
+    try {
+      return objectMapper.readValue(body, type);
+    } catch (IOException ioException) {
+      throw new UncheckedIOException(ioException);
+    }
+  }
+
+  private UUID anAccount() {
+    return accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+  }
+
+  private void report(final long elapsedNanos) {
+    var total = recorders.values().stream().mapToInt(LatencyRecorder::count).sum();
+
+    System.out.printf(
+        "%n%d requests in %.1f s, %.1f requests/s%n",
+        total, elapsedNanos / 1e9, total / (elapsedNanos / 1e9));
+    System.out.printf(
+        "%-20s %8s %8s %10s %10s %10s %10s%n",
+        "operation", "count", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+    recorders.forEach(
+        (operation, recorder) ->
+            System.out.printf(
+                "%-20s %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                operation,
+                recorder.count(),
+                recorder.errors(),
+                millis(recorder.percentile(50)),
+                millis(recorder.percentile(99)),
+                millis(recorder.percentile(99.9)),
+                millis(recorder.percentile(100))));
+  }
+
+  private boolean verify(final AccountRepository accountRepository) {
+    var mismatches = 0;
+
+    for (var expected : expectedLimits.entrySet()) {
+      var actualLimit =
+          accountRepository.findById(expected.getKey()).orElseThrow().getAvailableCreditLimit();
+
+      if (actualLimit != expected.getValue()) {
+        mismatches++;
+        System.out.printf(
+            "Account %s: expected %d cents, found %d%n",
+            expected.getKey(), expected.getValue(), actualLimit);
+      }
+    }
+
+    System.out.printf(
+        "%nAvailable credit limits: %d accounts checked, %d mismatches%n",
+        expectedLimits.size(), mismatches);
+
+    return mismatches == 0;
+  }
+
+  private int intOption(final String name, final int defaultValue) {
+    return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / (double) MILLISECONDS.toNanos(1);
+  }
+}
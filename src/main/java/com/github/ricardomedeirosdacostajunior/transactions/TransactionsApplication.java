@@ -3,8 +3,11 @@ package com.github.ricardomedeirosdacostajunior.transactions;
 import lombok.Generated;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// A second, reactive, transaction manager would make @Transactional ambiguous for the JPA stack.
+// The reactive stack builds its own TransactionalOperator, see ReactiveTransactionConfiguration.
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class TransactionsApplication {
 
   @Generated
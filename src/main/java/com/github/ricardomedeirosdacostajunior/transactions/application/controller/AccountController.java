@@ -1,33 +1,77 @@
 package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
 
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
+import static java.util.Objects.isNull;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DailyTotalDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionPageDTO;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.BalanceSnapshotService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.DailyTotalService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionHistoryService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
 @RequestMapping(path = "/accounts", produces = APPLICATION_JSON_VALUE)
 @AllArgsConstructor
 public class AccountController {
 
   private final AccountService accountService;
+  private final TransactionHistoryService transactionHistoryService;
+  private final BalanceSnapshotService balanceSnapshotService;
+  private final DailyTotalService dailyTotalService;
 
-  @PostMapping(consumes = APPLICATION_JSON_VALUE)
+  @PostMapping(
+      consumes = {APPLICATION_JSON_VALUE, SMILE_VALUE},
+      produces = {APPLICATION_JSON_VALUE, SMILE_VALUE})
   public AccountDTO create(@NotNull @RequestBody final AccountDTO accountDTO) {
     return accountService.create(accountDTO);
   }
 
-  @GetMapping(path = "/{uuid}")
-  public AccountDTO find(@PathVariable UUID uuid) {
-    return accountService.find(uuid);
+  @GetMapping(path = "/{uuid}", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+  public AccountDTO find(
+      @PathVariable UUID uuid,
+      @RequestParam(name = "as_of", required = false) @DateTimeFormat(iso = DATE_TIME)
+          final LocalDateTime asOf) {
+    if (isNull(asOf)) return accountService.find(uuid);
+
+    return balanceSnapshotService.findAsOf(uuid, asOf);
+  }
+
+  @GetMapping(path = "/{uuid}/transactions")
+  public TransactionPageDTO findTransactions(
+      @PathVariable final UUID uuid,
+      @RequestParam(name = "operation_type", required = false) final Integer operationType,
+      @RequestParam(required = false) final String cursor,
+      @RequestParam(required = false) final Integer limit) {
+    return transactionHistoryService.find(uuid, operationType, cursor, limit);
+  }
+
+  @GetMapping(path = "/{uuid}/daily-totals")
+  public List<DailyTotalDTO> findDailyTotals(
+      @PathVariable final UUID uuid,
+      @RequestParam @DateTimeFormat(iso = DATE) final LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DATE) final LocalDate to) {
+    return dailyTotalService.find(uuid, from, to);
   }
 }
@@ -0,0 +1,12 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+/**
+ * Media types the controllers negotiate besides JSON. Smile is Jackson's binary encoding of the
+ * same data model: the DTO serializers write the same fields, with the UUIDs as their 16 bytes.
+ */
+public final class MediaTypes {
+
+  public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+  private MediaTypes() {}
+}
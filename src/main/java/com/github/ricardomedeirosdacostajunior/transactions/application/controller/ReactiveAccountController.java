@@ -0,0 +1,38 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.ReactiveAccountService;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequestMapping(path = "/accounts", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+@AllArgsConstructor
+public class ReactiveAccountController {
+
+  private final ReactiveAccountService reactiveAccountService;
+
+  @PostMapping(consumes = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+  public Mono<AccountDTO> create(@NotNull @RequestBody final AccountDTO accountDTO) {
+    return reactiveAccountService.create(accountDTO);
+  }
+
+  @GetMapping(path = "/{uuid}")
+  public Mono<AccountDTO> find(@PathVariable UUID uuid) {
+    return reactiveAccountService.find(uuid);
+  }
+}
@@ -0,0 +1,30 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.ReactiveTransactionService;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = REACTIVE)
+@AllArgsConstructor
+@RequestMapping(path = "/transactions", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+public class ReactiveTransactionController {
+
+  private final ReactiveTransactionService reactiveTransactionService;
+
+  @PostMapping(consumes = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+  public Mono<TransactionDTO> create(@NotNull @RequestBody final TransactionDTO transactionDTO) {
+    return reactiveTransactionService.create(transactionDTO);
+  }
+}
@@ -0,0 +1,115 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionBatchResultDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.UnreadableTransactionException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionBatchService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import javax.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Accepts a JSON array or newline delimited JSON of transactions and answers one result per line,
+ * in upload order. Both directions are streamed: the next transactions are only read once the
+ * results of the previous ones were handed to the response.
+ *
+ * <p>A transaction that is not valid JSON or does not bind is handed to the service as an {@link
+ * UnreadableTransactionException}, which refuses its line, and the reading goes on with the next
+ * one. Once the upload cannot be read any further, that is reported on one last line and the
+ * response ends.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@AllArgsConstructor
+@RequestMapping(path = "/transactions/batch", produces = TransactionBatchController.NDJSON_VALUE)
+public class TransactionBatchController {
+
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final TransactionBatchService transactionBatchService;
+  private final ObjectMapper objectMapper;
+
+  @PostMapping(consumes = {APPLICATION_JSON_VALUE, NDJSON_VALUE})
+  public void create(final InputStream inputStream, final HttpServletResponse response)
+      throws IOException {
+    response.setContentType(NDJSON_VALUE);
+
+    try (MappingIterator<TransactionDTO> transactionDTOs =
+            objectMapper.readerFor(TransactionDTO.class).readValues(inputStream);
+        var results =
+            objectMapper
+                .writer()
+                .withRootValueSeparator(LINE_SEPARATOR)
+                .writeValues(response.getOutputStream())) {
+      transactionBatchService.create(
+          new TransactionDTOIterator(transactionDTOs), result -> write(results, result));
+    }
+  }
+
+  private void write(final SequenceWriter results, final TransactionBatchResultDTO result) {
+    try {
+      results.write(result);
+    } catch (IOException ioException) {
+      throw new UncheckedIOException(ioException);
+    }
+  }
+
+  /** Turns the read failures of {@link MappingIterator} into refused transactions. */
+  private static final class TransactionDTOIterator implements Iterator<TransactionDTO> {
+
+    private final MappingIterator<TransactionDTO> transactionDTOs;
+    private boolean unreadable;
+    private boolean ended;
+
+    private TransactionDTOIterator(final MappingIterator<TransactionDTO> transactionDTOs) {
+      this.transactionDTOs = transactionDTOs;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (ended) return false;
+
+      try {
+        return transactionDTOs.hasNext();
+      } catch (RuntimeException exception) {
+        if (!(exception.getCause() instanceof JsonProcessingException)) throw exception;
+
+        // Past a broken token or the end of the input: nothing more can be read.
+        unreadable = true;
+        return true;
+      }
+    }
+
+    @Override
+    public TransactionDTO next() {
+      if (unreadable) {
+        ended = true;
+        throw UnreadableTransactionException.INSTANCE;
+      }
+
+      try {
+        return transactionDTOs.next();
+      } catch (RuntimeException exception) {
+        if (!(exception.getCause() instanceof JsonProcessingException)) throw exception;
+
+        // The iterator skips the rest of this transaction, the next one can still be read.
+        throw UnreadableTransactionException.INSTANCE;
+      }
+    }
+  }
+}
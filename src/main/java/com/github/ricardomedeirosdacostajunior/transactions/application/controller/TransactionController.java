@@ -1,25 +1,34 @@
 package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
 
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
-import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.IdempotentTransactionService;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
 @AllArgsConstructor
-@RequestMapping(path = "/transactions", produces = APPLICATION_JSON_VALUE)
+@RequestMapping(path = "/transactions", produces = {APPLICATION_JSON_VALUE, SMILE_VALUE})
 public class TransactionController {
 
-  private final TransactionService transactionService;
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
-  @PostMapping(consumes = APPLICATION_JSON_VALUE)
-  public TransactionDTO create(@NotNull @RequestBody final TransactionDTO transactionDTO) {
-    return transactionService.create(transactionDTO);
+  private final IdempotentTransactionService idempotentTransactionService;
+
+  @PostMapping(consumes = {APPLICATION_JSON_VALUE, SMILE_VALUE})
+  public TransactionDTO create(
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+      @NotNull @RequestBody final TransactionDTO transactionDTO) {
+    return idempotentTransactionService.create(idempotencyKey, transactionDTO);
   }
 }
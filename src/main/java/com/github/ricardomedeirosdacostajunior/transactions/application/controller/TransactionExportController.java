@@ -0,0 +1,57 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat.GZIP_CONTENT_TYPE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+
+import com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat;
+import com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExporter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Dumps the transactions as NDJSON or CSV, optionally gzipped. The rows are written to the response
+ * on the request thread while they are read from the database cursor.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@AllArgsConstructor
+@RequestMapping(path = "/transactions/export")
+public class TransactionExportController {
+
+  private final TransactionExporter transactionExporter;
+
+  @GetMapping
+  public void export(
+      @RequestParam(defaultValue = "ndjson") final String format,
+      @RequestParam(name = "account_id", required = false) final UUID accountUuid,
+      @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) final LocalDateTime to,
+      @RequestParam(defaultValue = "false") final boolean gzip,
+      final HttpServletResponse response)
+      throws IOException {
+    var exportFormat = TransactionExportFormat.of(format);
+
+    response.setContentType(gzip ? GZIP_CONTENT_TYPE : exportFormat.getContentType());
+    response.setHeader(
+        CONTENT_DISPOSITION,
+        ContentDisposition.builder("attachment")
+            .filename(exportFormat.fileName(gzip))
+            .build()
+            .toString());
+
+    transactionExporter.export(
+        exportFormat, gzip, accountUuid, from, to, response.getOutputStream());
+  }
+}
@@ -0,0 +1,47 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.dailytotal;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.DailyTotalService;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command line backfill of the daily totals: recomputes the days from {@code
+ * transactions.daily-total.rebuild-from} to {@code transactions.daily-total.rebuild-to}, today when
+ * not given, once the application started. Run it with {@code
+ * spring.main.web-application-type=none}, so the application exits when the days are rebuilt.
+ */
+@Component
+@ConditionalOnProperty(name = "transactions.daily-total.rebuild-from")
+public class DailyTotalRebuildCommand implements ApplicationRunner {
+
+  private final DailyTotalService dailyTotalService;
+  private final LocalDate from;
+  private final LocalDate to;
+
+  public DailyTotalRebuildCommand(
+      final DailyTotalService dailyTotalService,
+      @Value("${transactions.daily-total.rebuild-from}") final String from,
+      @Value("${transactions.daily-total.rebuild-to:}") final String to) {
+    this.dailyTotalService = dailyTotalService;
+    this.from = LocalDate.parse(from);
+    this.to = to.isEmpty() ? LocalDate.now() : LocalDate.parse(to);
+  }
+
+  @Override
+  public void run(final ApplicationArguments arguments) {
+    var start = nanoTime();
+
+    var rebuilt = dailyTotalService.rebuild(from, to);
+
+    System.out.printf(
+        "Rebuilt %d daily totals from %s to %s in %d ms%n",
+        rebuilt, from, to, NANOSECONDS.toMillis(nanoTime() - start));
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.execution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs every task on the delegate, but lets at most {@code permits} of them run at once. The others
+ * wait for a permit on their own thread, which is cheap when the delegate starts a virtual thread
+ * per task.
+ */
+class BoundedExecutor implements Executor {
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+
+  BoundedExecutor(final ExecutorService delegate, final int permits) {
+    this.delegate = delegate;
+    this.permits = new Semaphore(permits, true);
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    delegate.execute(
+        () -> {
+          permits.acquireUninterruptibly();
+          try {
+            task.run();
+          } finally {
+            permits.release();
+          }
+        });
+  }
+
+  int queued() {
+    return permits.getQueueLength();
+  }
+
+  void shutdown() {
+    delegate.shutdown();
+  }
+}
@@ -0,0 +1,76 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.execution;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Opt-in execution mode: requests are handled on a virtual thread each instead of on the Undertow
+ * worker pool, so a request blocked on JDBC no longer holds one of a few dozen platform threads.
+ * At most {@code transactions.execution.permits} requests run at once, by default as many as the
+ * connection pool has connections, and the rest wait on their own virtual thread instead of timing
+ * out in the pool queue.
+ *
+ * <p>Virtual threads are looked up at runtime, the code targets Java 14. On a JVM without them the
+ * requests run on a fixed pool of {@code permits} daemon platform threads named {@code request-},
+ * and a warning says so on startup.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "transactions.execution.mode", havingValue = "virtual")
+public class VirtualThreadExecutionConfiguration {
+
+  @Bean(destroyMethod = "shutdown")
+  BoundedExecutor requestExecutor(
+      @Value("${transactions.execution.permits:10}") final int permits) {
+    return new BoundedExecutor(threadPerTaskExecutor(permits), permits);
+  }
+
+  @Bean
+  WebServerFactoryCustomizer<UndertowServletWebServerFactory> requestExecutorCustomizer(
+      final BoundedExecutor requestExecutor) {
+    return factory ->
+        factory.addDeploymentInfoCustomizers(
+            deploymentInfo -> deploymentInfo.setExecutor(requestExecutor));
+  }
+
+  @Bean
+  MeterBinder requestExecutorMetrics(final BoundedExecutor requestExecutor) {
+    return meterRegistry ->
+        Gauge.builder("transactions.execution.queued", requestExecutor, BoundedExecutor::queued)
+            .description("Requests waiting for a permit to run")
+            .register(meterRegistry);
+  }
+
+  static ExecutorService threadPerTaskExecutor(final int fallbackThreads) {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException virtualThreadsNotAvailable) {
+      log.warn(
+          "Virtual threads are not available on Java {}, requests run on {} platform threads",
+          Runtime.version().feature(),
+          fallbackThreads);
+
+      return fallbackExecutor(fallbackThreads);
+    }
+  }
+
+  static ExecutorService fallbackExecutor(final int threads) {
+    var threadFactory = new CustomizableThreadFactory("request-");
+    threadFactory.setDaemon(true);
+
+    return newFixedThreadPool(threads, threadFactory);
+  }
+}
@@ -0,0 +1,47 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * A header line and then one transaction per line. None of the columns can hold a comma or a quote,
+ * so nothing is quoted.
+ */
+class CsvTransactionExportWriter implements TransactionExportWriter {
+
+  private static final String HEADER = "id,account_id,operation_type,amount,event_date\n";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Writer transactions;
+
+  CsvTransactionExportWriter(final OutputStream output) throws IOException {
+    this.transactions = new BufferedWriter(new OutputStreamWriter(output, UTF_8), BUFFER_SIZE);
+    this.transactions.write(HEADER);
+  }
+
+  @Override
+  public void write(final TransactionDTO transactionDTO) throws IOException {
+    transactions.write(transactionDTO.getUuid().toString());
+    transactions.write(',');
+    transactions.write(transactionDTO.getAccountUuid().toString());
+    transactions.write(',');
+    transactions.write(Integer.toString(transactionDTO.getOperationType()));
+    transactions.write(',');
+    transactions.write(Cents.format(transactionDTO.getAmount()));
+    transactions.write(',');
+    transactions.write(transactionDTO.getEventDate().toString());
+    transactions.write('\n');
+  }
+
+  @Override
+  public void close() throws IOException {
+    transactions.close();
+  }
+}
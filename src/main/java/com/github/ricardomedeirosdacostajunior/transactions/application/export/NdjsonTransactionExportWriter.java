@@ -0,0 +1,41 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** One transaction per line, in the same JSON as the API answers. */
+class NdjsonTransactionExportWriter implements TransactionExportWriter {
+
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final SequenceWriter transactions;
+  private final OutputStream output;
+
+  NdjsonTransactionExportWriter(final OutputStream output, final ObjectMapper objectMapper)
+      throws IOException {
+    // Left to the buffers of the generator, a flush per line would cost a write per line.
+    this.transactions =
+        objectMapper
+            .writerFor(TransactionDTO.class)
+            .without(FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator(LINE_SEPARATOR)
+            .writeValues(output);
+    this.output = output;
+  }
+
+  @Override
+  public void write(final TransactionDTO transactionDTO) throws IOException {
+    transactions.write(transactionDTO);
+  }
+
+  @Override
+  public void close() throws IOException {
+    transactions.close();
+    output.close();
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command line mode of the export: writes the dump to {@code transactions.export.output} once the
+ * application started, gzipped when the file name ends with {@code .gz}. Run it with {@code
+ * spring.main.web-application-type=none}, so the application exits when the dump is written.
+ */
+@Component
+@ConditionalOnProperty(name = "transactions.export.output")
+public class TransactionExportCommand implements ApplicationRunner {
+
+  private static final String GZIP_EXTENSION = ".gz";
+
+  private final TransactionExporter transactionExporter;
+  private final Path output;
+  private final TransactionExportFormat format;
+  private final UUID accountUuid;
+  private final LocalDateTime from;
+  private final LocalDateTime to;
+
+  public TransactionExportCommand(
+      final TransactionExporter transactionExporter,
+      @Value("${transactions.export.output}") final String output,
+      @Value("${transactions.export.format:ndjson}") final String format,
+      @Value("${transactions.export.account-id:}") final String accountUuid,
+      @Value("${transactions.export.from:}") final String from,
+      @Value("${transactions.export.to:}") final String to) {
+    this.transactionExporter = transactionExporter;
+    this.output = Path.of(output);
+    this.format = TransactionExportFormat.of(format);
+    this.accountUuid = accountUuid.isEmpty() ? null : UUID.fromString(accountUuid);
+    this.from = from.isEmpty() ? null : LocalDateTime.parse(from);
+    this.to = to.isEmpty() ? null : LocalDateTime.parse(to);
+  }
+
+  @Override
+  public void run(final ApplicationArguments arguments) throws Exception {
+    var start = nanoTime();
+    var gzip = output.getFileName().toString().endsWith(GZIP_EXTENSION);
+
+    var exported =
+        transactionExporter.export(
+            format, gzip, accountUuid, from, to, Files.newOutputStream(output));
+
+    var millis = Math.max(1, NANOSECONDS.toMillis(nanoTime() - start));
+    System.out.printf(
+        "Exported %d transactions to %s in %d ms (%d per second)%n",
+        exported, output, millis, exported * 1_000 / millis);
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidExportFormatException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransactionExportFormat {
+  NDJSON("ndjson", "application/x-ndjson") {
+    @Override
+    TransactionExportWriter writer(final OutputStream output, final ObjectMapper objectMapper)
+        throws IOException {
+      return new NdjsonTransactionExportWriter(output, objectMapper);
+    }
+  },
+  CSV("csv", "text/csv") {
+    @Override
+    TransactionExportWriter writer(final OutputStream output, final ObjectMapper objectMapper)
+        throws IOException {
+      return new CsvTransactionExportWriter(output);
+    }
+  };
+
+  public static final String GZIP_CONTENT_TYPE = "application/gzip";
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final String extension;
+  private final String contentType;
+
+  public static TransactionExportFormat of(final String extension) {
+    for (var format : values()) if (format.extension.equalsIgnoreCase(extension)) return format;
+
+    throw InvalidExportFormatException.INSTANCE;
+  }
+
+  public String fileName(final boolean gzip) {
+    return "transactions." + extension + (gzip ? ".gz" : "");
+  }
+
+  /** Closing the writer closes {@code output} too. */
+  public TransactionExportWriter open(
+      final OutputStream output, final boolean gzip, final ObjectMapper objectMapper)
+      throws IOException {
+    return writer(gzip ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE) : output, objectMapper);
+  }
+
+  abstract TransactionExportWriter writer(OutputStream output, ObjectMapper objectMapper)
+      throws IOException;
+}
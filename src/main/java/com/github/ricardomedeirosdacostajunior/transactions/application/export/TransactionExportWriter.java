@@ -0,0 +1,11 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Writes the exported transactions in one {@link TransactionExportFormat}. */
+public interface TransactionExportWriter extends Closeable {
+
+  void write(TransactionDTO transactionDTO) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionExportService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the transactions matching the filters from the database cursor straight into {@code
+ * output}, so memory stays flat whatever the size of the dump. Shared by the export endpoint and
+ * the command line mode.
+ */
+@Component
+@AllArgsConstructor
+public class TransactionExporter {
+
+  private final TransactionExportService transactionExportService;
+  private final ObjectMapper objectMapper;
+
+  /** @return the number of transactions exported, {@code output} is closed once they are written */
+  public long export(
+      final TransactionExportFormat format,
+      final boolean gzip,
+      final UUID accountUuid,
+      final LocalDateTime from,
+      final LocalDateTime to,
+      final OutputStream output)
+      throws IOException {
+    try (var writer = format.open(output, gzip, objectMapper)) {
+      return transactionExportService.export(
+          accountUuid, from, to, transactionDTO -> write(writer, transactionDTO));
+    } catch (UncheckedIOException uncheckedIOException) {
+      throw uncheckedIOException.getCause();
+    }
+  }
+
+  private void write(final TransactionExportWriter writer, final TransactionDTO transactionDTO) {
+    try {
+      writer.write(transactionDTO);
+    } catch (IOException ioException) {
+      throw new UncheckedIOException(ioException);
+    }
+  }
+}
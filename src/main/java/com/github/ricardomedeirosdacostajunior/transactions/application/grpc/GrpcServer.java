@@ -0,0 +1,64 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.grpc;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves {@link TransactionsGrpcService} on {@code transactions.grpc.port}, next to the REST API,
+ * when that port is set. The calls run on {@code threads} threads, by default as many as the
+ * connection pool has connections, since each call holds one while it runs. Like the REST API, it
+ * is left out of the command line runs started with {@code spring.main.web-application-type=none}.
+ */
+@Component
+@ConditionalOnProperty("transactions.grpc.port")
+@ConditionalOnWebApplication
+public class GrpcServer {
+
+  private final ExecutorService executor;
+  private final Server server;
+
+  public GrpcServer(
+      final TransactionsGrpcService transactionsGrpcService,
+      @Value("${transactions.grpc.port}") final int port,
+      @Value("${transactions.grpc.threads:${spring.datasource.hikari.maximum-pool-size:10}}")
+          final int threads) {
+    this.executor = newFixedThreadPool(threads, new CustomizableThreadFactory("grpc-"));
+    this.server =
+        ServerBuilder.forPort(port).executor(executor).addService(transactionsGrpcService).build();
+  }
+
+  @PostConstruct
+  public void start() throws IOException {
+    server.start();
+  }
+
+  /** The port listened on, the one picked by the system when configured as {@code 0}. */
+  public int getPort() {
+    return server.getPort();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // The calls already running still finish, the new ones are refused.
+    server.shutdown();
+    try {
+      if (!server.awaitTermination(30, SECONDS)) server.shutdownNow();
+    } catch (InterruptedException interruptedException) {
+      server.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,198 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.grpc;
+
+import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionResponse;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Error;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.GetAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.TransactionsGrpc.TransactionsImplBase;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.IdempotentTransactionService;
+import com.google.protobuf.Int64Value;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+/**
+ * The accounts and transactions of the REST API over gRPC, through the same services. Client errors
+ * are answered with {@code INVALID_ARGUMENT}, their message, and their code in the {@code
+ * error-code} trailer, as the {@code Error-Code} header of the REST answers. On the stream of
+ * transactions they are answered in place of the transaction instead, and the stream goes on.
+ */
+@Service
+@ConditionalOnProperty("transactions.grpc.port")
+@ConditionalOnWebApplication
+@AllArgsConstructor
+public class TransactionsGrpcService extends TransactionsImplBase {
+
+  static final Metadata.Key<String> ERROR_CODE_KEY =
+      Metadata.Key.of("error-code", ASCII_STRING_MARSHALLER);
+
+  private final AccountService accountService;
+  private final IdempotentTransactionService idempotentTransactionService;
+
+  @Override
+  public void createAccount(
+      final CreateAccountRequest request, final StreamObserver<Account> responseObserver) {
+    unary(responseObserver, () -> toAccount(accountService.create(toAccountDTO(request))));
+  }
+
+  @Override
+  public void getAccount(
+      final GetAccountRequest request, final StreamObserver<Account> responseObserver) {
+    unary(
+        responseObserver,
+        () -> {
+          var accountDTO = accountService.find(toUuid(request.getId()));
+          if (isNull(accountDTO)) throw Status.NOT_FOUND.asRuntimeException();
+
+          return toAccount(accountDTO);
+        });
+  }
+
+  @Override
+  public void createTransaction(
+      final CreateTransactionRequest request, final StreamObserver<Transaction> responseObserver) {
+    unary(responseObserver, () -> createTransaction(request));
+  }
+
+  @Override
+  public StreamObserver<CreateTransactionRequest> createTransactions(
+      final StreamObserver<CreateTransactionResponse> responseObserver) {
+    return new StreamObserver<>() {
+
+      // gRPC delivers the requests of a call one at a time, so the answers keep their order.
+      @Override
+      public void onNext(final CreateTransactionRequest request) {
+        var response = CreateTransactionResponse.newBuilder();
+
+        try {
+          response.setTransaction(createTransaction(request));
+        } catch (ClientErrorException clientErrorException) {
+          response.setError(toError(clientErrorException));
+        } catch (RuntimeException exception) {
+          // Not the client's fault, the stream ends here.
+          responseObserver.onError(exception);
+          return;
+        }
+
+        responseObserver.onNext(response.build());
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        // Cancelled by the client, nothing left to answer.
+      }
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
+  private Transaction createTransaction(final CreateTransactionRequest request) {
+    var idempotencyKey = request.getIdempotencyKey();
+
+    return toTransaction(
+        idempotentTransactionService.create(
+            idempotencyKey.isEmpty() ? null : idempotencyKey, toTransactionDTO(request)));
+  }
+
+  private static <T> void unary(
+      final StreamObserver<T> responseObserver, final Supplier<T> response) {
+    try {
+      responseObserver.onNext(response.get());
+      responseObserver.onCompleted();
+    } catch (ClientErrorException clientErrorException) {
+      var trailers = new Metadata();
+      trailers.put(ERROR_CODE_KEY, clientErrorException.getCode());
+
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT
+              .withDescription(clientErrorException.getMessage())
+              .asRuntimeException(trailers));
+    } catch (RuntimeException exception) {
+      responseObserver.onError(exception);
+    }
+  }
+
+  private static AccountDTO toAccountDTO(final CreateAccountRequest request) {
+    return AccountDTO.builder()
+        .documentNumber(request.getDocumentNumber())
+        .availableCreditLimit(
+            request.hasAvailableCreditLimitCents()
+                ? request.getAvailableCreditLimitCents().getValue()
+                : null)
+        .build();
+  }
+
+  private static TransactionDTO toTransactionDTO(final CreateTransactionRequest request) {
+    return TransactionDTO.builder()
+        .accountUuid(toUuid(request.getAccountId()))
+        .operationType(request.getOperationType())
+        .amount(request.getAmountCents())
+        .build();
+  }
+
+  private static Account toAccount(final AccountDTO accountDTO) {
+    var account =
+        Account.newBuilder()
+            .setId(accountDTO.getUuid().toString())
+            .setDocumentNumber(accountDTO.getDocumentNumber());
+
+    if (nonNull(accountDTO.getAvailableCreditLimit()))
+      account.setAvailableCreditLimitCents(Int64Value.of(accountDTO.getAvailableCreditLimit()));
+
+    return account.build();
+  }
+
+  private static Transaction toTransaction(final TransactionDTO transactionDTO) {
+    var transaction =
+        Transaction.newBuilder()
+            .setId(transactionDTO.getUuid().toString())
+            .setAccountId(transactionDTO.getAccountUuid().toString())
+            .setOperationType(transactionDTO.getOperationType())
+            .setAmountCents(transactionDTO.getAmount());
+
+    if (nonNull(transactionDTO.getEventDate()))
+      transaction.setEventDate(ISO_LOCAL_DATE_TIME.format(transactionDTO.getEventDate()));
+
+    return transaction.build();
+  }
+
+  private static Error toError(final ClientErrorException clientErrorException) {
+    return Error.newBuilder()
+        .setCode(clientErrorException.getCode())
+        .setMessage(clientErrorException.getMessage())
+        .build();
+  }
+
+  // Proto3 strings have no null, an absent identifier arrives empty.
+  private static UUID toUuid(final String uuid) {
+    if (uuid.isEmpty()) return null;
+
+    try {
+      return UUID.fromString(uuid);
+    } catch (IllegalArgumentException illegalArgumentException) {
+      throw InvalidAccountException.INSTANCE;
+    }
+  }
+}
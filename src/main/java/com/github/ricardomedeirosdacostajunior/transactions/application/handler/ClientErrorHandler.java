@@ -3,16 +3,55 @@ package com.github.ricardomedeirosdacostajunior.transactions.application.handler
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+/**
+ * Answers client errors with their message, and their code in the {@code Error-Code} header. The
+ * answer and the counter of each error are built the first time it is seen and reused afterwards.
+ */
 @RestControllerAdvice
+@AllArgsConstructor
 public class ClientErrorHandler {
 
+  static final String ERROR_CODE_HEADER = "Error-Code";
+
+  private static final String CLIENT_ERRORS_COUNTER = "transactions.client.errors";
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<Class<?>, ClientError> clientErrors = new ConcurrentHashMap<>();
+
   @ExceptionHandler(ClientErrorException.class)
-  @ResponseStatus(BAD_REQUEST)
-  public String clientErrorException(final ClientErrorException clientErrorException) {
-    return clientErrorException.getMessage();
+  public ResponseEntity<String> clientErrorException(
+      final ClientErrorException clientErrorException) {
+    var clientError =
+        clientErrors.computeIfAbsent(
+            clientErrorException.getClass(), type -> clientError(clientErrorException));
+    clientError.counter.increment();
+
+    return clientError.response;
+  }
+
+  private ClientError clientError(final ClientErrorException clientErrorException) {
+    var exception = clientErrorException.getClass().getSimpleName();
+
+    return new ClientError(
+        meterRegistry.counter(CLIENT_ERRORS_COUNTER, "exception", exception),
+        ResponseEntity.status(BAD_REQUEST)
+            .header(ERROR_CODE_HEADER, clientErrorException.getCode())
+            .body(clientErrorException.getMessage()));
+  }
+
+  @AllArgsConstructor
+  private static final class ClientError {
+
+    private final Counter counter;
+    private final ResponseEntity<String> response;
   }
 }
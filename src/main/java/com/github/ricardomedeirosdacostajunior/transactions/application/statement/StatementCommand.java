@@ -0,0 +1,45 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.statement;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.StatementService;
+import java.time.YearMonth;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command line statement job: generates the statements of {@code transactions.statement.month}, as
+ * {@code 2020-06}, once the application started. Run it with {@code
+ * spring.main.web-application-type=none}, so the application exits when they are written. Running
+ * it again for the same month resumes after the statements already written.
+ */
+@Component
+@ConditionalOnProperty(name = "transactions.statement.month")
+public class StatementCommand implements ApplicationRunner {
+
+  private final StatementService statementService;
+  private final YearMonth month;
+
+  public StatementCommand(
+      final StatementService statementService,
+      @Value("${transactions.statement.month}") final String month) {
+    this.statementService = statementService;
+    this.month = YearMonth.parse(month);
+  }
+
+  @Override
+  public void run(final ApplicationArguments arguments) {
+    var start = nanoTime();
+
+    var generated = statementService.generate(month);
+
+    var millis = Math.max(1, NANOSECONDS.toMillis(nanoTime() - start));
+    System.out.printf(
+        "Generated %d statements of %s in %d ms (%d per second)%n",
+        generated, month, millis, generated * 1_000 / millis);
+  }
+}
@@ -0,0 +1,94 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.cache;
+
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReadTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+
+/**
+ * Read-through cache of accounts, bounded by size and by time since loaded. Missing accounts are
+ * not cached. Every write of an account invalidates its entry right away and once more after the
+ * surrounding database transaction commits, so a read racing with the write cannot keep the old
+ * balance around. Accounts loaded from a replica are returned but not cached: they may be older
+ * than the last write, and the postings read their balance from this cache. Its hits, misses,
+ * evictions and size are published as the {@code cache.*} metrics of the {@code accounts} cache.
+ */
+@Component
+public class AccountCache implements MeterBinder {
+
+  private final Cache<UUID, Account> accounts;
+
+  @Autowired
+  public AccountCache(
+      @Value("${transactions.account-cache.maximum-size:10000}") final long maximumSize,
+      @Value("${transactions.account-cache.expire-after-write:30s}")
+          final Duration expireAfterWrite) {
+    this(maximumSize, expireAfterWrite, Ticker.systemTicker());
+  }
+
+  AccountCache(final long maximumSize, final Duration expireAfterWrite, final Ticker ticker) {
+    this.accounts =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, accounts, "accounts");
+  }
+
+  public Optional<Account> get(
+      final UUID uuid, final Function<UUID, Optional<Account>> accountLoader) {
+    if (ReadTarget.isReplica()) {
+      var account = accounts.getIfPresent(uuid);
+
+      return nonNull(account) ? Optional.of(account) : accountLoader.apply(uuid);
+    }
+
+    return ofNullable(accounts.get(uuid, key -> accountLoader.apply(key).orElse(null)));
+  }
+
+  public void invalidate(final UUID uuid) {
+    accounts.invalidate(uuid);
+
+    if (isSynchronizationActive())
+      registerSynchronization(
+          new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+              accounts.invalidate(uuid);
+            }
+          });
+  }
+
+  public CacheStats stats() {
+    return accounts.stats();
+  }
+
+  public long size() {
+    return accounts.estimatedSize();
+  }
+}
@@ -1,7 +1,10 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.math.BigDecimal;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsDeserializer;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsSerializer;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +13,8 @@ import lombok.Value;
 @Value
 @Builder
 @AllArgsConstructor
+@JsonSerialize(using = AccountDTOSerializer.class)
+@JsonDeserialize(using = AccountDTODeserializer.class)
 public class AccountDTO {
 
   @JsonProperty("document_number")
@@ -19,5 +24,7 @@ public class AccountDTO {
   UUID uuid;
 
   @JsonProperty("available_credit_limit")
-  BigDecimal availableCreditLimit;
+  @JsonSerialize(using = CentsSerializer.class)
+  @JsonDeserialize(using = CentsDeserializer.class)
+  Long availableCreditLimit;
 }
@@ -0,0 +1,59 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readCents;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readString;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readUuid;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.UUID;
+
+/** Reads an {@link AccountDTO} field by field, as {@link TransactionDTODeserializer} does. */
+public class AccountDTODeserializer extends StdDeserializer<AccountDTO> {
+
+  private static final long serialVersionUID = 1L;
+
+  public AccountDTODeserializer() {
+    super(AccountDTO.class);
+  }
+
+  @Override
+  public AccountDTO deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+
+    if (token == START_OBJECT) token = parser.nextToken();
+    else if (token != FIELD_NAME && token != END_OBJECT)
+      return (AccountDTO) context.handleUnexpectedToken(AccountDTO.class, parser);
+
+    String documentNumber = null;
+    UUID uuid = null;
+    Long availableCreditLimit = null;
+
+    for (; token == FIELD_NAME; token = parser.nextToken()) {
+      var name = parser.getCurrentName();
+      parser.nextToken();
+
+      switch (name) {
+        case "document_number":
+          documentNumber = readString(parser, context);
+          break;
+        case "id":
+          uuid = readUuid(parser, context);
+          break;
+        case "available_credit_limit":
+          availableCreditLimit = readCents(parser, context);
+          break;
+        default:
+          context.handleUnknownProperty(parser, this, AccountDTO.class, name);
+      }
+    }
+
+    return new AccountDTO(documentNumber, uuid, availableCreditLimit);
+  }
+}
@@ -0,0 +1,41 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeCents;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeString;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeUuid;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/** Writes an {@link AccountDTO} field by field, as {@link TransactionDTOSerializer} does. */
+public class AccountDTOSerializer extends StdSerializer<AccountDTO> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializableString DOCUMENT_NUMBER = new SerializedString("document_number");
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString AVAILABLE_CREDIT_LIMIT =
+      new SerializedString("available_credit_limit");
+
+  public AccountDTOSerializer() {
+    super(AccountDTO.class);
+  }
+
+  @Override
+  public void serialize(
+      final AccountDTO accountDTO, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(accountDTO);
+    generator.writeFieldName(DOCUMENT_NUMBER);
+    writeString(generator, accountDTO.getDocumentNumber());
+    generator.writeFieldName(ID);
+    writeUuid(generator, accountDTO.getUuid());
+    generator.writeFieldName(AVAILABLE_CREDIT_LIMIT);
+    writeCents(generator, provider, accountDTO.getAvailableCreditLimit());
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,204 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsDeserializer;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsSerializer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Field readers and writers of the hand-written DTO codecs. The usual token of a field is handled
+ * inline, any other one goes to the deserializer Jackson binds that type with, so the accepted
+ * input and the errors stay those of the reflective binding.
+ */
+final class DTOCodecs {
+
+  private static final int UUID_LENGTH = 36;
+  private static final int DATE_TIME_LENGTH = 29;
+  private static final CentsSerializer CENTS_SERIALIZER = new CentsSerializer();
+  private static final CentsDeserializer CENTS_DESERIALIZER = new CentsDeserializer();
+
+  private DTOCodecs() {}
+
+  static void writeUuid(final JsonGenerator generator, final UUID uuid) throws IOException {
+    if (isNull(uuid)) generator.writeNull();
+    // As Jackson's UUIDSerializer, binary formats such as Smile get the 16 bytes.
+    else if (generator.canWriteBinaryNatively() && !(generator instanceof TokenBuffer))
+      generator.writeBinary(toBytes(uuid));
+    else generator.writeString(uuid.toString());
+  }
+
+  static void writeInteger(final JsonGenerator generator, final Integer value) throws IOException {
+    if (isNull(value)) generator.writeNull();
+    else generator.writeNumber(value);
+  }
+
+  static void writeString(final JsonGenerator generator, final String value) throws IOException {
+    if (isNull(value)) generator.writeNull();
+    else generator.writeString(value);
+  }
+
+  static void writeCents(
+      final JsonGenerator generator, final SerializerProvider provider, final Long cents)
+      throws IOException {
+    if (isNull(cents)) generator.writeNull();
+    else CENTS_SERIALIZER.serialize(cents, generator, provider);
+  }
+
+  static void writeDateTime(final JsonGenerator generator, final LocalDateTime dateTime)
+      throws IOException {
+    if (isNull(dateTime)) {
+      generator.writeNull();
+      return;
+    }
+
+    var year = dateTime.getYear();
+    if (year < 0 || year > 9999) {
+      generator.writeString(ISO_LOCAL_DATE_TIME.format(dateTime));
+      return;
+    }
+
+    // As ISO_LOCAL_DATE_TIME: the seconds always, the nanoseconds without trailing zeros.
+    var chars = new char[DATE_TIME_LENGTH];
+    digits(chars, 0, year, 4);
+    chars[4] = '-';
+    digits(chars, 5, dateTime.getMonthValue(), 2);
+    chars[7] = '-';
+    digits(chars, 8, dateTime.getDayOfMonth(), 2);
+    chars[10] = 'T';
+    digits(chars, 11, dateTime.getHour(), 2);
+    chars[13] = ':';
+    digits(chars, 14, dateTime.getMinute(), 2);
+    chars[16] = ':';
+    digits(chars, 17, dateTime.getSecond(), 2);
+
+    var length = 19;
+    if (dateTime.getNano() > 0) {
+      chars[19] = '.';
+      digits(chars, 20, dateTime.getNano(), 9);
+      length = DATE_TIME_LENGTH;
+      while (chars[length - 1] == '0') length--;
+    }
+
+    generator.writeString(chars, 0, length);
+  }
+
+  static UUID readUuid(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+    if (token == VALUE_NULL) return null;
+
+    if (token == VALUE_STRING && parser.getTextLength() == UUID_LENGTH) {
+      var uuid = parseUuid(parser.getTextCharacters(), parser.getTextOffset());
+      if (nonNull(uuid)) return uuid;
+    }
+
+    return context.readValue(parser, UUID.class);
+  }
+
+  static Integer readInteger(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+    if (token == VALUE_NULL) return null;
+    if (token == VALUE_NUMBER_INT) return parser.getIntValue();
+
+    return context.readValue(parser, Integer.class);
+  }
+
+  static String readString(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+    if (token == VALUE_NULL) return null;
+    if (token == VALUE_STRING) return parser.getText();
+
+    return context.readValue(parser, String.class);
+  }
+
+  static Long readCents(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    if (parser.currentToken() == VALUE_NULL) return null;
+
+    return CENTS_DESERIALIZER.deserialize(parser, context);
+  }
+
+  static LocalDateTime readDateTime(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+    if (token == VALUE_NULL) return null;
+
+    if (token == VALUE_STRING) {
+      try {
+        return LocalDateTime.parse(parser.getText(), ISO_LOCAL_DATE_TIME);
+      } catch (DateTimeParseException dateTimeParseException) {
+        // Padded, zoned or invalid, left to Jackson to accept or reject.
+      }
+    }
+
+    return context.readValue(parser, LocalDateTime.class);
+  }
+
+  private static UUID parseUuid(final char[] chars, final int offset) {
+    var mostSignificantBits = 0L;
+    var leastSignificantBits = 0L;
+
+    for (var index = 0; index < UUID_LENGTH; index++) {
+      var character = chars[offset + index];
+
+      if (index == 8 || index == 13 || index == 18 || index == 23) {
+        if (character != '-') return null;
+        continue;
+      }
+
+      var digit = hexDigit(character);
+      if (digit < 0) return null;
+
+      if (index < 18) mostSignificantBits = mostSignificantBits << 4 | digit;
+      else leastSignificantBits = leastSignificantBits << 4 | digit;
+    }
+
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  private static int hexDigit(final char character) {
+    if (character >= '0' && character <= '9') return character - '0';
+
+    var lowerCase = character | 0x20;
+    if (lowerCase >= 'a' && lowerCase <= 'f') return lowerCase - 'a' + 10;
+
+    return -1;
+  }
+
+  private static byte[] toBytes(final UUID uuid) {
+    var bytes = new byte[16];
+    var mostSignificantBits = uuid.getMostSignificantBits();
+    var leastSignificantBits = uuid.getLeastSignificantBits();
+
+    for (var index = 0; index < 8; index++) {
+      bytes[index] = (byte) (mostSignificantBits >>> (56 - index * 8));
+      bytes[index + 8] = (byte) (leastSignificantBits >>> (56 - index * 8));
+    }
+
+    return bytes;
+  }
+
+  private static void digits(
+      final char[] chars, final int offset, final int value, final int width) {
+    var remaining = value;
+
+    for (var index = offset + width - 1; index >= offset; index--, remaining /= 10)
+      chars[index] = (char) ('0' + remaining % 10);
+  }
+}
@@ -0,0 +1,25 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsSerializer;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class DailyTotalDTO {
+
+  LocalDate date;
+
+  @JsonProperty("operation_type")
+  Integer operationType;
+
+  Long transactions;
+
+  @JsonSerialize(using = CentsSerializer.class)
+  Long amount;
+}
@@ -0,0 +1,21 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@AllArgsConstructor
+@JsonInclude(NON_NULL)
+public class TransactionBatchResultDTO {
+
+  Long line;
+
+  TransactionDTO transaction;
+
+  String error;
+}
@@ -1,7 +1,10 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.math.BigDecimal;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsDeserializer;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.CentsSerializer;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -11,6 +14,8 @@ import lombok.Value;
 @Value
 @Builder
 @AllArgsConstructor
+@JsonSerialize(using = TransactionDTOSerializer.class)
+@JsonDeserialize(using = TransactionDTODeserializer.class)
 public class TransactionDTO {
 
   @JsonProperty("id")
@@ -22,7 +27,9 @@ public class TransactionDTO {
   @JsonProperty("operation_type")
   Integer operationType;
 
-  BigDecimal amount;
+  @JsonSerialize(using = CentsSerializer.class)
+  @JsonDeserialize(using = CentsDeserializer.class)
+  Long amount;
 
   @JsonProperty("event_date")
   LocalDateTime eventDate;
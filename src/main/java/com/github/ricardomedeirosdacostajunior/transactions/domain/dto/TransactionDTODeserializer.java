@@ -0,0 +1,72 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readCents;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readDateTime;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readInteger;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.readUuid;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reads a {@link TransactionDTO} straight from the parser tokens. As in the reflective binding,
+ * missing fields are left null and unknown ones follow {@code FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+public class TransactionDTODeserializer extends StdDeserializer<TransactionDTO> {
+
+  private static final long serialVersionUID = 1L;
+
+  public TransactionDTODeserializer() {
+    super(TransactionDTO.class);
+  }
+
+  @Override
+  public TransactionDTO deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+
+    if (token == START_OBJECT) token = parser.nextToken();
+    else if (token != FIELD_NAME && token != END_OBJECT)
+      return (TransactionDTO) context.handleUnexpectedToken(TransactionDTO.class, parser);
+
+    UUID uuid = null;
+    UUID accountUuid = null;
+    Integer operationType = null;
+    Long amount = null;
+    LocalDateTime eventDate = null;
+
+    for (; token == FIELD_NAME; token = parser.nextToken()) {
+      var name = parser.getCurrentName();
+      parser.nextToken();
+
+      switch (name) {
+        case "id":
+          uuid = readUuid(parser, context);
+          break;
+        case "account_id":
+          accountUuid = readUuid(parser, context);
+          break;
+        case "operation_type":
+          operationType = readInteger(parser, context);
+          break;
+        case "amount":
+          amount = readCents(parser, context);
+          break;
+        case "event_date":
+          eventDate = readDateTime(parser, context);
+          break;
+        default:
+          context.handleUnknownProperty(parser, this, TransactionDTO.class, name);
+      }
+    }
+
+    return new TransactionDTO(uuid, accountUuid, operationType, amount, eventDate);
+  }
+}
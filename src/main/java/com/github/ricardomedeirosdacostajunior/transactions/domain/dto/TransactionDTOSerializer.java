@@ -0,0 +1,53 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeCents;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeDateTime;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeInteger;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DTOCodecs.writeUuid;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes a {@link TransactionDTO} field by field, with the names, order and formats of its
+ * reflective binding, so the JSON stays byte for byte the same without the bean introspection.
+ */
+public class TransactionDTOSerializer extends StdSerializer<TransactionDTO> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializableString AMOUNT = new SerializedString("amount");
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString ACCOUNT_ID = new SerializedString("account_id");
+  private static final SerializableString OPERATION_TYPE = new SerializedString("operation_type");
+  private static final SerializableString EVENT_DATE = new SerializedString("event_date");
+
+  public TransactionDTOSerializer() {
+    super(TransactionDTO.class);
+  }
+
+  @Override
+  public void serialize(
+      final TransactionDTO transactionDTO,
+      final JsonGenerator generator,
+      final SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(transactionDTO);
+    // Jackson listed the only field without a renaming @JsonProperty first.
+    generator.writeFieldName(AMOUNT);
+    writeCents(generator, provider, transactionDTO.getAmount());
+    generator.writeFieldName(ID);
+    writeUuid(generator, transactionDTO.getUuid());
+    generator.writeFieldName(ACCOUNT_ID);
+    writeUuid(generator, transactionDTO.getAccountUuid());
+    generator.writeFieldName(OPERATION_TYPE);
+    writeInteger(generator, transactionDTO.getOperationType());
+    generator.writeFieldName(EVENT_DATE);
+    writeDateTime(generator, transactionDTO.getEventDate());
+    generator.writeEndObject();
+  }
+}
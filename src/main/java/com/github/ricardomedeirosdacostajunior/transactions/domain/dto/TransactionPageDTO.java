@@ -0,0 +1,18 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class TransactionPageDTO {
+
+  List<TransactionDTO> transactions;
+
+  @JsonProperty("next_cursor")
+  String nextCursor;
+}
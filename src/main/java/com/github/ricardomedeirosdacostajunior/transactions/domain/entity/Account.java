@@ -2,7 +2,8 @@ package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
 
 import static lombok.AccessLevel.PRIVATE;
 
-import java.math.BigDecimal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.validation.constraints.NotNull;
@@ -20,7 +21,18 @@ public class Account extends BaseEntity {
   @NotNull
   private final String documentNumber;
 
+  /** In cents, see {@link Cents}. */
   @Column(name = "available_credit_limit")
-  @NotNull
-  private final BigDecimal availableCreditLimit;
+  private final long availableCreditLimit;
+
+  private Account(final UUID uuid, final String documentNumber, final long availableCreditLimit) {
+    super(uuid);
+    this.documentNumber = documentNumber;
+    this.availableCreditLimit = availableCreditLimit;
+  }
+
+  /** The same account with another limit, without going through a builder. */
+  public Account withAvailableCreditLimit(final long availableCreditLimit) {
+    return new Account(getUuid(), documentNumber, availableCreditLimit);
+  }
 }
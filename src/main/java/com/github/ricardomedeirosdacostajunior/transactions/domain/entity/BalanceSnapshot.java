@@ -0,0 +1,57 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static java.time.LocalDateTime.of;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The available credit limit of an account right after one of its transactions. The balance at any
+ * other point in time is the nearest earlier snapshot plus the transactions taken since.
+ *
+ * <p>The opening snapshot of an account holds its limit before any transaction. It is dated {@link
+ * #OPENING_EVENT_DATE} and uses the UUID of the account in place of a transaction.
+ */
+@Entity
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class BalanceSnapshot {
+
+  public static final LocalDateTime OPENING_EVENT_DATE = of(1970, 1, 1, 0, 0);
+
+  @Id
+  @Column(name = "transaction_id", columnDefinition = "uuid")
+  private final UUID transactionUuid;
+
+  @Column(name = "account_id", columnDefinition = "uuid")
+  private final UUID accountUuid;
+
+  @Column(name = "event_date", columnDefinition = "TIMESTAMP")
+  private final LocalDateTime eventDate;
+
+  /** In cents, see {@link Cents}. */
+  @Column(name = "available_credit_limit")
+  private final long availableCreditLimit;
+
+  public static BalanceSnapshot opening(final UUID accountUuid, final long availableCreditLimit) {
+    return new BalanceSnapshot(
+        accountUuid, accountUuid, OPENING_EVENT_DATE, availableCreditLimit);
+  }
+
+  /** Position of the snapshot among the transactions of its account. */
+  public TransactionCursor cursor() {
+    return new TransactionCursor(eventDate, transactionUuid);
+  }
+}
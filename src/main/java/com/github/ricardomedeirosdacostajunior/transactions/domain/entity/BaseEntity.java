@@ -7,12 +7,14 @@ import javax.persistence.Column;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
 import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @MappedSuperclass
 @NoArgsConstructor(force = true, access = PROTECTED)
+@AllArgsConstructor(access = PROTECTED)
 @Getter
 @SuperBuilder
 public abstract class BaseEntity {
@@ -0,0 +1,84 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static javax.persistence.EnumType.ORDINAL;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Count and sum of the transactions of one type taken by an account on one day. */
+@Entity
+@IdClass(DailyTotal.Key.class)
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class DailyTotal {
+
+  @Id
+  @Column(name = "account_id", columnDefinition = "uuid")
+  private final UUID accountUuid;
+
+  @Id
+  @Column(name = "event_day")
+  private final LocalDate eventDay;
+
+  @Id
+  @Enumerated(ORDINAL)
+  @Column(name = "operation_type")
+  private final OperationTypesEnumeration operationType;
+
+  private final long transactions;
+
+  /** In cents, see {@link Cents}. */
+  private final long amount;
+
+  /** The total of a single transaction. */
+  public static DailyTotal of(final Transaction transaction) {
+    return new DailyTotal(
+        transaction.getAccount().getUuid(),
+        transaction.getEventDate().toLocalDate(),
+        transaction.getOperationType(),
+        1,
+        transaction.getAmount());
+  }
+
+  public Key key() {
+    return new Key(accountUuid, eventDay, operationType);
+  }
+
+  public DailyTotal plus(final DailyTotal dailyTotal) {
+    return new DailyTotal(
+        accountUuid,
+        eventDay,
+        operationType,
+        transactions + dailyTotal.transactions,
+        amount + dailyTotal.amount);
+  }
+
+  @NoArgsConstructor(force = true, access = PRIVATE)
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @Getter
+  public static final class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID accountUuid;
+    private final LocalDate eventDay;
+    private final OperationTypesEnumeration operationType;
+  }
+}
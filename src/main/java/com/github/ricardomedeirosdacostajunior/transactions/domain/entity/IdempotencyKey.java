@@ -0,0 +1,49 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static javax.persistence.EnumType.ORDINAL;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * An {@code Idempotency-Key} already used to create a transaction, with a copy of the transaction,
+ * so a retry is answered without reading the transaction or its account.
+ */
+@Entity
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class IdempotencyKey {
+
+  @Id
+  @Column(name = "idempotency_key")
+  private final String key;
+
+  @Column(name = "transaction_id", columnDefinition = "uuid")
+  private final UUID transactionUuid;
+
+  @Column(name = "account_id", columnDefinition = "uuid")
+  private final UUID accountUuid;
+
+  @Enumerated(ORDINAL)
+  @Column(name = "operation_type")
+  private final OperationTypesEnumeration operationType;
+
+  @Column(name = "event_date", columnDefinition = "TIMESTAMP")
+  private final LocalDateTime eventDate;
+
+  /** In cents, see {@link Cents}. */
+  private final long amount;
+}
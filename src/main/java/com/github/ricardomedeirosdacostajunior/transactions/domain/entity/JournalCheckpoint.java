@@ -0,0 +1,31 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The last sequence of a local transaction journal already drained to the database. It is written
+ * in the database transaction of the drained records, so it never disagrees with them.
+ */
+@Entity
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class JournalCheckpoint {
+
+  @Id
+  @Column(name = "journal_id", columnDefinition = "uuid")
+  private final UUID journalUuid;
+
+  @Column(name = "drained_sequence")
+  private final long drainedSequence;
+}
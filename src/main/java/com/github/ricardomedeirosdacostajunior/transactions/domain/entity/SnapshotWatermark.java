@@ -0,0 +1,41 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The last transaction, in {@code (event_date, uuid)} order, already taken into account by a
+ * background folder. There is a row per folder, locked by the instance running it.
+ */
+@Entity
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class SnapshotWatermark {
+
+  public static final int BALANCE_SNAPSHOT_ID = 1;
+  public static final int DAILY_TOTAL_ID = 2;
+
+  @Id private final int id;
+
+  @Column(name = "event_date", columnDefinition = "TIMESTAMP")
+  private final LocalDateTime eventDate;
+
+  @Column(name = "transaction_id", columnDefinition = "uuid")
+  private final UUID transactionUuid;
+
+  public TransactionCursor cursor() {
+    return new TransactionCursor(eventDate, transactionUuid);
+  }
+}
@@ -0,0 +1,68 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The monthly statement of an account: its available credit limit at the start and at the end of
+ * the month, and the sum of its transactions of the month per operation type. The amounts are in
+ * cents, see {@link Cents}.
+ */
+@Entity
+@IdClass(Statement.Key.class)
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class Statement {
+
+  @Id
+  @Column(name = "account_id", columnDefinition = "uuid")
+  private final UUID accountUuid;
+
+  /** First day of the month. */
+  @Id private final LocalDate month;
+
+  @Column(name = "opening_available_credit_limit")
+  private final long openingAvailableCreditLimit;
+
+  @Column(name = "closing_available_credit_limit")
+  private final long closingAvailableCreditLimit;
+
+  private final long transactions;
+
+  @Column(name = "in_cash")
+  private final long inCash;
+
+  @Column(name = "in_installments")
+  private final long inInstallments;
+
+  private final long withdraw;
+
+  private final long payment;
+
+  @NoArgsConstructor(force = true, access = PRIVATE)
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @Getter
+  public static final class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID accountUuid;
+    private final LocalDate month;
+  }
+}
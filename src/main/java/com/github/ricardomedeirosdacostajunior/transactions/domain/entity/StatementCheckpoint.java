@@ -0,0 +1,55 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * How far the statements of a month went in one partition of the account UUIDs. It is written in
+ * the database transaction of the statements it covers, so a run resumes right after the last
+ * account written and no statement is written twice.
+ */
+@Entity
+@IdClass(StatementCheckpoint.Key.class)
+@NoArgsConstructor(force = true, access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Builder
+public final class StatementCheckpoint {
+
+  /** First day of the month. */
+  @Id private final LocalDate month;
+
+  @Id
+  @Column(name = "partition_index")
+  private final int partitionIndex;
+
+  /** The last account written, or {@code null} when none was. */
+  @Column(name = "last_account_id", columnDefinition = "uuid")
+  private final UUID lastAccountUuid;
+
+  private final boolean completed;
+
+  @NoArgsConstructor(force = true, access = PRIVATE)
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @Getter
+  public static final class Key implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LocalDate month;
+    private final int partitionIndex;
+  }
+}
@@ -4,8 +4,9 @@ import static javax.persistence.EnumType.ORDINAL;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
-import java.math.BigDecimal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
@@ -32,5 +33,20 @@ public final class Transaction extends BaseEntity {
   @Column(name = "event_date", columnDefinition = "TIMESTAMP")
   private final LocalDateTime eventDate;
 
-  private final BigDecimal amount;
+  /** In cents, see {@link Cents}. */
+  private final long amount;
+
+  /** Same as the builder, without allocating one, for the posting path. */
+  public Transaction(
+      final UUID uuid,
+      final Account account,
+      final OperationTypesEnumeration operationType,
+      final LocalDateTime eventDate,
+      final long amount) {
+    super(uuid);
+    this.account = account;
+    this.operationType = operationType;
+    this.eventDate = eventDate;
+    this.amount = amount;
+  }
 }
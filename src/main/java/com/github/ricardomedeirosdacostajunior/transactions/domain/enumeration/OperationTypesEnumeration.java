@@ -1,6 +1,5 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration;
 
-import static java.util.Arrays.asList;
 import static java.util.Objects.isNull;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidOperationTypeException;
@@ -10,15 +9,18 @@ import lombok.Getter;
 @AllArgsConstructor
 @Getter
 public enum OperationTypesEnumeration {
-  IN_CASH(1),
-  IN_INSTALLMENTS(2),
-  WITHDRAW(3),
-  PAYMENT(4);
+  IN_CASH(1, true),
+  IN_INSTALLMENTS(2, true),
+  WITHDRAW(3, true),
+  PAYMENT(4, false);
 
-  private Integer value;
+  private final Integer value;
+
+  // Read on every posting, so it is worked out once here.
+  private final boolean negative;
 
   public static OperationTypesEnumeration valueOf(final Integer value) {
-    if (isNull(value)) throw new InvalidOperationTypeException();
+    if (isNull(value)) throw InvalidOperationTypeException.INSTANCE;
 
     // It seems that spotless plugin does not recognize Java SE12 Enhanced Switch
     // So I kept it in old fashion style.
@@ -32,11 +34,11 @@ public enum OperationTypesEnumeration {
       case 4:
         return PAYMENT;
       default:
-        throw new InvalidOperationTypeException();
+        throw InvalidOperationTypeException.INSTANCE;
     }
   }
 
   public boolean isNegative() {
-    return asList(IN_CASH, IN_INSTALLMENTS, WITHDRAW).contains(this);
+    return negative;
   }
 }
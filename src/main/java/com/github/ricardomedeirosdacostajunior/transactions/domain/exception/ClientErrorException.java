@@ -1,8 +1,20 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
 
+import lombok.Getter;
+
+/**
+ * A request the client has to fix, answered with {@code 400 Bad Request}, its message and its
+ * {@code code}. It is never logged, so it fills in no stack trace, and having no state of its own
+ * every subclass throws a single shared {@code INSTANCE}.
+ */
+@Getter
 public class ClientErrorException extends RuntimeException {
 
-  protected ClientErrorException(final String message) {
-    super(message);
+  /** Stable and machine readable, unlike the message. */
+  private final String code;
+
+  protected ClientErrorException(final String code, final String message) {
+    super(message, null, false, false);
+    this.code = code;
   }
 }
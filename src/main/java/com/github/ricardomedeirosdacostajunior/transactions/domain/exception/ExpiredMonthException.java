@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class ExpiredMonthException extends ClientErrorException {
+
+  public static final ExpiredMonthException INSTANCE = new ExpiredMonthException();
+
+  private ExpiredMonthException() {
+    super("expired_month", "Month is past the retention of the transactions");
+  }
+}
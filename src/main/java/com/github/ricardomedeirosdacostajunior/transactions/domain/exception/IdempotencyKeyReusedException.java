@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class IdempotencyKeyReusedException extends ClientErrorException {
+
+  public static final IdempotencyKeyReusedException INSTANCE = new IdempotencyKeyReusedException();
+
+  private IdempotencyKeyReusedException() {
+    super("idempotency_key_reused", "Idempotency key already used for another transaction");
+  }
+}
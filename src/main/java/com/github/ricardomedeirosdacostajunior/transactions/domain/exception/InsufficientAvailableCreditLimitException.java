@@ -1,8 +1,13 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
 
-public class InsufficientAvailableCreditLimitException extends ClientErrorException {
+public final class InsufficientAvailableCreditLimitException extends ClientErrorException {
 
-  public InsufficientAvailableCreditLimitException() {
-    super("Insufficient available credit limit for this operation");
+  public static final InsufficientAvailableCreditLimitException INSTANCE =
+      new InsufficientAvailableCreditLimitException();
+
+  private InsufficientAvailableCreditLimitException() {
+    super(
+        "insufficient_available_credit_limit",
+        "Insufficient available credit limit for this operation");
   }
 }
@@ -2,7 +2,9 @@ package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
 
 public final class InvalidAccountException extends ClientErrorException {
 
-  public InvalidAccountException() {
-    super("Account invalid or not found");
+  public static final InvalidAccountException INSTANCE = new InvalidAccountException();
+
+  private InvalidAccountException() {
+    super("invalid_account", "Account invalid or not found");
   }
 }
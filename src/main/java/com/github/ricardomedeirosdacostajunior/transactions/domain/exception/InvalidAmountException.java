@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class InvalidAmountException extends ClientErrorException {
+
+  public static final InvalidAmountException INSTANCE = new InvalidAmountException();
+
+  private InvalidAmountException() {
+    super("invalid_amount", "Amount is invalid");
+  }
+}
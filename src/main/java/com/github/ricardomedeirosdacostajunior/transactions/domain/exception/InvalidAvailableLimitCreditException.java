@@ -1,8 +1,11 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
 
-public class InvalidAvailableLimitCreditException extends ClientErrorException {
+public final class InvalidAvailableLimitCreditException extends ClientErrorException {
 
-  public InvalidAvailableLimitCreditException() {
-    super("Available limit credit invalid or not found");
+  public static final InvalidAvailableLimitCreditException INSTANCE =
+      new InvalidAvailableLimitCreditException();
+
+  private InvalidAvailableLimitCreditException() {
+    super("invalid_available_credit_limit", "Available limit credit invalid or not found");
   }
 }
@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class InvalidCursorException extends ClientErrorException {
+
+  public static final InvalidCursorException INSTANCE = new InvalidCursorException();
+
+  private InvalidCursorException() {
+    super("invalid_cursor", "Cursor is invalid");
+  }
+}
@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class InvalidDateRangeException extends ClientErrorException {
+
+  public static final InvalidDateRangeException INSTANCE = new InvalidDateRangeException();
+
+  private InvalidDateRangeException() {
+    super("invalid_date_range", "Date range is invalid");
+  }
+}
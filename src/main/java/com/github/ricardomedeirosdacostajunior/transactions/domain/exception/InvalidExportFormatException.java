@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class InvalidExportFormatException extends ClientErrorException {
+
+  public static final InvalidExportFormatException INSTANCE = new InvalidExportFormatException();
+
+  private InvalidExportFormatException() {
+    super("invalid_export_format", "Export format is invalid, use ndjson or csv");
+  }
+}
@@ -2,7 +2,9 @@ package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
 
 public final class InvalidOperationTypeException extends ClientErrorException {
 
-  public InvalidOperationTypeException() {
-    super("Operation type is invalid");
+  public static final InvalidOperationTypeException INSTANCE = new InvalidOperationTypeException();
+
+  private InvalidOperationTypeException() {
+    super("invalid_operation_type", "Operation type is invalid");
   }
 }
@@ -0,0 +1,11 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+public final class UnreadableTransactionException extends ClientErrorException {
+
+  public static final UnreadableTransactionException INSTANCE =
+      new UnreadableTransactionException();
+
+  private UnreadableTransactionException() {
+    super("unreadable_transaction", "Transaction could not be read");
+  }
+}
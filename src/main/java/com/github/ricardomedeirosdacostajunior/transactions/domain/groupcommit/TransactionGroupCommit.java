@@ -0,0 +1,364 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.groupcommit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.CompareAndSetRetry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Opt-in intake mode, {@code transactions.intake.mode: group-commit}, for accounts receiving many
+ * concurrent postings. The postings of an account arriving within {@code window} of each other form
+ * a group, applied in arrival order against a single read of the account. The accepted ones move
+ * the limit with one update and are inserted in one JDBC batch, in one database transaction, and
+ * every caller gets back its own transaction or rejection once that transaction commits.
+ *
+ * <p>An account has at most one group being committed, the postings arriving meanwhile form the
+ * next one. As in the batch upload, the limit is only written if nobody changed it since it was
+ * read, so other instances and intake modes can keep posting to the same accounts. A group whose
+ * limit keeps changing under it falls back, after a few attempts, to one conditional update of the
+ * limit per posting.
+ */
+@Service
+@ConditionalOnProperty(name = "transactions.intake.mode", havingValue = "group-commit")
+public class TransactionGroupCommit implements MeterBinder {
+
+  private final AccountService accountService;
+  private final TransactionRepository transactionRepository;
+  private final TransactionOperations transactionOperations;
+  private final long windowNanos;
+  private final int maximumSize;
+  private final ScheduledExecutorService committer;
+  private final ConcurrentMap<UUID, Group> groups = new ConcurrentHashMap<>();
+  private final AtomicLong commits = new AtomicLong();
+  private final AtomicLong committedTransactions = new AtomicLong();
+
+  public TransactionGroupCommit(
+      final AccountService accountService,
+      final TransactionRepository transactionRepository,
+      final TransactionOperations transactionOperations,
+      @Value("${transactions.group-commit.window:2ms}") final Duration window,
+      @Value("${transactions.group-commit.maximum-size:500}") final int maximumSize,
+      @Value("${transactions.group-commit.threads:8}") final int threads) {
+    this.accountService = accountService;
+    this.transactionRepository = transactionRepository;
+    this.transactionOperations = transactionOperations;
+    this.windowNanos = window.toNanos();
+    this.maximumSize = maximumSize;
+    this.committer =
+        newScheduledThreadPool(threads, new CustomizableThreadFactory("group-commit-"));
+  }
+
+  /**
+   * Checks the transaction built by {@code toTransaction} against the limit of its account, after
+   * the postings of its group that arrived first, and hands it to {@code alsoPersist} in the
+   * database transaction of the group. Returns once that transaction commits.
+   */
+  public Transaction submit(
+      final UUID accountUuid,
+      final Function<Account, Transaction> toTransaction,
+      final Consumer<Transaction> alsoPersist) {
+    if (isNull(accountUuid)) throw InvalidAccountException.INSTANCE;
+
+    var posting = new Posting(toTransaction, alsoPersist);
+
+    while (true) {
+      var group = groups.computeIfAbsent(accountUuid, Group::new);
+
+      synchronized (group) {
+        // Dropped by its last commit meanwhile, a new group takes over.
+        if (group.dropped) continue;
+
+        group.pending.add(posting);
+        if (!group.scheduled) {
+          group.scheduled = true;
+          schedule(group, windowNanos);
+        }
+      }
+
+      return join(posting.result);
+    }
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("transactions.group.commits", commits, AtomicLong::get)
+        .description("Groups of postings committed in one database transaction")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.group.committed", committedTransactions, AtomicLong::get)
+        .description("Transactions created by the group commits")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // The groups already scheduled still commit, the ones after them are rejected.
+    committer.shutdown();
+    try {
+      committer.awaitTermination(30, SECONDS);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Commits the postings of the group pending now, up to {@code maximum-size} of them. */
+  private void commit(final Group group) {
+    List<Posting> postings;
+
+    synchronized (group) {
+      var taken = group.pending.subList(0, Math.min(group.pending.size(), maximumSize));
+      postings = new ArrayList<>(taken);
+      taken.clear();
+    }
+
+    try {
+      commit(group.accountUuid, postings);
+    } finally {
+      synchronized (group) {
+        if (group.pending.isEmpty()) {
+          group.dropped = true;
+          groups.remove(group.accountUuid, group);
+        } else {
+          // Those arrived while this group was committing, they already waited long enough.
+          schedule(group, 0);
+        }
+      }
+    }
+  }
+
+  private void commit(final UUID accountUuid, final List<Posting> postings) {
+    var remaining = new ArrayList<>(postings);
+
+    while (!remaining.isEmpty()) {
+      try {
+        // A concurrent change of the limit only costs a new read and a new round of checks.
+        var posted =
+            CompareAndSetRetry.attempt(
+                () -> transactionOperations.execute(status -> post(accountUuid, remaining)));
+
+        if (!posted)
+          transactionOperations.executeWithoutResult(
+              status -> postOneByOne(accountUuid, remaining));
+
+        remaining.forEach(Posting::complete);
+        commits.incrementAndGet();
+        committedTransactions.addAndGet(
+            remaining.stream().filter(posting -> nonNull(posting.transaction)).count());
+        return;
+      } catch (RejectedPosting rejectedPosting) {
+        // Rolled back, the rest of the group goes again without it.
+        rejectedPosting.posting.result.completeExceptionally(rejectedPosting.getCause());
+        remaining.remove(rejectedPosting.posting);
+      } catch (RuntimeException exception) {
+        remaining.forEach(posting -> posting.result.completeExceptionally(exception));
+        return;
+      }
+    }
+  }
+
+  private boolean post(final UUID accountUuid, final List<Posting> postings) {
+    var account = accountService.findOptional(accountUuid);
+
+    if (account.isEmpty()) {
+      postings.forEach(posting -> posting.reject(InvalidAccountException.INSTANCE));
+      return true;
+    }
+
+    var availableCreditLimit = account.get().getAvailableCreditLimit();
+    var transactions = new ArrayList<Transaction>(postings.size());
+
+    for (var posting : postings) {
+      try {
+        var transaction = toTransaction(posting, account.get());
+        if (isNull(transaction)) continue;
+
+        var newAvailableCreditLimit = availableCreditLimit + transaction.getAmount();
+
+        if (newAvailableCreditLimit <= 0) throw InsufficientAvailableCreditLimitException.INSTANCE;
+
+        availableCreditLimit = newAvailableCreditLimit;
+        transactions.add(transaction);
+        posting.accept(transaction);
+      } catch (ClientErrorException clientErrorException) {
+        posting.reject(clientErrorException);
+      }
+    }
+
+    if (transactions.isEmpty()) return true;
+
+    if (!accountService.replaceAvailableCreditLimit(account.get(), availableCreditLimit))
+      return false;
+
+    persist(postings, transactions);
+
+    return true;
+  }
+
+  /** Checks the limit of each posting in the database, a concurrent change cannot fail it. */
+  private void postOneByOne(final UUID accountUuid, final List<Posting> postings) {
+    var account = accountService.findOptional(accountUuid);
+
+    if (account.isEmpty()) {
+      postings.forEach(posting -> posting.reject(InvalidAccountException.INSTANCE));
+      return;
+    }
+
+    var transactions = new ArrayList<Transaction>(postings.size());
+
+    for (var posting : postings) {
+      try {
+        var transaction = toTransaction(posting, account.get());
+        if (isNull(transaction)) continue;
+
+        accountService.updateAvailableCreditLimit(transaction.getAmount(), account.get());
+        transactions.add(transaction);
+        posting.accept(transaction);
+      } catch (ClientErrorException clientErrorException) {
+        posting.reject(clientErrorException);
+      }
+    }
+
+    if (transactions.isEmpty()) return;
+
+    persist(postings, transactions);
+  }
+
+  /**
+   * Builds the transaction of a posting, or rejects that posting alone, whatever it throws: nothing
+   * is written yet, the rest of the group is not concerned.
+   */
+  private static Transaction toTransaction(final Posting posting, final Account account) {
+    try {
+      return posting.toTransaction.apply(account);
+    } catch (RuntimeException exception) {
+      posting.reject(exception);
+      return null;
+    }
+  }
+
+  private void persist(final List<Posting> postings, final List<Transaction> transactions) {
+    transactionRepository.insertAll(transactions);
+
+    for (var posting : postings) {
+      if (isNull(posting.transaction)) continue;
+
+      try {
+        posting.alsoPersist.accept(posting.transaction);
+      } catch (RuntimeException exception) {
+        throw new RejectedPosting(posting, exception);
+      }
+    }
+  }
+
+  // Always called holding the lock of the group.
+  private void schedule(final Group group, final long delayNanos) {
+    try {
+      committer.schedule(() -> commit(group), delayNanos, NANOSECONDS);
+    } catch (RejectedExecutionException rejectedExecutionException) {
+      // Shutting down, nothing would commit these postings anymore.
+      group.pending.forEach(
+          posting -> posting.result.completeExceptionally(rejectedExecutionException));
+      group.pending.clear();
+      group.dropped = true;
+      groups.remove(group.accountUuid, group);
+    }
+  }
+
+  private Transaction join(final CompletableFuture<Transaction> result) {
+    try {
+      return result.join();
+    } catch (CompletionException completionException) {
+      if (completionException.getCause() instanceof RuntimeException)
+        throw (RuntimeException) completionException.getCause();
+
+      throw completionException;
+    }
+  }
+
+  private static final class Group {
+
+    private final UUID accountUuid;
+    private final List<Posting> pending = new ArrayList<>();
+    private boolean scheduled;
+    private boolean dropped;
+
+    private Group(final UUID accountUuid) {
+      this.accountUuid = accountUuid;
+    }
+  }
+
+  private static final class Posting {
+
+    private final Function<Account, Transaction> toTransaction;
+    private final Consumer<Transaction> alsoPersist;
+    private final CompletableFuture<Transaction> result = new CompletableFuture<>();
+    // The outcome of the last attempt to commit the group.
+    private Transaction transaction;
+    private RuntimeException rejection;
+
+    private Posting(
+        final Function<Account, Transaction> toTransaction,
+        final Consumer<Transaction> alsoPersist) {
+      this.toTransaction = toTransaction;
+      this.alsoPersist = alsoPersist;
+    }
+
+    private void accept(final Transaction transaction) {
+      this.transaction = transaction;
+      this.rejection = null;
+    }
+
+    private void reject(final RuntimeException rejection) {
+      this.transaction = null;
+      this.rejection = rejection;
+    }
+
+    private void complete() {
+      if (nonNull(rejection)) result.completeExceptionally(rejection);
+      else result.complete(transaction);
+    }
+  }
+
+  private static final class RejectedPosting extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Posting posting;
+
+    private RejectedPosting(final Posting posting, final RuntimeException cause) {
+      super(cause);
+      this.posting = posting;
+    }
+  }
+}
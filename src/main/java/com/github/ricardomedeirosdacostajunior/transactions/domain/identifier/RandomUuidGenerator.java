@@ -0,0 +1,18 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.identifier;
+
+import static java.util.UUID.randomUUID;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/** Random (version 4) keys, as generated before the time-ordered ones became the default. */
+@Service
+@ConditionalOnProperty(name = "transactions.identifier.mode", havingValue = "random")
+public class RandomUuidGenerator implements UuidGenerator {
+
+  @Override
+  public UUID next() {
+    return randomUUID();
+  }
+}
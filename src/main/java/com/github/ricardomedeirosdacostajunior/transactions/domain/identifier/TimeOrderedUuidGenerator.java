@@ -0,0 +1,36 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.identifier;
+
+import static java.lang.System.currentTimeMillis;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Default generator: UUIDv7 layout, a 48 bit Unix timestamp in milliseconds followed by 74 random
+ * bits. New keys land next to each other at the end of the primary key indexes instead of all over
+ * them, and the random bits come from {@link ThreadLocalRandom}, so there is neither a lock nor a
+ * shared {@code SecureRandom} on the way, and nodes need no coordination to avoid collisions.
+ */
+@Service
+@ConditionalOnProperty(
+    name = "transactions.identifier.mode",
+    havingValue = "time-ordered",
+    matchIfMissing = true)
+public class TimeOrderedUuidGenerator implements UuidGenerator {
+
+  private static final long VERSION_7 = 0x7000L;
+  private static final long RAND_A_MASK = 0x0FFFL;
+  private static final long VARIANT_IETF = 0x8000000000000000L;
+
+  @Override
+  public UUID next() {
+    var random = ThreadLocalRandom.current();
+    var mostSignificantBits =
+        (currentTimeMillis() << 16) | VERSION_7 | (random.nextLong() & RAND_A_MASK);
+    var leastSignificantBits = VARIANT_IETF | (random.nextLong() >>> 2);
+
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+}
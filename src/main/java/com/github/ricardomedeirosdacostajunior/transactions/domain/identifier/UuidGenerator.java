@@ -0,0 +1,12 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.identifier;
+
+import java.util.UUID;
+
+/**
+ * Source of the keys of new accounts and transactions. Implementations are selected by {@code
+ * transactions.identifier.mode}.
+ */
+public interface UuidGenerator {
+
+  UUID next();
+}
@@ -0,0 +1,185 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The segments of the journal, in sequence order. Appends go to the last segment, and a new one is
+ * started when it is full. {@link #sync(long)} is a group commit: the caller that gets to force the
+ * files forces every record appended so far, so callers that waited meanwhile usually find their
+ * record already on disk and share that single fsync.
+ */
+final class Journal implements Closeable {
+
+  private final Path directory;
+  private final int recordsPerSegment;
+  private final Deque<JournalSegment> segments = new ArrayDeque<>();
+  private final Object syncLock = new Object();
+  private long nextSequence;
+  private volatile long appendedSequence;
+  private volatile long syncedSequence;
+
+  /**
+   * Opens the journal in the directory, keeping the valid records after {@code drainedSequence}.
+   * Whatever follows the first invalid record was never synced, so it is cleared before new
+   * records overwrite it.
+   */
+  Journal(final Path directory, final int recordsPerSegment, final long drainedSequence)
+      throws IOException {
+    if (recordsPerSegment < 1
+        || recordsPerSegment > Integer.MAX_VALUE / JournalSegment.RECORD_SIZE)
+      throw new IllegalArgumentException("Records per segment out of range");
+
+    this.directory = Files.createDirectories(directory);
+    this.recordsPerSegment = recordsPerSegment;
+
+    var lastSequence = recover(drainedSequence);
+    this.nextSequence = max(lastSequence, drainedSequence) + 1;
+    this.appendedSequence = nextSequence - 1;
+    this.syncedSequence = nextSequence - 1;
+
+    release(drainedSequence);
+  }
+
+  synchronized long append(final Transaction transaction) {
+    var segment = segments.peekLast();
+
+    try {
+      if (isNull(segment) || !segment.contains(nextSequence)) {
+        segment = JournalSegment.create(directory, nextSequence, recordsPerSegment);
+        segments.addLast(segment);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    segment.write(nextSequence, transaction);
+    appendedSequence = nextSequence;
+
+    return nextSequence++;
+  }
+
+  /** Returns once the record of the sequence, and every record before it, is on disk. */
+  void sync(final long sequence) {
+    if (syncedSequence >= sequence) return;
+
+    synchronized (syncLock) {
+      if (syncedSequence >= sequence) return;
+
+      var fromSequence = syncedSequence + 1;
+      var toSequence = appendedSequence;
+      for (var segment : segments(fromSequence, toSequence))
+        segment.force(
+            max(fromSequence, segment.firstSequence()), min(toSequence, segment.lastSequence()));
+
+      syncedSequence = toSequence;
+    }
+  }
+
+  /** Reads up to {@code maximum} synced records, starting at {@code fromSequence}. */
+  List<Transaction> read(final long fromSequence, final int maximum) {
+    var toSequence = min(syncedSequence, fromSequence + maximum - 1);
+    var transactions = new ArrayList<Transaction>();
+
+    for (var segment : segments(fromSequence, toSequence)) {
+      var lastSequence = min(toSequence, segment.lastSequence());
+
+      for (var sequence = max(fromSequence, segment.firstSequence());
+          sequence <= lastSequence;
+          sequence++) {
+        var transaction = segment.read(sequence);
+        if (isNull(transaction))
+          throw new IllegalStateException("Journal record " + sequence + " is corrupted");
+
+        transactions.add(transaction);
+      }
+    }
+
+    if (transactions.size() != max(0, toSequence - fromSequence + 1))
+      throw new IllegalStateException("Journal segment missing for sequence " + fromSequence);
+
+    return transactions;
+  }
+
+  /** Deletes the segments, other than the one being appended to, drained to the end. */
+  synchronized void release(final long drainedSequence) {
+    try {
+      while (segments.size() > 1 && segments.peekFirst().lastSequence() <= drainedSequence)
+        segments.pollFirst().delete();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  long appendedSequence() {
+    return appendedSequence;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (var segment : segments) segment.close();
+  }
+
+  private synchronized List<JournalSegment> segments(
+      final long fromSequence, final long toSequence) {
+    return segments.stream()
+        .filter(
+            segment ->
+                segment.lastSequence() >= fromSequence && segment.firstSequence() <= toSequence)
+        .collect(toList());
+  }
+
+  private long recover(final long drainedSequence) throws IOException {
+    List<Path> paths;
+    try (var files = Files.list(directory)) {
+      paths =
+          files
+              .filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+              .sorted()
+              .collect(toList());
+    }
+
+    var lastSequence = 0L;
+    var torn = false;
+    for (var path : paths) {
+      var segment = JournalSegment.open(path);
+
+      if (torn) {
+        // Started after a torn record, so none of its records was ever synced either.
+        segment.delete();
+        continue;
+      }
+
+      segments.addLast(segment);
+      for (var sequence = segment.firstSequence(); segment.contains(sequence); sequence++) {
+        if (isNull(segment.read(sequence))) {
+          segment.clear(sequence);
+          torn = true;
+          break;
+        }
+        lastSequence = sequence;
+      }
+    }
+
+    if (lastSequence <= drainedSequence) {
+      // Everything left on disk was already drained, start over after the drained sequence.
+      for (var segment : segments) segment.delete();
+      segments.clear();
+    }
+
+    return lastSequence;
+  }
+}
@@ -0,0 +1,175 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.time.ZoneOffset.UTC;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * One file of the journal, memory-mapped whole. Records have a fixed size, so the record of a
+ * sequence sits at a known offset. A record is valid only when it starts with the magic number, its
+ * checksum matches and it holds the sequence of its slot, which tells a record torn by a crash, or
+ * an empty slot, from a complete one.
+ */
+final class JournalSegment implements Closeable {
+
+  static final String SUFFIX = ".journal";
+  static final int RECORD_SIZE = 72;
+
+  private static final int MAGIC = 0x4a524e4c;
+  private static final int CHECKSUMMED_SIZE = RECORD_SIZE - Integer.BYTES;
+  private static final OperationTypesEnumeration[] OPERATION_TYPES =
+      OperationTypesEnumeration.values();
+
+  private final Path path;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final long firstSequence;
+  private final int capacity;
+
+  private JournalSegment(
+      final Path path, final FileChannel channel, final long firstSequence, final int capacity)
+      throws IOException {
+    this.path = path;
+    this.channel = channel;
+    this.buffer = channel.map(READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    this.firstSequence = firstSequence;
+    this.capacity = capacity;
+  }
+
+  /** Creates the segment starting at {@code firstSequence}, and makes its file name durable. */
+  static JournalSegment create(final Path directory, final long firstSequence, final int capacity)
+      throws IOException {
+    var path = directory.resolve(format("%020d%s", firstSequence, SUFFIX));
+    var segment =
+        new JournalSegment(
+            path, FileChannel.open(path, CREATE, READ, WRITE), firstSequence, capacity);
+
+    try (var directoryChannel = FileChannel.open(directory, READ)) {
+      directoryChannel.force(true);
+    }
+
+    return segment;
+  }
+
+  /** Opens an existing segment, its capacity is taken from the size of the file. */
+  static JournalSegment open(final Path path) throws IOException {
+    var fileName = path.getFileName().toString();
+    var firstSequence =
+        Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+    var capacity = (int) (Files.size(path) / RECORD_SIZE);
+
+    return new JournalSegment(path, FileChannel.open(path, READ, WRITE), firstSequence, capacity);
+  }
+
+  long firstSequence() {
+    return firstSequence;
+  }
+
+  long lastSequence() {
+    return firstSequence + capacity - 1;
+  }
+
+  boolean contains(final long sequence) {
+    return sequence >= firstSequence && sequence <= lastSequence();
+  }
+
+  void write(final long sequence, final Transaction transaction) {
+    var offset = offset(sequence);
+    var uuid = transaction.getUuid();
+    var accountUuid = transaction.getAccount().getUuid();
+    var eventDate = transaction.getEventDate();
+
+    buffer.putInt(offset, MAGIC);
+    buffer.putLong(offset + 4, sequence);
+    buffer.putLong(offset + 12, uuid.getMostSignificantBits());
+    buffer.putLong(offset + 20, uuid.getLeastSignificantBits());
+    buffer.putLong(offset + 28, accountUuid.getMostSignificantBits());
+    buffer.putLong(offset + 36, accountUuid.getLeastSignificantBits());
+    buffer.putLong(offset + 44, transaction.getAmount());
+    buffer.putLong(offset + 52, eventDate.toEpochSecond(UTC));
+    buffer.putInt(offset + 60, eventDate.getNano());
+    buffer.putInt(offset + 64, transaction.getOperationType().ordinal());
+    buffer.putInt(offset + CHECKSUMMED_SIZE, checksum(offset));
+  }
+
+  /** Returns the record of the sequence, or null when its slot holds no valid record. */
+  Transaction read(final long sequence) {
+    var offset = offset(sequence);
+
+    if (buffer.getInt(offset) != MAGIC
+        || buffer.getLong(offset + 4) != sequence
+        || buffer.getInt(offset + CHECKSUMMED_SIZE) != checksum(offset)) return null;
+
+    return Transaction.builder()
+        .uuid(new UUID(buffer.getLong(offset + 12), buffer.getLong(offset + 20)))
+        .account(
+            Account.builder()
+                .uuid(new UUID(buffer.getLong(offset + 28), buffer.getLong(offset + 36)))
+                .build())
+        .amount(buffer.getLong(offset + 44))
+        .eventDate(
+            LocalDateTime.ofEpochSecond(
+                buffer.getLong(offset + 52), buffer.getInt(offset + 60), UTC))
+        .operationType(OPERATION_TYPES[buffer.getInt(offset + 64)])
+        .build();
+  }
+
+  /**
+   * Zeroes the slots from the sequence up to the first one never written. Slots are written in
+   * order, so nothing after that one was ever written either.
+   */
+  void clear(final long fromSequence) {
+    for (var sequence = fromSequence; contains(sequence); sequence++) {
+      var offset = offset(sequence);
+      if (buffer.getInt(offset) == 0) break;
+
+      for (var index = 0; index < RECORD_SIZE; index += Integer.BYTES)
+        buffer.putInt(offset + index, 0);
+    }
+
+    buffer.force();
+  }
+
+  void force(final long fromSequence, final long toSequence) {
+    var offset = offset(fromSequence);
+    buffer.force(offset, offset(toSequence) + RECORD_SIZE - offset);
+  }
+
+  void delete() throws IOException {
+    close();
+    Files.delete(path);
+  }
+
+  @Override
+  public void close() throws IOException {
+    // The mapping itself is only released when the buffer is garbage collected.
+    channel.close();
+  }
+
+  private int offset(final long sequence) {
+    return (int) (sequence - firstSequence) * RECORD_SIZE;
+  }
+
+  private int checksum(final int offset) {
+    var crc = new CRC32C();
+    crc.update(buffer.slice(offset, CHECKSUMMED_SIZE));
+
+    return (int) crc.getValue();
+  }
+}
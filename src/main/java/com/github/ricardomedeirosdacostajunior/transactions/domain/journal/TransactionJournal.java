@@ -0,0 +1,330 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.time.LocalDateTime.now;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingLong;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.JournalCheckpoint;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.JournalCheckpointRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.DaemonThreadFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Opt-in intake mode, {@code transactions.intake.mode: journal}. A posting is checked against a
+ * balance kept in memory, appended to a local memory-mapped {@link Journal} and acknowledged once
+ * the journal is forced to disk, without waiting for the database. A background thread drains the
+ * journal in batches. Each batch inserts its transactions, moves the limits of their accounts and
+ * stores the last sequence drained in one database transaction, so on startup the records after
+ * that sequence, and only those, are replayed before any posting is accepted.
+ *
+ * <p>The balance in memory is the truth for as long as its account has records not drained yet, so
+ * this instance must be the only one posting to those accounts. The batch upload and the reactive
+ * stack still write to the database directly, so the drain moves the limits by the journaled
+ * amounts without checking them again: those transactions are already acknowledged, and a limit
+ * lowered in the meantime must not roll the batch back on every run.
+ *
+ * <p>After every drain the drainer notes the event date of the oldest record it left behind, which
+ * the background folders do not go past: a transaction stuck in the journal while the database is
+ * down reaches the {@code transaction} table with an event date older than their settle time.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "transactions.intake.mode", havingValue = "journal")
+public class TransactionJournal implements MeterBinder {
+
+  private static final String JOURNAL_ID_FILE = "journal.id";
+
+  private final AccountService accountService;
+  private final TransactionRepository transactionRepository;
+  private final JournalCheckpointRepository journalCheckpointRepository;
+  private final TransactionOperations transactionOperations;
+  private final Path directory;
+  private final int recordsPerSegment;
+  private final int drainBatchSize;
+  private final Duration drainInterval;
+  private final ConcurrentMap<UUID, Balance> balances = new ConcurrentHashMap<>();
+  private final AtomicLong drainFailures = new AtomicLong();
+  private final ScheduledExecutorService drainer =
+      newSingleThreadScheduledExecutor(new DaemonThreadFactory("journal-drainer-"));
+  private UUID journalUuid;
+  private Journal journal;
+  private volatile long drainedSequence;
+  private volatile LocalDateTime undrainedSince;
+
+  public TransactionJournal(
+      final AccountService accountService,
+      final TransactionRepository transactionRepository,
+      final JournalCheckpointRepository journalCheckpointRepository,
+      final TransactionOperations transactionOperations,
+      @Value("${transactions.journal.directory:journal}") final String directory,
+      @Value("${transactions.journal.records-per-segment:1000000}") final int recordsPerSegment,
+      @Value("${transactions.journal.drain-batch-size:5000}") final int drainBatchSize,
+      @Value("${transactions.journal.drain-interval:100ms}") final Duration drainInterval) {
+    this.accountService = accountService;
+    this.transactionRepository = transactionRepository;
+    this.journalCheckpointRepository = journalCheckpointRepository;
+    this.transactionOperations = transactionOperations;
+    this.directory = Path.of(directory);
+    this.recordsPerSegment = recordsPerSegment;
+    this.drainBatchSize = drainBatchSize;
+    this.drainInterval = drainInterval;
+  }
+
+  /** Replays the records not drained before the last shutdown, then starts draining new ones. */
+  @PostConstruct
+  public void start() throws IOException {
+    journalUuid = journalUuid();
+    drainedSequence =
+        journalCheckpointRepository
+            .findById(journalUuid)
+            .map(JournalCheckpoint::getDrainedSequence)
+            .orElse(0L);
+    journal = new Journal(directory, recordsPerSegment, drainedSequence);
+
+    drainAll();
+    undrainedSince = oldestUndrained();
+    drainer.scheduleWithFixedDelay(
+        this::drainOnSchedule, drainInterval.toMillis(), drainInterval.toMillis(), MILLISECONDS);
+  }
+
+  /**
+   * Checks the transaction built by {@code toTransaction} against the balance of its account,
+   * hands it to {@code alsoPersist} and appends it to the journal. Returns once it is on disk.
+   * Throws {@link TransactionNotJournaledException} when {@code alsoPersist} ran but the append
+   * failed.
+   */
+  public Transaction append(
+      final UUID accountUuid,
+      final Function<Account, Transaction> toTransaction,
+      final Consumer<Transaction> alsoPersist) {
+    if (isNull(accountUuid)) throw InvalidAccountException.INSTANCE;
+
+    while (true) {
+      var balance = balances.computeIfAbsent(accountUuid, this::load);
+      long sequence;
+      Transaction transaction;
+
+      synchronized (balance) {
+        // Dropped by the drainer meanwhile, the database is up to date again.
+        if (balance.dropped) continue;
+
+        try {
+          transaction = toTransaction.apply(balance.account);
+          if (balance.availableCreditLimit + transaction.getAmount() <= 0)
+            throw InsufficientAvailableCreditLimitException.INSTANCE;
+
+          alsoPersist.accept(transaction);
+          sequence = append(transaction);
+          balance.availableCreditLimit += transaction.getAmount();
+          balance.undrained++;
+        } finally {
+          if (balance.undrained == 0) drop(accountUuid, balance);
+        }
+      }
+
+      journal.sync(sequence);
+      return transaction;
+    }
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    Gauge.builder("transactions.journal.undrained", this, TransactionJournal::undrained)
+        .description("Journaled transactions not yet drained to the database")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.journal.drain.failures", drainFailures, AtomicLong::get)
+        .description("Drain batches rolled back, they are retried on the next run")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() throws IOException {
+    drainer.shutdown();
+    try {
+      drainer.awaitTermination(drainInterval.toMillis() + 30_000, MILLISECONDS);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+
+    // Whatever is left now is replayed on the next start.
+    drainOnSchedule();
+    journal.close();
+  }
+
+  /**
+   * Event date of the oldest journaled transaction the last drain left behind, empty when it left
+   * none. The transactions before it, and only those, can be taken as being in the database.
+   */
+  public Optional<LocalDateTime> undrainedSince() {
+    return Optional.ofNullable(undrainedSince);
+  }
+
+  /**
+   * Settle time before now, or before the oldest transaction still in the journal when the {@code
+   * journal} intake mode is on. The background folders do not go past it.
+   */
+  public static LocalDateTime settledBefore(
+      final Optional<TransactionJournal> transactionJournal, final Duration settleTime) {
+    var now = now();
+    var undrainedSince =
+        transactionJournal
+            .flatMap(TransactionJournal::undrainedSince)
+            .filter(now::isAfter)
+            .orElse(now);
+
+    return undrainedSince.minus(settleTime);
+  }
+
+  long undrained() {
+    return journal.appendedSequence() - drainedSequence;
+  }
+
+  /** Drains one batch, and returns its size. */
+  int drain() {
+    var fromSequence = drainedSequence + 1;
+    var transactions = journal.read(fromSequence, drainBatchSize);
+    if (transactions.isEmpty()) return 0;
+
+    var lastSequence = fromSequence + transactions.size() - 1;
+    var amounts =
+        transactions.stream()
+            .collect(
+                groupingBy(TransactionJournal::accountUuid, summingLong(Transaction::getAmount)));
+
+    transactionOperations.executeWithoutResult(
+        status -> {
+          transactionRepository.insertAll(transactions);
+          amounts.forEach(
+              (uuid, amount) ->
+                  accountService.forceUpdateAvailableCreditLimit(
+                      amount, Account.builder().uuid(uuid).build()));
+          journalCheckpointRepository.save(
+              JournalCheckpoint.builder()
+                  .journalUuid(journalUuid)
+                  .drainedSequence(lastSequence)
+                  .build());
+        });
+    drainedSequence = lastSequence;
+
+    transactions.stream()
+        .collect(groupingBy(TransactionJournal::accountUuid, counting()))
+        .forEach(this::drained);
+    journal.release(lastSequence);
+
+    return transactions.size();
+  }
+
+  private void drainAll() {
+    while (drain() == drainBatchSize) continue;
+  }
+
+  void drainOnSchedule() {
+    try {
+      drainAll();
+    } catch (RuntimeException exception) {
+      // Rolled back, the same records are drained again on the next run.
+      drainFailures.incrementAndGet();
+      log.warn("Journal drain failed, it is retried on the next run", exception);
+    } finally {
+      undrainedSince = oldestUndrained();
+    }
+  }
+
+  // Only the drainer reads the journal, the segments it reads are released by the drains.
+  private LocalDateTime oldestUndrained() {
+    var oldest = journal.read(drainedSequence + 1, 1);
+
+    return oldest.isEmpty() ? null : oldest.get(0).getEventDate();
+  }
+
+  private long append(final Transaction transaction) {
+    try {
+      return journal.append(transaction);
+    } catch (RuntimeException exception) {
+      throw new TransactionNotJournaledException(exception);
+    }
+  }
+
+  private void drained(final UUID accountUuid, final long count) {
+    var balance = balances.get(accountUuid);
+    if (isNull(balance)) return;
+
+    synchronized (balance) {
+      balance.undrained -= count;
+      if (balance.undrained == 0) drop(accountUuid, balance);
+    }
+  }
+
+  private void drop(final UUID accountUuid, final Balance balance) {
+    balance.dropped = true;
+    balances.remove(accountUuid, balance);
+  }
+
+  private static UUID accountUuid(final Transaction transaction) {
+    return transaction.getAccount().getUuid();
+  }
+
+  private Balance load(final UUID accountUuid) {
+    return new Balance(
+        accountService
+            .findOptional(accountUuid)
+            .orElseThrow(() -> InvalidAccountException.INSTANCE));
+  }
+
+  private UUID journalUuid() throws IOException {
+    var file = Files.createDirectories(directory).resolve(JOURNAL_ID_FILE);
+    if (Files.exists(file)) return UUID.fromString(Files.readString(file, US_ASCII).trim());
+
+    var uuid = UUID.randomUUID();
+    Files.writeString(file, uuid.toString(), US_ASCII);
+
+    return uuid;
+  }
+
+  private static final class Balance {
+
+    private final Account account;
+    private long availableCreditLimit;
+    private long undrained;
+    private boolean dropped;
+
+    private Balance(final Account account) {
+      this.account = account;
+      this.availableCreditLimit = account.getAvailableCreditLimit();
+    }
+  }
+}
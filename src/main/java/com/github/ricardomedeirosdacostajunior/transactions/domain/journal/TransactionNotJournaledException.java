@@ -0,0 +1,13 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+/**
+ * The transaction was checked and handed to {@code alsoPersist}, but could not be appended to the
+ * journal, so it will never exist. Nothing rolls back what {@code alsoPersist} wrote, undoing it is
+ * up to the caller.
+ */
+public class TransactionNotJournaledException extends RuntimeException {
+
+  public TransactionNotJournaledException(final RuntimeException cause) {
+    super("Transaction could not be journaled", cause);
+  }
+}
@@ -0,0 +1,38 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.ledger;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Default engine: reads the account from the database on the caller thread for every posting and
+ * runs the posting in the caller's database transaction.
+ */
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(
+    name = "transactions.ledger.mode",
+    havingValue = "database",
+    matchIfMissing = true)
+public class DatabaseLedgerEngine implements LedgerEngine {
+
+  private final AccountService accountService;
+
+  @Override
+  @Transactional
+  public Transaction post(final UUID accountUuid, final Function<Account, Transaction> posting) {
+    var account =
+        accountService
+            .findOptional(accountUuid)
+            .orElseThrow(() -> InvalidAccountException.INSTANCE);
+
+    return posting.apply(account);
+  }
+}
@@ -0,0 +1,17 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.ledger;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Decides where and in which order the postings of an account are applied.
+ *
+ * <p>The posting receives the account whose available credit limit must be checked and returns the
+ * persisted transaction. Implementations are selected by {@code transactions.ledger.mode}.
+ */
+public interface LedgerEngine {
+
+  Transaction post(UUID accountUuid, Function<Account, Transaction> posting);
+}
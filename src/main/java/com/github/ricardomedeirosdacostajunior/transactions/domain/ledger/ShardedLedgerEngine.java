@@ -0,0 +1,82 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.ledger;
+
+import static java.lang.Math.floorMod;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Hashes every account onto one of N shards. Each shard owns a single thread, so the postings of an
+ * account are applied one after the other without locks. The database stays the persistence layer
+ * and the judge of the limit: every posting runs in its own database transaction on the shard
+ * thread, and the account it is handed is only used for its identity, so no balance is kept here to
+ * go stale when another instance or intake mode writes the limit.
+ */
+@Service
+@ConditionalOnProperty(name = "transactions.ledger.mode", havingValue = "sharded")
+public class ShardedLedgerEngine implements LedgerEngine {
+
+  private final AccountService accountService;
+  private final TransactionOperations transactionOperations;
+  private final ExecutorService[] shards;
+
+  public ShardedLedgerEngine(
+      final AccountService accountService,
+      final TransactionOperations transactionOperations,
+      @Value("${transactions.ledger.shards:8}") final int shards) {
+    var threadFactory = new CustomizableThreadFactory("ledger-shard-");
+
+    this.accountService = accountService;
+    this.transactionOperations = transactionOperations;
+    this.shards =
+        IntStream.range(0, shards)
+            .mapToObj(index -> newSingleThreadExecutor(threadFactory))
+            .toArray(ExecutorService[]::new);
+  }
+
+  @Override
+  public Transaction post(final UUID accountUuid, final Function<Account, Transaction> posting) {
+    if (isNull(accountUuid)) throw InvalidAccountException.INSTANCE;
+
+    var shard = shards[floorMod(accountUuid.hashCode(), shards.length)];
+
+    try {
+      return supplyAsync(() -> apply(accountUuid, posting), shard).join();
+    } catch (CompletionException completionException) {
+      if (completionException.getCause() instanceof RuntimeException)
+        throw (RuntimeException) completionException.getCause();
+
+      throw completionException;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    for (var shard : shards) shard.shutdown();
+  }
+
+  private Transaction apply(final UUID accountUuid, final Function<Account, Transaction> posting) {
+    var account =
+        accountService
+            .findOptional(accountUuid)
+            .orElseThrow(() -> InvalidAccountException.INSTANCE);
+
+    return transactionOperations.execute(status -> posting.apply(account));
+  }
+}
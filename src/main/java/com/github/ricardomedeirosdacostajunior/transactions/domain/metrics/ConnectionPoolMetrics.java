@@ -0,0 +1,44 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.metrics;
+
+import static java.util.Objects.isNull;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saturation of the connection pool: connections in use plus threads waiting for one, over the
+ * pool size. Anything above 1 means requests are queueing for the database. The raw Hikari gauges
+ * ({@code hikaricp.connections.*}) are registered by Spring Boot already.
+ */
+@Component
+@AllArgsConstructor
+public class ConnectionPoolMetrics implements MeterBinder {
+
+  private final DataSource dataSource;
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    // Behind replica routing, the primary's pool.
+    var hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+    if (isNull(hikariDataSource)) return;
+
+    Gauge.builder("transactions.datasource.saturation", hikariDataSource, this::saturation)
+        .description("Connections in use plus threads waiting for one, over the pool size")
+        .register(meterRegistry);
+  }
+
+  private double saturation(final HikariDataSource hikariDataSource) {
+    var pool = hikariDataSource.getHikariPoolMXBean();
+
+    if (isNull(pool)) return 0;
+
+    return (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+        / (double) hikariDataSource.getMaximumPoolSize();
+  }
+}
@@ -0,0 +1,70 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the transaction creation: a timer per stage of {@code TransactionService.create} and a
+ * counter of created transactions per operation type. The lookup stage goes from the call to the
+ * ledger engine until the posting receives the account, so in the sharded mode it also holds the
+ * wait for the shard.
+ */
+@Component
+public class TransactionMetrics {
+
+  private static final String STAGE_TIMER = "transactions.create.stage";
+  private static final String CREATED_COUNTER = "transactions.created";
+
+  private final Timer lookup;
+  private final Timer limitUpdate;
+  private final Timer insert;
+  private final Map<OperationTypesEnumeration, Counter> created =
+      new EnumMap<>(OperationTypesEnumeration.class);
+
+  public TransactionMetrics(final MeterRegistry meterRegistry) {
+    lookup = stageTimer(meterRegistry, "lookup");
+    limitUpdate = stageTimer(meterRegistry, "limit_update");
+    insert = stageTimer(meterRegistry, "insert");
+
+    for (var operationType : OperationTypesEnumeration.values())
+      created.put(
+          operationType,
+          Counter.builder(CREATED_COUNTER)
+              .description("Transactions created")
+              .tag("operation_type", operationType.name())
+              .register(meterRegistry));
+  }
+
+  public void recordLookup(final long nanos) {
+    lookup.record(nanos, NANOSECONDS);
+  }
+
+  public void timeLimitUpdate(final Runnable limitUpdate) {
+    this.limitUpdate.record(limitUpdate);
+  }
+
+  public Transaction timeInsert(final Supplier<Transaction> insert) {
+    return this.insert.record(insert);
+  }
+
+  public void countCreated(final OperationTypesEnumeration operationType) {
+    created.get(operationType).increment();
+  }
+
+  private Timer stageTimer(final MeterRegistry meterRegistry, final String stage) {
+    return Timer.builder(STAGE_TIMER)
+        .description("Time spent in each stage of a transaction creation")
+        .tag("stage", stage)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
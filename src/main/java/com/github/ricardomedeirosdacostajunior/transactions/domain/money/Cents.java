@@ -0,0 +1,91 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static java.lang.Math.addExact;
+import static java.lang.Math.multiplyExact;
+import static java.math.RoundingMode.HALF_UP;
+
+import java.math.BigDecimal;
+
+/**
+ * Money is kept as a {@code long} number of cents inside the services and in the database, so the
+ * arithmetic on the hot path is plain primitive math. Conversions from and to decimals only happen
+ * at the edges, and round half up to two decimal places, as the former {@code numeric(19, 2)}
+ * columns did.
+ */
+public final class Cents {
+
+  private static final int SCALE = 2;
+  private static final int CENTS_PER_UNIT = 100;
+
+  private Cents() {}
+
+  public static long fromDecimal(final BigDecimal amount) {
+    return amount.setScale(SCALE, HALF_UP).unscaledValue().longValueExact();
+  }
+
+  public static BigDecimal toDecimal(final long cents) {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  public static long fromUnits(final long units) {
+    return multiplyExact(units, CENTS_PER_UNIT);
+  }
+
+  /**
+   * Parses a plain decimal such as {@code -12.345} straight from its characters, without going
+   * through {@link BigDecimal}. Exponents are not supported.
+   *
+   * @throws NumberFormatException when the characters are not a plain decimal
+   * @throws ArithmeticException when the amount does not fit in a {@code long} of cents
+   */
+  public static long parse(final char[] chars, final int offset, final int length) {
+    var index = offset;
+    var end = offset + length;
+    var negative = false;
+
+    if (index < end && (chars[index] == '-' || chars[index] == '+'))
+      negative = chars[index++] == '-';
+
+    var units = 0L;
+    var digits = 0;
+    for (; index < end && chars[index] != '.'; index++, digits++)
+      units = addExact(multiplyExact(units, 10), digit(chars, index));
+
+    var cents = 0L;
+    var decimals = 0;
+    if (index < end) {
+      for (index++; index < end; index++, digits++, decimals++) {
+        var digit = digit(chars, index);
+        if (decimals < SCALE) cents = cents * 10 + digit;
+        else if (decimals == SCALE && digit >= 5) cents++;
+      }
+    }
+
+    if (digits == 0) throw new NumberFormatException(new String(chars, offset, length));
+
+    for (; decimals < SCALE; decimals++) cents *= 10;
+
+    var total = addExact(fromUnits(units), cents);
+    return negative ? -total : total;
+  }
+
+  /** Formats cents as a plain decimal with two decimal places, {@code -0.05} for {@code -5}. */
+  public static String format(final long cents) {
+    var units = cents / CENTS_PER_UNIT;
+    var fraction = Math.abs(cents % CENTS_PER_UNIT);
+    var text = new StringBuilder(24);
+
+    if (cents < 0 && units == 0) text.append('-');
+    text.append(units).append('.');
+    if (fraction < 10) text.append('0');
+
+    return text.append(fraction).toString();
+  }
+
+  private static int digit(final char[] chars, final int index) {
+    var digit = chars[index] - '0';
+    if (digit < 0 || digit > 9) throw new NumberFormatException("Not a digit: " + chars[index]);
+
+    return digit;
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_FLOAT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents.fromDecimal;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents.fromUnits;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents.parse;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a JSON decimal, as a number or a string, into cents. Plain decimals are parsed from the
+ * parser buffer, only exponents such as {@code 1.5e2} go through {@link BigDecimal}.
+ */
+public class CentsDeserializer extends StdDeserializer<Long> {
+
+  private static final long serialVersionUID = 1L;
+
+  public CentsDeserializer() {
+    super(Long.class);
+  }
+
+  @Override
+  public Long deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    var token = parser.currentToken();
+
+    try {
+      if (token == VALUE_NUMBER_INT) return fromUnits(parser.getLongValue());
+      if (token == VALUE_NUMBER_FLOAT || token == VALUE_STRING) return parseText(parser);
+    } catch (NumberFormatException | ArithmeticException exception) {
+      return (Long)
+          context.handleWeirdStringValue(Long.class, parser.getText(), "not a valid amount");
+    }
+
+    return (Long) context.handleUnexpectedToken(Long.class, parser);
+  }
+
+  private long parseText(final JsonParser parser) throws IOException {
+    try {
+      return parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    } catch (NumberFormatException exception) {
+      return fromDecimal(new BigDecimal(parser.getText().trim()));
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents.format;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents.toDecimal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes cents as a JSON decimal number, {@code 1050} becomes {@code 10.50}. Binary formats such as
+ * Smile have no textual numbers, they get the decimal itself.
+ */
+public class CentsSerializer extends StdSerializer<Long> {
+
+  private static final long serialVersionUID = 1L;
+
+  public CentsSerializer() {
+    super(Long.class);
+  }
+
+  @Override
+  public void serialize(
+      final Long cents, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    if (generator.canWriteFormattedNumbers()) generator.writeNumber(format(cents));
+    else generator.writeNumber(toDecimal(cents));
+  }
+}
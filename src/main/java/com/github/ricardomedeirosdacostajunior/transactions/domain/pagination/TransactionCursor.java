@@ -0,0 +1,49 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.pagination;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidCursorException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Value;
+
+/**
+ * Position of a page in the history of an account: the {@code (event_date, uuid)} of the last
+ * transaction already returned. The next page starts right after it, so it is found with an index
+ * seek however deep it is. Clients receive it as an opaque URL-safe string.
+ */
+@Value
+public class TransactionCursor {
+
+  private static final char SEPARATOR = '_';
+
+  LocalDateTime eventDate;
+
+  UUID uuid;
+
+  public static TransactionCursor after(final Transaction transaction) {
+    return new TransactionCursor(transaction.getEventDate(), transaction.getUuid());
+  }
+
+  public static TransactionCursor decode(final String cursor) {
+    try {
+      var decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      var separator = decoded.indexOf(SEPARATOR);
+
+      return new TransactionCursor(
+          LocalDateTime.parse(decoded.substring(0, separator)),
+          UUID.fromString(decoded.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw InvalidCursorException.INSTANCE;
+    }
+  }
+
+  public String encode() {
+    var cursor = eventDate.toString() + SEPARATOR + uuid;
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,19 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/** Default router: every read runs on the caller thread, against the primary. */
+@Service
+@ConditionalOnProperty(
+    name = "transactions.read.mode",
+    havingValue = "primary",
+    matchIfMissing = true)
+public class PrimaryReadRouter implements ReadRouter {
+
+  @Override
+  public <T> T read(final Supplier<T> read) {
+    return read.get();
+  }
+}
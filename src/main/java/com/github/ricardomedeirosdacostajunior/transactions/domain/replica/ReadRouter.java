@@ -0,0 +1,15 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Decides which database serves the reads that tolerate some replication lag, such as the account
+ * lookups of {@code GET /accounts/:id} and the pages of an account's transactions. Everything not
+ * read through it, the postings above all, stays on the primary.
+ *
+ * <p>Implementations are selected by {@code transactions.read.mode}.
+ */
+public interface ReadRouter {
+
+  <T> T read(Supplier<T> read);
+}
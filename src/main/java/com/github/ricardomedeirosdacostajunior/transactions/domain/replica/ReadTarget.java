@@ -0,0 +1,32 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import static java.util.Objects.nonNull;
+
+import java.util.function.Supplier;
+
+/** The replica the current thread reads from, none for the primary. */
+public final class ReadTarget {
+
+  private static final ThreadLocal<Integer> REPLICA = new ThreadLocal<>();
+
+  private ReadTarget() {}
+
+  /** Whether the current thread reads from a replica, whose answers may be behind the primary. */
+  public static boolean isReplica() {
+    return nonNull(REPLICA.get());
+  }
+
+  static Integer replica() {
+    return REPLICA.get();
+  }
+
+  /** Runs {@code read} with the connections of {@code replica} on the current thread. */
+  public static <T> T onReplica(final int replica, final Supplier<T> read) {
+    REPLICA.set(replica);
+    try {
+      return read.get();
+    } finally {
+      REPLICA.remove();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * In the {@code replica} read mode the data source of the application routes between the primary,
+ * configured by {@code spring.datasource} as usual, and a pool per entry of {@code
+ * transactions.replica.urls}. The replica pools share the credentials and the size of the primary's
+ * and open read-only connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transactions.read.mode", havingValue = "replica")
+public class ReplicaDataSourceConfiguration {
+
+  // Not injected anywhere, the routing data source is, but still closed and measured as a bean.
+  @Bean(autowireCandidate = false)
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @Primary
+  public ReplicaRoutingDataSource dataSource(
+      final DataSourceProperties dataSourceProperties,
+      @Value("${transactions.replica.urls:}") final String[] urls) {
+    var primary = primaryDataSource(dataSourceProperties);
+    var replicas = new ArrayList<DataSource>(urls.length);
+
+    for (var index = 0; index < urls.length; index++) {
+      var replica =
+          dataSourceProperties
+              .initializeDataSourceBuilder()
+              .type(HikariDataSource.class)
+              .url(urls[index])
+              .build();
+      replica.setPoolName("replica-" + index);
+      replica.setMaximumPoolSize(primary.getMaximumPoolSize());
+      replica.setReadOnly(true);
+      replicas.add(replica);
+    }
+
+    return new ReplicaRoutingDataSource(primary, replicas);
+  }
+}
@@ -0,0 +1,288 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.DaemonThreadFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Opt-in read mode, {@code transactions.read.mode: replica}, spreading the reads over the replicas
+ * of {@link ReplicaRoutingDataSource} in turn.
+ *
+ * <p>Every {@code heartbeat-interval} the primary stores the time in the {@code replica_heartbeat}
+ * table and each replica is asked for the time it has, the difference is its lag. Replicas lagging
+ * more than {@code maximum-lag}, or failing to answer, are skipped until a later heartbeat finds
+ * them caught up, and with none left the reads go to the primary. A read failing on a replica is
+ * run again on the primary, except for client errors, which would fail there too.
+ *
+ * <p>A read still running after {@code hedge-after} is hedged: the same read is sent to the next
+ * replica in sync, or to the primary, and the first answer wins. The slower one runs to its end and
+ * is dropped. Reads run on a pool of {@code threads} threads, the caller waits for the answer.
+ *
+ * <p>Failed heartbeats are counted per target, and logged when a database starts failing them.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "transactions.read.mode", havingValue = "replica")
+public class ReplicaReadRouter implements ReadRouter, MeterBinder {
+
+  private static final int PRIMARY = -1;
+  private static final long UNREACHABLE = Long.MAX_VALUE;
+  private static final String WRITE_HEARTBEAT =
+      "update replica_heartbeat set beat = ? where id = 1";
+  private static final String READ_HEARTBEAT = "select beat from replica_heartbeat where id = 1";
+
+  private final JdbcTemplate primary;
+  private final List<JdbcTemplate> replicas;
+  private final long maximumLagMillis;
+  private final long hedgeAfterNanos;
+  private final Duration heartbeatInterval;
+  private final ExecutorService readers;
+  private final ScheduledExecutorService heartbeat;
+  // Milliseconds behind the primary as of the last heartbeat, per replica.
+  private final AtomicLongArray lags;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final AtomicLong replicaReads = new AtomicLong();
+  private final AtomicLong primaryReads = new AtomicLong();
+  private final AtomicLong hedgedReads = new AtomicLong();
+  private final AtomicLong primaryHeartbeatFailures = new AtomicLong();
+  private final AtomicLong replicaHeartbeatFailures = new AtomicLong();
+  // Whether the last heartbeat failed, only touched by the heartbeat thread.
+  private final boolean[] replicasFailing;
+  private boolean primaryFailing;
+
+  public ReplicaReadRouter(
+      final ReplicaRoutingDataSource dataSource,
+      @Value("${transactions.replica.maximum-lag:1s}") final Duration maximumLag,
+      @Value("${transactions.replica.hedge-after:50ms}") final Duration hedgeAfter,
+      @Value("${transactions.replica.heartbeat-interval:250ms}") final Duration heartbeatInterval,
+      @Value("${transactions.replica.threads:32}") final int threads) {
+    this.primary = new JdbcTemplate(dataSource.primary());
+    this.replicas =
+        dataSource.replicas().stream().map(JdbcTemplate::new).collect(Collectors.toList());
+    this.maximumLagMillis = maximumLag.toMillis();
+    this.hedgeAfterNanos = hedgeAfter.toNanos();
+    this.heartbeatInterval = heartbeatInterval;
+    this.readers = newFixedThreadPool(threads, new CustomizableThreadFactory("replica-read-"));
+    this.heartbeat = newSingleThreadScheduledExecutor(new DaemonThreadFactory("heartbeat-"));
+    this.lags = new AtomicLongArray(replicas.size());
+    this.replicasFailing = new boolean[replicas.size()];
+
+    // Unknown until the first heartbeat, the primary serves the reads meanwhile.
+    for (var replica = 0; replica < replicas.size(); replica++) lags.set(replica, UNREACHABLE);
+  }
+
+  @PostConstruct
+  public void start() {
+    heartbeat.scheduleWithFixedDelay(this::beat, 0, heartbeatInterval.toNanos(), NANOSECONDS);
+  }
+
+  @Override
+  public <T> T read(final Supplier<T> read) {
+    var replica = replicaInSync(PRIMARY);
+    if (replica == PRIMARY) {
+      primaryReads.incrementAndGet();
+      return read.get();
+    }
+
+    var hedgedRead = new HedgedRead<>(read);
+    hedgedRead.on(replica);
+
+    try {
+      return hedgedRead.result.get(hedgeAfterNanos, NANOSECONDS);
+    } catch (TimeoutException timeoutException) {
+      hedgedReads.incrementAndGet();
+      hedgedRead.on(replicaInSync(replica));
+
+      return join(hedgedRead.result);
+    } catch (ExecutionException executionException) {
+      if (executionException.getCause() instanceof RuntimeException)
+        throw (RuntimeException) executionException.getCause();
+
+      throw new CompletionException(executionException.getCause());
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(interruptedException);
+    }
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    for (var replica = 0; replica < replicas.size(); replica++) {
+      var index = replica;
+
+      TimeGauge.builder(
+              "transactions.replica.lag",
+              lags,
+              MILLISECONDS,
+              array -> array.get(index) == UNREACHABLE ? Double.NaN : array.get(index))
+          .description("How far the replica is behind the primary, as of the last heartbeat")
+          .tag("replica", String.valueOf(index))
+          .register(meterRegistry);
+    }
+
+    FunctionCounter.builder("transactions.replica.reads", replicaReads, AtomicLong::get)
+        .description("Reads routed to a replica or to the primary")
+        .tag("target", "replica")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.replica.reads", primaryReads, AtomicLong::get)
+        .description("Reads routed to a replica or to the primary")
+        .tag("target", "primary")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.replica.hedged", hedgedReads, AtomicLong::get)
+        .description("Reads sent to a second database after hedge-after")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "transactions.replica.heartbeat.failures", primaryHeartbeatFailures, AtomicLong::get)
+        .description("Heartbeats the primary failed to write or a replica failed to answer")
+        .tag("target", "primary")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "transactions.replica.heartbeat.failures", replicaHeartbeatFailures, AtomicLong::get)
+        .description("Heartbeats the primary failed to write or a replica failed to answer")
+        .tag("target", "replica")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeat.shutdownNow();
+    readers.shutdown();
+    try {
+      readers.awaitTermination(30, SECONDS);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Writes a heartbeat on the primary and reads back how far behind each replica is. */
+  void beat() {
+    var now = currentTimeMillis();
+
+    // Any exception escaping would cancel the next heartbeats, so each one is caught.
+    try {
+      primary.update(WRITE_HEARTBEAT, now);
+      primaryFailing = false;
+    } catch (RuntimeException exception) {
+      // The replicas are measured against the last heartbeat written, their lag keeps growing.
+      primaryHeartbeatFailures.incrementAndGet();
+      if (!primaryFailing) log.warn("Heartbeat not written on the primary", exception);
+      primaryFailing = true;
+    }
+
+    for (var replica = 0; replica < replicas.size(); replica++) {
+      try {
+        var beat = replicas.get(replica).queryForObject(READ_HEARTBEAT, Long.class);
+        lags.set(replica, max(0, now - beat));
+        replicasFailing[replica] = false;
+      } catch (RuntimeException exception) {
+        lags.set(replica, UNREACHABLE);
+        replicaHeartbeatFailures.incrementAndGet();
+        if (!replicasFailing[replica])
+          log.warn("Heartbeat not read on replica {}, its reads go elsewhere", replica, exception);
+        replicasFailing[replica] = true;
+      }
+    }
+  }
+
+  /** The next replica in sync other than {@code excluded}, taken in turn, or the primary. */
+  private int replicaInSync(final int excluded) {
+    var start = nextReplica.getAndIncrement();
+
+    for (var offset = 0; offset < replicas.size(); offset++) {
+      var replica = floorMod(start + offset, replicas.size());
+      if (replica != excluded && lags.get(replica) <= maximumLagMillis) return replica;
+    }
+
+    return PRIMARY;
+  }
+
+  private static <T> T join(final CompletableFuture<T> result) {
+    try {
+      return result.join();
+    } catch (CompletionException completionException) {
+      if (completionException.getCause() instanceof RuntimeException)
+        throw (RuntimeException) completionException.getCause();
+
+      throw completionException;
+    }
+  }
+
+  /** A read sent to one database, and maybe to a second one, answered by the first to succeed. */
+  private final class HedgedRead<T> {
+
+    private final Supplier<T> read;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final AtomicBoolean sentToPrimary = new AtomicBoolean();
+
+    private HedgedRead(final Supplier<T> read) {
+      this.read = read;
+    }
+
+    private void on(final int target) {
+      // The primary is asked at most once, by the hedge or by the fallback of a failed replica.
+      if (target == PRIMARY && !sentToPrimary.compareAndSet(false, true)) return;
+
+      try {
+        readers.execute(() -> run(target));
+      } catch (RejectedExecutionException rejectedExecutionException) {
+        // Shutting down, nothing would answer the caller anymore.
+        result.completeExceptionally(rejectedExecutionException);
+      }
+    }
+
+    private void run(final int target) {
+      try {
+        if (target == PRIMARY) {
+          if (result.complete(read.get())) primaryReads.incrementAndGet();
+        } else if (result.complete(ReadTarget.onReplica(target, read))) {
+          replicaReads.incrementAndGet();
+        }
+      } catch (ClientErrorException clientErrorException) {
+        result.completeExceptionally(clientErrorException);
+      } catch (RuntimeException exception) {
+        if (target == PRIMARY) {
+          result.completeExceptionally(exception);
+          return;
+        }
+
+        lags.set(target, UNREACHABLE);
+        on(PRIMARY);
+      }
+    }
+  }
+}
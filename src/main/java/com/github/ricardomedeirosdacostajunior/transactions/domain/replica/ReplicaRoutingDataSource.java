@@ -0,0 +1,49 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import java.util.HashMap;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections of the replica set by {@link ReadTarget} on the current thread, and of the
+ * primary otherwise. Only {@link ReplicaReadRouter} sets a replica, so JPA, the JDBC templates and
+ * Flyway keep writing to the primary through this data source.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+  private final DataSource primary;
+  private final List<DataSource> replicas;
+
+  public ReplicaRoutingDataSource(final DataSource primary, final List<DataSource> replicas) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+
+    var targets = new HashMap<Object, Object>();
+    for (var index = 0; index < replicas.size(); index++) targets.put(index, replicas.get(index));
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  DataSource primary() {
+    return primary;
+  }
+
+  List<DataSource> replicas() {
+    return replicas;
+  }
+
+  /** Closes the pools of the replicas, the primary is a bean of its own. */
+  @Override
+  public void close() throws Exception {
+    for (var replica : replicas)
+      if (replica instanceof AutoCloseable) ((AutoCloseable) replica).close();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ReadTarget.replica();
+  }
+}
@@ -0,0 +1,12 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+
+/**
+ * Write path for new accounts. The UUID is assigned before the insert, so it goes straight to a
+ * single JDBC statement instead of letting {@code save} look the row up first.
+ */
+public interface AccountInsertRepository {
+
+  Account insert(Account account);
+}
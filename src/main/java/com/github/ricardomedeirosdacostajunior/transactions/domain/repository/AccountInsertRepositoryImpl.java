@@ -0,0 +1,28 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class AccountInsertRepositoryImpl implements AccountInsertRepository {
+
+  private static final String INSERT =
+      "insert into account(uuid, document_number, available_credit_limit) "
+          + "values (:uuid, :documentNumber, :availableCreditLimit)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public Account insert(final Account account) {
+    jdbcTemplate.update(
+        INSERT,
+        new MapSqlParameterSource()
+            .addValue("uuid", account.getUuid())
+            .addValue("documentNumber", account.getDocumentNumber())
+            .addValue("availableCreditLimit", account.getAvailableCreditLimit()));
+
+    return account;
+  }
+}
@@ -2,6 +2,50 @@ package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface AccountRepository extends CrudRepository<Account, UUID> {}
+public interface AccountRepository
+    extends CrudRepository<Account, UUID>, AccountInsertRepository, AccountScanRepository {
+
+  /**
+   * Adds the amount, in cents, to the available credit limit in a single statement, only when the
+   * result stays positive. Returns the number of updated accounts, so zero means the limit was not
+   * enough or the account does not exist.
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update Account a set a.availableCreditLimit = a.availableCreditLimit + :amount "
+          + "where a.uuid = :uuid and a.availableCreditLimit + :amount > 0")
+  int addToAvailableCreditLimit(@Param("uuid") UUID uuid, @Param("amount") long amount);
+
+  /**
+   * Adds the amount, in cents, to the available credit limit whatever the result, for transactions
+   * already accepted against another balance. Returns the number of updated accounts.
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update Account a set a.availableCreditLimit = a.availableCreditLimit + :amount "
+          + "where a.uuid = :uuid")
+  int forceAddToAvailableCreditLimit(@Param("uuid") UUID uuid, @Param("amount") long amount);
+
+  /**
+   * Sets the available credit limit only when it still holds the expected value, so a balance
+   * computed from an earlier read is never written over a concurrent change. Returns the number of
+   * updated accounts.
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update Account a set a.availableCreditLimit = :newLimit "
+          + "where a.uuid = :uuid and a.availableCreditLimit = :expectedLimit")
+  int replaceAvailableCreditLimit(
+      @Param("uuid") UUID uuid,
+      @Param("expectedLimit") long expectedLimit,
+      @Param("newLimit") long newLimit);
+}
@@ -0,0 +1,18 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Walks the accounts in UUID order, a page at a time on the primary key, for the jobs that go over
+ * all of them.
+ */
+public interface AccountScanRepository {
+
+  /**
+   * @param from only UUIDs at or after it, when not {@code null}
+   * @param to only UUIDs before it, when not {@code null}
+   * @param after only UUIDs after it, the last one of the previous page, when not {@code null}
+   */
+  List<UUID> findUuids(UUID from, UUID to, UUID after, int limit);
+}
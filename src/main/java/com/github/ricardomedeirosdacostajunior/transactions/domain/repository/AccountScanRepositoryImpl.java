@@ -0,0 +1,48 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.lang.String.join;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class AccountScanRepositoryImpl implements AccountScanRepository {
+
+  private static final String SELECT = "select uuid from account";
+  private static final String FROM = "uuid >= :from";
+  private static final String TO = "uuid < :to";
+  private static final String AFTER = "uuid > :after";
+  private static final String ORDER_AND_LIMIT = " order by uuid limit :limit";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<UUID> findUuids(final UUID from, final UUID to, final UUID after, final int limit) {
+    var conditions = new ArrayList<String>();
+    var parameters = new MapSqlParameterSource().addValue("limit", limit);
+
+    if (nonNull(from)) {
+      conditions.add(FROM);
+      parameters.addValue("from", from);
+    }
+
+    if (nonNull(to)) {
+      conditions.add(TO);
+      parameters.addValue("to", to);
+    }
+
+    if (nonNull(after)) {
+      conditions.add(AFTER);
+      parameters.addValue("after", after);
+    }
+
+    var query = conditions.isEmpty() ? SELECT : SELECT + " where " + join(" and ", conditions);
+
+    return jdbcTemplate.queryForList(query + ORDER_AND_LIMIT, parameters, UUID.class);
+  }
+}
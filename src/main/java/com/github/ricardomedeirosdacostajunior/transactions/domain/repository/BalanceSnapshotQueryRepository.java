@@ -0,0 +1,38 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads behind the balance snapshots. The transactions of an account after a snapshot are sought
+ * on the {@code (account_id, event_date, uuid)} index, so a balance costs one snapshot lookup plus
+ * the transactions since that snapshot, however long the history of the account is.
+ */
+public interface BalanceSnapshotQueryRepository {
+
+  /**
+   * @param asOf latest snapshot taken at or before it, or the latest one when {@code null}
+   */
+  Optional<BalanceSnapshot> findLatest(UUID accountUuid, LocalDateTime asOf);
+
+  /**
+   * Totals the transactions of the account after the snapshot.
+   *
+   * @param upTo only transactions up to this one included, or no bound when {@code null}
+   * @param until only transactions taken at or before it, or no bound when {@code null}
+   */
+  TransactionTotal sumTransactionsAfter(
+      BalanceSnapshot snapshot, TransactionCursor upTo, LocalDateTime until);
+
+  /**
+   * The available credit limit of the account less its transactions taken after {@code asOf}, or
+   * less all of them when {@code null}, read in a single statement. Empty when the account does
+   * not exist.
+   */
+  Optional<Long> findAvailableCreditLimitBefore(UUID accountUuid, LocalDateTime asOf);
+
+  void insert(BalanceSnapshot snapshot);
+}
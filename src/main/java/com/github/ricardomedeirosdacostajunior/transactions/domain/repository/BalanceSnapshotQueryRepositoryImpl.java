@@ -0,0 +1,114 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.Objects.nonNull;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class BalanceSnapshotQueryRepositoryImpl implements BalanceSnapshotQueryRepository {
+
+  private static final String SELECT_LATEST =
+      "select transaction_id, account_id, event_date, available_credit_limit"
+          + " from balance_snapshot where account_id = :accountUuid";
+  private static final String SNAPSHOT_AS_OF = " and event_date <= :asOf";
+  private static final String LATEST_FIRST =
+      " order by event_date desc, transaction_id desc limit 1";
+  private static final String SUM_AFTER =
+      "select count(*) as transactions, coalesce(sum(amount), 0) as amount from transaction"
+          + " where account_id = :accountUuid and event_date >= :eventDate"
+          + " and (event_date, uuid) > (:eventDate, :uuid)";
+  private static final String UP_TO =
+      " and event_date <= :upToEventDate and (event_date, uuid) <= (:upToEventDate, :upToUuid)";
+  private static final String UNTIL = " and event_date <= :until";
+  private static final String SELECT_LIMIT_BEFORE =
+      "select a.available_credit_limit - coalesce((select sum(t.amount) from transaction t"
+          + " where t.account_id = a.uuid%s), 0) from account a where a.uuid = :accountUuid";
+  private static final String TAKEN_AFTER = " and t.event_date > :asOf";
+  private static final String INSERT =
+      "insert into balance_snapshot(transaction_id, account_id, event_date, available_credit_limit)"
+          + " values (:transactionUuid, :accountUuid, :eventDate, :availableCreditLimit)";
+  private static final RowMapper<BalanceSnapshot> SNAPSHOT_ROW_MAPPER =
+      (resultSet, rowNumber) ->
+          BalanceSnapshot.builder()
+              .transactionUuid(resultSet.getObject("transaction_id", UUID.class))
+              .accountUuid(resultSet.getObject("account_id", UUID.class))
+              .eventDate(resultSet.getObject("event_date", LocalDateTime.class))
+              .availableCreditLimit(resultSet.getLong("available_credit_limit"))
+              .build();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<BalanceSnapshot> findLatest(final UUID accountUuid, final LocalDateTime asOf) {
+    var query = new StringBuilder(SELECT_LATEST);
+    var parameters = new MapSqlParameterSource().addValue("accountUuid", accountUuid);
+
+    if (nonNull(asOf)) {
+      query.append(SNAPSHOT_AS_OF);
+      parameters.addValue("asOf", asOf);
+    }
+
+    return jdbcTemplate
+        .query(query.append(LATEST_FIRST).toString(), parameters, SNAPSHOT_ROW_MAPPER)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public TransactionTotal sumTransactionsAfter(
+      final BalanceSnapshot snapshot, final TransactionCursor upTo, final LocalDateTime until) {
+    var query = new StringBuilder(SUM_AFTER);
+    var parameters =
+        new MapSqlParameterSource()
+            .addValue("accountUuid", snapshot.getAccountUuid())
+            .addValue("eventDate", snapshot.getEventDate())
+            .addValue("uuid", snapshot.getTransactionUuid());
+
+    if (nonNull(upTo)) {
+      query.append(UP_TO);
+      parameters
+          .addValue("upToEventDate", upTo.getEventDate())
+          .addValue("upToUuid", upTo.getUuid());
+    }
+
+    if (nonNull(until)) {
+      query.append(UNTIL);
+      parameters.addValue("until", until);
+    }
+
+    return jdbcTemplate.queryForObject(
+        query.toString(),
+        parameters,
+        (resultSet, rowNumber) ->
+            new TransactionTotal(resultSet.getLong("transactions"), resultSet.getLong("amount")));
+  }
+
+  @Override
+  public Optional<Long> findAvailableCreditLimitBefore(
+      final UUID accountUuid, final LocalDateTime asOf) {
+    var parameters =
+        new MapSqlParameterSource().addValue("accountUuid", accountUuid).addValue("asOf", asOf);
+    var query = String.format(SELECT_LIMIT_BEFORE, nonNull(asOf) ? TAKEN_AFTER : "");
+
+    return jdbcTemplate.queryForList(query, parameters, Long.class).stream().findFirst();
+  }
+
+  @Override
+  public void insert(final BalanceSnapshot snapshot) {
+    jdbcTemplate.update(
+        INSERT,
+        new MapSqlParameterSource()
+            .addValue("transactionUuid", snapshot.getTransactionUuid())
+            .addValue("accountUuid", snapshot.getAccountUuid())
+            .addValue("eventDate", snapshot.getEventDate())
+            .addValue("availableCreditLimit", snapshot.getAvailableCreditLimit()));
+  }
+}
@@ -0,0 +1,8 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import java.util.UUID;
+import org.springframework.data.repository.CrudRepository;
+
+public interface BalanceSnapshotRepository
+    extends CrudRepository<BalanceSnapshot, UUID>, BalanceSnapshotQueryRepository {}
@@ -0,0 +1,31 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads and writes of the daily totals. A range of days is read on the {@code daily_total} primary
+ * key, at most one row per day and operation type, however many transactions those days hold.
+ */
+public interface DailyTotalQueryRepository {
+
+  /**
+   * The totals of the account from {@code from} to {@code to}, both included, ordered by day and
+   * operation type. The transactions past the daily total watermark, not folded yet, are added in
+   * the same statement, so a total is neither missed nor counted twice while the folder runs.
+   */
+  List<DailyTotal> findByDays(UUID accountUuid, LocalDate from, LocalDate to);
+
+  /** Adds the totals to the stored ones, or stores them when there are none yet. */
+  void add(Collection<DailyTotal> dailyTotals);
+
+  /**
+   * Replaces the totals of the day with the ones of its transactions up to the watermark included.
+   * Returns the number of totals stored.
+   */
+  int rebuild(LocalDate day, TransactionCursor watermark);
+}
@@ -0,0 +1,115 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@AllArgsConstructor
+class DailyTotalQueryRepositoryImpl implements DailyTotalQueryRepository {
+
+  private static final String SELECT_BY_DAYS =
+      "select event_day, operation_type, sum(transactions) as transactions, sum(amount) as amount"
+          + " from (select event_day, operation_type, transactions, amount from daily_total"
+          + " where account_id = :accountUuid and event_day between :from and :to"
+          + " union all"
+          + " select cast(t.event_date as date), t.operation_type, count(*), sum(t.amount)"
+          + " from transaction t where t.account_id = :accountUuid"
+          + " and t.event_date >= :fromDate and t.event_date < :untilDate"
+          + " and not exists (select 1 from snapshot_watermark w where w.id = :watermarkId"
+          + " and (t.event_date, t.uuid) <= (w.event_date, w.transaction_id))"
+          + " group by cast(t.event_date as date), t.operation_type) totals"
+          + " group by event_day, operation_type order by event_day, operation_type";
+  private static final String UPDATE =
+      "update daily_total set transactions = transactions + :transactions,"
+          + " amount = amount + :amount where account_id = :accountUuid"
+          + " and event_day = :eventDay and operation_type = :operationType";
+  private static final String INSERT =
+      "insert into daily_total(account_id, event_day, operation_type, transactions, amount)"
+          + " values (:accountUuid, :eventDay, :operationType, :transactions, :amount)";
+  private static final String DELETE_DAY = "delete from daily_total where event_day = :day";
+  private static final String INSERT_DAY =
+      "insert into daily_total(account_id, event_day, operation_type, transactions, amount)"
+          + " select account_id, cast(event_date as date), operation_type, count(*), sum(amount)"
+          + " from transaction where event_date >= :fromDate and event_date < :untilDate"
+          + " and (event_date, uuid) <= (:eventDate, :uuid)"
+          + " group by account_id, cast(event_date as date), operation_type";
+  private static final OperationTypesEnumeration[] OPERATION_TYPES =
+      OperationTypesEnumeration.values();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<DailyTotal> findByDays(
+      final UUID accountUuid, final LocalDate from, final LocalDate to) {
+    var parameters =
+        new MapSqlParameterSource()
+            .addValue("accountUuid", accountUuid)
+            .addValue("from", from)
+            .addValue("to", to)
+            .addValue("fromDate", from.atStartOfDay())
+            .addValue("untilDate", to.plusDays(1).atStartOfDay())
+            .addValue("watermarkId", SnapshotWatermark.DAILY_TOTAL_ID);
+
+    return jdbcTemplate.query(SELECT_BY_DAYS, parameters, rowMapper(accountUuid));
+  }
+
+  @Override
+  public void add(final Collection<DailyTotal> dailyTotals) {
+    var parameters = dailyTotals.stream().map(this::parameters).toArray(SqlParameterSource[]::new);
+    var updated = jdbcTemplate.batchUpdate(UPDATE, parameters);
+
+    var missing = new ArrayList<SqlParameterSource>();
+    for (var index = 0; index < updated.length; index++)
+      if (updated[index] == 0) missing.add(parameters[index]);
+
+    // Only the folder holding the watermark lock writes totals, the missing ones cannot be inserted
+    // meanwhile.
+    if (!missing.isEmpty())
+      jdbcTemplate.batchUpdate(INSERT, missing.toArray(SqlParameterSource[]::new));
+  }
+
+  @Override
+  public int rebuild(final LocalDate day, final TransactionCursor watermark) {
+    jdbcTemplate.update(DELETE_DAY, new MapSqlParameterSource().addValue("day", day));
+
+    return jdbcTemplate.update(
+        INSERT_DAY,
+        new MapSqlParameterSource()
+            .addValue("fromDate", day.atStartOfDay())
+            .addValue("untilDate", day.plusDays(1).atStartOfDay())
+            .addValue("eventDate", watermark.getEventDate())
+            .addValue("uuid", watermark.getUuid()));
+  }
+
+  private SqlParameterSource parameters(final DailyTotal dailyTotal) {
+    // operation_type is mapped with EnumType.ORDINAL.
+    return new MapSqlParameterSource()
+        .addValue("accountUuid", dailyTotal.getAccountUuid())
+        .addValue("eventDay", dailyTotal.getEventDay())
+        .addValue("operationType", dailyTotal.getOperationType().ordinal())
+        .addValue("transactions", dailyTotal.getTransactions())
+        .addValue("amount", dailyTotal.getAmount());
+  }
+
+  private static RowMapper<DailyTotal> rowMapper(final UUID accountUuid) {
+    return (resultSet, rowNumber) ->
+        DailyTotal.builder()
+            .accountUuid(accountUuid)
+            .eventDay(resultSet.getObject("event_day", LocalDate.class))
+            .operationType(OPERATION_TYPES[resultSet.getInt("operation_type")])
+            .transactions(resultSet.getLong("transactions"))
+            .amount(resultSet.getLong("amount"))
+            .build();
+  }
+}
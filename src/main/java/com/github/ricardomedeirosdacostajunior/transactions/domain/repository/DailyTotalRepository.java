@@ -0,0 +1,7 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import org.springframework.data.repository.CrudRepository;
+
+public interface DailyTotalRepository
+    extends CrudRepository<DailyTotal, DailyTotal.Key>, DailyTotalQueryRepository {}
@@ -0,0 +1,13 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+
+/**
+ * Write path for used idempotency keys. The insert goes straight to a single JDBC statement, so a
+ * key already stored fails right away with a {@code DuplicateKeyException} instead of when the
+ * persistence context is flushed.
+ */
+public interface IdempotencyKeyInsertRepository {
+
+  IdempotencyKey insert(IdempotencyKey idempotencyKey);
+}
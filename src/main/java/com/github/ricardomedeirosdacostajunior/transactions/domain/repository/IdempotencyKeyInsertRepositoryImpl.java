@@ -0,0 +1,32 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class IdempotencyKeyInsertRepositoryImpl implements IdempotencyKeyInsertRepository {
+
+  private static final String INSERT =
+      "insert into idempotency_key"
+          + "(idempotency_key, transaction_id, account_id, operation_type, event_date, amount) "
+          + "values (:key, :transactionUuid, :accountUuid, :operationType, :eventDate, :amount)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public IdempotencyKey insert(final IdempotencyKey idempotencyKey) {
+    jdbcTemplate.update(
+        INSERT,
+        new MapSqlParameterSource()
+            .addValue("key", idempotencyKey.getKey())
+            .addValue("transactionUuid", idempotencyKey.getTransactionUuid())
+            .addValue("accountUuid", idempotencyKey.getAccountUuid())
+            .addValue("operationType", idempotencyKey.getOperationType().ordinal())
+            .addValue("eventDate", idempotencyKey.getEventDate())
+            .addValue("amount", idempotencyKey.getAmount()));
+
+    return idempotencyKey;
+  }
+}
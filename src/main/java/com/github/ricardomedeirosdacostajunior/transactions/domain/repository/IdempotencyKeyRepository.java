@@ -0,0 +1,26 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyKeyRepository
+    extends CrudRepository<IdempotencyKey, String>, IdempotencyKeyInsertRepository {
+
+  /**
+   * Deletes at most {@code limit} keys whose transaction was created before {@code before}, and
+   * returns how many were deleted.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "delete from idempotency_key where idempotency_key in (select idempotency_key "
+              + "from idempotency_key where event_date < :before limit :limit)",
+      nativeQuery = true)
+  int deleteUsedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,62 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import io.r2dbc.spi.Row;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** The statements of {@link AccountRepository}, over R2DBC for the reactive stack. */
+@Repository
+@ConditionalOnWebApplication(type = REACTIVE)
+@AllArgsConstructor
+public class ReactiveAccountRepository {
+
+  private static final String FIND_BY_ID =
+      "select uuid, document_number, available_credit_limit from account where uuid = :uuid";
+  private static final String INSERT =
+      "insert into account(uuid, document_number, available_credit_limit) "
+          + "values (:uuid, :documentNumber, :availableCreditLimit)";
+  private static final String ADD_TO_AVAILABLE_CREDIT_LIMIT =
+      "update account set available_credit_limit = available_credit_limit + :amount "
+          + "where uuid = :uuid and available_credit_limit + :amount > 0";
+
+  private final DatabaseClient databaseClient;
+
+  public Mono<Account> findById(final UUID uuid) {
+    return databaseClient.execute(FIND_BY_ID).bind("uuid", uuid).map(this::account).one();
+  }
+
+  public Mono<Account> insert(final Account account) {
+    return databaseClient
+        .execute(INSERT)
+        .bind("uuid", account.getUuid())
+        .bind("documentNumber", account.getDocumentNumber())
+        .bind("availableCreditLimit", account.getAvailableCreditLimit())
+        .then()
+        .thenReturn(account);
+  }
+
+  /** Same contract as {@link AccountRepository#addToAvailableCreditLimit(UUID, long)}. */
+  public Mono<Integer> addToAvailableCreditLimit(final UUID uuid, final long amount) {
+    return databaseClient
+        .execute(ADD_TO_AVAILABLE_CREDIT_LIMIT)
+        .bind("uuid", uuid)
+        .bind("amount", amount)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  private Account account(final Row row) {
+    return Account.builder()
+        .uuid(row.get("uuid", UUID.class))
+        .documentNumber(row.get("document_number", String.class))
+        .availableCreditLimit(row.get("available_credit_limit", Long.class))
+        .build();
+  }
+}
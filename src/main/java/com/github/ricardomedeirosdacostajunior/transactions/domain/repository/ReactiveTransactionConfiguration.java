@@ -0,0 +1,24 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Transactions of the reactive stack. The R2DBC transaction manager is kept out of the context on
+ * purpose, next to the JPA one it would leave {@code @Transactional} with two candidates.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveTransactionConfiguration {
+
+  @Bean
+  TransactionalOperator transactionalOperator(final ConnectionFactory connectionFactory) {
+    return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+  }
+}
@@ -0,0 +1,36 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** The insert of {@link TransactionRepository}, over R2DBC for the reactive stack. */
+@Repository
+@ConditionalOnWebApplication(type = REACTIVE)
+@AllArgsConstructor
+public class ReactiveTransactionRepository {
+
+  private static final String INSERT =
+      "insert into transaction(uuid, account_id, amount, event_date, operation_type) "
+          + "values (:uuid, :accountUuid, :amount, :eventDate, :operationType)";
+
+  private final DatabaseClient databaseClient;
+
+  public Mono<Transaction> insert(final Transaction transaction) {
+    // operation_type is mapped with EnumType.ORDINAL, keep writing the same value JPA reads back.
+    return databaseClient
+        .execute(INSERT)
+        .bind("uuid", transaction.getUuid())
+        .bind("accountUuid", transaction.getAccount().getUuid())
+        .bind("amount", transaction.getAmount())
+        .bind("eventDate", transaction.getEventDate())
+        .bind("operationType", transaction.getOperationType().ordinal())
+        .then()
+        .thenReturn(transaction);
+  }
+}
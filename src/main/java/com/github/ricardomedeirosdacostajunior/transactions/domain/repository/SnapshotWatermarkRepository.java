@@ -0,0 +1,15 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static javax.persistence.LockModeType.PESSIMISTIC_WRITE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.CrudRepository;
+
+public interface SnapshotWatermarkRepository extends CrudRepository<SnapshotWatermark, Integer> {
+
+  /** Reads the watermark and locks it until the end of the database transaction. */
+  @Lock(PESSIMISTIC_WRITE)
+  Optional<SnapshotWatermark> findLockedById(int id);
+}
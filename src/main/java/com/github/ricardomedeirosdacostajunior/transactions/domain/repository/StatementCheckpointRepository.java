@@ -0,0 +1,7 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.StatementCheckpoint;
+import org.springframework.data.repository.CrudRepository;
+
+public interface StatementCheckpointRepository
+    extends CrudRepository<StatementCheckpoint, StatementCheckpoint.Key> {}
@@ -0,0 +1,10 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Statement;
+import java.util.List;
+
+/** Write path for the statements, a chunk of them per JDBC batch. */
+public interface StatementInsertRepository {
+
+  void insertAll(List<Statement> statements);
+}
@@ -0,0 +1,40 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Statement;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@AllArgsConstructor
+class StatementInsertRepositoryImpl implements StatementInsertRepository {
+
+  private static final String INSERT =
+      "insert into statement(account_id, month, opening_available_credit_limit,"
+          + " closing_available_credit_limit, transactions, in_cash, in_installments, withdraw,"
+          + " payment) values (:accountUuid, :month, :openingAvailableCreditLimit,"
+          + " :closingAvailableCreditLimit, :transactions, :inCash, :inInstallments, :withdraw,"
+          + " :payment)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public void insertAll(final List<Statement> statements) {
+    jdbcTemplate.batchUpdate(
+        INSERT, statements.stream().map(this::parameters).toArray(SqlParameterSource[]::new));
+  }
+
+  private SqlParameterSource parameters(final Statement statement) {
+    return new MapSqlParameterSource()
+        .addValue("accountUuid", statement.getAccountUuid())
+        .addValue("month", statement.getMonth())
+        .addValue("openingAvailableCreditLimit", statement.getOpeningAvailableCreditLimit())
+        .addValue("closingAvailableCreditLimit", statement.getClosingAvailableCreditLimit())
+        .addValue("transactions", statement.getTransactions())
+        .addValue("inCash", statement.getInCash())
+        .addValue("inInstallments", statement.getInInstallments())
+        .addValue("withdraw", statement.getWithdraw())
+        .addValue("payment", statement.getPayment());
+  }
+}
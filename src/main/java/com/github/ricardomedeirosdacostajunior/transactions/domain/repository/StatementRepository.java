@@ -0,0 +1,7 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Statement;
+import org.springframework.data.repository.CrudRepository;
+
+public interface StatementRepository
+    extends CrudRepository<Statement, Statement.Key>, StatementInsertRepository {}
@@ -0,0 +1,23 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read path for full dumps. The rows are handed over one by one while they are fetched from a
+ * server-side cursor, {@code transactions.export.fetch-size} rows per round trip, so the dump is
+ * never held in memory. The cursor only stays open inside a database transaction. The transactions
+ * come back with an account that only holds its UUID, in no particular order.
+ */
+public interface TransactionExportRepository {
+
+  /**
+   * @param accountUuid only the transactions of this account, or of all of them when {@code null}
+   * @param from only transactions at or after it, when not {@code null}
+   * @param to only transactions before it, when not {@code null}
+   */
+  void export(
+      UUID accountUuid, LocalDateTime from, LocalDateTime to, Consumer<Transaction> transactions);
+}
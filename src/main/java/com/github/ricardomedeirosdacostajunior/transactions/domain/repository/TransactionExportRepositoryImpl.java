@@ -0,0 +1,71 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.lang.String.join;
+import static java.util.Objects.nonNull;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+class TransactionExportRepositoryImpl implements TransactionExportRepository {
+
+  private static final String SELECT =
+      "select " + TransactionRowMapper.COLUMNS + " from transaction";
+  private static final String ACCOUNT = "account_id = :accountUuid";
+  private static final String FROM = "event_date >= :from";
+  private static final String TO = "event_date < :to";
+  private static final TransactionRowMapper ROW_MAPPER = new TransactionRowMapper();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  TransactionExportRepositoryImpl(
+      final DataSource dataSource,
+      @Value("${transactions.export.fetch-size:10000}") final int fetchSize) {
+    // A template of its own, the fetch size only suits the dumps.
+    var fetchingJdbcTemplate = new JdbcTemplate(dataSource);
+    fetchingJdbcTemplate.setFetchSize(fetchSize);
+
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(fetchingJdbcTemplate);
+  }
+
+  @Override
+  public void export(
+      final UUID accountUuid,
+      final LocalDateTime from,
+      final LocalDateTime to,
+      final Consumer<Transaction> transactions) {
+    var conditions = new ArrayList<String>();
+    var parameters = new MapSqlParameterSource();
+
+    if (nonNull(accountUuid)) {
+      conditions.add(ACCOUNT);
+      parameters.addValue("accountUuid", accountUuid);
+    }
+
+    if (nonNull(from)) {
+      conditions.add(FROM);
+      parameters.addValue("from", from);
+    }
+
+    if (nonNull(to)) {
+      conditions.add(TO);
+      parameters.addValue("to", to);
+    }
+
+    var query = conditions.isEmpty() ? SELECT : SELECT + " where " + join(" and ", conditions);
+
+    jdbcTemplate.query(
+        query,
+        parameters,
+        (RowCallbackHandler)
+            resultSet -> transactions.accept(ROW_MAPPER.mapRow(resultSet, 0)));
+  }
+}
@@ -0,0 +1,36 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read path for the history of an account, newest first. Pages are sought on the {@code
+ * (account_id, event_date, uuid)} index from the cursor instead of skipped with an {@code OFFSET},
+ * so a deep page costs the same as the first one. The transactions come back with an account that
+ * only holds its UUID.
+ *
+ * <p>The background folders walk the history of every account the other way, oldest first.
+ */
+public interface TransactionHistoryRepository {
+
+  /**
+   * @param operationType only transactions of this type, or all of them when {@code null}
+   * @param after the last transaction of the previous page, or {@code null} for the first page
+   */
+  List<Transaction> findPage(
+      UUID accountUuid,
+      OperationTypesEnumeration operationType,
+      TransactionCursor after,
+      int limit);
+
+  /**
+   * Transactions of every account after the cursor and taken before {@code settledBefore}, oldest
+   * first, on the {@code (event_date, uuid)} index.
+   */
+  List<Transaction> findTransactionsAfter(
+      TransactionCursor after, LocalDateTime settledBefore, int limit);
+}
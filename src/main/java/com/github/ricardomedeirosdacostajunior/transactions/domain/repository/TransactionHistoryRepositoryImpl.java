@@ -0,0 +1,73 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.Objects.nonNull;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class TransactionHistoryRepositoryImpl implements TransactionHistoryRepository {
+
+  private static final String SELECT =
+      "select "
+          + TransactionRowMapper.COLUMNS
+          + " from transaction where account_id = :accountUuid";
+  private static final String OPERATION_TYPE = " and operation_type = :operationType";
+  // The bound on event_date alone is redundant, it lets Postgres prune the partitions after it.
+  private static final String AFTER =
+      " and event_date <= :eventDate and (event_date, uuid) < (:eventDate, :uuid)";
+  private static final String ORDER_AND_LIMIT = " order by event_date desc, uuid desc limit :limit";
+  private static final String SELECT_SETTLED_AFTER =
+      "select "
+          + TransactionRowMapper.COLUMNS
+          + " from transaction where event_date >= :eventDate"
+          + " and (event_date, uuid) > (:eventDate, :uuid)"
+          + " and event_date < :settledBefore order by event_date, uuid limit :limit";
+  private static final TransactionRowMapper ROW_MAPPER = new TransactionRowMapper();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<Transaction> findPage(
+      final UUID accountUuid,
+      final OperationTypesEnumeration operationType,
+      final TransactionCursor after,
+      final int limit) {
+    var query = new StringBuilder(SELECT);
+    var parameters =
+        new MapSqlParameterSource().addValue("accountUuid", accountUuid).addValue("limit", limit);
+
+    if (nonNull(operationType)) {
+      query.append(OPERATION_TYPE);
+      // operation_type is mapped with EnumType.ORDINAL.
+      parameters.addValue("operationType", operationType.ordinal());
+    }
+
+    if (nonNull(after)) {
+      query.append(AFTER);
+      parameters.addValue("eventDate", after.getEventDate()).addValue("uuid", after.getUuid());
+    }
+
+    return jdbcTemplate.query(query.append(ORDER_AND_LIMIT).toString(), parameters, ROW_MAPPER);
+  }
+
+  @Override
+  public List<Transaction> findTransactionsAfter(
+      final TransactionCursor after, final LocalDateTime settledBefore, final int limit) {
+    var parameters =
+        new MapSqlParameterSource()
+            .addValue("eventDate", after.getEventDate())
+            .addValue("uuid", after.getUuid())
+            .addValue("settledBefore", settledBefore)
+            .addValue("limit", limit);
+
+    return jdbcTemplate.query(SELECT_SETTLED_AFTER, parameters, ROW_MAPPER);
+  }
+}
@@ -0,0 +1,16 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.util.List;
+
+/**
+ * Write path for new transactions. The UUID is assigned before the insert, so it goes straight to a
+ * single JDBC statement instead of letting {@code save} look the row and its account up first, and
+ * a list of them goes out as one JDBC batch.
+ */
+public interface TransactionInsertRepository {
+
+  Transaction insert(Transaction transaction);
+
+  void insertAll(List<Transaction> transactions);
+}
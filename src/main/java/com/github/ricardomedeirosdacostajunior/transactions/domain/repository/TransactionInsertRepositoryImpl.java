@@ -0,0 +1,41 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@AllArgsConstructor
+class TransactionInsertRepositoryImpl implements TransactionInsertRepository {
+
+  private static final String INSERT =
+      "insert into transaction(uuid, account_id, amount, event_date, operation_type) "
+          + "values (:uuid, :accountUuid, :amount, :eventDate, :operationType)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public Transaction insert(final Transaction transaction) {
+    jdbcTemplate.update(INSERT, parameters(transaction));
+
+    return transaction;
+  }
+
+  @Override
+  public void insertAll(final List<Transaction> transactions) {
+    jdbcTemplate.batchUpdate(
+        INSERT, transactions.stream().map(this::parameters).toArray(SqlParameterSource[]::new));
+  }
+
+  private SqlParameterSource parameters(final Transaction transaction) {
+    // operation_type is mapped with EnumType.ORDINAL, keep writing the same value JPA reads back.
+    return new MapSqlParameterSource()
+        .addValue("uuid", transaction.getUuid())
+        .addValue("accountUuid", transaction.getAccount().getUuid())
+        .addValue("amount", transaction.getAmount())
+        .addValue("eventDate", transaction.getEventDate())
+        .addValue("operationType", transaction.getOperationType().ordinal());
+  }
+}
@@ -0,0 +1,26 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Maintenance of the monthly range partitions of the {@code transaction} table, on PostgreSQL. The
+ * partition of a month is named {@code transaction_yyyy_MM} and holds the transactions from its
+ * first day, included, to the first day of the next month, excluded. Those out of every partition
+ * go to {@code transaction_default}. Each method runs in the caller's database transaction.
+ */
+public interface TransactionPartitionRepository {
+
+  /** Months of the partitions attached to the {@code transaction} table, the default one aside. */
+  List<YearMonth> findPartitions();
+
+  /** Creates the partition of the month and moves in the transactions of the default partition. */
+  void createPartition(YearMonth month);
+
+  /**
+   * Snapshots the balance of every account as of its last transaction in the partition, so the
+   * balances as of a later date never sum the transactions left behind, and detaches the partition.
+   * Its table stays, to be archived or dropped.
+   */
+  void detachPartition(YearMonth month);
+}
@@ -0,0 +1,92 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@AllArgsConstructor
+class TransactionPartitionRepositoryImpl implements TransactionPartitionRepository {
+
+  private static final DateTimeFormatter PARTITION_NAME =
+      DateTimeFormatter.ofPattern("'transaction_'uuuu_MM");
+  private static final String SELECT_PARTITIONS =
+      "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid"
+          + " where i.inhparent = 'transaction'::regclass";
+  // Inserts of the month would be routed to the default partition until the new one is attached.
+  private static final String LOCK_DEFAULT =
+      "lock table transaction_default in access exclusive mode";
+  private static final String CREATE = "create table %s (like transaction including defaults)";
+  private static final String MOVE_FROM_DEFAULT =
+      "with moved as (delete from transaction_default"
+          + " where event_date >= :from and event_date < :until"
+          + " returning uuid, account_id, amount, event_date, operation_type)"
+          + " insert into %s(uuid, account_id, amount, event_date, operation_type)"
+          + " select uuid, account_id, amount, event_date, operation_type from moved";
+  private static final String ATTACH =
+      "alter table transaction attach partition %s for values from ('%s') to ('%s')";
+  // The current limit less the later transactions, in one statement, as the opening snapshots.
+  private static final String SNAPSHOT_LAST_TRANSACTIONS =
+      "insert into balance_snapshot(transaction_id, account_id, event_date, available_credit_limit)"
+          + " select l.uuid, l.account_id, l.event_date, a.available_credit_limit"
+          + " - coalesce((select sum(t.amount) from transaction t"
+          + " where t.account_id = l.account_id and t.event_date >= l.event_date"
+          + " and (t.event_date, t.uuid) > (l.event_date, l.uuid)), 0)"
+          + " from (select distinct on (account_id) account_id, event_date, uuid from %s"
+          + " order by account_id, event_date desc, uuid desc) l"
+          + " join account a on a.uuid = l.account_id"
+          + " where not exists (select 1 from balance_snapshot s where s.account_id = l.account_id"
+          + " and (s.event_date, s.transaction_id) >= (l.event_date, l.uuid))";
+  private static final String DETACH = "alter table transaction detach partition %s";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<YearMonth> findPartitions() {
+    return jdbcTemplate.getJdbcOperations().queryForList(SELECT_PARTITIONS, String.class).stream()
+        .map(TransactionPartitionRepositoryImpl::month)
+        .filter(Objects::nonNull)
+        .sorted()
+        .collect(toList());
+  }
+
+  @Override
+  public void createPartition(final YearMonth month) {
+    var partition = PARTITION_NAME.format(month);
+    var jdbcOperations = jdbcTemplate.getJdbcOperations();
+
+    jdbcOperations.execute(LOCK_DEFAULT);
+    jdbcOperations.execute(String.format(CREATE, partition));
+    jdbcTemplate.update(
+        String.format(MOVE_FROM_DEFAULT, partition),
+        new MapSqlParameterSource()
+            .addValue("from", month.atDay(1).atStartOfDay())
+            .addValue("until", month.plusMonths(1).atDay(1).atStartOfDay()));
+    jdbcOperations.execute(
+        String.format(ATTACH, partition, month.atDay(1), month.plusMonths(1).atDay(1)));
+  }
+
+  @Override
+  public void detachPartition(final YearMonth month) {
+    var partition = PARTITION_NAME.format(month);
+    var jdbcOperations = jdbcTemplate.getJdbcOperations();
+
+    jdbcOperations.update(String.format(SNAPSHOT_LAST_TRANSACTIONS, partition));
+    jdbcOperations.execute(String.format(DETACH, partition));
+  }
+
+  /** The month of a partition, or {@code null} for the default one and any other table. */
+  private static YearMonth month(final String partition) {
+    try {
+      return YearMonth.parse(partition, PARTITION_NAME);
+    } catch (DateTimeParseException dateTimeParseException) {
+      return null;
+    }
+  }
+}
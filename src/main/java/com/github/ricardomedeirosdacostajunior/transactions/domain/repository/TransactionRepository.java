@@ -4,4 +4,9 @@ import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transa
 import java.util.UUID;
 import org.springframework.data.repository.CrudRepository;
 
-public interface TransactionRepository extends CrudRepository<Transaction, UUID> {}
+public interface TransactionRepository
+    extends CrudRepository<Transaction, UUID>,
+        TransactionInsertRepository,
+        TransactionHistoryRepository,
+        TransactionExportRepository,
+        TransactionPartitionRepository {}
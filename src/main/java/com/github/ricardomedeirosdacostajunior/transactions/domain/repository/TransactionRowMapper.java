@@ -0,0 +1,34 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps the {@code uuid, account_id, amount, event_date, operation_type} columns of a {@code
+ * transaction} row. The account only holds its UUID.
+ */
+class TransactionRowMapper implements RowMapper<Transaction> {
+
+  static final String COLUMNS = "uuid, account_id, amount, event_date, operation_type";
+
+  private static final OperationTypesEnumeration[] OPERATION_TYPES =
+      OperationTypesEnumeration.values();
+
+  @Override
+  public Transaction mapRow(final ResultSet resultSet, final int rowNumber) throws SQLException {
+    // operation_type is mapped with EnumType.ORDINAL.
+    return Transaction.builder()
+        .uuid(resultSet.getObject("uuid", UUID.class))
+        .account(Account.builder().uuid(resultSet.getObject("account_id", UUID.class)).build())
+        .amount(resultSet.getLong("amount"))
+        .eventDate(resultSet.getObject("event_date", LocalDateTime.class))
+        .operationType(OPERATION_TYPES[resultSet.getInt("operation_type")])
+        .build();
+  }
+}
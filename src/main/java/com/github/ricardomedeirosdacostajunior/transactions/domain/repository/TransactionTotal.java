@@ -0,0 +1,13 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.money.Cents;
+import lombok.Value;
+
+/** Number of transactions and the sum of their amounts, in cents, see {@link Cents}. */
+@Value
+public class TransactionTotal {
+
+  long transactions;
+
+  long amount;
+}
@@ -1,14 +1,18 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
 
+import static java.util.Objects.isNull;
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
-import static java.util.UUID.randomUUID;
 
+import com.github.ricardomedeirosdacostajunior.transactions.domain.cache.AccountCache;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAvailableLimitCreditException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.UuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReadRouter;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
-import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 import javax.validation.constraints.NotNull;
@@ -20,51 +24,76 @@ import org.springframework.stereotype.Service;
 public class AccountService {
 
   private final AccountRepository accountRepository;
+  private final UuidGenerator uuidGenerator;
+  private final AccountCache accountCache;
+  private final ReadRouter readRouter;
 
   public AccountDTO create(@NotNull final AccountDTO accountDTO) {
     var account = dtoToEntity(accountDTO);
 
-    return entityToDto(accountRepository.save(account));
+    return entityToDto(accountRepository.insert(account));
   }
 
+  /** Looks the account up for display, from a replica when reads are routed to them. */
   public AccountDTO find(@NotNull final UUID uuid) {
-    return findOptional(uuid).map(this::entityToDto).orElse(null);
+    return readRouter.read(() -> findOptional(uuid)).map(this::entityToDto).orElse(null);
   }
 
+  /** Looks the account up on the primary, for checking or moving its available credit limit. */
   public Optional<Account> findOptional(@NotNull final UUID uuid) {
-    return accountRepository.findById(uuid);
+    if (isNull(uuid)) return empty();
+
+    return accountCache.get(uuid, accountRepository::findById);
+  }
+
+  public void updateAvailableCreditLimit(
+      final long transactionAmount, final Account account) {
+    var updatedAccounts =
+        accountRepository.addToAvailableCreditLimit(account.getUuid(), transactionAmount);
+    accountCache.invalidate(account.getUuid());
+
+    if (updatedAccounts == 0) throw InsufficientAvailableCreditLimitException.INSTANCE;
+  }
+
+  /**
+   * Moves the available credit limit by an amount already accepted, even below zero: the journal
+   * drains transactions acknowledged against its own balance, which another writer may have lowered
+   * in the database since.
+   */
+  public void forceUpdateAvailableCreditLimit(
+      final long transactionAmount, final Account account) {
+    accountRepository.forceAddToAvailableCreditLimit(account.getUuid(), transactionAmount);
+    accountCache.invalidate(account.getUuid());
   }
 
-  public void updateAvailableCreditLimit(final BigDecimal transactionValue, final Account account) {
-    var newAccount =
-        Account.builder()
-            .uuid(account.getUuid())
-            .documentNumber(account.getDocumentNumber())
-            .availableCreditLimit(account.getAvailableCreditLimit().subtract(transactionValue))
-            .build();
+  public boolean replaceAvailableCreditLimit(
+      final Account account, final long newAvailableCreditLimit) {
+    var updatedAccounts =
+        accountRepository.replaceAvailableCreditLimit(
+            account.getUuid(), account.getAvailableCreditLimit(), newAvailableCreditLimit);
+    accountCache.invalidate(account.getUuid());
 
-    accountRepository.save(newAccount);
+    return updatedAccounts == 1;
   }
 
-  private Account dtoToEntity(final AccountDTO accountDTO) {
+  Account dtoToEntity(final AccountDTO accountDTO) {
     var documentNumber =
         ofNullable(accountDTO)
             .map(AccountDTO::getDocumentNumber)
-            .orElseThrow(InvalidAccountException::new);
+            .orElseThrow(() -> InvalidAccountException.INSTANCE);
 
     var availableLimitCredit =
         ofNullable(accountDTO.getAvailableCreditLimit())
-            .orElseThrow(InvalidAvailableLimitCreditException::new);
+            .orElseThrow(() -> InvalidAvailableLimitCreditException.INSTANCE);
 
     return Account.builder()
-        .availableCreditLimit(accountDTO.getAvailableCreditLimit())
         .documentNumber(documentNumber)
         .availableCreditLimit(availableLimitCredit)
-        .uuid(randomUUID())
+        .uuid(uuidGenerator.next())
         .build();
   }
 
-  private AccountDTO entityToDto(final Account account) {
+  AccountDTO entityToDto(final Account account) {
     return AccountDTO.builder()
         .documentNumber(account.getDocumentNumber())
         .uuid(account.getUuid())
@@ -0,0 +1,204 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot.OPENING_EVENT_DATE;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal.settledBefore;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.BalanceSnapshotRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Balances of an account at any point in time, from the {@code transaction} rows, which are never
+ * updated, instead of the {@code available_credit_limit} column, which is.
+ *
+ * <p>A background thread walks the transactions of every account in {@code (event_date, uuid)}
+ * order from a watermark, and snapshots the balance of an account after {@code
+ * maximum-transactions} transactions or {@code maximum-age} of event time since its previous
+ * snapshot. It only reads transactions and writes snapshots, so postings never wait for it, and it
+ * stays {@code settle-time} behind the clock so a transaction committed late is not skipped, and as
+ * far behind the oldest transaction still in the journal, in the {@code journal} intake mode. A
+ * balance as of a date is then the nearest earlier snapshot plus the transactions taken since,
+ * which are bounded by those two settings. A batch that fails is rolled back, logged and counted,
+ * and walked again on the next run.
+ */
+@Slf4j
+@Service
+public class BalanceSnapshotService implements MeterBinder {
+
+  private final BalanceSnapshotRepository balanceSnapshotRepository;
+  private final TransactionRepository transactionRepository;
+  private final SnapshotWatermarkRepository snapshotWatermarkRepository;
+  private final TransactionOperations transactionOperations;
+  private final Optional<TransactionJournal> transactionJournal;
+  private final int batchSize;
+  private final long maximumTransactions;
+  private final Duration maximumAge;
+  private final Duration settleTime;
+  private final Duration interval;
+  private final ScheduledExecutorService snapshotter =
+      newSingleThreadScheduledExecutor(new DaemonThreadFactory("balance-snapshotter-"));
+  private final AtomicLong failures = new AtomicLong();
+
+  public BalanceSnapshotService(
+      final BalanceSnapshotRepository balanceSnapshotRepository,
+      final TransactionRepository transactionRepository,
+      final SnapshotWatermarkRepository snapshotWatermarkRepository,
+      final TransactionOperations transactionOperations,
+      final Optional<TransactionJournal> transactionJournal,
+      @Value("${transactions.snapshot.batch-size:5000}") final int batchSize,
+      @Value("${transactions.snapshot.maximum-transactions:1000}") final long maximumTransactions,
+      @Value("${transactions.snapshot.maximum-age:10m}") final Duration maximumAge,
+      @Value("${transactions.snapshot.settle-time:1m}") final Duration settleTime,
+      @Value("${transactions.snapshot.interval:1m}") final Duration interval) {
+    this.balanceSnapshotRepository = balanceSnapshotRepository;
+    this.transactionRepository = transactionRepository;
+    this.snapshotWatermarkRepository = snapshotWatermarkRepository;
+    this.transactionOperations = transactionOperations;
+    this.transactionJournal = transactionJournal;
+    this.batchSize = batchSize;
+    this.maximumTransactions = maximumTransactions;
+    this.maximumAge = maximumAge;
+    this.settleTime = settleTime;
+    this.interval = interval;
+  }
+
+  @PostConstruct
+  public void start() {
+    snapshotter.scheduleWithFixedDelay(
+        this::snapshotOnSchedule, interval.toMillis(), interval.toMillis(), MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    snapshotter.shutdown();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("transactions.snapshot.failures", failures, AtomicLong::get)
+        .description("Balance snapshot batches rolled back, they are retried on the next run")
+        .register(meterRegistry);
+  }
+
+  /** The account with its available credit limit as of the date, or null when it does not exist. */
+  public AccountDTO findAsOf(@NotNull final UUID accountUuid, @NotNull final LocalDateTime asOf) {
+    var availableCreditLimit =
+        balanceSnapshotRepository
+            .findLatest(accountUuid, asOf)
+            .map(
+                snapshot ->
+                    snapshot.getAvailableCreditLimit()
+                        + balanceSnapshotRepository
+                            .sumTransactionsAfter(snapshot, null, asOf)
+                            .getAmount())
+            // Not snapshotted yet, rewind the current limit instead.
+            .or(() -> balanceSnapshotRepository.findAvailableCreditLimitBefore(accountUuid, asOf));
+
+    return availableCreditLimit
+        .map(limit -> AccountDTO.builder().uuid(accountUuid).availableCreditLimit(limit).build())
+        .orElse(null);
+  }
+
+  /**
+   * Moves the watermark over one batch of settled transactions, snapshotting the accounts that are
+   * due, in one database transaction. Returns the number of transactions walked over.
+   */
+  public int snapshot() {
+    return transactionOperations.execute(
+        status -> {
+          var watermark =
+              snapshotWatermarkRepository
+                  .findLockedById(SnapshotWatermark.BALANCE_SNAPSHOT_ID)
+                  .map(SnapshotWatermark::cursor)
+                  .orElse(new TransactionCursor(OPENING_EVENT_DATE, new UUID(0, 0)));
+          var transactions =
+              transactionRepository.findTransactionsAfter(
+                  watermark, settledBefore(transactionJournal, settleTime), batchSize);
+          if (transactions.isEmpty()) return 0;
+
+          var lastTransactions = new LinkedHashMap<UUID, Transaction>();
+          for (var transaction : transactions)
+            lastTransactions.put(transaction.getAccount().getUuid(), transaction);
+          lastTransactions.forEach(this::snapshotWhenDue);
+
+          var last = transactions.get(transactions.size() - 1);
+          snapshotWatermarkRepository.save(
+              SnapshotWatermark.builder()
+                  .id(SnapshotWatermark.BALANCE_SNAPSHOT_ID)
+                  .eventDate(last.getEventDate())
+                  .transactionUuid(last.getUuid())
+                  .build());
+
+          return transactions.size();
+        });
+  }
+
+  private void snapshotWhenDue(final UUID accountUuid, final Transaction lastTransaction) {
+    var previous =
+        balanceSnapshotRepository
+            .findLatest(accountUuid, null)
+            .orElseGet(() -> openingSnapshot(accountUuid));
+    var total =
+        balanceSnapshotRepository.sumTransactionsAfter(
+            previous, TransactionCursor.after(lastTransaction), null);
+    var due =
+        total.getTransactions() >= maximumTransactions
+            || !lastTransaction.getEventDate().isBefore(previous.getEventDate().plus(maximumAge));
+
+    if (due)
+      balanceSnapshotRepository.insert(
+          BalanceSnapshot.builder()
+              .transactionUuid(lastTransaction.getUuid())
+              .accountUuid(accountUuid)
+              .eventDate(lastTransaction.getEventDate())
+              .availableCreditLimit(previous.getAvailableCreditLimit() + total.getAmount())
+              .build());
+  }
+
+  private BalanceSnapshot openingSnapshot(final UUID accountUuid) {
+    // The current limit less every transaction, in one statement, is the limit the account opened
+    // with. Whatever was posted meanwhile is on both sides of the subtraction or on neither.
+    var openingSnapshot =
+        BalanceSnapshot.opening(
+            accountUuid,
+            balanceSnapshotRepository.findAvailableCreditLimitBefore(accountUuid, null).orElse(0L));
+    balanceSnapshotRepository.insert(openingSnapshot);
+
+    return openingSnapshot;
+  }
+
+  void snapshotOnSchedule() {
+    try {
+      while (snapshot() == batchSize) continue;
+    } catch (RuntimeException exception) {
+      // Rolled back, the same batch is walked again on the next run.
+      failures.incrementAndGet();
+      log.warn("Balance snapshot batch rolled back, it is retried on the next run", exception);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded retries of a write made with {@link AccountService#replaceAvailableCreditLimit}, which
+ * fails when the limit changed since it was read. Between two attempts the caller waits a random
+ * time, up to twice as long as the time before, so writers racing on one account drift apart
+ * instead of colliding again. Once the attempts are spent the caller falls back to {@link
+ * AccountService#updateAvailableCreditLimit}, one conditional update per transaction, which a
+ * concurrent writer cannot make fail.
+ */
+public final class CompareAndSetRetry {
+
+  public static final int MAXIMUM_ATTEMPTS = 5;
+  private static final long FIRST_BACKOFF_NANOS = MICROSECONDS.toNanos(500);
+
+  private CompareAndSetRetry() {}
+
+  /** Runs the attempt until it succeeds, {@code MAXIMUM_ATTEMPTS} times at most. */
+  public static boolean attempt(final BooleanSupplier attempt) {
+    for (var attempts = 0; attempts < MAXIMUM_ATTEMPTS; attempts++) {
+      if (attempts > 0)
+        LockSupport.parkNanos(
+            1 + ThreadLocalRandom.current().nextLong(FIRST_BACKOFF_NANOS << (attempts - 1)));
+
+      if (attempt.getAsBoolean()) return true;
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,15 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Named daemon threads for the background work that must not keep the JVM alive on its own, such
+ * as the folders running in a command line run of the application, which never closes its context.
+ */
+public class DaemonThreadFactory extends CustomizableThreadFactory {
+
+  public DaemonThreadFactory(final String threadNamePrefix) {
+    super(threadNamePrefix);
+    setDaemon(true);
+  }
+}
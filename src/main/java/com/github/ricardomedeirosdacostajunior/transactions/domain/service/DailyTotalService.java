@@ -0,0 +1,212 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot.OPENING_EVENT_DATE;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal.settledBefore;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DailyTotalDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ExpiredMonthException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidDateRangeException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.DailyTotalRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Totals of the transactions per account, day and operation type, so a range of days is read
+ * without scanning the {@code transaction} table.
+ *
+ * <p>A background thread folds the transactions of every account into the {@code daily_total}
+ * table in batches, in {@code (event_date, uuid)} order from its own watermark, {@code settle-time}
+ * behind the clock, and behind the oldest transaction still in the journal, like the balance
+ * snapshots. This covers every write path, the journal and the batch upload included, and keeps
+ * the posting transaction as short as it was. The transactions not folded yet are added when the
+ * totals are read. A batch that fails is rolled back, logged and counted, and folded again on the
+ * next run.
+ */
+@Slf4j
+@Service
+public class DailyTotalService implements MeterBinder {
+
+  private final AccountService accountService;
+  private final TransactionRepository transactionRepository;
+  private final DailyTotalRepository dailyTotalRepository;
+  private final SnapshotWatermarkRepository snapshotWatermarkRepository;
+  private final TransactionOperations transactionOperations;
+  private final Optional<TransactionJournal> transactionJournal;
+  private final Optional<TransactionPartitionService> transactionPartitionService;
+  private final int batchSize;
+  private final Duration settleTime;
+  private final Duration interval;
+  private final int maximumDays;
+  private final ScheduledExecutorService folder =
+      newSingleThreadScheduledExecutor(new DaemonThreadFactory("daily-total-folder-"));
+  private final AtomicLong failures = new AtomicLong();
+
+  public DailyTotalService(
+      final AccountService accountService,
+      final TransactionRepository transactionRepository,
+      final DailyTotalRepository dailyTotalRepository,
+      final SnapshotWatermarkRepository snapshotWatermarkRepository,
+      final TransactionOperations transactionOperations,
+      final Optional<TransactionJournal> transactionJournal,
+      final Optional<TransactionPartitionService> transactionPartitionService,
+      @Value("${transactions.daily-total.batch-size:5000}") final int batchSize,
+      @Value("${transactions.daily-total.settle-time:1m}") final Duration settleTime,
+      @Value("${transactions.daily-total.interval:1m}") final Duration interval,
+      @Value("${transactions.daily-total.maximum-days:366}") final int maximumDays) {
+    this.accountService = accountService;
+    this.transactionRepository = transactionRepository;
+    this.dailyTotalRepository = dailyTotalRepository;
+    this.snapshotWatermarkRepository = snapshotWatermarkRepository;
+    this.transactionOperations = transactionOperations;
+    this.transactionJournal = transactionJournal;
+    this.transactionPartitionService = transactionPartitionService;
+    this.batchSize = batchSize;
+    this.settleTime = settleTime;
+    this.interval = interval;
+    this.maximumDays = maximumDays;
+  }
+
+  @PostConstruct
+  public void start() {
+    folder.scheduleWithFixedDelay(
+        this::foldOnSchedule, interval.toMillis(), interval.toMillis(), MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    folder.shutdown();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("transactions.daily-total.failures", failures, AtomicLong::get)
+        .description("Daily total batches rolled back, they are retried on the next run")
+        .register(meterRegistry);
+  }
+
+  /** The totals of the account from {@code from} to {@code to}, both included. */
+  public List<DailyTotalDTO> find(
+      @NotNull final UUID accountUuid, @NotNull final LocalDate from, @NotNull final LocalDate to) {
+    if (to.isBefore(from) || DAYS.between(from, to) >= maximumDays)
+      throw InvalidDateRangeException.INSTANCE;
+
+    var account =
+        accountService
+            .findOptional(accountUuid)
+            .orElseThrow(() -> InvalidAccountException.INSTANCE);
+
+    return dailyTotalRepository.findByDays(account.getUuid(), from, to).stream()
+        .map(this::entityToDto)
+        .collect(toList());
+  }
+
+  /**
+   * Moves the watermark over one batch of settled transactions, adding them to their daily totals,
+   * in one database transaction. Returns the number of transactions folded.
+   */
+  public int fold() {
+    return transactionOperations.execute(
+        status -> {
+          var watermark = lockWatermark();
+          var transactions =
+              transactionRepository.findTransactionsAfter(
+                  watermark, settledBefore(transactionJournal, settleTime), batchSize);
+          if (transactions.isEmpty()) return 0;
+
+          var dailyTotals = new LinkedHashMap<DailyTotal.Key, DailyTotal>();
+          for (var transaction : transactions) {
+            var dailyTotal = DailyTotal.of(transaction);
+            dailyTotals.merge(dailyTotal.key(), dailyTotal, DailyTotal::plus);
+          }
+          dailyTotalRepository.add(dailyTotals.values());
+
+          var last = transactions.get(transactions.size() - 1);
+          snapshotWatermarkRepository.save(
+              SnapshotWatermark.builder()
+                  .id(SnapshotWatermark.DAILY_TOTAL_ID)
+                  .eventDate(last.getEventDate())
+                  .transactionUuid(last.getUuid())
+                  .build());
+
+          return transactions.size();
+        });
+  }
+
+  /**
+   * Recomputes the totals from {@code from} to {@code to}, both included, one day per database
+   * transaction, for a backfill or after the transactions of those days were corrected. The
+   * transactions past the watermark are left to the folder. Returns the number of totals stored.
+   * The days of the months past the partition retention are refused, their transactions are gone
+   * and their totals would be deleted.
+   */
+  public long rebuild(@NotNull final LocalDate from, @NotNull final LocalDate to) {
+    if (to.isBefore(from)) throw InvalidDateRangeException.INSTANCE;
+    var firstMonth = YearMonth.from(from);
+    if (transactionPartitionService.map(service -> service.isExpired(firstMonth)).orElse(false))
+      throw ExpiredMonthException.INSTANCE;
+
+    var rebuilt = 0L;
+    for (var day = from; !day.isAfter(to); day = day.plusDays(1)) {
+      var rebuiltDay = day;
+      rebuilt +=
+          transactionOperations.execute(
+              status -> dailyTotalRepository.rebuild(rebuiltDay, lockWatermark()));
+    }
+
+    return rebuilt;
+  }
+
+  private TransactionCursor lockWatermark() {
+    return snapshotWatermarkRepository
+        .findLockedById(SnapshotWatermark.DAILY_TOTAL_ID)
+        .map(SnapshotWatermark::cursor)
+        .orElse(new TransactionCursor(OPENING_EVENT_DATE, new UUID(0, 0)));
+  }
+
+  private DailyTotalDTO entityToDto(final DailyTotal dailyTotal) {
+    return DailyTotalDTO.builder()
+        .date(dailyTotal.getEventDay())
+        .operationType(dailyTotal.getOperationType().getValue())
+        .transactions(dailyTotal.getTransactions())
+        .amount(dailyTotal.getAmount())
+        .build();
+  }
+
+  void foldOnSchedule() {
+    try {
+      while (fold() == batchSize) continue;
+    } catch (RuntimeException exception) {
+      // Rolled back, the same batch is folded again on the next run.
+      failures.incrementAndGet();
+      log.warn("Daily total batch rolled back, it is retried on the next run", exception);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.lang.Math.abs;
+import static java.time.LocalDateTime.now;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.IdempotencyKeyReusedException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionNotJournaledException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates a transaction at most once per {@code Idempotency-Key}.
+ *
+ * <p>Recent keys are kept in a bounded map in memory. A retry reaching this instance is answered
+ * from the map, and a duplicate arriving while the first request is still running waits for its
+ * result instead of posting again. Every key is also stored in the {@code idempotency_key} table in
+ * the database transaction of its posting. Retries reaching another instance, or arriving after the
+ * key left the map, are answered from that table. A duplicate racing on another instance fails on
+ * its primary key and is rolled back. Rejected postings store nothing, so their retries run again.
+ * In the {@code journal} intake mode the key is committed before its transaction is journaled, and
+ * deleted again when the journaling fails.
+ *
+ * <p>The keys are kept for {@code retention} after their transaction was created. A background
+ * thread deletes the older ones every {@code sweep-interval}, {@code sweep-batch-size} at a time. A
+ * sweep that fails is logged and counted, and done again on the next run.
+ */
+@Slf4j
+@Service
+public class IdempotentTransactionService implements MeterBinder {
+
+  private final TransactionService transactionService;
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final ConcurrentMap<String, CompletableFuture<TransactionDTO>> recentKeys;
+  private final Duration retention;
+  private final Duration sweepInterval;
+  private final int sweepBatchSize;
+  private final ScheduledExecutorService sweeper =
+      newSingleThreadScheduledExecutor(new DaemonThreadFactory("idempotency-key-sweeper-"));
+  private final AtomicLong sweptKeys = new AtomicLong();
+  private final AtomicLong sweepFailures = new AtomicLong();
+
+  public IdempotentTransactionService(
+      final TransactionService transactionService,
+      final IdempotencyKeyRepository idempotencyKeyRepository,
+      @Value("${transactions.idempotency.maximum-size:100000}") final long maximumSize,
+      @Value("${transactions.idempotency.expire-after-write:10m}") final Duration expireAfterWrite,
+      @Value("${transactions.idempotency.retention:1d}") final Duration retention,
+      @Value("${transactions.idempotency.sweep-interval:10m}") final Duration sweepInterval,
+      @Value("${transactions.idempotency.sweep-batch-size:5000}") final int sweepBatchSize) {
+    Cache<String, CompletableFuture<TransactionDTO>> recentKeys =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .executor(Runnable::run)
+            .build();
+
+    this.transactionService = transactionService;
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.recentKeys = recentKeys.asMap();
+    this.retention = retention;
+    this.sweepInterval = sweepInterval;
+    this.sweepBatchSize = sweepBatchSize;
+  }
+
+  @PostConstruct
+  public void start() {
+    sweeper.scheduleWithFixedDelay(
+        this::sweepOnSchedule, sweepInterval.toMillis(), sweepInterval.toMillis(), MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sweeper.shutdown();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("transactions.idempotency.swept", sweptKeys, AtomicLong::get)
+        .description("Idempotency keys deleted past their retention")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            "transactions.idempotency.sweep.failures", sweepFailures, AtomicLong::get)
+        .description("Idempotency key sweeps failed, they are retried on the next run")
+        .register(meterRegistry);
+  }
+
+  public TransactionDTO create(
+      final String idempotencyKey, @NotNull final TransactionDTO transactionDTO) {
+    if (isNull(idempotencyKey)) return transactionService.create(transactionDTO);
+
+    var execution = new CompletableFuture<TransactionDTO>();
+    var runningExecution = recentKeys.putIfAbsent(idempotencyKey, execution);
+    if (nonNull(runningExecution)) return sameRequest(transactionDTO, join(runningExecution));
+
+    try {
+      var storedTransactionDTO = createOnce(idempotencyKey, transactionDTO);
+      execution.complete(storedTransactionDTO);
+
+      return sameRequest(transactionDTO, storedTransactionDTO);
+    } catch (RuntimeException exception) {
+      recentKeys.remove(idempotencyKey, execution);
+      execution.completeExceptionally(exception);
+      throw exception;
+    }
+  }
+
+  private TransactionDTO createOnce(
+      final String idempotencyKey, final TransactionDTO transactionDTO) {
+    var storedKey = idempotencyKeyRepository.findById(idempotencyKey);
+    if (storedKey.isPresent()) return entityToDto(storedKey.get());
+
+    try {
+      return transactionService.create(
+          transactionDTO,
+          transaction -> idempotencyKeyRepository.insert(dtoToEntity(idempotencyKey, transaction)));
+    } catch (DuplicateKeyException duplicateKeyException) {
+      // Another instance stored the key first, and this posting was rolled back.
+      return idempotencyKeyRepository
+          .findById(idempotencyKey)
+          .map(this::entityToDto)
+          .orElseThrow(() -> duplicateKeyException);
+    } catch (TransactionNotJournaledException transactionNotJournaledException) {
+      // The key is already committed, it would answer the retries with a transaction that never
+      // exists.
+      idempotencyKeyRepository.deleteById(idempotencyKey);
+      throw transactionNotJournaledException;
+    }
+  }
+
+  /** Deletes one batch of keys past their retention, and returns its size. */
+  public int sweep() {
+    var sweptBatch =
+        idempotencyKeyRepository.deleteUsedBefore(now().minus(retention), sweepBatchSize);
+    sweptKeys.addAndGet(sweptBatch);
+
+    return sweptBatch;
+  }
+
+  void sweepOnSchedule() {
+    try {
+      while (sweep() == sweepBatchSize) continue;
+    } catch (RuntimeException exception) {
+      sweepFailures.incrementAndGet();
+      log.warn("Idempotency key sweep failed, it is retried on the next run", exception);
+    }
+  }
+
+  private TransactionDTO sameRequest(
+      final TransactionDTO transactionDTO, final TransactionDTO storedTransactionDTO) {
+    var sameAccount =
+        Objects.equals(transactionDTO.getAccountUuid(), storedTransactionDTO.getAccountUuid());
+    var sameOperationType =
+        Objects.equals(transactionDTO.getOperationType(), storedTransactionDTO.getOperationType());
+    // The stored amount carries the sign of its operation type, the requested one may not.
+    var sameAmount =
+        nonNull(transactionDTO.getAmount())
+            && abs(transactionDTO.getAmount()) == abs(storedTransactionDTO.getAmount());
+
+    if (!sameAccount || !sameOperationType || !sameAmount)
+      throw IdempotencyKeyReusedException.INSTANCE;
+
+    return storedTransactionDTO;
+  }
+
+  private TransactionDTO join(final CompletableFuture<TransactionDTO> execution) {
+    try {
+      return execution.join();
+    } catch (CompletionException completionException) {
+      if (completionException.getCause() instanceof RuntimeException)
+        throw (RuntimeException) completionException.getCause();
+
+      throw completionException;
+    }
+  }
+
+  IdempotencyKey dtoToEntity(final String idempotencyKey, final Transaction transaction) {
+    return IdempotencyKey.builder()
+        .key(idempotencyKey)
+        .transactionUuid(transaction.getUuid())
+        .accountUuid(transaction.getAccount().getUuid())
+        .operationType(transaction.getOperationType())
+        .eventDate(transaction.getEventDate())
+        .amount(transaction.getAmount())
+        .build();
+  }
+
+  TransactionDTO entityToDto(final IdempotencyKey idempotencyKey) {
+    return TransactionDTO.builder()
+        .uuid(idempotencyKey.getTransactionUuid())
+        .accountUuid(idempotencyKey.getAccountUuid())
+        .amount(idempotencyKey.getAmount())
+        .eventDate(idempotencyKey.getEventDate())
+        .operationType(idempotencyKey.getOperationType().getValue())
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveAccountRepository;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/** {@link AccountService} for the reactive stack, it shares the validation and the mapping. */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@AllArgsConstructor
+public class ReactiveAccountService {
+
+  private final AccountService accountService;
+  private final ReactiveAccountRepository reactiveAccountRepository;
+
+  public Mono<AccountDTO> create(@NotNull final AccountDTO accountDTO) {
+    return Mono.fromSupplier(() -> accountService.dtoToEntity(accountDTO))
+        .flatMap(reactiveAccountRepository::insert)
+        .map(accountService::entityToDto);
+  }
+
+  public Mono<AccountDTO> find(@NotNull final UUID uuid) {
+    return Mono.justOrEmpty(uuid)
+        .flatMap(reactiveAccountRepository::findById)
+        .map(accountService::entityToDto);
+  }
+}
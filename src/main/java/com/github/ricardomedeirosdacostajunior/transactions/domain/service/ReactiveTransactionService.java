@@ -0,0 +1,52 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveAccountRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveTransactionRepository;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link TransactionService} for the reactive stack: the same mapping, and the same single
+ * statement limit check and update, without holding a thread while the database answers.
+ */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@AllArgsConstructor
+public class ReactiveTransactionService {
+
+  private final TransactionService transactionService;
+  private final ReactiveAccountRepository reactiveAccountRepository;
+  private final ReactiveTransactionRepository reactiveTransactionRepository;
+  private final TransactionalOperator transactionalOperator;
+  private final TransactionMetrics transactionMetrics;
+
+  public Mono<TransactionDTO> create(@NotNull final TransactionDTO transactionDTO) {
+    return Mono.justOrEmpty(transactionDTO.getAccountUuid())
+        .flatMap(reactiveAccountRepository::findById)
+        .switchIfEmpty(Mono.error(InvalidAccountException.INSTANCE))
+        .map(account -> transactionService.dtoToEntity(transactionDTO, account))
+        .flatMap(this::post)
+        .as(transactionalOperator::transactional)
+        .map(transactionService::entityToDto);
+  }
+
+  private Mono<Transaction> post(final Transaction transaction) {
+    return reactiveAccountRepository
+        .addToAvailableCreditLimit(transaction.getAccount().getUuid(), transaction.getAmount())
+        .filter(updatedAccounts -> updatedAccounts > 0)
+        .switchIfEmpty(Mono.error(InsufficientAvailableCreditLimitException.INSTANCE))
+        .flatMap(updatedAccounts -> reactiveTransactionRepository.insert(transaction))
+        .doOnNext(inserted -> transactionMetrics.countCreated(inserted.getOperationType()));
+  }
+}
@@ -0,0 +1,270 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.stream.Collectors.toList;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Statement;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.StatementCheckpoint;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ExpiredMonthException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.StatementCheckpointRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.StatementRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Monthly statements of every account. The account UUIDs are split into {@code partitions} ranges
+ * of the same width, generated in parallel on a fork-join pool of {@code parallelism} threads, each
+ * holding a database connection while it works. A partition walks its accounts in UUID order,
+ * {@code chunk-size} accounts per database transaction: the transactions of each account in the
+ * month are streamed from a cursor and summed, and the statements of the chunk are written in a
+ * batch along with the checkpoint of the partition. A run after a failure resumes every partition
+ * right after its last chunk.
+ *
+ * <p>The ranges follow the unsigned byte order Postgres compares UUIDs in.
+ */
+@Service
+public class StatementService implements MeterBinder {
+
+  private static final BigInteger UUID_SPACE = BigInteger.ONE.shiftLeft(64);
+
+  private final AccountRepository accountRepository;
+  private final TransactionRepository transactionRepository;
+  private final StatementRepository statementRepository;
+  private final StatementCheckpointRepository statementCheckpointRepository;
+  private final BalanceSnapshotService balanceSnapshotService;
+  private final TransactionOperations transactionOperations;
+  private final Optional<TransactionPartitionService> transactionPartitionService;
+  private final int partitions;
+  private final int parallelism;
+  private final int chunkSize;
+  private final AtomicLong completedPartitions = new AtomicLong();
+  private final AtomicLong statements = new AtomicLong();
+  private final AtomicLong transactions = new AtomicLong();
+
+  public StatementService(
+      final AccountRepository accountRepository,
+      final TransactionRepository transactionRepository,
+      final StatementRepository statementRepository,
+      final StatementCheckpointRepository statementCheckpointRepository,
+      final BalanceSnapshotService balanceSnapshotService,
+      final TransactionOperations transactionOperations,
+      final Optional<TransactionPartitionService> transactionPartitionService,
+      @Value("${transactions.statement.partitions:64}") final int partitions,
+      @Value("${transactions.statement.parallelism:4}") final int parallelism,
+      @Value("${transactions.statement.chunk-size:500}") final int chunkSize) {
+    this.accountRepository = accountRepository;
+    this.transactionRepository = transactionRepository;
+    this.statementRepository = statementRepository;
+    this.statementCheckpointRepository = statementCheckpointRepository;
+    this.balanceSnapshotService = balanceSnapshotService;
+    this.transactionOperations = transactionOperations;
+    this.transactionPartitionService = transactionPartitionService;
+    this.partitions = partitions;
+    this.parallelism = parallelism;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Generates the statements of the month not written yet, and returns how many it wrote. A month
+   * past the partition retention is refused, its transactions are gone.
+   */
+  public long generate(@NotNull final YearMonth month) {
+    if (transactionPartitionService.map(service -> service.isExpired(month)).orElse(false))
+      throw ExpiredMonthException.INSTANCE;
+
+    completedPartitions.set(0);
+    var pool = new ForkJoinPool(parallelism);
+
+    try {
+      return pool.invoke(new Partitions(month, 0, partitions));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    Gauge.builder("transactions.statement.partitions", () -> partitions)
+        .description("Partitions of the account UUIDs of a statement run")
+        .register(meterRegistry);
+    Gauge.builder(
+            "transactions.statement.partitions.completed", completedPartitions, AtomicLong::get)
+        .description("Partitions of the current statement run already completed")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.statement.statements", statements, AtomicLong::get)
+        .description("Statements written")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.statement.transactions", transactions, AtomicLong::get)
+        .description("Transactions summed into the statements written")
+        .register(meterRegistry);
+  }
+
+  /** Generates the statements of one partition from its checkpoint. */
+  long generate(final YearMonth month, final int partition) {
+    var checkpoint =
+        statementCheckpointRepository.findById(
+            new StatementCheckpoint.Key(month.atDay(1), partition));
+    var after = checkpoint.map(StatementCheckpoint::getLastAccountUuid).orElse(null);
+    var written = 0L;
+
+    if (!checkpoint.map(StatementCheckpoint::isCompleted).orElse(false)) {
+      List<Statement> chunk;
+      do {
+        chunk = generateChunk(month, partition, after);
+        if (!chunk.isEmpty()) after = chunk.get(chunk.size() - 1).getAccountUuid();
+
+        written += chunk.size();
+        statements.addAndGet(chunk.size());
+        transactions.addAndGet(chunk.stream().mapToLong(Statement::getTransactions).sum());
+      } while (chunk.size() == chunkSize);
+    }
+
+    completedPartitions.incrementAndGet();
+    return written;
+  }
+
+  /** The first UUID of the partition, or {@code null} for the first and past the last one. */
+  UUID lowerBound(final int partition) {
+    if (partition == 0 || partition == partitions) return null;
+
+    var mostSignificantBits =
+        UUID_SPACE
+            .multiply(BigInteger.valueOf(partition))
+            .divide(BigInteger.valueOf(partitions))
+            .longValue();
+
+    return new UUID(mostSignificantBits, 0);
+  }
+
+  private List<Statement> generateChunk(
+      final YearMonth month, final int partition, final UUID after) {
+    return transactionOperations.execute(
+        status -> {
+          var accountUuids =
+              accountRepository.findUuids(
+                  lowerBound(partition), lowerBound(partition + 1), after, chunkSize);
+          var chunk =
+              accountUuids.stream()
+                  .map(accountUuid -> statement(accountUuid, month))
+                  .collect(toList());
+
+          statementRepository.insertAll(chunk);
+          statementCheckpointRepository.save(
+              StatementCheckpoint.builder()
+                  .month(month.atDay(1))
+                  .partitionIndex(partition)
+                  .lastAccountUuid(
+                      accountUuids.isEmpty() ? after : accountUuids.get(accountUuids.size() - 1))
+                  .completed(accountUuids.size() < chunkSize)
+                  .build());
+
+          return chunk;
+        });
+  }
+
+  private Statement statement(final UUID accountUuid, final YearMonth month) {
+    var from = month.atDay(1).atStartOfDay();
+    var totals = new Totals(from);
+    transactionRepository.export(
+        accountUuid, from, month.plusMonths(1).atDay(1).atStartOfDay(), totals);
+
+    // The balance right after the last transaction of the month, or at its start when there is
+    // none, less the transactions of the month is the balance the month opened with.
+    var closing =
+        balanceSnapshotService.findAsOf(accountUuid, totals.last).getAvailableCreditLimit();
+    var amount = totals.inCash + totals.inInstallments + totals.withdraw + totals.payment;
+
+    return Statement.builder()
+        .accountUuid(accountUuid)
+        .month(month.atDay(1))
+        .openingAvailableCreditLimit(closing - amount)
+        .closingAvailableCreditLimit(closing)
+        .transactions(totals.transactions)
+        .inCash(totals.inCash)
+        .inInstallments(totals.inInstallments)
+        .withdraw(totals.withdraw)
+        .payment(totals.payment)
+        .build();
+  }
+
+  private static final class Totals implements Consumer<Transaction> {
+
+    private LocalDateTime last;
+    private long transactions;
+    private long inCash;
+    private long inInstallments;
+    private long withdraw;
+    private long payment;
+
+    private Totals(final LocalDateTime from) {
+      this.last = from;
+    }
+
+    @Override
+    public void accept(final Transaction transaction) {
+      // The transactions come in no particular order.
+      if (transaction.getEventDate().isAfter(last)) last = transaction.getEventDate();
+      transactions++;
+
+      switch (transaction.getOperationType()) {
+        case IN_CASH:
+          inCash += transaction.getAmount();
+          break;
+        case IN_INSTALLMENTS:
+          inInstallments += transaction.getAmount();
+          break;
+        case WITHDRAW:
+          withdraw += transaction.getAmount();
+          break;
+        case PAYMENT:
+          payment += transaction.getAmount();
+          break;
+      }
+    }
+  }
+
+  /** Splits a range of partitions in halves until a single partition is left. */
+  private final class Partitions extends RecursiveTask<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final YearMonth month;
+    private final int from;
+    private final int to;
+
+    private Partitions(final YearMonth month, final int from, final int to) {
+      this.month = month;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Long compute() {
+      if (to - from == 1) return generate(month, from);
+
+      var middle = (from + to) >>> 1;
+      var left = new Partitions(month, from, middle);
+      left.fork();
+
+      return new Partitions(month, middle, to).compute() + left.join();
+    }
+  }
+}
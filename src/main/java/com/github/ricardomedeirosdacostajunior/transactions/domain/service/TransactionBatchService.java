@@ -0,0 +1,223 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.Objects.isNull;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionBatchResultDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.UnreadableTransactionException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Creates transactions read one by one from a bulk upload. The upload is consumed in chunks of a
+ * fixed size, so memory stays flat however large it is. Inside a chunk the transactions are grouped
+ * per account: the limit checks run in upload order against a single read of the account, the new
+ * limit is written only if nobody changed it in the meantime, and the accepted transactions go out
+ * in one JDBC batch. An account whose limit keeps changing under the upload falls back, after a few
+ * attempts, to one conditional update of the limit per transaction.
+ *
+ * <p>A transaction the upload iterator cannot read is refused on its own line with {@link
+ * UnreadableTransactionException}, like any other invalid transaction, and the next ones are still
+ * read.
+ */
+@Service
+public class TransactionBatchService {
+
+  private final AccountService accountService;
+  private final TransactionService transactionService;
+  private final TransactionRepository transactionRepository;
+  private final TransactionOperations transactionOperations;
+  private final TransactionMetrics transactionMetrics;
+  private final int chunkSize;
+
+  public TransactionBatchService(
+      final AccountService accountService,
+      final TransactionService transactionService,
+      final TransactionRepository transactionRepository,
+      final TransactionOperations transactionOperations,
+      final TransactionMetrics transactionMetrics,
+      @Value("${transactions.batch.chunk-size:500}") final int chunkSize) {
+    this.accountService = accountService;
+    this.transactionService = transactionService;
+    this.transactionRepository = transactionRepository;
+    this.transactionOperations = transactionOperations;
+    this.transactionMetrics = transactionMetrics;
+    this.chunkSize = chunkSize;
+  }
+
+  public void create(
+      final Iterator<TransactionDTO> transactionDTOs,
+      final Consumer<TransactionBatchResultDTO> results) {
+    var firstLine = 1L;
+
+    while (transactionDTOs.hasNext()) {
+      var chunk = new ArrayList<TransactionDTO>(chunkSize);
+
+      while (chunk.size() < chunkSize && transactionDTOs.hasNext())
+        chunk.add(next(transactionDTOs));
+
+      for (var result : createChunk(firstLine, chunk)) results.accept(result);
+
+      firstLine += chunk.size();
+    }
+  }
+
+  /** The next transaction of the upload, or null when it could not be read. */
+  private static TransactionDTO next(final Iterator<TransactionDTO> transactionDTOs) {
+    try {
+      return transactionDTOs.next();
+    } catch (UnreadableTransactionException unreadableTransactionException) {
+      return null;
+    }
+  }
+
+  private TransactionBatchResultDTO[] createChunk(
+      final long firstLine, final List<TransactionDTO> chunk) {
+    var results = new TransactionBatchResultDTO[chunk.size()];
+    var indexesByAccount = new LinkedHashMap<UUID, List<Integer>>();
+
+    for (var index = 0; index < chunk.size(); index++) {
+      var transactionDTO = chunk.get(index);
+
+      if (isNull(transactionDTO))
+        results[index] = failure(firstLine + index, UnreadableTransactionException.INSTANCE);
+      else if (isNull(transactionDTO.getAccountUuid()))
+        results[index] = failure(firstLine + index, InvalidAccountException.INSTANCE);
+      else
+        indexesByAccount
+            .computeIfAbsent(transactionDTO.getAccountUuid(), uuid -> new ArrayList<>())
+            .add(index);
+    }
+
+    for (Map.Entry<UUID, List<Integer>> entry : indexesByAccount.entrySet()) {
+      // A concurrent change of the limit only costs a new read and a new round of checks.
+      var posted =
+          CompareAndSetRetry.attempt(
+              () ->
+                  transactionOperations.execute(
+                      status ->
+                          createForAccount(
+                              entry.getKey(), entry.getValue(), firstLine, chunk, results)));
+
+      if (!posted)
+        transactionOperations.executeWithoutResult(
+            status ->
+                createForAccountOneByOne(
+                    entry.getKey(), entry.getValue(), firstLine, chunk, results));
+    }
+
+    return results;
+  }
+
+  private boolean createForAccount(
+      final UUID accountUuid,
+      final List<Integer> indexes,
+      final long firstLine,
+      final List<TransactionDTO> chunk,
+      final TransactionBatchResultDTO[] results) {
+    var account = accountService.findOptional(accountUuid);
+
+    if (account.isEmpty()) {
+      for (var index : indexes)
+        results[index] = failure(firstLine + index, InvalidAccountException.INSTANCE);
+
+      return true;
+    }
+
+    var availableCreditLimit = account.get().getAvailableCreditLimit();
+    var transactions = new ArrayList<Transaction>(indexes.size());
+
+    for (var index : indexes) {
+      try {
+        var transaction = transactionService.dtoToEntity(chunk.get(index), account.get());
+        var newAvailableCreditLimit = availableCreditLimit + transaction.getAmount();
+
+        if (newAvailableCreditLimit <= 0)
+          throw InsufficientAvailableCreditLimitException.INSTANCE;
+
+        availableCreditLimit = newAvailableCreditLimit;
+        transactions.add(transaction);
+        results[index] = success(firstLine + index, transaction);
+      } catch (ClientErrorException clientErrorException) {
+        results[index] = failure(firstLine + index, clientErrorException);
+      }
+    }
+
+    if (transactions.isEmpty()) return true;
+
+    if (!accountService.replaceAvailableCreditLimit(account.get(), availableCreditLimit))
+      return false;
+
+    transactionRepository.insertAll(transactions);
+    transactions.forEach(
+        transaction -> transactionMetrics.countCreated(transaction.getOperationType()));
+
+    return true;
+  }
+
+  /** Checks the limit of each transaction in the database, a concurrent change cannot fail it. */
+  private void createForAccountOneByOne(
+      final UUID accountUuid,
+      final List<Integer> indexes,
+      final long firstLine,
+      final List<TransactionDTO> chunk,
+      final TransactionBatchResultDTO[] results) {
+    var account = accountService.findOptional(accountUuid);
+
+    if (account.isEmpty()) {
+      for (var index : indexes)
+        results[index] = failure(firstLine + index, InvalidAccountException.INSTANCE);
+
+      return;
+    }
+
+    var transactions = new ArrayList<Transaction>(indexes.size());
+
+    for (var index : indexes) {
+      try {
+        var transaction = transactionService.dtoToEntity(chunk.get(index), account.get());
+        accountService.updateAvailableCreditLimit(transaction.getAmount(), account.get());
+        transactions.add(transaction);
+        results[index] = success(firstLine + index, transaction);
+      } catch (ClientErrorException clientErrorException) {
+        results[index] = failure(firstLine + index, clientErrorException);
+      }
+    }
+
+    if (transactions.isEmpty()) return;
+
+    transactionRepository.insertAll(transactions);
+    transactions.forEach(
+        transaction -> transactionMetrics.countCreated(transaction.getOperationType()));
+  }
+
+  private TransactionBatchResultDTO success(final long line, final Transaction transaction) {
+    return TransactionBatchResultDTO.builder()
+        .line(line)
+        .transaction(transactionService.entityToDto(transaction))
+        .build();
+  }
+
+  private TransactionBatchResultDTO failure(
+      final long line, final ClientErrorException clientErrorException) {
+    return TransactionBatchResultDTO.builder()
+        .line(line)
+        .error(clientErrorException.getMessage())
+        .build();
+  }
+}
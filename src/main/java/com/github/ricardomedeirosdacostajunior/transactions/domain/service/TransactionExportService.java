@@ -0,0 +1,44 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@AllArgsConstructor
+public class TransactionExportService {
+
+  private final TransactionService transactionService;
+  private final TransactionRepository transactionRepository;
+
+  /**
+   * Hands every transaction matching the filters to {@code transactionDTOs} while it is read, in a
+   * read-only database transaction that keeps the cursor open until the last one.
+   *
+   * @return the number of transactions exported
+   */
+  @Transactional(readOnly = true)
+  public long export(
+      final UUID accountUuid,
+      final LocalDateTime from,
+      final LocalDateTime to,
+      final Consumer<TransactionDTO> transactionDTOs) {
+    var exported = new long[1];
+
+    transactionRepository.export(
+        accountUuid,
+        from,
+        to,
+        transaction -> {
+          transactionDTOs.accept(transactionService.entityToDto(transaction));
+          exported[0]++;
+        });
+
+    return exported[0];
+  }
+}
@@ -0,0 +1,81 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionPageDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReadRouter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pages through the transactions of an account, newest first. One more transaction than the page
+ * size is read, only to tell whether there is a next page, and the cursor of the next page points
+ * at the last transaction returned. The page is read through the {@link ReadRouter}, from a replica
+ * when reads are routed to them.
+ */
+@Service
+public class TransactionHistoryService {
+
+  private final AccountService accountService;
+  private final TransactionService transactionService;
+  private final TransactionRepository transactionRepository;
+  private final ReadRouter readRouter;
+  private final int defaultPageSize;
+  private final int maximumPageSize;
+
+  public TransactionHistoryService(
+      final AccountService accountService,
+      final TransactionService transactionService,
+      final TransactionRepository transactionRepository,
+      final ReadRouter readRouter,
+      @Value("${transactions.history.page-size:50}") final int defaultPageSize,
+      @Value("${transactions.history.maximum-page-size:500}") final int maximumPageSize) {
+    this.accountService = accountService;
+    this.transactionService = transactionService;
+    this.transactionRepository = transactionRepository;
+    this.readRouter = readRouter;
+    this.defaultPageSize = defaultPageSize;
+    this.maximumPageSize = maximumPageSize;
+  }
+
+  public TransactionPageDTO find(
+      @NotNull final UUID accountUuid,
+      final Integer operationType,
+      final String cursor,
+      final Integer limit) {
+    var account =
+        accountService
+            .findOptional(accountUuid)
+            .orElseThrow(() -> InvalidAccountException.INSTANCE);
+    var pageSize = isNull(limit) ? defaultPageSize : max(1, min(limit, maximumPageSize));
+    var operationTypeFilter =
+        isNull(operationType) ? null : OperationTypesEnumeration.valueOf(operationType);
+    var after = isNull(cursor) ? null : TransactionCursor.decode(cursor);
+
+    var transactions =
+        readRouter.read(
+            () ->
+                transactionRepository.findPage(
+                    account.getUuid(), operationTypeFilter, after, pageSize + 1));
+
+    var page = transactions.subList(0, min(pageSize, transactions.size()));
+    var nextCursor =
+        transactions.size() > pageSize
+            ? TransactionCursor.after(page.get(pageSize - 1)).encode()
+            : null;
+
+    return TransactionPageDTO.builder()
+        .transactions(page.stream().map(transactionService::entityToDto).collect(toList()))
+        .nextCursor(nextCursor)
+        .build();
+  }
+}
@@ -0,0 +1,154 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot.OPENING_EVENT_DATE;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Keeps the monthly partitions of the {@code transaction} table, in the {@code monthly} partition
+ * mode. On startup and then every {@code interval}, a background thread creates the partitions of
+ * this month and of the {@code premake-months} after it, so the postings never land in the default
+ * partition, and detaches the partitions older than {@code retention-months}, when set. A partition
+ * is only detached once the balance snapshots and the daily totals are folded past its end, each
+ * account keeping a snapshot as of its last transaction in it.
+ *
+ * <p>Every partition is created or detached in a database transaction of its own. A run that fails
+ * is logged and counted, what it left is done on the next run.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "transactions.partition.mode", havingValue = "monthly")
+public class TransactionPartitionService implements MeterBinder {
+
+  private final TransactionRepository transactionRepository;
+  private final SnapshotWatermarkRepository snapshotWatermarkRepository;
+  private final TransactionOperations transactionOperations;
+  private final int premakeMonths;
+  private final int retentionMonths;
+  private final Duration interval;
+  private final ScheduledExecutorService maintainer =
+      newSingleThreadScheduledExecutor(new DaemonThreadFactory("partition-maintainer-"));
+  private final AtomicLong createdPartitions = new AtomicLong();
+  private final AtomicLong detachedPartitions = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+
+  public TransactionPartitionService(
+      final TransactionRepository transactionRepository,
+      final SnapshotWatermarkRepository snapshotWatermarkRepository,
+      final TransactionOperations transactionOperations,
+      @Value("${transactions.partition.premake-months:3}") final int premakeMonths,
+      @Value("${transactions.partition.retention-months:0}") final int retentionMonths,
+      @Value("${transactions.partition.interval:1h}") final Duration interval) {
+    this.transactionRepository = transactionRepository;
+    this.snapshotWatermarkRepository = snapshotWatermarkRepository;
+    this.transactionOperations = transactionOperations;
+    this.premakeMonths = premakeMonths;
+    this.retentionMonths = retentionMonths;
+    this.interval = interval;
+  }
+
+  @PostConstruct
+  public void start() {
+    maintainer.scheduleWithFixedDelay(
+        this::maintainOnSchedule, 0, interval.toMillis(), MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    maintainer.shutdown();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("transactions.partition.created", createdPartitions, AtomicLong::get)
+        .description("Monthly partitions of the transaction table created")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.partition.detached", detachedPartitions, AtomicLong::get)
+        .description("Monthly partitions of the transaction table detached")
+        .register(meterRegistry);
+    FunctionCounter.builder("transactions.partition.failures", failures, AtomicLong::get)
+        .description("Partition maintenance runs failed, they are retried on the next run")
+        .register(meterRegistry);
+  }
+
+  /** Creates the partitions missing up to {@code premake-months} ahead, detaches expired ones. */
+  public void maintain() {
+    var thisMonth = YearMonth.now();
+    var partitions = transactionRepository.findPartitions();
+
+    for (var month = thisMonth;
+        !month.isAfter(thisMonth.plusMonths(premakeMonths));
+        month = month.plusMonths(1)) {
+      if (partitions.contains(month)) continue;
+
+      var created = month;
+      transactionOperations.executeWithoutResult(
+          status -> transactionRepository.createPartition(created));
+      createdPartitions.incrementAndGet();
+    }
+
+    if (retentionMonths <= 0) return;
+
+    var folded = foldedUntil();
+    for (var month : partitions) {
+      var end = month.plusMonths(1).atDay(1).atStartOfDay();
+      if (!isExpired(month) || end.isAfter(folded)) continue;
+
+      transactionOperations.executeWithoutResult(
+          status -> transactionRepository.detachPartition(month));
+      detachedPartitions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Whether the month is older than {@code retention-months}, so its partition is detached or about
+   * to be, and its transactions can no longer be read.
+   */
+  public boolean isExpired(final YearMonth month) {
+    return retentionMonths > 0 && month.isBefore(YearMonth.now().minusMonths(retentionMonths));
+  }
+
+  /** How far both background folders went, the transactions before it are taken into account. */
+  private LocalDateTime foldedUntil() {
+    var balanceSnapshots = watermark(SnapshotWatermark.BALANCE_SNAPSHOT_ID);
+    var dailyTotals = watermark(SnapshotWatermark.DAILY_TOTAL_ID);
+
+    return balanceSnapshots.isBefore(dailyTotals) ? balanceSnapshots : dailyTotals;
+  }
+
+  private LocalDateTime watermark(final int id) {
+    return snapshotWatermarkRepository
+        .findById(id)
+        .map(SnapshotWatermark::getEventDate)
+        .orElse(OPENING_EVENT_DATE);
+  }
+
+  void maintainOnSchedule() {
+    try {
+      maintain();
+    } catch (RuntimeException exception) {
+      // Each partition is rolled back alone, what is left is done on the next run.
+      failures.incrementAndGet();
+      log.warn("Partition maintenance failed, it is retried on the next run", exception);
+    }
+  }
+}
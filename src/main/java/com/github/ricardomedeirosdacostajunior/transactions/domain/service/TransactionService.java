@@ -1,17 +1,25 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
 
 import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.valueOf;
-import static java.math.BigDecimal.ZERO;
+import static java.lang.Math.abs;
+import static java.lang.System.nanoTime;
 import static java.time.LocalDateTime.now;
-import static java.util.UUID.randomUUID;
+import static java.util.Objects.isNull;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
-import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
-import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAmountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.groupcommit.TransactionGroupCommit;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.UuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionNotJournaledException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.LedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
-import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.Consumer;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,55 +30,117 @@ public class TransactionService {
 
   private final AccountService accountService;
   private final TransactionRepository transactionRepository;
+  private final LedgerEngine ledgerEngine;
+  private final UuidGenerator uuidGenerator;
+  private final TransactionMetrics transactionMetrics;
+  private final Optional<TransactionJournal> transactionJournal;
+  private final Optional<TransactionGroupCommit> transactionGroupCommit;
 
   public TransactionDTO create(@NotNull final TransactionDTO transactionDTO) {
-    return entityToDto(transactionRepository.save(dtoToEntity(transactionDTO)));
+    return create(transactionDTO, transaction -> {});
   }
 
-  private Transaction dtoToEntity(final TransactionDTO transactionDTO) {
-    var account =
-        accountService
-            .findOptional(transactionDTO.getAccountUuid())
-            .orElseThrow(InvalidAccountException::new);
-    var operationType = valueOf(transactionDTO.getOperationType());
-    var amount = getAmountAccordingOperationType(operationType, transactionDTO.getAmount());
-    var newAvailableCreditLimit =
-        getNewAvailableCreditLimit(account.getAvailableCreditLimit(), amount);
-
-    accountService.updateAvailableCreditLimit(newAvailableCreditLimit, account);
-
-    return Transaction.builder()
-        .uuid(randomUUID())
-        .eventDate(now())
-        .account(account)
-        .operationType(operationType)
-        .amount(amount)
-        .build();
+  /**
+   * Same as {@link #create(TransactionDTO)}, and hands the new transaction to {@code alsoPersist}
+   * in the database transaction of its posting, so whatever it writes is rolled back with it. In
+   * the {@code journal} intake mode there is no such transaction: {@code alsoPersist} runs once the
+   * limit is checked, and the transaction is only journaled when it succeeds. When the journaling
+   * then fails it throws {@link TransactionNotJournaledException}, and undoing what {@code
+   * alsoPersist} wrote is up to the caller. In the {@code group-commit} intake mode the database
+   * transaction is the one of its whole group.
+   */
+  public TransactionDTO create(
+      @NotNull final TransactionDTO transactionDTO, final Consumer<Transaction> alsoPersist) {
+    var start = nanoTime();
+
+    if (transactionJournal.isPresent()) return journal(transactionDTO, alsoPersist, start);
+    if (transactionGroupCommit.isPresent())
+      return groupCommit(transactionDTO, alsoPersist, start);
+
+    return entityToDto(
+        ledgerEngine.post(
+            transactionDTO.getAccountUuid(),
+            account -> {
+              transactionMetrics.recordLookup(nanoTime() - start);
+              var transaction = post(dtoToEntity(transactionDTO, account));
+              alsoPersist.accept(transaction);
+              return transaction;
+            }));
   }
 
-  private BigDecimal getNewAvailableCreditLimit(
-      final BigDecimal oldAvailableCreditLimit, final BigDecimal transactionAmount) {
-    var newAvailableCreditLimit = oldAvailableCreditLimit.add(transactionAmount);
+  private TransactionDTO journal(
+      final TransactionDTO transactionDTO,
+      final Consumer<Transaction> alsoPersist,
+      final long start) {
+    var transaction =
+        transactionJournal
+            .get()
+            .append(
+                transactionDTO.getAccountUuid(),
+                account -> {
+                  transactionMetrics.recordLookup(nanoTime() - start);
+                  return dtoToEntity(transactionDTO, account);
+                },
+                alsoPersist);
+    transactionMetrics.countCreated(transaction.getOperationType());
+
+    return entityToDto(transaction);
+  }
+
+  private TransactionDTO groupCommit(
+      final TransactionDTO transactionDTO,
+      final Consumer<Transaction> alsoPersist,
+      final long start) {
+    var transaction =
+        transactionGroupCommit
+            .get()
+            .submit(
+                transactionDTO.getAccountUuid(),
+                account -> {
+                  transactionMetrics.recordLookup(nanoTime() - start);
+                  return dtoToEntity(transactionDTO, account);
+                },
+                alsoPersist);
+    transactionMetrics.countCreated(transaction.getOperationType());
+
+    return entityToDto(transaction);
+  }
 
-    if (newAvailableCreditLimit.compareTo(ZERO) <= 0)
-      throw new InsufficientAvailableCreditLimitException();
+  private Transaction post(final Transaction transaction) {
+    transactionMetrics.timeLimitUpdate(
+        () ->
+            accountService.updateAvailableCreditLimit(
+                transaction.getAmount(), transaction.getAccount()));
+
+    var insertedTransaction =
+        transactionMetrics.timeInsert(() -> transactionRepository.insert(transaction));
+    transactionMetrics.countCreated(transaction.getOperationType());
+
+    return insertedTransaction;
+  }
+
+  Transaction dtoToEntity(final TransactionDTO transactionDTO, final Account account) {
+    var operationType = valueOf(transactionDTO.getOperationType());
+
+    if (isNull(transactionDTO.getAmount())) throw InvalidAmountException.INSTANCE;
+
+    var amount = getAmountAccordingOperationType(operationType, transactionDTO.getAmount());
 
-    return newAvailableCreditLimit;
+    return new Transaction(uuidGenerator.next(), account, operationType, now(), amount);
   }
 
-  private BigDecimal getAmountAccordingOperationType(
-      final OperationTypesEnumeration operationTypesEnumeration, final BigDecimal amount) {
-    var absoluteAmount = amount.abs();
-    return operationTypesEnumeration.isNegative() ? absoluteAmount.negate() : absoluteAmount;
+  private long getAmountAccordingOperationType(
+      final OperationTypesEnumeration operationTypesEnumeration, final long amount) {
+    var absoluteAmount = abs(amount);
+    return operationTypesEnumeration.isNegative() ? -absoluteAmount : absoluteAmount;
   }
 
-  private TransactionDTO entityToDto(final Transaction transaction) {
-    return TransactionDTO.builder()
-        .uuid(transaction.getUuid())
-        .accountUuid(transaction.getAccount().getUuid())
-        .amount(transaction.getAmount())
-        .eventDate(transaction.getEventDate())
-        .operationType(transaction.getOperationType().getValue())
-        .build();
+  TransactionDTO entityToDto(final Transaction transaction) {
+    return new TransactionDTO(
+        transaction.getUuid(),
+        transaction.getAccount().getUuid(),
+        transaction.getOperationType().getValue(),
+        transaction.getAmount(),
+        transaction.getEventDate());
   }
 }
@@ -0,0 +1,6 @@
+create table replica_heartbeat(
+  id integer NOT NULL constraint replica_heartbeat_pk primary key,
+  beat bigint NOT NULL
+);
+
+insert into replica_heartbeat(id, beat) values (1, 0);
@@ -0,0 +1 @@
+create index idempotency_key_event_date_idx on idempotency_key(event_date);
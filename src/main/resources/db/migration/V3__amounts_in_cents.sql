@@ -0,0 +1,9 @@
+update account set available_credit_limit = available_credit_limit * 100;
+
+alter table account
+  alter column available_credit_limit set data type bigint;
+
+update transaction set amount = amount * 100;
+
+alter table transaction
+  alter column amount set data type bigint;
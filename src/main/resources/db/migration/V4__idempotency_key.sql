@@ -0,0 +1,8 @@
+create table idempotency_key(
+  idempotency_key text NOT NULL constraint idempotency_key_pk primary key,
+  transaction_id uuid NOT NULL,
+  account_id uuid NOT NULL,
+  operation_type integer NOT NULL,
+  event_date TIMESTAMP NOT NULL,
+  amount bigint NOT NULL
+);
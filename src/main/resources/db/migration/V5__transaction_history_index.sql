@@ -0,0 +1,2 @@
+create index transaction_account_history_idx
+  on transaction(account_id, event_date, uuid);
@@ -0,0 +1,4 @@
+create table journal_checkpoint(
+  journal_id uuid NOT NULL constraint journal_checkpoint_pk primary key,
+  drained_sequence bigint NOT NULL
+);
@@ -0,0 +1,21 @@
+create table balance_snapshot(
+  transaction_id uuid NOT NULL constraint balance_snapshot_pk primary key,
+  account_id uuid NOT NULL constraint balance_snapshot_account_fk references account,
+  event_date TIMESTAMP NOT NULL,
+  available_credit_limit bigint NOT NULL
+);
+
+create index balance_snapshot_account_idx
+  on balance_snapshot(account_id, event_date, transaction_id);
+
+create table snapshot_watermark(
+  id integer NOT NULL constraint snapshot_watermark_pk primary key,
+  event_date TIMESTAMP NOT NULL,
+  transaction_id uuid NOT NULL
+);
+
+insert into snapshot_watermark(id, event_date, transaction_id)
+  values (1, '1970-01-01 00:00:00', '00000000-0000-0000-0000-000000000000');
+
+create index transaction_event_date_idx
+  on transaction(event_date, uuid);
@@ -0,0 +1,14 @@
+create table daily_total(
+  account_id uuid NOT NULL constraint daily_total_account_fk references account,
+  event_day date NOT NULL,
+  operation_type integer NOT NULL,
+  transactions bigint NOT NULL,
+  amount bigint NOT NULL,
+  constraint daily_total_pk primary key (account_id, event_day, operation_type)
+);
+
+create index daily_total_event_day_idx
+  on daily_total(event_day);
+
+insert into snapshot_watermark(id, event_date, transaction_id)
+  values (2, '1970-01-01 00:00:00', '00000000-0000-0000-0000-000000000000');
@@ -0,0 +1,20 @@
+create table statement(
+  account_id uuid NOT NULL constraint statement_account_fk references account,
+  month date NOT NULL,
+  opening_available_credit_limit bigint NOT NULL,
+  closing_available_credit_limit bigint NOT NULL,
+  transactions bigint NOT NULL,
+  in_cash bigint NOT NULL,
+  in_installments bigint NOT NULL,
+  withdraw bigint NOT NULL,
+  payment bigint NOT NULL,
+  constraint statement_pk primary key (account_id, month)
+);
+
+create table statement_checkpoint(
+  month date NOT NULL,
+  partition_index integer NOT NULL,
+  last_account_id uuid,
+  completed boolean NOT NULL,
+  constraint statement_checkpoint_pk primary key (month, partition_index)
+);
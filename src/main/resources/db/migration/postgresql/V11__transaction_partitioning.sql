@@ -0,0 +1,50 @@
+alter table transaction rename to transaction_unpartitioned;
+
+alter table transaction_unpartitioned
+  rename constraint transaction_pk to transaction_unpartitioned_pk;
+
+alter index transaction_account_history_idx
+  rename to transaction_unpartitioned_account_history_idx;
+
+alter index transaction_event_date_idx
+  rename to transaction_unpartitioned_event_date_idx;
+
+-- The primary key of a partitioned table holds the partition key.
+create table transaction(
+  uuid uuid NOT NULL,
+  account_id uuid NOT NULL constraint account_fk references account,
+  amount bigint NOT NULL,
+  event_date TIMESTAMP NOT NULL,
+  operation_type integer NOT NULL,
+  constraint transaction_pk primary key (uuid, event_date)
+) partition by range (event_date);
+
+create index transaction_account_history_idx
+  on transaction(account_id, event_date, uuid);
+
+create index transaction_event_date_idx
+  on transaction(event_date, uuid);
+
+create table transaction_default partition of transaction default;
+
+-- A partition per month from the oldest transaction to three months ahead.
+do $$
+declare
+  partition_month timestamp := date_trunc(
+    'month', coalesce((select min(event_date) from transaction_unpartitioned), now()));
+begin
+  while partition_month < date_trunc('month', now()) + interval '4 months' loop
+    execute format(
+      'create table %I partition of transaction for values from (%L) to (%L)',
+      'transaction_' || to_char(partition_month, 'YYYY_MM'),
+      partition_month,
+      partition_month + interval '1 month');
+    partition_month := partition_month + interval '1 month';
+  end loop;
+end
+$$;
+
+insert into transaction(uuid, account_id, amount, event_date, operation_type)
+  select uuid, account_id, amount, event_date, operation_type from transaction_unpartitioned;
+
+drop table transaction_unpartitioned;
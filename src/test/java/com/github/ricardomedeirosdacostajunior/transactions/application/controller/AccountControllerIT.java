@@ -1,14 +1,16 @@
 package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
 
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
 import static java.lang.String.format;
-import static java.math.BigDecimal.TEN;
 import static java.util.UUID.fromString;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.parseMediaType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -32,10 +34,12 @@ public class AccountControllerIT {
 
   @Autowired private ObjectMapper objectMapper;
 
+  private final ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
   @Test
   public void create() throws Exception {
     var requestAccountDTO =
-        AccountDTO.builder().availableCreditLimit(TEN).documentNumber(DOCUMENT_NUMBER).build();
+        AccountDTO.builder().availableCreditLimit(1_000L).documentNumber(DOCUMENT_NUMBER).build();
 
     mockMvc
         .perform(
@@ -45,6 +49,20 @@ public class AccountControllerIT {
         .andExpect(status().isOk());
   }
 
+  @Test
+  public void createWithSmile() throws Exception {
+    var requestAccountDTO =
+        AccountDTO.builder().availableCreditLimit(1_000L).documentNumber(DOCUMENT_NUMBER).build();
+
+    mockMvc
+        .perform(
+            post(ACCOUNT_ENDPOINT)
+                .contentType(parseMediaType(SMILE_VALUE))
+                .accept(SMILE_VALUE)
+                .content(smileObjectMapper.writeValueAsBytes(requestAccountDTO)))
+        .andExpect(status().isOk());
+  }
+
   @Test
   public void find() throws Exception {
     mockMvc
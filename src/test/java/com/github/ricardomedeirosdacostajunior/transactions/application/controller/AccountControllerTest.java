@@ -12,8 +12,16 @@ import static org.mockito.Mockito.doReturn;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.DailyTotalDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionPageDTO;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.BalanceSnapshotService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.DailyTotalService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionHistoryService;
 import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +43,12 @@ public class AccountControllerTest {
 
   @Mock private AccountService accountService;
 
+  @Mock private TransactionHistoryService transactionHistoryService;
+
+  @Mock private BalanceSnapshotService balanceSnapshotService;
+
+  @Mock private DailyTotalService dailyTotalService;
+
   private AccountDTO expectedAccountDTO;
 
   @BeforeEach
@@ -91,11 +105,70 @@ public class AccountControllerTest {
   public void findMethodMustCallAccountServiceFind() {
     doReturn(expectedAccountDTO).when(accountService).find(aUUID);
 
-    var actualAccountDTO = accountController.find(aUUID);
+    var actualAccountDTO = accountController.find(aUUID, null);
 
     assertThat(actualAccountDTO, is(equalTo(expectedAccountDTO)));
   }
 
+  @Test
+  public void findMethodWithAsOfMustCallBalanceSnapshotServiceFindAsOf() {
+    var asOf = LocalDateTime.parse("2020-06-01T21:59:45");
+    doReturn(expectedAccountDTO).when(balanceSnapshotService).findAsOf(aUUID, asOf);
+
+    var actualAccountDTO = accountController.find(aUUID, asOf);
+
+    assertThat(actualAccountDTO, is(equalTo(expectedAccountDTO)));
+  }
+
+  @Test
+  public void findTransactionsMethodMustBeAnnotatedWithGetMappingAnnotation() {
+    var getMappingAnnotation = getMethodByName("findTransactions").getAnnotation(GetMapping.class);
+
+    assertAll(
+        () -> assertThat(getMappingAnnotation, is(notNullValue())),
+        () -> assertThat(getMappingAnnotation.path(), hasItemInArray("/{uuid}/transactions")));
+  }
+
+  @Test
+  public void findTransactionsMethodMustCallTransactionHistoryServiceFind() {
+    var expectedTransactionPageDTO = TransactionPageDTO.builder().transactions(List.of()).build();
+    doReturn(expectedTransactionPageDTO)
+        .when(transactionHistoryService)
+        .find(aUUID, 1, "aCursor", 10);
+
+    var actualTransactionPageDTO = accountController.findTransactions(aUUID, 1, "aCursor", 10);
+
+    assertThat(actualTransactionPageDTO, is(equalTo(expectedTransactionPageDTO)));
+  }
+
+  @Test
+  public void findDailyTotalsMethodMustBeAnnotatedWithGetMappingAnnotation() {
+    var getMappingAnnotation = getMethodByName("findDailyTotals").getAnnotation(GetMapping.class);
+
+    assertAll(
+        () -> assertThat(getMappingAnnotation, is(notNullValue())),
+        () -> assertThat(getMappingAnnotation.path(), hasItemInArray("/{uuid}/daily-totals")));
+  }
+
+  @Test
+  public void findDailyTotalsMethodMustCallDailyTotalServiceFind() {
+    var from = LocalDate.parse("2020-06-01");
+    var to = LocalDate.parse("2020-06-30");
+    var expectedDailyTotals =
+        List.of(
+            DailyTotalDTO.builder()
+                .date(from)
+                .operationType(1)
+                .transactions(2L)
+                .amount(-3_000L)
+                .build());
+    doReturn(expectedDailyTotals).when(dailyTotalService).find(aUUID, from, to);
+
+    var actualDailyTotals = accountController.findDailyTotals(aUUID, from, to);
+
+    assertThat(actualDailyTotals, is(equalTo(expectedDailyTotals)));
+  }
+
   private AccountDTO aAccountDTO() {
     return AccountDTO.builder().documentNumber("aDocumentValue").build();
   }
@@ -0,0 +1,109 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.ArrayMatching.hasItemInArray;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.ReactiveAccountService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveAccountControllerTest {
+
+  private static final UUID aUUID = fromString("dfe579df-d389-4768-9ef6-6bdbbb4818e4");
+
+  @InjectMocks private ReactiveAccountController reactiveAccountController;
+
+  @Mock private ReactiveAccountService reactiveAccountService;
+
+  private final AccountDTO expectedAccountDTO =
+      AccountDTO.builder().documentNumber("aDocumentValue").build();
+
+  @Test
+  public void reactiveAccountControllerMustBeAnnotatedWithRestControllerAnnotation() {
+    assertThat(
+        ReactiveAccountController.class.isAnnotationPresent(RestController.class), is(true));
+  }
+
+  @Test
+  public void reactiveAccountControllerMustOnlyRunInAReactiveWebApplication() {
+    var conditionalOnWebApplicationAnnotation =
+        ReactiveAccountController.class.getAnnotation(ConditionalOnWebApplication.class);
+
+    assertThat(conditionalOnWebApplicationAnnotation.type(), is(equalTo(REACTIVE)));
+  }
+
+  @Test
+  public void reactiveAccountControllerMustBeAnnotatedWithRequestMappingAnnotation() {
+    var requestMappingAnnotation =
+        ReactiveAccountController.class.getAnnotation(RequestMapping.class);
+
+    assertAll(
+        () -> assertThat(requestMappingAnnotation, is(notNullValue())),
+        () -> assertThat(requestMappingAnnotation.path(), hasItemInArray("/accounts")),
+        () ->
+            assertThat(
+                requestMappingAnnotation.produces(), hasItemInArray(APPLICATION_JSON_VALUE)));
+  }
+
+  @Test
+  public void createMethodMustBeAnnotatedWithPostMappingAnnotation() {
+    var postMappingAnnotation =
+        getDeclaredMethod(ReactiveAccountController.class, "create")
+            .getAnnotation(PostMapping.class);
+
+    assertAll(
+        () -> assertThat(postMappingAnnotation, is(notNullValue())),
+        () -> assertThat(postMappingAnnotation.consumes(), hasItemInArray(APPLICATION_JSON_VALUE)));
+  }
+
+  @Test
+  public void createMethodMustCallReactiveAccountServiceCreate() {
+    var requestDTO = AccountDTO.builder().documentNumber("aDocumentValue").build();
+    doReturn(Mono.just(expectedAccountDTO)).when(reactiveAccountService).create(requestDTO);
+
+    StepVerifier.create(reactiveAccountController.create(requestDTO))
+        .expectNext(expectedAccountDTO)
+        .verifyComplete();
+  }
+
+  @Test
+  public void findMethodMustBeAnnotatedWithGetMappingAnnotation() {
+    var getMappingAnnotation =
+        getDeclaredMethod(ReactiveAccountController.class, "find").getAnnotation(GetMapping.class);
+
+    assertAll(
+        () -> assertThat(getMappingAnnotation, is(notNullValue())),
+        () -> assertThat(getMappingAnnotation.path(), hasItemInArray("/{uuid}")));
+  }
+
+  @Test
+  public void findMethodMustCallReactiveAccountServiceFind() {
+    doReturn(Mono.just(expectedAccountDTO)).when(reactiveAccountService).find(aUUID);
+
+    StepVerifier.create(reactiveAccountController.find(aUUID))
+        .expectNext(expectedAccountDTO)
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,83 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.ArrayMatching.hasItemInArray;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.ReactiveTransactionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTransactionControllerTest {
+
+  @InjectMocks private ReactiveTransactionController reactiveTransactionController;
+
+  @Mock private ReactiveTransactionService reactiveTransactionService;
+
+  @Test
+  public void reactiveTransactionControllerMustBeAnnotatedWithRestControllerAnnotation() {
+    assertThat(
+        ReactiveTransactionController.class.isAnnotationPresent(RestController.class), is(true));
+  }
+
+  @Test
+  public void reactiveTransactionControllerMustOnlyRunInAReactiveWebApplication() {
+    var conditionalOnWebApplicationAnnotation =
+        ReactiveTransactionController.class.getAnnotation(ConditionalOnWebApplication.class);
+
+    assertThat(conditionalOnWebApplicationAnnotation.type(), is(equalTo(REACTIVE)));
+  }
+
+  @Test
+  public void reactiveTransactionControllerMustBeAnnotatedWithRequestMappingAnnotation() {
+    var requestMappingAnnotation =
+        ReactiveTransactionController.class.getAnnotation(RequestMapping.class);
+
+    assertAll(
+        () -> assertThat(requestMappingAnnotation, is(notNullValue())),
+        () -> assertThat(requestMappingAnnotation.path(), hasItemInArray("/transactions")),
+        () ->
+            assertThat(
+                requestMappingAnnotation.produces(), hasItemInArray(APPLICATION_JSON_VALUE)));
+  }
+
+  @Test
+  public void createMethodMustBeAnnotatedWithPostMappingAnnotation() {
+    var postMappingAnnotation =
+        getDeclaredMethod(ReactiveTransactionController.class, "create")
+            .getAnnotation(PostMapping.class);
+
+    assertAll(
+        () -> assertThat(postMappingAnnotation, is(notNullValue())),
+        () -> assertThat(postMappingAnnotation.consumes(), hasItemInArray(APPLICATION_JSON_VALUE)));
+  }
+
+  @Test
+  public void createMethodMustCallReactiveTransactionServiceCreate() {
+    var requestDTO = TransactionDTO.builder().build();
+    var expectedTransactionDTO = TransactionDTO.builder().build();
+    doReturn(Mono.just(expectedTransactionDTO)).when(reactiveTransactionService).create(requestDTO);
+
+    StepVerifier.create(reactiveTransactionController.create(requestDTO))
+        .expectNext(expectedTransactionDTO)
+        .verifyComplete();
+  }
+}
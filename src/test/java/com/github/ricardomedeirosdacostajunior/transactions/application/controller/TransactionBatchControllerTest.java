@@ -0,0 +1,158 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.ArrayMatching.hasItemInArray;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionBatchResultDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.UnreadableTransactionException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionBatchService;
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionBatchControllerTest {
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+  private static final String ACCOUNT_UUID = "f080b248-5989-4fc4-80db-07025922bdc9";
+  private static final String UNREADABLE_LINE_2 =
+      "{\"line\":2,\"error\":\"Transaction could not be read\"}";
+
+  @Mock private TransactionBatchService transactionBatchService;
+
+  private TransactionBatchController transactionBatchController;
+
+  @BeforeEach
+  public void setup() {
+    transactionBatchController =
+        new TransactionBatchController(
+            transactionBatchService, Jackson2ObjectMapperBuilder.json().build());
+  }
+
+  @Test
+  public void transactionBatchControllerMustBeAnnotatedWithRestControllerAnnotation() {
+    assertThat(
+        TransactionBatchController.class.isAnnotationPresent(RestController.class), is(true));
+  }
+
+  @Test
+  public void transactionBatchControllerMustBeAnnotatedWithRequestMappingAnnotation() {
+    var requestMappingAnnotation =
+        TransactionBatchController.class.getAnnotation(RequestMapping.class);
+
+    assertAll(
+        () -> assertThat(requestMappingAnnotation, is(notNullValue())),
+        () -> assertThat(requestMappingAnnotation.path(), hasItemInArray("/transactions/batch")),
+        () -> assertThat(requestMappingAnnotation.produces(), hasItemInArray(NDJSON_VALUE)));
+  }
+
+  @Test
+  public void createMethodMustBeAnnotatedWithPostMappingAnnotation() {
+    var postMappingAnnotation =
+        getDeclaredMethod(TransactionBatchController.class, "create")
+            .getAnnotation(PostMapping.class);
+
+    assertAll(
+        () -> assertThat(postMappingAnnotation, is(notNullValue())),
+        () -> assertThat(postMappingAnnotation.consumes(), hasItemInArray(APPLICATION_JSON_VALUE)),
+        () -> assertThat(postMappingAnnotation.consumes(), hasItemInArray(NDJSON_VALUE)));
+  }
+
+  @Test
+  public void createReadsNewlineDelimitedJson() throws Exception {
+    var body =
+        "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":1.5}\n"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":4,\"amount\":2.5}\n";
+
+    assertThat(create(body), is(equalTo("{\"line\":1}\n{\"line\":2}")));
+  }
+
+  @Test
+  public void createReadsJsonArray() throws Exception {
+    var body =
+        "[{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":1.5},"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":4,\"amount\":2.5}]";
+
+    assertThat(create(body), is(equalTo("{\"line\":1}\n{\"line\":2}")));
+  }
+
+  @Test
+  public void createRefusesTheTransactionsThatDoNotBindAndReadsOn() throws Exception {
+    var body =
+        "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":1.5}\n"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":\"a\"}\n"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":4,\"amount\":2.5}\n";
+
+    assertThat(
+        create(body),
+        is(equalTo("{\"line\":1}\n" + UNREADABLE_LINE_2 + "\n{\"line\":3}")));
+  }
+
+  @Test
+  public void createRefusesTheRestOfAnUploadThatIsNotJson() throws Exception {
+    var body =
+        "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":1.5}\n"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":1,\"amount\":}\n"
+            + "{\"account_id\":\"" + ACCOUNT_UUID + "\",\"operation_type\":4,\"amount\":2.5}\n";
+
+    assertThat(
+        create(body),
+        is(
+            equalTo(
+                "{\"line\":1}\n"
+                    + UNREADABLE_LINE_2
+                    + "\n{\"line\":3,\"error\":\"Transaction could not be read\"}")));
+  }
+
+  @SuppressWarnings("unchecked")
+  private String create(final String body) throws Exception {
+    var response = new MockHttpServletResponse();
+    doAnswer(
+            invocation -> {
+              var transactionDTOs = (Iterator<TransactionDTO>) invocation.getArgument(0);
+              var results = (Consumer<TransactionBatchResultDTO>) invocation.getArgument(1);
+              var line = 0L;
+
+              while (transactionDTOs.hasNext()) {
+                var result = TransactionBatchResultDTO.builder().line(++line);
+
+                try {
+                  assertThat(transactionDTOs.next().getAccountUuid(), is(notNullValue()));
+                } catch (UnreadableTransactionException unreadableTransactionException) {
+                  result.error(unreadableTransactionException.getMessage());
+                }
+
+                results.accept(result.build());
+              }
+
+              return null;
+            })
+        .when(transactionBatchService)
+        .create(any(), any());
+
+    transactionBatchController.create(new ByteArrayInputStream(body.getBytes(UTF_8)), response);
+
+    assertThat(response.getContentType(), is(equalTo(NDJSON_VALUE)));
+    return response.getContentAsString();
+  }
+}
@@ -1,14 +1,15 @@
 package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
 
-import static java.math.BigDecimal.valueOf;
+import static com.github.ricardomedeirosdacostajunior.transactions.application.controller.MediaTypes.SMILE_VALUE;
 import static java.util.UUID.fromString;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.parseMediaType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
-import java.math.BigDecimal;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,7 +25,7 @@ public class TransactionControllerIT {
   private static final String TRANSACTIONS_ENDPOINT = "/transactions";
   private static final UUID ACCOUNT_UUID = fromString("8df29f84-4bcf-49f3-babd-3acbb8ec1673");
   private static final Integer PAYMENT = 4;
-  private static final BigDecimal AMOUNT = valueOf(123.45);
+  private static final long AMOUNT = 12_345L;
 
   @MockBean private TransactionController transactionController;
 
@@ -32,6 +33,8 @@ public class TransactionControllerIT {
 
   @Autowired private ObjectMapper objectMapper;
 
+  private final ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
   @Test
   public void create() throws Exception {
     var requestTransactionDTO =
@@ -48,4 +51,22 @@ public class TransactionControllerIT {
                 .content(objectMapper.writeValueAsString(requestTransactionDTO)))
         .andExpect(status().isOk());
   }
+
+  @Test
+  public void createWithSmile() throws Exception {
+    var requestTransactionDTO =
+        TransactionDTO.builder()
+            .accountUuid(ACCOUNT_UUID)
+            .operationType(PAYMENT)
+            .amount(AMOUNT)
+            .build();
+
+    mockMvc
+        .perform(
+            post(TRANSACTIONS_ENDPOINT)
+                .contentType(parseMediaType(SMILE_VALUE))
+                .accept(SMILE_VALUE)
+                .content(smileObjectMapper.writeValueAsBytes(requestTransactionDTO)))
+        .andExpect(status().isOk());
+  }
 }
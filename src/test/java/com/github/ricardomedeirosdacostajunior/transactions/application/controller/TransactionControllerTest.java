@@ -11,7 +11,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
-import com.github.ricardomedeirosdacostajunior.transactions.domain.service.TransactionService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.IdempotentTransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,9 +25,11 @@ import org.springframework.web.bind.annotation.RestController;
 @ExtendWith(MockitoExtension.class)
 public class TransactionControllerTest {
 
+  private static final String IDEMPOTENCY_KEY = "6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52";
+
   @InjectMocks private TransactionController transactionController;
 
-  @Mock private TransactionService transactionService;
+  @Mock private IdempotentTransactionService idempotentTransactionService;
 
   private TransactionDTO expectedTransactionDTO;
 
@@ -64,11 +66,23 @@ public class TransactionControllerTest {
   }
 
   @Test
-  public void createMethodMustCallTransactionServiceCreate() {
+  public void createMethodMustCallIdempotentTransactionServiceCreate() {
+    var requestDTO = aTransactionDTO();
+    doReturn(expectedTransactionDTO).when(idempotentTransactionService).create(null, requestDTO);
+
+    var actualAccountDTO = transactionController.create(null, requestDTO);
+
+    assertThat(actualAccountDTO, is(equalTo(expectedTransactionDTO)));
+  }
+
+  @Test
+  public void createMethodMustPassTheIdempotencyKeyHeader() {
     var requestDTO = aTransactionDTO();
-    doReturn(expectedTransactionDTO).when(transactionService).create(requestDTO);
+    doReturn(expectedTransactionDTO)
+        .when(idempotentTransactionService)
+        .create(IDEMPOTENCY_KEY, requestDTO);
 
-    var actualAccountDTO = transactionController.create(requestDTO);
+    var actualAccountDTO = transactionController.create(IDEMPOTENCY_KEY, requestDTO);
 
     assertThat(actualAccountDTO, is(equalTo(expectedTransactionDTO)));
   }
@@ -0,0 +1,94 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.controller;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat.CSV;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.ArrayMatching.hasItemInArray;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExporter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidExportFormatException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionExportControllerTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final LocalDateTime FROM = LocalDateTime.parse("2020-06-01T00:00:00");
+  private static final LocalDateTime TO = LocalDateTime.parse("2020-07-01T00:00:00");
+
+  @InjectMocks private TransactionExportController transactionExportController;
+
+  @Mock private TransactionExporter transactionExporter;
+
+  @Test
+  public void transactionExportControllerMustBeAnnotatedWithRestControllerAnnotation() {
+    assertThat(
+        TransactionExportController.class.isAnnotationPresent(RestController.class), is(true));
+  }
+
+  @Test
+  public void transactionExportControllerMustBeAnnotatedWithRequestMappingAnnotation() {
+    var requestMappingAnnotation =
+        TransactionExportController.class.getAnnotation(RequestMapping.class);
+
+    assertAll(
+        () -> assertThat(requestMappingAnnotation, is(notNullValue())),
+        () -> assertThat(requestMappingAnnotation.path(), hasItemInArray("/transactions/export")));
+  }
+
+  @Test
+  public void exportMethodMustBeAnnotatedWithGetMappingAnnotation() {
+    var getMappingAnnotation =
+        getDeclaredMethod(TransactionExportController.class, "export")
+            .getAnnotation(GetMapping.class);
+
+    assertThat(getMappingAnnotation, is(notNullValue()));
+  }
+
+  @Test
+  public void exportMethodMustCallTransactionExporterExport() throws IOException {
+    var response = new MockHttpServletResponse();
+
+    transactionExportController.export("csv", ACCOUNT_UUID, FROM, TO, true, response);
+
+    verify(transactionExporter)
+        .export(eq(CSV), eq(true), eq(ACCOUNT_UUID), eq(FROM), eq(TO), any());
+    assertAll(
+        () -> assertThat(response.getContentType(), is(equalTo("application/gzip"))),
+        () ->
+            assertThat(
+                response.getHeader("Content-Disposition"),
+                is(equalTo("attachment; filename=\"transactions.csv.gz\""))));
+  }
+
+  @Test
+  public void exportWhenTheFormatIsUnknown() {
+    var response = new MockHttpServletResponse();
+
+    assertThrows(
+        InvalidExportFormatException.class,
+        () -> transactionExportController.export("xml", null, null, null, false, response));
+    verifyNoInteractions(transactionExporter);
+  }
+}
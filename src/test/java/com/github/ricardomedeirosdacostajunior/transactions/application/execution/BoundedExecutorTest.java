@@ -0,0 +1,69 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.execution;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class BoundedExecutorTest {
+
+  private static final int PERMITS = 2;
+  private static final int TASKS = 50;
+
+  private final BoundedExecutor boundedExecutor =
+      new BoundedExecutor(newFixedThreadPool(TASKS), PERMITS);
+
+  @AfterEach
+  public void tearDown() {
+    boundedExecutor.shutdown();
+  }
+
+  @Test
+  public void executeRunsAtMostPermitsTasksAtOnce() throws InterruptedException {
+    var inFlight = new AtomicInteger();
+    var maximumInFlight = new AtomicInteger();
+    var completed = new CountDownLatch(TASKS);
+
+    for (var index = 0; index < TASKS; index++)
+      boundedExecutor.execute(
+          () -> {
+            maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep();
+            inFlight.decrementAndGet();
+            completed.countDown();
+          });
+
+    assertAll(
+        () -> assertThat(completed.await(10, SECONDS), is(true)),
+        () -> assertThat(maximumInFlight.get(), is(equalTo(PERMITS))));
+  }
+
+  @Test
+  public void executeReleasesThePermitWhenTheTaskFails() throws InterruptedException {
+    var completed = new CountDownLatch(1);
+
+    for (var index = 0; index < PERMITS; index++)
+      boundedExecutor.execute(
+          () -> {
+            throw new IllegalStateException();
+          });
+    boundedExecutor.execute(completed::countDown);
+
+    assertThat(completed.await(10, SECONDS), is(true));
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.execution;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+public class VirtualThreadExecutionConfigurationTest {
+
+  @Test
+  public void virtualThreadExecutionConfigurationClassMustBeAnnotatedWithConfigurationAnnotation() {
+    assertThat(
+        VirtualThreadExecutionConfiguration.class.isAnnotationPresent(Configuration.class),
+        is(true));
+  }
+
+  @Test
+  public void virtualThreadExecutionConfigurationMustBeOptIn() {
+    var conditionalOnProperty =
+        VirtualThreadExecutionConfiguration.class.getAnnotation(ConditionalOnProperty.class);
+
+    assertThat(conditionalOnProperty.havingValue(), is("virtual"));
+  }
+
+  @Test
+  public void threadPerTaskExecutorRunsTasks() throws InterruptedException {
+    var executor = VirtualThreadExecutionConfiguration.threadPerTaskExecutor(1);
+    var completed = new CountDownLatch(1);
+
+    executor.execute(completed::countDown);
+
+    assertThat(completed.await(10, SECONDS), is(true));
+    executor.shutdown();
+  }
+
+  @Test
+  public void fallbackExecutorRunsTasksOnNamedDaemonThreads()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    var executor = VirtualThreadExecutionConfiguration.fallbackExecutor(1);
+
+    var thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(10, SECONDS);
+
+    assertThat(thread.getName(), startsWith("request-"));
+    assertThat(thread.isDaemon(), is(true));
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,50 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.github.ricardomedeirosdacostajunior.transactions.TransactionsApplication;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+public class TransactionExportCommandIT {
+
+  private static final long THREAD_JOIN_MILLIS = 1_000L;
+
+  @Test
+  public void runLeavesNoThreadKeepingTheJvmAlive(@TempDir final Path directory)
+      throws InterruptedException {
+    var output = directory.resolve("transactions.ndjson");
+    var threadsBefore = new HashSet<>(Thread.getAllStackTraces().keySet());
+
+    // A command line run returns from SpringApplication.run and never closes the context.
+    try (var context =
+        new SpringApplicationBuilder(TransactionsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:export-command",
+                "spring.r2dbc.url=r2dbc:h2:mem:///export-command",
+                "transactions.export.output=" + output)
+            .run()) {
+      var threadsStarted =
+          Thread.getAllStackTraces().keySet().stream()
+              .filter(thread -> !thread.isDaemon() && !threadsBefore.contains(thread))
+              .collect(toList());
+
+      for (var thread : threadsStarted) thread.join(THREAD_JOIN_MILLIS);
+
+      assertThat(Files.exists(output), is(true));
+      assertThat(
+          threadsStarted.stream().filter(Thread::isAlive).map(Thread::getName).collect(toList()),
+          is(equalTo(List.of())));
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.export;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat.CSV;
+import static com.github.ricardomedeirosdacostajunior.transactions.application.export.TransactionExportFormat.NDJSON;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidExportFormatException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class TransactionExportFormatTest {
+
+  private static final String CSV_EXPORT =
+      "id,account_id,operation_type,amount,event_date\n"
+          + "a19f0c93-1559-4e10-8d55-53f74ef35f72,f080b248-5989-4fc4-80db-07025922bdc9,1,-123.45,"
+          + "2020-06-01T21:59:45.133455\n";
+  private static final String NDJSON_LINE =
+      "{\"id\":\"a19f0c93-1559-4e10-8d55-53f74ef35f72\","
+          + "\"account_id\":\"f080b248-5989-4fc4-80db-07025922bdc9\","
+          + "\"operation_type\":1,\"amount\":-123.45,"
+          + "\"event_date\":\"2020-06-01T21:59:45.133455\"}";
+
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json().featuresToDisable(WRITE_DATES_AS_TIMESTAMPS).build();
+
+  private final TransactionDTO transactionDTO =
+      TransactionDTO.builder()
+          .uuid(fromString("a19f0c93-1559-4e10-8d55-53f74ef35f72"))
+          .accountUuid(fromString("f080b248-5989-4fc4-80db-07025922bdc9"))
+          .operationType(1)
+          .amount(-12_345L)
+          .eventDate(LocalDateTime.parse("2020-06-01T21:59:45.133455"))
+          .build();
+
+  @Test
+  public void of() {
+    assertAll(
+        () -> assertThat(TransactionExportFormat.of("ndjson"), is(equalTo(NDJSON))),
+        () -> assertThat(TransactionExportFormat.of("CSV"), is(equalTo(CSV))));
+  }
+
+  @Test
+  public void ofWhenTheFormatIsUnknown() {
+    assertThrows(InvalidExportFormatException.class, () -> TransactionExportFormat.of("xml"));
+  }
+
+  @Test
+  public void fileName() {
+    assertAll(
+        () -> assertThat(NDJSON.fileName(false), is(equalTo("transactions.ndjson"))),
+        () -> assertThat(CSV.fileName(true), is(equalTo("transactions.csv.gz"))));
+  }
+
+  @Test
+  public void openCsv() throws IOException {
+    assertThat(export(CSV, false), is(equalTo(CSV_EXPORT)));
+  }
+
+  @Test
+  public void openNdjson() throws IOException {
+    var lines = export(NDJSON, false).split("\n");
+
+    assertAll(
+        () -> assertThat(lines.length, is(equalTo(2))),
+        () -> assertThat(objectMapper.readTree(lines[0]), is(equalTo(expectedJson()))),
+        () -> assertThat(objectMapper.readTree(lines[1]), is(equalTo(expectedJson()))));
+  }
+
+  @Test
+  public void openGzipped() throws IOException {
+    assertThat(export(CSV, true), is(equalTo(CSV_EXPORT)));
+  }
+
+  private JsonNode expectedJson() throws IOException {
+    return objectMapper.readTree(NDJSON_LINE);
+  }
+
+  private String export(final TransactionExportFormat format, final boolean gzip)
+      throws IOException {
+    var output = new ByteArrayOutputStream();
+
+    try (var writer = format.open(output, gzip, objectMapper)) {
+      writer.write(transactionDTO);
+      if (format == NDJSON) writer.write(transactionDTO);
+    }
+
+    var bytes = output.toByteArray();
+    return new String(
+        gzip ? new GZIPInputStream(new ByteArrayInputStream(bytes)).readAllBytes() : bytes, UTF_8);
+  }
+}
@@ -0,0 +1,33 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.grpc;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+// Like a command line run, which sets spring.main.web-application-type=none.
+@SpringBootTest(webEnvironment = NONE, properties = "transactions.grpc.port=9090")
+public class GrpcServerIT {
+
+  @Autowired private ApplicationContext applicationContext;
+
+  @Test
+  public void grpcServerIsNotStartedWithoutAWebServer() throws IOException {
+    try (var serverSocket = new ServerSocket(9090)) {
+      assertAll(
+          () -> assertThat(applicationContext.getBeansOfType(GrpcServer.class).isEmpty(), is(true)),
+          () ->
+              assertThat(
+                  applicationContext.getBeansOfType(TransactionsGrpcService.class).isEmpty(),
+                  is(true)),
+          () -> assertThat(serverSocket.isBound(), is(true)));
+    }
+  }
+}
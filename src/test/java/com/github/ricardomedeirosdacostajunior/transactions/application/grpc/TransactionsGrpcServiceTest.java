@@ -0,0 +1,288 @@
+package com.github.ricardomedeirosdacostajunior.transactions.application.grpc;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.application.grpc.TransactionsGrpcService.ERROR_CODE_KEY;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.CreateTransactionResponse;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Error;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.GetAccountRequest;
+import com.github.ricardomedeirosdacostajunior.transactions.application.grpc.proto.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.IdempotentTransactionService;
+import com.google.protobuf.Int64Value;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionsGrpcServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final UUID TRANSACTION_UUID = fromString("35713a38-48d2-4b26-9dc1-751353d174ad");
+  private static final String DOCUMENT_NUMBER = "06388715907";
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2020, 6, 1, 21, 59, 45, 133_000);
+
+  private TransactionsGrpcService transactionsGrpcService;
+
+  @Mock private AccountService accountService;
+  @Mock private IdempotentTransactionService idempotentTransactionService;
+  @Mock private StreamObserver<Account> accountObserver;
+  @Mock private StreamObserver<Transaction> transactionObserver;
+  @Mock private StreamObserver<CreateTransactionResponse> transactionResponseObserver;
+
+  @Captor private ArgumentCaptor<AccountDTO> accountDTOArgumentCaptor;
+  @Captor private ArgumentCaptor<TransactionDTO> transactionDTOArgumentCaptor;
+  @Captor private ArgumentCaptor<Throwable> throwableArgumentCaptor;
+
+  @BeforeEach
+  public void setup() {
+    transactionsGrpcService =
+        new TransactionsGrpcService(accountService, idempotentTransactionService);
+  }
+
+  @Test
+  public void createAccountTest() {
+    doReturn(accountDTO()).when(accountService).create(accountDTOArgumentCaptor.capture());
+
+    transactionsGrpcService.createAccount(
+        CreateAccountRequest.newBuilder()
+            .setDocumentNumber(DOCUMENT_NUMBER)
+            .setAvailableCreditLimitCents(Int64Value.of(1_000L))
+            .build(),
+        accountObserver);
+
+    verify(accountObserver).onNext(account());
+    verify(accountObserver).onCompleted();
+    assertAll(
+        () -> assertThat(accountDTOArgumentCaptor.getValue().getUuid(), is(equalTo(null))),
+        () ->
+            assertThat(
+                accountDTOArgumentCaptor.getValue().getDocumentNumber(),
+                is(equalTo(DOCUMENT_NUMBER))),
+        () ->
+            assertThat(
+                accountDTOArgumentCaptor.getValue().getAvailableCreditLimit(),
+                is(equalTo(1_000L))));
+  }
+
+  @Test
+  public void createAccountWithoutLimitTest() {
+    doReturn(accountDTO()).when(accountService).create(accountDTOArgumentCaptor.capture());
+
+    transactionsGrpcService.createAccount(
+        CreateAccountRequest.newBuilder().setDocumentNumber(DOCUMENT_NUMBER).build(),
+        accountObserver);
+
+    assertThat(accountDTOArgumentCaptor.getValue().getAvailableCreditLimit(), is(equalTo(null)));
+  }
+
+  @Test
+  public void getAccountTest() {
+    // As AccountService answers, without the limit.
+    doReturn(AccountDTO.builder().uuid(ACCOUNT_UUID).documentNumber(DOCUMENT_NUMBER).build())
+        .when(accountService)
+        .find(ACCOUNT_UUID);
+
+    transactionsGrpcService.getAccount(
+        GetAccountRequest.newBuilder().setId(ACCOUNT_UUID.toString()).build(), accountObserver);
+
+    verify(accountObserver).onNext(account().toBuilder().clearAvailableCreditLimitCents().build());
+    verify(accountObserver).onCompleted();
+  }
+
+  @Test
+  public void getMissingAccountTest() {
+    transactionsGrpcService.getAccount(
+        GetAccountRequest.newBuilder().setId(ACCOUNT_UUID.toString()).build(), accountObserver);
+
+    verify(accountObserver).onError(throwableArgumentCaptor.capture());
+    verify(accountObserver, never()).onNext(any());
+    assertThat(
+        Status.fromThrowable(throwableArgumentCaptor.getValue()).getCode(),
+        is(equalTo(Status.Code.NOT_FOUND)));
+  }
+
+  @Test
+  public void getAccountWithMalformedIdTest() {
+    transactionsGrpcService.getAccount(
+        GetAccountRequest.newBuilder().setId("not a uuid").build(), accountObserver);
+
+    verify(accountObserver).onError(throwableArgumentCaptor.capture());
+    assertClientError(
+        throwableArgumentCaptor.getValue(), InvalidAccountException.INSTANCE.getCode());
+  }
+
+  @Test
+  public void createTransactionTest() {
+    doReturn(transactionDTO())
+        .when(idempotentTransactionService)
+        .create(isNull(), transactionDTOArgumentCaptor.capture());
+
+    transactionsGrpcService.createTransaction(transactionRequest(""), transactionObserver);
+
+    verify(transactionObserver).onNext(transaction());
+    verify(transactionObserver).onCompleted();
+    assertAll(
+        () ->
+            assertThat(
+                transactionDTOArgumentCaptor.getValue().getAccountUuid(),
+                is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(transactionDTOArgumentCaptor.getValue().getOperationType(), is(1)),
+        () -> assertThat(transactionDTOArgumentCaptor.getValue().getAmount(), is(1_000L)));
+  }
+
+  @Test
+  public void createTransactionWithIdempotencyKeyTest() {
+    doReturn(transactionDTO())
+        .when(idempotentTransactionService)
+        .create(eq("6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52"), any());
+
+    transactionsGrpcService.createTransaction(
+        transactionRequest("6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52"), transactionObserver);
+
+    verify(transactionObserver).onNext(transaction());
+  }
+
+  @Test
+  public void createTransactionClientErrorTest() {
+    doThrow(InsufficientAvailableCreditLimitException.INSTANCE)
+        .when(idempotentTransactionService)
+        .create(isNull(), any());
+
+    transactionsGrpcService.createTransaction(transactionRequest(""), transactionObserver);
+
+    verify(transactionObserver).onError(throwableArgumentCaptor.capture());
+    verify(transactionObserver, never()).onCompleted();
+    assertClientError(
+        throwableArgumentCaptor.getValue(),
+        InsufficientAvailableCreditLimitException.INSTANCE.getCode());
+  }
+
+  @Test
+  public void createTransactionsTest() {
+    doReturn(transactionDTO())
+        .doThrow(InsufficientAvailableCreditLimitException.INSTANCE)
+        .when(idempotentTransactionService)
+        .create(isNull(), any());
+
+    var requestObserver = transactionsGrpcService.createTransactions(transactionResponseObserver);
+    requestObserver.onNext(transactionRequest(""));
+    requestObserver.onNext(transactionRequest(""));
+    requestObserver.onCompleted();
+
+    var inOrder = inOrder(transactionResponseObserver);
+    inOrder
+        .verify(transactionResponseObserver)
+        .onNext(CreateTransactionResponse.newBuilder().setTransaction(transaction()).build());
+    inOrder
+        .verify(transactionResponseObserver)
+        .onNext(
+            CreateTransactionResponse.newBuilder()
+                .setError(
+                    Error.newBuilder()
+                        .setCode(InsufficientAvailableCreditLimitException.INSTANCE.getCode())
+                        .setMessage(InsufficientAvailableCreditLimitException.INSTANCE.getMessage())
+                        .build())
+                .build());
+    inOrder.verify(transactionResponseObserver).onCompleted();
+    verify(transactionResponseObserver, never()).onError(any());
+  }
+
+  @Test
+  public void createTransactionsServerErrorTest() {
+    var exception = new IllegalStateException();
+    doThrow(exception).when(idempotentTransactionService).create(isNull(), any());
+
+    var requestObserver = transactionsGrpcService.createTransactions(transactionResponseObserver);
+    requestObserver.onNext(transactionRequest(""));
+
+    verify(transactionResponseObserver).onError(exception);
+    verify(transactionResponseObserver, never()).onNext(any());
+  }
+
+  private void assertClientError(final Throwable throwable, final String code) {
+    var statusRuntimeException = (StatusRuntimeException) throwable;
+
+    assertAll(
+        () ->
+            assertThat(
+                statusRuntimeException.getStatus().getCode(),
+                is(equalTo(Status.Code.INVALID_ARGUMENT))),
+        () ->
+            assertThat(
+                statusRuntimeException.getTrailers().get(ERROR_CODE_KEY), is(equalTo(code))));
+  }
+
+  private static CreateTransactionRequest transactionRequest(final String idempotencyKey) {
+    return CreateTransactionRequest.newBuilder()
+        .setAccountId(ACCOUNT_UUID.toString())
+        .setOperationType(1)
+        .setAmountCents(1_000L)
+        .setIdempotencyKey(idempotencyKey)
+        .build();
+  }
+
+  private static AccountDTO accountDTO() {
+    return AccountDTO.builder()
+        .uuid(ACCOUNT_UUID)
+        .documentNumber(DOCUMENT_NUMBER)
+        .availableCreditLimit(1_000L)
+        .build();
+  }
+
+  private static Account account() {
+    return Account.newBuilder()
+        .setId(ACCOUNT_UUID.toString())
+        .setDocumentNumber(DOCUMENT_NUMBER)
+        .setAvailableCreditLimitCents(Int64Value.of(1_000L))
+        .build();
+  }
+
+  private static TransactionDTO transactionDTO() {
+    return TransactionDTO.builder()
+        .uuid(TRANSACTION_UUID)
+        .accountUuid(ACCOUNT_UUID)
+        .operationType(1)
+        .amount(-1_000L)
+        .eventDate(EVENT_DATE)
+        .build();
+  }
+
+  private static Transaction transaction() {
+    return Transaction.newBuilder()
+        .setId(TRANSACTION_UUID.toString())
+        .setAccountId(ACCOUNT_UUID.toString())
+        .setOperationType(1)
+        .setAmountCents(-1_000L)
+        .setEventDate("2020-06-01T21:59:45.000133")
+        .build();
+  }
+}
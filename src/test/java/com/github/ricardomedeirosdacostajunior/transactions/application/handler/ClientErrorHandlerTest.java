@@ -1,6 +1,7 @@
 package com.github.ricardomedeirosdacostajunior.transactions.application.handler;
 
 import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static com.github.ricardomedeirosdacostajunior.transactions.application.handler.ClientErrorHandler.ERROR_CODE_HEADER;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -10,10 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ClientErrorException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Method;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 public class ClientErrorHandlerTest {
@@ -36,12 +38,27 @@ public class ClientErrorHandlerTest {
   }
 
   @Test
-  public void clientErrorExceptionMethodMustBeAnnotatedWithResponseStatusAnnotation() {
-    var responseStatusAnnotation = getClientErrorException().getAnnotation(ResponseStatus.class);
+  public void clientErrorExceptionAnswersWithTheCodeAndCountsTheErrorPerException() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var clientErrorHandler = new ClientErrorHandler(meterRegistry);
+
+    var response = clientErrorHandler.clientErrorException(InvalidAccountException.INSTANCE);
+    clientErrorHandler.clientErrorException(InvalidAccountException.INSTANCE);
 
     assertAll(
-        () -> assertThat(responseStatusAnnotation, is(notNullValue())),
-        () -> assertThat(responseStatusAnnotation.value(), is(equalTo(BAD_REQUEST))));
+        () -> assertThat(response.getStatusCode(), is(equalTo(BAD_REQUEST))),
+        () -> assertThat(response.getBody(), is(equalTo("Account invalid or not found"))),
+        () ->
+            assertThat(
+                response.getHeaders().getFirst(ERROR_CODE_HEADER), is(equalTo("invalid_account"))),
+        () ->
+            assertThat(
+                meterRegistry
+                    .get("transactions.client.errors")
+                    .tag("exception", "InvalidAccountException")
+                    .counter()
+                    .count(),
+                is(equalTo(2.0))));
   }
 
   private Method getClientErrorException() {
@@ -0,0 +1,161 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.cache;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReadTarget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.stereotype.Component;
+
+public class AccountCacheTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final UUID ANOTHER_ACCOUNT_UUID =
+      fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406");
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private AccountCache accountCache;
+  private Account account;
+
+  @BeforeEach
+  public void setup() {
+    accountCache = new AccountCache(1, EXPIRE_AFTER_WRITE, nanos::get);
+    account = Account.builder().uuid(ACCOUNT_UUID).availableCreditLimit(1_000L).build();
+  }
+
+  @Test
+  public void accountCacheClassMustBeAnnotatedWithComponentAnnotation() {
+    assertThat(AccountCache.class.isAnnotationPresent(Component.class), is(true));
+  }
+
+  @Test
+  public void getLoadsTheAccountOnlyOnce() {
+    var firstAccount = accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    var secondAccount = accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () -> assertThat(firstAccount.orElseThrow(), is(sameInstance(account))),
+        () -> assertThat(secondAccount.orElseThrow(), is(sameInstance(account))),
+        () -> assertThat(loads.get(), is(equalTo(1))),
+        () -> assertThat(accountCache.stats().hitCount(), is(equalTo(1L))),
+        () -> assertThat(accountCache.stats().missCount(), is(equalTo(1L))));
+  }
+
+  @Test
+  public void getDoesNotCacheMissingAccounts() {
+    accountCache.get(ACCOUNT_UUID, loader(empty()));
+    var actualAccount = accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () -> assertThat(actualAccount.orElseThrow(), is(sameInstance(account))),
+        () -> assertThat(loads.get(), is(equalTo(2))));
+  }
+
+  @Test
+  public void getFromAReplicaDoesNotCacheTheAccount() {
+    var replicaAccount =
+        ReadTarget.onReplica(0, () -> accountCache.get(ACCOUNT_UUID, loader(of(account))));
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () -> assertThat(replicaAccount.orElseThrow(), is(sameInstance(account))),
+        () -> assertThat(loads.get(), is(equalTo(2))));
+  }
+
+  @Test
+  public void getFromAReplicaReturnsTheCachedAccount() {
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    var replicaAccount =
+        ReadTarget.onReplica(0, () -> accountCache.get(ACCOUNT_UUID, loader(empty())));
+
+    assertAll(
+        () -> assertThat(replicaAccount.orElseThrow(), is(sameInstance(account))),
+        () -> assertThat(loads.get(), is(equalTo(1))));
+  }
+
+  @Test
+  public void getAfterInvalidateLoadsTheAccountAgain() {
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    accountCache.invalidate(ACCOUNT_UUID);
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertThat(loads.get(), is(equalTo(2)));
+  }
+
+  @Test
+  public void getAfterExpirationLoadsTheAccountAgain() {
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    nanos.addAndGet(EXPIRE_AFTER_WRITE.plusSeconds(1).toNanos());
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () -> assertThat(loads.get(), is(equalTo(2))),
+        () -> assertThat(accountCache.stats().evictionCount(), is(equalTo(1L))));
+  }
+
+  @Test
+  public void getEvictsAccountsOverTheMaximumSize() {
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    accountCache.get(ANOTHER_ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () -> assertThat(accountCache.size(), is(equalTo(1L))),
+        () -> assertThat(accountCache.stats().evictionCount(), is(equalTo(1L))));
+  }
+
+  @Test
+  public void bindToPublishesTheStatsOfTheCache() {
+    var meterRegistry = new SimpleMeterRegistry();
+    accountCache.bindTo(meterRegistry);
+
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+    accountCache.get(ACCOUNT_UUID, loader(of(account)));
+
+    assertAll(
+        () ->
+            assertThat(
+                meterRegistry
+                    .get("cache.gets")
+                    .tags("cache", "accounts", "result", "hit")
+                    .functionCounter()
+                    .count(),
+                is(equalTo(1.0))),
+        () ->
+            assertThat(
+                meterRegistry
+                    .get("cache.gets")
+                    .tags("cache", "accounts", "result", "miss")
+                    .functionCounter()
+                    .count(),
+                is(equalTo(1.0))),
+        () ->
+            assertThat(
+                meterRegistry.get("cache.size").tags("cache", "accounts").gauge().value(),
+                is(equalTo(1.0))));
+  }
+
+  private Function<UUID, Optional<Account>> loader(final Optional<Account> loadedAccount) {
+    return uuid -> {
+      loads.incrementAndGet();
+      return loadedAccount;
+    };
+  }
+}
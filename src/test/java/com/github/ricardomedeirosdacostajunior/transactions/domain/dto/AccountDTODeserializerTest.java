@@ -0,0 +1,56 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+public class AccountDTODeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void deserialize() throws JsonProcessingException {
+    var json =
+        "{\"document_number\":\"06388715907\","
+            + "\"id\":\"f8eface4-fedf-4b5b-b230-fe950aa3db8f\","
+            + "\"available_credit_limit\":\"4970.5\"}";
+
+    assertThat(
+        objectMapper.readValue(json, AccountDTO.class),
+        is(
+            equalTo(
+                AccountDTO.builder()
+                    .documentNumber("06388715907")
+                    .uuid(fromString("f8eface4-fedf-4b5b-b230-fe950aa3db8f"))
+                    .availableCreditLimit(497_050L)
+                    .build())));
+  }
+
+  @Test
+  public void deserializeWithMissingFields() throws JsonProcessingException {
+    assertThat(
+        objectMapper.readValue("{\"document_number\":null}", AccountDTO.class),
+        is(equalTo(AccountDTO.builder().build())));
+  }
+
+  @Test
+  public void deserializeWithInvalidAvailableCreditLimit() {
+    assertThrows(
+        InvalidFormatException.class,
+        () -> objectMapper.readValue("{\"available_credit_limit\":\"ten\"}", AccountDTO.class));
+  }
+
+  @Test
+  public void deserializeWithUnexpectedToken() {
+    assertThrows(
+        MismatchedInputException.class, () -> objectMapper.readValue("\"42\"", AccountDTO.class));
+  }
+}
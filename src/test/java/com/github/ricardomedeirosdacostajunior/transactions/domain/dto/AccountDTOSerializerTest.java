@@ -0,0 +1,62 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+public class AccountDTOSerializerTest {
+
+  private static final AccountDTO ACCOUNT_DTO =
+      AccountDTO.builder()
+          .documentNumber("06388715907")
+          .uuid(fromString("f8eface4-fedf-4b5b-b230-fe950aa3db8f"))
+          .availableCreditLimit(497_050L)
+          .build();
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ObjectMapper reflectiveObjectMapper =
+      new ObjectMapper().addMixIn(AccountDTO.class, ReflectiveBinding.class);
+  private final ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
+  @Test
+  public void serialize() throws JsonProcessingException {
+    assertThat(
+        objectMapper.writeValueAsString(ACCOUNT_DTO),
+        is(
+            equalTo(
+                "{\"document_number\":\"06388715907\","
+                    + "\"id\":\"f8eface4-fedf-4b5b-b230-fe950aa3db8f\","
+                    + "\"available_credit_limit\":4970.50}")));
+  }
+
+  @Test
+  public void serializeWritesTheJsonOfTheReflectiveBinding() throws JsonProcessingException {
+    for (var accountDTO : new AccountDTO[] {ACCOUNT_DTO, AccountDTO.builder().build()})
+      assertThat(
+          objectMapper.writeValueAsString(accountDTO),
+          is(equalTo(reflectiveObjectMapper.writeValueAsString(accountDTO))));
+  }
+
+  @Test
+  public void serializeToSmileIsSmallerThanJsonAndReadsBack() throws IOException {
+    var smile = smileObjectMapper.writeValueAsBytes(ACCOUNT_DTO);
+
+    assertThat(smile.length, is(lessThan(objectMapper.writeValueAsBytes(ACCOUNT_DTO).length)));
+    assertThat(smileObjectMapper.readValue(smile, AccountDTO.class), is(equalTo(ACCOUNT_DTO)));
+  }
+
+  // Mixed in, takes the place of the class annotations and brings the bean binding back.
+  @JsonSerialize
+  @JsonDeserialize
+  private abstract static class ReflectiveBinding {}
+}
@@ -0,0 +1,93 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class TransactionDTODeserializerTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("b2b5aa47-f0e5-4866-9ab1-12b8bd6632d5");
+
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json().featuresToDisable(WRITE_DATES_AS_TIMESTAMPS).build();
+
+  @Test
+  public void deserialize() throws JsonProcessingException {
+    var json =
+        "{\"account_id\":\"B2B5AA47-F0E5-4866-9AB1-12B8BD6632D5\","
+            + "\"operation_type\":\"1\",\"amount\":123.45,\"unknown\":{\"a\":[1]}}";
+
+    assertThat(
+        objectMapper.readValue(json, TransactionDTO.class),
+        is(
+            equalTo(
+                TransactionDTO.builder()
+                    .accountUuid(ACCOUNT_UUID)
+                    .operationType(1)
+                    .amount(12_345L)
+                    .build())));
+  }
+
+  @Test
+  public void deserializeReadsWhatSerializeWrites() throws JsonProcessingException {
+    var transactionDTO =
+        TransactionDTO.builder()
+            .uuid(fromString("a19f0c93-1559-4e10-8d55-53f74ef35f72"))
+            .accountUuid(ACCOUNT_UUID)
+            .operationType(4)
+            .amount(-5L)
+            .eventDate(LocalDateTime.parse("2020-06-01T21:59:45.1"))
+            .build();
+
+    assertThat(
+        objectMapper.readValue(
+            objectMapper.writeValueAsString(transactionDTO), TransactionDTO.class),
+        is(equalTo(transactionDTO)));
+  }
+
+  @Test
+  public void deserializeWithNullFields() throws JsonProcessingException {
+    var json =
+        "{\"id\":null,\"account_id\":null,\"operation_type\":null,"
+            + "\"amount\":null,\"event_date\":null}";
+
+    assertThat(
+        objectMapper.readValue(json, TransactionDTO.class),
+        is(equalTo(TransactionDTO.builder().build())));
+  }
+
+  @Test
+  public void deserializeWithInvalidAccountId() {
+    assertThrows(
+        InvalidFormatException.class,
+        () ->
+            objectMapper.readValue(
+                "{\"account_id\":\"b2b5aa47-f0e5-4866-9ab1-12b8bd6632dz\"}", TransactionDTO.class));
+  }
+
+  @Test
+  public void deserializeWithUnexpectedToken() {
+    assertThrows(
+        MismatchedInputException.class, () -> objectMapper.readValue("[]", TransactionDTO.class));
+  }
+
+  @Test
+  public void deserializeWithUnknownFieldWhenUnknownFieldsFail() {
+    assertThrows(
+        UnrecognizedPropertyException.class,
+        () -> new ObjectMapper().readValue("{\"unknown\":1}", TransactionDTO.class));
+  }
+}
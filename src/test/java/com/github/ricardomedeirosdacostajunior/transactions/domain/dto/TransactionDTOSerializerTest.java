@@ -0,0 +1,104 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.dto;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class TransactionDTOSerializerTest {
+
+  private static final UUID TRANSACTION_UUID = fromString("a19f0c93-1559-4e10-8d55-53f74ef35f72");
+  private static final UUID ACCOUNT_UUID = fromString("b2b5aa47-f0e5-4866-9ab1-12b8bd6632d5");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T21:59:45.133455");
+
+  private final ObjectMapper objectMapper =
+      Jackson2ObjectMapperBuilder.json().featuresToDisable(WRITE_DATES_AS_TIMESTAMPS).build();
+  private final ObjectMapper reflectiveObjectMapper =
+      Jackson2ObjectMapperBuilder.json()
+          .featuresToDisable(WRITE_DATES_AS_TIMESTAMPS)
+          .mixIn(TransactionDTO.class, ReflectiveBinding.class)
+          .build();
+  private final ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
+  @Test
+  public void serialize() throws JsonProcessingException {
+    assertThat(
+        objectMapper.writeValueAsString(transactionDTO(-12_345L, EVENT_DATE)),
+        is(
+            equalTo(
+                "{\"amount\":-123.45,"
+                    + "\"id\":\"a19f0c93-1559-4e10-8d55-53f74ef35f72\","
+                    + "\"account_id\":\"b2b5aa47-f0e5-4866-9ab1-12b8bd6632d5\","
+                    + "\"operation_type\":1,"
+                    + "\"event_date\":\"2020-06-01T21:59:45.133455\"}")));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2020-06-01T21:59:45.133455777",
+        "2020-06-01T21:59:45.1",
+        "2020-06-01T21:59",
+        "0001-01-01T00:00:00.000000001",
+        "+10000-01-01T00:00"
+      })
+  public void serializeWritesTheJsonOfTheReflectiveBinding(final String eventDate)
+      throws JsonProcessingException {
+    var transactionDTO = transactionDTO(-5L, LocalDateTime.parse(eventDate));
+
+    assertThat(
+        objectMapper.writeValueAsString(transactionDTO),
+        is(equalTo(reflectiveObjectMapper.writeValueAsString(transactionDTO))));
+  }
+
+  @Test
+  public void serializeWithNullFieldsWritesTheJsonOfTheReflectiveBinding()
+      throws JsonProcessingException {
+    var transactionDTO = TransactionDTO.builder().build();
+
+    assertThat(
+        objectMapper.writeValueAsString(transactionDTO),
+        is(equalTo(reflectiveObjectMapper.writeValueAsString(transactionDTO))));
+  }
+
+  @Test
+  public void serializeToSmileIsSmallerThanJsonAndReadsBack() throws IOException {
+    var transactionDTO = transactionDTO(-12_345L, EVENT_DATE);
+
+    var smile = smileObjectMapper.writeValueAsBytes(transactionDTO);
+
+    assertThat(smile.length, is(lessThan(objectMapper.writeValueAsBytes(transactionDTO).length)));
+    assertThat(
+        smileObjectMapper.readValue(smile, TransactionDTO.class), is(equalTo(transactionDTO)));
+  }
+
+  private TransactionDTO transactionDTO(final long amount, final LocalDateTime eventDate) {
+    return TransactionDTO.builder()
+        .uuid(TRANSACTION_UUID)
+        .accountUuid(ACCOUNT_UUID)
+        .operationType(1)
+        .amount(amount)
+        .eventDate(eventDate)
+        .build();
+  }
+
+  // Mixed in, takes the place of the class annotations and brings the bean binding back.
+  @JsonSerialize
+  @JsonDeserialize
+  private abstract static class ReflectiveBinding {}
+}
@@ -0,0 +1,33 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.exception;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+public class ClientErrorExceptionTest {
+
+  @Test
+  public void clientErrorsCarryNoStackTraceNorSuppressedExceptions() {
+    var clientErrorException = InsufficientAvailableCreditLimitException.INSTANCE;
+
+    clientErrorException.addSuppressed(new IllegalStateException());
+
+    assertAll(
+        () -> assertThat(clientErrorException.getStackTrace().length, is(equalTo(0))),
+        () -> assertThat(clientErrorException.getSuppressed().length, is(equalTo(0))));
+  }
+
+  @Test
+  public void clientErrorsCarryTheirCodeAndMessage() {
+    var clientErrorException = InvalidAccountException.INSTANCE;
+
+    assertAll(
+        () -> assertThat(clientErrorException.getCode(), is(equalTo("invalid_account"))),
+        () ->
+            assertThat(
+                clientErrorException.getMessage(), is(equalTo("Account invalid or not found"))));
+  }
+}
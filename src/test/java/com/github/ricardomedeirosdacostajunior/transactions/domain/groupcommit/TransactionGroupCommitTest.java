@@ -0,0 +1,273 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.groupcommit;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.CompareAndSetRetry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionGroupCommitTest {
+
+  private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
+  private static final UUID ACCOUNT_UUID = fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+  private static final long AVAILABLE_LIMIT_CREDIT = 1_000L;
+  private static final long AMOUNT = 400L;
+  // Long enough for concurrent callers to land in the same group.
+  private static final Duration WINDOW = Duration.ofMillis(200);
+
+  @Mock private AccountService accountService;
+  @Mock private TransactionRepository transactionRepository;
+
+  @Captor private ArgumentCaptor<List<Transaction>> transactionsArgumentCaptor;
+
+  private TransactionGroupCommit transactionGroupCommit;
+  private Account account;
+
+  @BeforeEach
+  public void setup() {
+    transactionGroupCommit =
+        new TransactionGroupCommit(
+            accountService, transactionRepository, withoutTransaction(), WINDOW, 500, 2);
+    account =
+        Account.builder()
+            .uuid(ACCOUNT_UUID)
+            .documentNumber("06388715907")
+            .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
+            .build();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionGroupCommit.shutdown();
+  }
+
+  @Test
+  public void submitWritesTheLimitAndTheTransactionAndCallsAlsoPersist() {
+    var alsoPersisted = new ArrayList<Transaction>();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - AMOUNT);
+
+    var transaction = transactionGroupCommit.submit(ACCOUNT_UUID, debit(), alsoPersisted::add);
+
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(transaction.getAmount(), is(equalTo(-AMOUNT))),
+        () -> assertThat(transactionsArgumentCaptor.getValue(), is(equalTo(List.of(transaction)))),
+        () -> assertThat(alsoPersisted, is(equalTo(List.of(transaction)))));
+  }
+
+  @Test
+  public void submitAppliesConcurrentPostingsOfTheSameAccountInOneGroup() {
+    var callers = newFixedThreadPool(3);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - 2 * AMOUNT);
+
+    var results =
+        IntStream.range(0, 3)
+            .mapToObj(
+                index ->
+                    supplyAsync(
+                        () ->
+                            transactionGroupCommit.submit(
+                                ACCOUNT_UUID, debit(), transaction -> {}),
+                        callers))
+            .toArray(CompletableFuture[]::new);
+    var rejected = 0;
+    for (var result : results) {
+      try {
+        result.join();
+      } catch (CompletionException completionException) {
+        if (completionException.getCause() instanceof InsufficientAvailableCreditLimitException)
+          rejected++;
+      }
+    }
+    callers.shutdown();
+
+    var rejectedPostings = rejected;
+    verify(accountService, times(1)).findOptional(ACCOUNT_UUID);
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(rejectedPostings, is(equalTo(1))),
+        () -> assertThat(transactionsArgumentCaptor.getValue().size(), is(equalTo(2))));
+  }
+
+  @Test
+  public void submitReadsTheAccountAgainWhenTheLimitChangedMeanwhile() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(false, true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - AMOUNT);
+
+    transactionGroupCommit.submit(ACCOUNT_UUID, debit(), transaction -> {});
+
+    verify(accountService, times(2)).findOptional(ACCOUNT_UUID);
+    verify(transactionRepository, times(1)).insertAll(anyList());
+  }
+
+  @Test
+  public void submitFallsBackToAConditionalUpdateWhenTheLimitKeepsChanging() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(false)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - AMOUNT);
+
+    var transaction = transactionGroupCommit.submit(ACCOUNT_UUID, debit(), ignored -> {});
+
+    verify(accountService, times(CompareAndSetRetry.MAXIMUM_ATTEMPTS))
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - AMOUNT);
+    verify(accountService).updateAvailableCreditLimit(-AMOUNT, account);
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertThat(transactionsArgumentCaptor.getValue(), is(equalTo(List.of(transaction))));
+  }
+
+  @Test
+  public void submitWhenThePostingIsRejected() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InsufficientAvailableCreditLimitException.class,
+        () ->
+            transactionGroupCommit.submit(
+                ACCOUNT_UUID,
+                postedAccount -> transaction(postedAccount, -AVAILABLE_LIMIT_CREDIT),
+                transaction -> {}));
+
+    verify(transactionRepository, never()).insertAll(anyList());
+  }
+
+  @Test
+  public void submitRejectsOnlyThePostingWithoutAnAmount() {
+    Long nullAmount = null;
+    var callers = newFixedThreadPool(3);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - 2 * AMOUNT);
+
+    var valid =
+        IntStream.range(0, 2)
+            .mapToObj(
+                index ->
+                    supplyAsync(
+                        () ->
+                            transactionGroupCommit.submit(
+                                ACCOUNT_UUID, debit(), transaction -> {}),
+                        callers))
+            .collect(toList());
+    var withoutAmount =
+        supplyAsync(
+            () ->
+                transactionGroupCommit.submit(
+                    ACCOUNT_UUID,
+                    postedAccount -> transaction(postedAccount, nullAmount),
+                    transaction -> {}),
+            callers);
+    var completionException = assertThrows(CompletionException.class, withoutAmount::join);
+    var posted = valid.stream().map(CompletableFuture::join).collect(toList());
+    callers.shutdown();
+
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () ->
+            assertThat(
+                completionException.getCause(), is(instanceOf(NullPointerException.class))),
+        () ->
+            assertThat(
+                transactionsArgumentCaptor.getValue(), containsInAnyOrder(posted.toArray())));
+  }
+
+  @Test
+  public void submitWhenAlsoPersistFails() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(account, AVAILABLE_LIMIT_CREDIT - AMOUNT);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            transactionGroupCommit.submit(
+                ACCOUNT_UUID,
+                debit(),
+                transaction -> {
+                  throw new IllegalStateException();
+                }));
+  }
+
+  @Test
+  public void submitWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var invalidAccountException =
+        assertThrows(
+            InvalidAccountException.class,
+            () -> transactionGroupCommit.submit(ACCOUNT_UUID, debit(), transaction -> {}));
+
+    assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
+  }
+
+  @Test
+  public void submitWhenAccountIsNull() {
+    var invalidAccountException =
+        assertThrows(
+            InvalidAccountException.class,
+            () -> transactionGroupCommit.submit(null, debit(), transaction -> {}));
+
+    assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
+  }
+
+  private Function<Account, Transaction> debit() {
+    return postedAccount -> transaction(postedAccount, -AMOUNT);
+  }
+
+  private Transaction transaction(final Account postedAccount, final long amount) {
+    return Transaction.builder()
+        .uuid(UUID.randomUUID())
+        .account(postedAccount)
+        .amount(amount)
+        .build();
+  }
+}
@@ -0,0 +1,59 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.identifier;
+
+import static java.lang.System.currentTimeMillis;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.HashSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.stereotype.Service;
+
+public class TimeOrderedUuidGeneratorTest {
+
+  private static final int UUIDS = 100_000;
+
+  private final TimeOrderedUuidGenerator timeOrderedUuidGenerator = new TimeOrderedUuidGenerator();
+
+  @Test
+  public void timeOrderedUuidGeneratorClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(TimeOrderedUuidGenerator.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void nextIsAVersion7Uuid() {
+    var before = currentTimeMillis();
+    var uuid = timeOrderedUuidGenerator.next();
+    var after = currentTimeMillis();
+
+    var timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertAll(
+        () -> assertThat(uuid.version(), is(equalTo(7))),
+        () -> assertThat(uuid.variant(), is(equalTo(2))),
+        () -> assertThat(timestamp, is(greaterThanOrEqualTo(before))),
+        () -> assertThat(timestamp, is(lessThanOrEqualTo(after))));
+  }
+
+  @Test
+  public void nextIsOrderedAcrossMilliseconds() throws InterruptedException {
+    var first = timeOrderedUuidGenerator.next();
+    Thread.sleep(2);
+    var second = timeOrderedUuidGenerator.next();
+
+    assertThat(second.compareTo(first), is(greaterThan(0)));
+  }
+
+  @Test
+  public void nextDoesNotRepeat() {
+    var uuids = new HashSet<>();
+
+    IntStream.range(0, UUIDS).forEach(index -> uuids.add(timeOrderedUuidGenerator.next()));
+
+    assertThat(uuids.size(), is(equalTo(UUIDS)));
+  }
+}
@@ -0,0 +1,186 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.fromString;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JournalTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final int RECORDS_PER_SEGMENT = 4;
+
+  @TempDir Path directory;
+
+  @Test
+  public void readReturnsTheSyncedRecordsAsAppended() throws IOException {
+    var transactions = transactions(3);
+
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions.forEach(journal::append);
+      journal.sync(3);
+
+      var readTransactions = journal.read(1, 10);
+
+      assertThat(readTransactions.size(), is(equalTo(3)));
+      for (var index = 0; index < 3; index++)
+        assertSameTransaction(readTransactions.get(index), transactions.get(index));
+    }
+  }
+
+  @Test
+  public void readSkipsTheRecordsNotSyncedYet() throws IOException {
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions(2).forEach(journal::append);
+
+      assertThat(journal.read(1, 10).size(), is(equalTo(0)));
+    }
+  }
+
+  @Test
+  public void syncForcesEveryRecordAppendedSoFar() throws IOException {
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions(2).forEach(journal::append);
+      journal.sync(1);
+
+      assertThat(journal.read(1, 10).size(), is(equalTo(2)));
+    }
+  }
+
+  @Test
+  public void appendStartsANewSegmentWhenTheLastOneIsFull() throws IOException {
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions(RECORDS_PER_SEGMENT * 2 + 1).forEach(journal::append);
+      journal.sync(RECORDS_PER_SEGMENT * 2 + 1);
+
+      assertAll(
+          () -> assertThat(segmentFiles().size(), is(equalTo(3))),
+          () -> assertThat(journal.read(1, 100).size(), is(equalTo(RECORDS_PER_SEGMENT * 2 + 1))));
+    }
+  }
+
+  @Test
+  public void releaseDeletesTheSegmentsDrainedToTheEnd() throws IOException {
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions(RECORDS_PER_SEGMENT * 2 + 1).forEach(journal::append);
+      journal.sync(RECORDS_PER_SEGMENT * 2 + 1);
+
+      journal.release(RECORDS_PER_SEGMENT + 1);
+
+      assertThat(segmentFiles().size(), is(equalTo(2)));
+    }
+  }
+
+  @Test
+  public void reopenKeepsTheRecordsAfterTheDrainedSequence() throws IOException {
+    var transactions = transactions(3);
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions.forEach(journal::append);
+      journal.sync(3);
+    }
+
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 1)) {
+      var readTransactions = journal.read(2, 10);
+
+      assertAll(
+          () -> assertThat(readTransactions.size(), is(equalTo(2))),
+          () -> assertSameTransaction(readTransactions.get(0), transactions.get(1)),
+          () -> assertThat(journal.append(transactions(1).get(0)), is(equalTo(4L))));
+    }
+  }
+
+  @Test
+  public void reopenClearsATornRecordAndEverythingAfterIt() throws IOException {
+    var transactions = transactions(3);
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions.forEach(journal::append);
+      journal.sync(3);
+    }
+    tearRecord(2);
+
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      var newTransaction = transactions(1).get(0);
+      var sequence = journal.append(newTransaction);
+      journal.sync(sequence);
+      var readTransactions = journal.read(1, 10);
+
+      assertAll(
+          () -> assertThat(sequence, is(equalTo(2L))),
+          () -> assertThat(readTransactions.size(), is(equalTo(2))),
+          () -> assertSameTransaction(readTransactions.get(1), newTransaction));
+    }
+  }
+
+  @Test
+  public void reopenAfterEverythingWasDrainedStartsOver() throws IOException {
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 0)) {
+      transactions(2).forEach(journal::append);
+      journal.sync(2);
+    }
+
+    try (var journal = new Journal(directory, RECORDS_PER_SEGMENT, 2)) {
+      assertAll(
+          () -> assertThat(segmentFiles().size(), is(equalTo(0))),
+          () -> assertThat(journal.append(transactions(1).get(0)), is(equalTo(3L))));
+    }
+  }
+
+  private void tearRecord(final long sequence) throws IOException {
+    try (var channel = FileChannel.open(segmentFiles().get(0), WRITE)) {
+      channel.write(
+          ByteBuffer.wrap(new byte[] {1, 2, 3}),
+          (sequence - 1) * JournalSegment.RECORD_SIZE + 30);
+    }
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (var files = Files.list(directory)) {
+      return files
+          .filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+          .sorted()
+          .collect(toList());
+    }
+  }
+
+  private void assertSameTransaction(final Transaction actual, final Transaction expected) {
+    assertAll(
+        () -> assertThat(actual.getUuid(), is(equalTo(expected.getUuid()))),
+        () -> assertThat(actual.getAccount().getUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(actual.getAmount(), is(equalTo(expected.getAmount()))),
+        () -> assertThat(actual.getEventDate(), is(equalTo(expected.getEventDate()))),
+        () -> assertThat(actual.getOperationType(), is(equalTo(expected.getOperationType()))));
+  }
+
+  private List<Transaction> transactions(final int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(
+            index ->
+                Transaction.builder()
+                    .uuid(randomUUID())
+                    .account(Account.builder().uuid(ACCOUNT_UUID).build())
+                    .operationType(IN_CASH)
+                    .eventDate(now())
+                    .amount(-index * 100L)
+                    .build())
+        .collect(toList());
+  }
+}
@@ -0,0 +1,256 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.journal;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.time.LocalDateTime.now;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.JournalCheckpoint;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.JournalCheckpointRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionJournalTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+  private static final long AVAILABLE_LIMIT_CREDIT = 10_000L;
+  private static final long AMOUNT = 1_000L;
+  private static final int DRAIN_BATCH_SIZE = 100;
+
+  @TempDir Path directory;
+
+  @Mock private AccountService accountService;
+  @Mock private TransactionRepository transactionRepository;
+  @Mock private JournalCheckpointRepository journalCheckpointRepository;
+
+  @Captor private ArgumentCaptor<List<Transaction>> transactionsArgumentCaptor;
+  @Captor private ArgumentCaptor<JournalCheckpoint> journalCheckpointArgumentCaptor;
+
+  private final List<TransactionJournal> transactionJournals = new ArrayList<>();
+  private TransactionJournal transactionJournal;
+  private Account account;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    doReturn(empty()).when(journalCheckpointRepository).findById(any());
+    transactionJournal = startTransactionJournal();
+    account =
+        Account.builder()
+            .uuid(ACCOUNT_UUID)
+            .documentNumber("06388715907")
+            .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
+            .build();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    for (var journal : transactionJournals) journal.shutdown();
+  }
+
+  @Test
+  public void appendAcknowledgesBeforeTheDatabaseIsWritten() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var transaction = transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+
+    assertAll(
+        () -> assertThat(transaction.getAmount(), is(equalTo(-AMOUNT))),
+        () -> assertThat(transactionJournal.undrained(), is(equalTo(1L))));
+    verify(transactionRepository, never()).insertAll(any());
+  }
+
+  @Test
+  public void appendKeepsTheBalanceInMemoryUntilDrained() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    transactionJournal.append(ACCOUNT_UUID, debit(AVAILABLE_LIMIT_CREDIT / 2), ignored -> {});
+
+    assertThrows(
+        InsufficientAvailableCreditLimitException.class,
+        () ->
+            transactionJournal.append(
+                ACCOUNT_UUID, debit(AVAILABLE_LIMIT_CREDIT / 2), ignored -> {}));
+    verify(accountService, times(1)).findOptional(ACCOUNT_UUID);
+  }
+
+  @Test
+  public void appendWhenTheLimitIsNotEnoughJournalsNothing() {
+    var persisted = new ArrayList<Transaction>();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InsufficientAvailableCreditLimitException.class,
+        () ->
+            transactionJournal.append(ACCOUNT_UUID, debit(AVAILABLE_LIMIT_CREDIT), persisted::add));
+
+    assertAll(
+        () -> assertThat(persisted.size(), is(equalTo(0))),
+        () -> assertThat(transactionJournal.undrained(), is(equalTo(0L))));
+  }
+
+  @Test
+  public void appendWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InvalidAccountException.class,
+        () -> transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {}));
+  }
+
+  @Test
+  public void drainWritesABatchAndItsCheckpointTogether() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    var first = transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+    var second = transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+
+    var drained = transactionJournal.drain();
+
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    verify(accountService).forceUpdateAvailableCreditLimit(eq(-2 * AMOUNT), any(Account.class));
+    verify(journalCheckpointRepository).save(journalCheckpointArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(drained, is(equalTo(2))),
+        () ->
+            assertThat(
+                uuids(transactionsArgumentCaptor.getValue()),
+                contains(first.getUuid(), second.getUuid())),
+        () ->
+            assertThat(
+                journalCheckpointArgumentCaptor.getValue().getDrainedSequence(), is(equalTo(2L))),
+        () -> assertThat(transactionJournal.undrained(), is(equalTo(0L))));
+  }
+
+  @Test
+  public void drainOnScheduleKeepsTheEventDateOfTheOldestUndrainedTransaction() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    var first = transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+    transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+    doThrow(new IllegalStateException("database down"))
+        .doNothing()
+        .when(transactionRepository)
+        .insertAll(any());
+
+    transactionJournal.drainOnSchedule();
+    var undrainedSinceDuringTheOutage = transactionJournal.undrainedSince();
+    transactionJournal.drainOnSchedule();
+
+    assertAll(
+        () -> assertThat(undrainedSinceDuringTheOutage, is(equalTo(of(first.getEventDate())))),
+        () -> assertThat(transactionJournal.undrainedSince(), is(equalTo(empty()))));
+  }
+
+  @Test
+  public void settledBeforeStaysBehindTheOldestUndrainedTransaction() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    var first = transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+    doThrow(new IllegalStateException("database down"))
+        .when(transactionRepository)
+        .insertAll(any());
+    transactionJournal.drainOnSchedule();
+
+    var settledBefore =
+        TransactionJournal.settledBefore(of(transactionJournal), Duration.ofMinutes(1));
+
+    assertThat(settledBefore, is(equalTo(first.getEventDate().minusMinutes(1))));
+  }
+
+  @Test
+  public void appendAfterDrainReloadsTheAccount() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+    transactionJournal.drain();
+
+    transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {});
+
+    verify(accountService, times(2)).findOptional(ACCOUNT_UUID);
+  }
+
+  @Test
+  public void startReplaysOnlyTheRecordsAfterTheCheckpoint() throws IOException {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    var transactions = new ArrayList<Transaction>();
+    for (var index = 0; index < 3; index++)
+      transactions.add(transactionJournal.append(ACCOUNT_UUID, debit(AMOUNT), ignored -> {}));
+    doReturn(of(JournalCheckpoint.builder().journalUuid(randomUUID()).drainedSequence(1).build()))
+        .when(journalCheckpointRepository)
+        .findById(any());
+
+    startTransactionJournal();
+
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    verify(accountService).forceUpdateAvailableCreditLimit(eq(-2 * AMOUNT), any(Account.class));
+    assertThat(
+        uuids(transactionsArgumentCaptor.getValue()),
+        contains(transactions.get(1).getUuid(), transactions.get(2).getUuid()));
+  }
+
+  private TransactionJournal startTransactionJournal() throws IOException {
+    var journal =
+        new TransactionJournal(
+            accountService,
+            transactionRepository,
+            journalCheckpointRepository,
+            withoutTransaction(),
+            directory.toString(),
+            16,
+            DRAIN_BATCH_SIZE,
+            Duration.ofHours(1));
+    journal.start();
+    transactionJournals.add(journal);
+
+    return journal;
+  }
+
+  private List<UUID> uuids(final List<Transaction> transactions) {
+    return transactions.stream().map(Transaction::getUuid).collect(toList());
+  }
+
+  private Function<Account, Transaction> debit(final long amount) {
+    return account ->
+        Transaction.builder()
+            .uuid(randomUUID())
+            .account(account)
+            .operationType(IN_CASH)
+            .eventDate(now())
+            .amount(-amount)
+            .build();
+  }
+}
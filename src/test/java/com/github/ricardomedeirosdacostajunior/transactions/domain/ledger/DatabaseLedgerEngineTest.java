@@ -0,0 +1,68 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.ledger;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabaseLedgerEngineTest {
+
+  private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
+  private static final UUID ACCOUNT_UUID = fromString("5c1b3a2e-6a4f-4d0e-9a57-2a3c4b5d6e7f");
+
+  @InjectMocks private DatabaseLedgerEngine databaseLedgerEngine;
+
+  @Mock private AccountService accountService;
+
+  @Test
+  public void databaseLedgerEngineClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(DatabaseLedgerEngine.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void post() {
+    var account = Account.builder().uuid(ACCOUNT_UUID).availableCreditLimit(1_000L).build();
+    var transaction = Transaction.builder().account(account).amount(1_000L).build();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var actualTransaction =
+        databaseLedgerEngine.post(
+            ACCOUNT_UUID,
+            postedAccount -> {
+              assertThat(postedAccount, is(sameInstance(account)));
+              return transaction;
+            });
+
+    assertThat(actualTransaction, is(sameInstance(transaction)));
+  }
+
+  @Test
+  public void postWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var invalidAccountException =
+        assertThrows(
+            InvalidAccountException.class,
+            () -> databaseLedgerEngine.post(ACCOUNT_UUID, account -> null));
+
+    assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
+  }
+}
@@ -0,0 +1,160 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.ledger;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.service.AccountService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardedLedgerEngineTest {
+
+  private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
+  private static final UUID ACCOUNT_UUID = fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+  private static final long AVAILABLE_LIMIT_CREDIT = 100_000L;
+  private static final long AMOUNT = 100L;
+  private static final int POSTINGS = 500;
+
+  @Mock private AccountService accountService;
+
+  private ShardedLedgerEngine shardedLedgerEngine;
+  private Account account;
+
+  @BeforeEach
+  public void setup() {
+    shardedLedgerEngine = new ShardedLedgerEngine(accountService, withoutTransaction(), 4);
+    account =
+        Account.builder()
+            .uuid(ACCOUNT_UUID)
+            .documentNumber("06388715907")
+            .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
+            .build();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    shardedLedgerEngine.shutdown();
+  }
+
+  @Test
+  public void postReadsTheAccountOfEveryPosting() {
+    var postedLimits = new ArrayList<Long>();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    shardedLedgerEngine.post(ACCOUNT_UUID, debit(AMOUNT, postedLimits));
+    shardedLedgerEngine.post(ACCOUNT_UUID, debit(AMOUNT, postedLimits));
+
+    // The limit is checked by the database, no balance is carried from one posting to the next.
+    verify(accountService, times(2)).findOptional(ACCOUNT_UUID);
+    assertThat(postedLimits, is(equalTo(List.of(AVAILABLE_LIMIT_CREDIT, AVAILABLE_LIMIT_CREDIT))));
+  }
+
+  @Test
+  public void postAppliesConcurrentPostingsOfTheSameAccountOneAtATime() {
+    var inFlight = new AtomicInteger();
+    var maximumInFlight = new AtomicInteger();
+    var postings = new AtomicInteger();
+    var callers = newFixedThreadPool(8);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    CompletableFuture.allOf(
+            IntStream.range(0, POSTINGS)
+                .mapToObj(
+                    index ->
+                        runAsync(
+                            () ->
+                                shardedLedgerEngine.post(
+                                    ACCOUNT_UUID,
+                                    postedAccount -> {
+                                      maximumInFlight.accumulateAndGet(
+                                          inFlight.incrementAndGet(), Math::max);
+                                      postings.incrementAndGet();
+                                      inFlight.decrementAndGet();
+                                      return transaction(postedAccount, -AMOUNT);
+                                    }),
+                            callers))
+                .toArray(CompletableFuture[]::new))
+        .join();
+    callers.shutdown();
+
+    assertAll(
+        () -> assertThat(maximumInFlight.get(), is(equalTo(1))),
+        () -> assertThat(postings.get(), is(equalTo(POSTINGS))));
+  }
+
+  @Test
+  public void postWhenThePostingIsRejected() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InsufficientAvailableCreditLimitException.class,
+        () ->
+            shardedLedgerEngine.post(
+                ACCOUNT_UUID,
+                postedAccount -> {
+                  throw InsufficientAvailableCreditLimitException.INSTANCE;
+                }));
+  }
+
+  @Test
+  public void postWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var invalidAccountException =
+        assertThrows(
+            InvalidAccountException.class,
+            () -> shardedLedgerEngine.post(ACCOUNT_UUID, postedAccount -> null));
+
+    assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
+  }
+
+  @Test
+  public void postWhenAccountIsNull() {
+    var invalidAccountException =
+        assertThrows(
+            InvalidAccountException.class,
+            () -> shardedLedgerEngine.post(null, postedAccount -> null));
+
+    assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
+  }
+
+  private Function<Account, Transaction> debit(
+      final long amount, final ArrayList<Long> postedLimits) {
+    return postedAccount -> {
+      postedLimits.add(postedAccount.getAvailableCreditLimit());
+      return transaction(postedAccount, -amount);
+    };
+  }
+
+  private Transaction transaction(final Account postedAccount, final long amount) {
+    return Transaction.builder().account(postedAccount).amount(amount).build();
+  }
+}
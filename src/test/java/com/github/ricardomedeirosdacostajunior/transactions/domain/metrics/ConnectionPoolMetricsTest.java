@@ -0,0 +1,54 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.metrics;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionPoolMetricsTest {
+
+  private static final String SATURATION_GAUGE = "transactions.datasource.saturation";
+
+  @Mock private DataSource dataSource;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  public void bindToRegistersTheSaturationOfAHikariPool() {
+    try (var hikariDataSource = new HikariDataSource()) {
+      new ConnectionPoolMetrics(hikariDataSource).bindTo(meterRegistry);
+
+      assertThat(meterRegistry.get(SATURATION_GAUGE).gauge().value(), is(equalTo(0.0)));
+    }
+  }
+
+  @Test
+  public void bindToRegistersTheSaturationOfThePrimaryBehindReplicaRouting() {
+    try (var hikariDataSource = new HikariDataSource()) {
+      var routingDataSource = new ReplicaRoutingDataSource(hikariDataSource, List.of());
+      routingDataSource.afterPropertiesSet();
+
+      new ConnectionPoolMetrics(routingDataSource).bindTo(meterRegistry);
+
+      assertThat(meterRegistry.get(SATURATION_GAUGE).gauge().value(), is(equalTo(0.0)));
+    }
+  }
+
+  @Test
+  public void bindToIgnoresOtherDataSources() {
+    new ConnectionPoolMetrics(dataSource).bindTo(meterRegistry);
+
+    assertThat(meterRegistry.find(SATURATION_GAUGE).gauge(), is(nullValue()));
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class CentsDeserializerTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new SimpleModule().addDeserializer(Long.class, new CentsDeserializer()));
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {"123.45 | 12345", "10 | 1000", "-0.5 | -50", "\"99.99\" | 9999", "1.5e2 | 15000"})
+  public void deserialize(final String json, final long expectedCents)
+      throws JsonProcessingException {
+    assertThat(objectMapper.readValue(json, Long.class), is(equalTo(expectedCents)));
+  }
+
+  @Test
+  public void deserializeWithInvalidAmount() {
+    assertThrows(
+        InvalidFormatException.class, () -> objectMapper.readValue("\"ten\"", Long.class));
+  }
+
+  @Test
+  public void deserializeWithUnexpectedToken() {
+    assertThrows(MismatchedInputException.class, () -> objectMapper.readValue("[]", Long.class));
+  }
+}
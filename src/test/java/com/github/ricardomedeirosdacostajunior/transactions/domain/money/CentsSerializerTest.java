@@ -0,0 +1,40 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class CentsSerializerTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().registerModule(new SimpleModule().addSerializer(new CentsSerializer()));
+  private final ObjectMapper smileObjectMapper =
+      new ObjectMapper(new SmileFactory())
+          .registerModule(new SimpleModule().addSerializer(new CentsSerializer()));
+
+  @ParameterizedTest
+  @CsvSource({"12345, 123.45", "-1000, -10.00", "7, 0.07"})
+  public void serialize(final long cents, final String expectedJson)
+      throws JsonProcessingException {
+    assertThat(objectMapper.writeValueAsString(cents), is(equalTo(expectedJson)));
+  }
+
+  @Test
+  public void serializeToSmileWritesTheDecimal() throws IOException {
+    var smile = smileObjectMapper.writeValueAsBytes(-1_005L);
+
+    assertThat(
+        smileObjectMapper.readValue(smile, BigDecimal.class),
+        is(equalTo(new BigDecimal("-10.05"))));
+  }
+}
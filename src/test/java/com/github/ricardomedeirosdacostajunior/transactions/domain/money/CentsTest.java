@@ -0,0 +1,58 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.money;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CentsTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "0, 0",
+    "10, 1000",
+    "10.5, 1050",
+    "-10.05, -1005",
+    "+0.01, 1",
+    ".5, 50",
+    "123.454, 12345",
+    "123.455, 12346",
+    "-123.455, -12346",
+    "0.999, 100"
+  })
+  public void parse(final String amount, final long expectedCents) {
+    var characters = amount.toCharArray();
+
+    assertThat(Cents.parse(characters, 0, characters.length), is(equalTo(expectedCents)));
+    assertThat(Cents.fromDecimal(new BigDecimal(amount)), is(equalTo(expectedCents)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "-", ".", "1e2", "1.2.3", "12a"})
+  public void parseWithInvalidAmounts(final String amount) {
+    var characters = amount.toCharArray();
+
+    assertThrows(
+        NumberFormatException.class, () -> Cents.parse(characters, 0, characters.length));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"92233720368547758.08", "100000000000000000000"})
+  public void parseWithAmountsTooLarge(final String amount) {
+    var characters = amount.toCharArray();
+
+    assertThrows(ArithmeticException.class, () -> Cents.parse(characters, 0, characters.length));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0.00", "5, 0.05", "-5, -0.05", "1050, 10.50", "-12345, -123.45"})
+  public void format(final long cents, final String expectedAmount) {
+    assertThat(Cents.format(cents), is(equalTo(expectedAmount)));
+    assertThat(Cents.toDecimal(cents).toPlainString(), is(equalTo(expectedAmount)));
+  }
+}
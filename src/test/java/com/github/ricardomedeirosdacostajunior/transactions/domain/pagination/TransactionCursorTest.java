@@ -0,0 +1,43 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.pagination;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidCursorException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TransactionCursorTest {
+
+  private static final UUID TRANSACTION_UUID = fromString("a19f0c93-1559-4e10-8d55-53f74ef35f72");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T21:59:45.133455");
+  private static final String CURSOR =
+      "MjAyMC0wNi0wMVQyMTo1OTo0NS4xMzM0NTVfYTE5ZjBjOTMtMTU1OS00ZTEwLThkNTUtNTNmNzRlZjM1Zjcy";
+
+  @Test
+  public void encode() {
+    var transaction = Transaction.builder().uuid(TRANSACTION_UUID).eventDate(EVENT_DATE).build();
+
+    assertThat(TransactionCursor.after(transaction).encode(), is(equalTo(CURSOR)));
+  }
+
+  @Test
+  public void decode() {
+    assertThat(
+        TransactionCursor.decode(CURSOR),
+        is(equalTo(new TransactionCursor(EVENT_DATE, TRANSACTION_UUID))));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "not base64!", "MjAyMC0wNi0wMQ", "YV9i"})
+  public void decodeWhenTheCursorIsInvalid(final String cursor) {
+    assertThrows(InvalidCursorException.class, () -> TransactionCursor.decode(cursor));
+  }
+}
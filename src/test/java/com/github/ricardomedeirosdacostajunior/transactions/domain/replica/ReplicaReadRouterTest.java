@@ -0,0 +1,196 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.replica;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/** Two H2 databases stand in for the primary and its replica, replication is done by hand. */
+public class ReplicaReadRouterTest {
+
+  private static final String SELECT_NAME = "select name from database_name";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private JdbcTemplate primary;
+  private JdbcTemplate replica;
+  private JdbcTemplate routed;
+  private ReplicaReadRouter replicaReadRouter;
+
+  @BeforeEach
+  public void setup() {
+    var primaryDataSource = database("primary");
+    var replicaDataSource = database("replica");
+    var routingDataSource =
+        new ReplicaRoutingDataSource(primaryDataSource, List.of(replicaDataSource));
+    routingDataSource.afterPropertiesSet();
+
+    primary = new JdbcTemplate(primaryDataSource);
+    replica = new JdbcTemplate(replicaDataSource);
+    routed = new JdbcTemplate(routingDataSource);
+    replicaReadRouter =
+        new ReplicaReadRouter(
+            routingDataSource,
+            Duration.ofSeconds(1),
+            Duration.ofMillis(20),
+            Duration.ofHours(1),
+            4);
+    replicaReadRouter.bindTo(meterRegistry);
+  }
+
+  @AfterEach
+  public void shutdown() {
+    replicaReadRouter.shutdown();
+  }
+
+  @Test
+  public void readsFromTheReplicaInSync() {
+    replicaReadRouter.beat();
+    replicate();
+    replicaReadRouter.beat();
+
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("replica")));
+    assertThat(reads("replica"), is(equalTo(1.0)));
+  }
+
+  @Test
+  public void readsFromThePrimaryBeforeTheFirstHeartbeat() {
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("primary")));
+    assertThat(reads("primary"), is(equalTo(1.0)));
+  }
+
+  @Test
+  public void readsFromThePrimaryWhenTheReplicaLags() {
+    replica.update("update replica_heartbeat set beat = ?", currentTimeMillis() - 5_000);
+    replicaReadRouter.beat();
+
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("primary")));
+  }
+
+  @Test
+  public void readsFromThePrimaryWhenTheReplicaIsUnreachable() {
+    replica.execute("drop table replica_heartbeat");
+    replicaReadRouter.beat();
+
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("primary")));
+  }
+
+  @Test
+  public void countsTheFailedHeartbeats() {
+    primary.execute("drop table replica_heartbeat");
+    replica.execute("drop table replica_heartbeat");
+
+    replicaReadRouter.beat();
+    replicaReadRouter.beat();
+
+    assertThat(heartbeatFailures("primary"), is(equalTo(2.0)));
+    assertThat(heartbeatFailures("replica"), is(equalTo(2.0)));
+  }
+
+  @Test
+  public void readsAgainFromThePrimaryWhenTheReplicaFails() {
+    replicaReadRouter.beat();
+    replicate();
+    replicaReadRouter.beat();
+    replica.execute("drop table database_name");
+
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("primary")));
+    // Skipped until a heartbeat finds it again.
+    assertThat(replicaReadRouter.read(this::databaseName), is(equalTo("primary")));
+  }
+
+  @Test
+  public void hedgesASlowReadOnThePrimary() {
+    replicaReadRouter.beat();
+    replicate();
+    replicaReadRouter.beat();
+    var start = nanoTime();
+
+    var name =
+        replicaReadRouter.read(
+            () -> {
+              if (ReadTarget.isReplica()) LockSupport.parkNanos(SECONDS.toNanos(1));
+
+              return databaseName();
+            });
+
+    assertThat(name, is(equalTo("primary")));
+    assertThat(nanoTime() - start, is(lessThan(SECONDS.toNanos(1))));
+    assertThat(meterRegistry.get("transactions.replica.hedged").functionCounter().count(), is(1.0));
+  }
+
+  @Test
+  public void clientErrorsAreNotReadAgain() {
+    replicaReadRouter.beat();
+    replicate();
+    replicaReadRouter.beat();
+    var attempts = new AtomicInteger();
+
+    assertThrows(
+        InvalidAccountException.class,
+        () ->
+            replicaReadRouter.read(
+                () -> {
+                  attempts.incrementAndGet();
+                  throw InvalidAccountException.INSTANCE;
+                }));
+    assertThat(attempts.get(), is(1));
+  }
+
+  private String databaseName() {
+    return routed.queryForObject(SELECT_NAME, String.class);
+  }
+
+  private void replicate() {
+    replica.update(
+        "update replica_heartbeat set beat = ?",
+        primary.queryForObject("select beat from replica_heartbeat", Long.class));
+  }
+
+  private double reads(final String target) {
+    return meterRegistry
+        .get("transactions.replica.reads")
+        .tag("target", target)
+        .functionCounter()
+        .count();
+  }
+
+  private double heartbeatFailures(final String target) {
+    return meterRegistry
+        .get("transactions.replica.heartbeat.failures")
+        .tag("target", target)
+        .functionCounter()
+        .count();
+  }
+
+  private static DataSource database(final String name) {
+    var dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:" + name + randomUUID() + ";DB_CLOSE_DELAY=-1");
+    var jdbcTemplate = new JdbcTemplate(dataSource);
+
+    jdbcTemplate.execute("create table replica_heartbeat(id integer primary key, beat bigint)");
+    jdbcTemplate.execute("insert into replica_heartbeat(id, beat) values (1, 0)");
+    jdbcTemplate.execute("create table database_name(name varchar(16))");
+    jdbcTemplate.update("insert into database_name(name) values (?)", name);
+
+    return dataSource;
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountInsertRepositoryImplTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("a2b4c6d8-1e3f-4a5b-8c7d-9e0f1a2b3c4d");
+  private static final String DOCUMENT_NUMBER = "06388715907";
+  private static final long AVAILABLE_CREDIT_LIMIT = 1_000L;
+  private static final String INSERT =
+      "insert into account(uuid, document_number, available_credit_limit) "
+          + "values (:uuid, :documentNumber, :availableCreditLimit)";
+
+  @InjectMocks private AccountInsertRepositoryImpl accountInsertRepository;
+
+  @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<MapSqlParameterSource> parametersArgumentCaptor;
+
+  @Test
+  public void insertIssuesASingleStatement() {
+    var account =
+        Account.builder()
+            .uuid(ACCOUNT_UUID)
+            .documentNumber(DOCUMENT_NUMBER)
+            .availableCreditLimit(AVAILABLE_CREDIT_LIMIT)
+            .build();
+
+    var actualAccount = accountInsertRepository.insert(account);
+
+    verify(jdbcTemplate).update(eq(INSERT), parametersArgumentCaptor.capture());
+    verifyNoMoreInteractions(jdbcTemplate);
+    var parameters = parametersArgumentCaptor.getValue();
+    assertAll(
+        () -> assertThat(actualAccount, is(sameInstance(account))),
+        () -> assertThat(parameters.getValue("uuid"), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(parameters.getValue("documentNumber"), is(equalTo(DOCUMENT_NUMBER))),
+        () ->
+            assertThat(
+                parameters.getValue("availableCreditLimit"), is(equalTo(AVAILABLE_CREDIT_LIMIT))));
+  }
+}
@@ -1,16 +1,14 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
 
-import static java.math.BigDecimal.valueOf;
 import static java.util.UUID.*;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNull.notNullValue;
-import static org.hamcrest.number.BigDecimalCloseTo.closeTo;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
-import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -26,7 +24,7 @@ public class AccountRepositoryIT {
         Account.builder()
             .uuid(fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406"))
             .documentNumber("666")
-            .availableCreditLimit(valueOf(5000))
+            .availableCreditLimit(500_000L)
             .build();
 
     var actualAccount = accountRepository.save(account);
@@ -34,11 +32,29 @@ public class AccountRepositoryIT {
     assertThat(actualAccount, is(notNullValue()));
   }
 
+  @Test
+  public void insert() {
+    var uuid = fromString("6f1c2d3e-4b5a-4c6d-8e7f-9a0b1c2d3e4f");
+    var account =
+        Account.builder()
+            .uuid(uuid)
+            .documentNumber("777")
+            .availableCreditLimit(500_000L)
+            .build();
+
+    accountRepository.insert(account);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(actualAccount.getDocumentNumber(), is(equalTo("777"))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(500_000L))));
+  }
+
   @Test
   public void find() {
     var expectedUUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
     var expectedDocumentNumber = "06388715907";
-    var expectedAvailableCreditLimit = BigDecimal.valueOf(1000.00);
+    var expectedAvailableCreditLimit = 100_000L;
 
     var actualAccount = accountRepository.findById(expectedUUID).orElseThrow();
 
@@ -48,7 +64,7 @@ public class AccountRepositoryIT {
         () ->
             assertThat(
                 actualAccount.getAvailableCreditLimit(),
-                is(closeTo(expectedAvailableCreditLimit, valueOf(1)))));
+                is(equalTo(expectedAvailableCreditLimit))));
   }
 
   @Test
@@ -59,4 +75,83 @@ public class AccountRepositoryIT {
 
     assertThat(actualAccount.isEmpty(), is(true));
   }
+
+  @Test
+  public void addToAvailableCreditLimit() {
+    var uuid = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
+    var updatedAccounts = accountRepository.addToAvailableCreditLimit(uuid, -10_000L);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(updatedAccounts, is(equalTo(1))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(90_000L))));
+  }
+
+  @Test
+  public void addToAvailableCreditLimitWhenLimitIsInsufficient() {
+    var uuid = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
+    var updatedAccounts = accountRepository.addToAvailableCreditLimit(uuid, -100_000L);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(updatedAccounts, is(equalTo(0))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(100_000L))));
+  }
+
+  @Test
+  public void forceAddToAvailableCreditLimitWhenLimitIsInsufficient() {
+    var uuid = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
+    var updatedAccounts = accountRepository.forceAddToAvailableCreditLimit(uuid, -150_000L);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(updatedAccounts, is(equalTo(1))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(-50_000L))));
+  }
+
+  @Test
+  public void replaceAvailableCreditLimitWhenLimitChangedConcurrently() {
+    var uuid = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
+    var updatedAccounts = accountRepository.replaceAvailableCreditLimit(uuid, 99_900L, 50_000L);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(updatedAccounts, is(equalTo(0))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(100_000L))));
+  }
+
+  @Test
+  public void replaceAvailableCreditLimit() {
+    var uuid = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
+    var updatedAccounts = accountRepository.replaceAvailableCreditLimit(uuid, 100_000L, 50_000L);
+
+    var actualAccount = accountRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(updatedAccounts, is(equalTo(1))),
+        () -> assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(50_000L))));
+  }
+
+  @Test
+  public void findUuidsWalksTheRangeInOrder() {
+    var first = fromString("11111111-4b5a-4c6d-8e7f-9a0b1c2d3e4f");
+    var second = fromString("22222222-4b5a-4c6d-8e7f-9a0b1c2d3e4f");
+    var from = fromString("10000000-0000-0000-0000-000000000000");
+    var to = fromString("30000000-0000-0000-0000-000000000000");
+    accountRepository.insert(
+        Account.builder().uuid(second).documentNumber("888").availableCreditLimit(0L).build());
+    accountRepository.insert(
+        Account.builder().uuid(first).documentNumber("999").availableCreditLimit(0L).build());
+
+    var firstChunk = accountRepository.findUuids(from, to, null, 1);
+    var secondChunk = accountRepository.findUuids(from, to, first, 10);
+
+    assertAll(
+        () -> assertThat(firstChunk, is(equalTo(List.of(first)))),
+        () -> assertThat(secondChunk, is(equalTo(List.of(second)))));
+  }
 }
@@ -0,0 +1,105 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class BalanceSnapshotRepositoryIT {
+
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T21:59:45");
+
+  @Autowired private BalanceSnapshotRepository balanceSnapshotRepository;
+  @Autowired private TransactionRepository transactionRepository;
+
+  private Transaction first;
+  private Transaction second;
+  private Transaction third;
+
+  @BeforeEach
+  public void setup() {
+    first = aTransaction("3b0c6a52-1d2e-4f3a-8b4c-5d6e7f8a9b01", EVENT_DATE, -1_000L);
+    second = aTransaction("3b0c6a52-1d2e-4f3a-8b4c-5d6e7f8a9b02", EVENT_DATE.plusHours(1), -500L);
+    third = aTransaction("3b0c6a52-1d2e-4f3a-8b4c-5d6e7f8a9b03", EVENT_DATE.plusHours(2), -250L);
+    transactionRepository.insertAll(List.of(first, second, third));
+  }
+
+  @Test
+  public void findAvailableCreditLimitBefore() {
+    assertAll(
+        () ->
+            assertThat(
+                balanceSnapshotRepository.findAvailableCreditLimitBefore(ACCOUNT_UUID, null).get(),
+                is(equalTo(101_750L))),
+        () ->
+            assertThat(
+                balanceSnapshotRepository
+                    .findAvailableCreditLimitBefore(ACCOUNT_UUID, EVENT_DATE)
+                    .get(),
+                is(equalTo(100_750L))),
+        () ->
+            assertThat(
+                balanceSnapshotRepository
+                    .findAvailableCreditLimitBefore(first.getUuid(), null)
+                    .isPresent(),
+                is(false)));
+  }
+
+  @Test
+  public void findLatestAndSumTransactionsAfter() {
+    var opening = BalanceSnapshot.opening(ACCOUNT_UUID, 101_750L);
+    var afterFirst =
+        BalanceSnapshot.builder()
+            .transactionUuid(first.getUuid())
+            .accountUuid(ACCOUNT_UUID)
+            .eventDate(first.getEventDate())
+            .availableCreditLimit(100_750L)
+            .build();
+    balanceSnapshotRepository.insert(opening);
+    balanceSnapshotRepository.insert(afterFirst);
+
+    var latest = balanceSnapshotRepository.findLatest(ACCOUNT_UUID, null).orElseThrow();
+    var latestBeforeFirst =
+        balanceSnapshotRepository
+            .findLatest(ACCOUNT_UUID, EVENT_DATE.minusSeconds(1))
+            .orElseThrow();
+    var upToSecond =
+        balanceSnapshotRepository.sumTransactionsAfter(
+            latest, TransactionCursor.after(second), null);
+    var untilThird =
+        balanceSnapshotRepository.sumTransactionsAfter(latest, null, third.getEventDate());
+
+    assertAll(
+        () -> assertThat(latest.getTransactionUuid(), is(equalTo(first.getUuid()))),
+        () -> assertThat(latestBeforeFirst.getTransactionUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(upToSecond, is(equalTo(new TransactionTotal(1, -500L)))),
+        () -> assertThat(untilThird, is(equalTo(new TransactionTotal(2, -750L)))));
+  }
+
+  private Transaction aTransaction(
+      final String uuid, final LocalDateTime eventDate, final long amount) {
+    return Transaction.builder()
+        .uuid(fromString(uuid))
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .eventDate(eventDate)
+        .operationType(IN_CASH)
+        .amount(amount)
+        .build();
+  }
+}
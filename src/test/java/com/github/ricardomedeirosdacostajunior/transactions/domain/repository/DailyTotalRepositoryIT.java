@@ -0,0 +1,128 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+public class DailyTotalRepositoryIT {
+
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T10:00:00");
+  private static final LocalDate DAY = EVENT_DATE.toLocalDate();
+
+  @Autowired private DailyTotalRepository dailyTotalRepository;
+  @Autowired private TransactionRepository transactionRepository;
+  @Autowired private TestEntityManager testEntityManager;
+
+  private Transaction first;
+  private Transaction second;
+  private Transaction third;
+
+  @BeforeEach
+  public void setup() {
+    first = aTransaction("9c4d2e6f-1a3b-4c5d-8e7f-0a1b2c3d4e01", IN_CASH, EVENT_DATE, -1_000L);
+    second =
+        aTransaction(
+            "9c4d2e6f-1a3b-4c5d-8e7f-0a1b2c3d4e02", IN_CASH, EVENT_DATE.plusHours(1), -250L);
+    third =
+        aTransaction("9c4d2e6f-1a3b-4c5d-8e7f-0a1b2c3d4e03", PAYMENT, EVENT_DATE.plusDays(1), 500L);
+    transactionRepository.insertAll(List.of(first, second, third));
+  }
+
+  @Test
+  public void findByDaysAddsTheTransactionsNotFoldedYet() {
+    var dailyTotals = dailyTotalRepository.findByDays(ACCOUNT_UUID, DAY, DAY.plusDays(1));
+
+    assertTotals(dailyTotals);
+  }
+
+  @Test
+  public void findByDaysDoesNotCountTheFoldedTransactionsTwice() {
+    dailyTotalRepository.add(List.of(DailyTotal.of(first)));
+    dailyTotalRepository.add(List.of(DailyTotal.of(second)));
+    moveWatermarkTo(second);
+
+    var dailyTotals = dailyTotalRepository.findByDays(ACCOUNT_UUID, DAY, DAY.plusDays(1));
+
+    assertTotals(dailyTotals);
+  }
+
+  @Test
+  public void findByDaysOnlyReadsTheDaysOfTheRange() {
+    var dailyTotals =
+        dailyTotalRepository.findByDays(ACCOUNT_UUID, DAY.plusDays(1), DAY.plusDays(1));
+
+    assertAll(
+        () -> assertThat(dailyTotals.size(), is(equalTo(1))),
+        () -> assertThat(dailyTotals.get(0).getOperationType(), is(equalTo(PAYMENT))));
+  }
+
+  @Test
+  public void rebuildReplacesTheTotalsOfTheDayUpToTheWatermark() {
+    dailyTotalRepository.add(List.of(DailyTotal.of(first).plus(DailyTotal.of(first))));
+    moveWatermarkTo(first);
+
+    var rebuilt = dailyTotalRepository.rebuild(DAY, TransactionCursor.after(first));
+    var dailyTotal = dailyTotalRepository.findById(DailyTotal.of(first).key()).orElseThrow();
+
+    assertAll(
+        () -> assertThat(rebuilt, is(equalTo(1))),
+        () -> assertThat(dailyTotal.getTransactions(), is(equalTo(1L))),
+        () -> assertThat(dailyTotal.getAmount(), is(equalTo(-1_000L))));
+  }
+
+  private void assertTotals(final List<DailyTotal> dailyTotals) {
+    assertAll(
+        () -> assertThat(dailyTotals.size(), is(equalTo(2))),
+        () -> assertThat(dailyTotals.get(0).getEventDay(), is(equalTo(DAY))),
+        () -> assertThat(dailyTotals.get(0).getOperationType(), is(equalTo(IN_CASH))),
+        () -> assertThat(dailyTotals.get(0).getTransactions(), is(equalTo(2L))),
+        () -> assertThat(dailyTotals.get(0).getAmount(), is(equalTo(-1_250L))),
+        () -> assertThat(dailyTotals.get(1).getEventDay(), is(equalTo(DAY.plusDays(1)))),
+        () -> assertThat(dailyTotals.get(1).getAmount(), is(equalTo(500L))));
+  }
+
+  private void moveWatermarkTo(final Transaction transaction) {
+    testEntityManager.persistAndFlush(
+        SnapshotWatermark.builder()
+            .id(SnapshotWatermark.DAILY_TOTAL_ID)
+            .eventDate(transaction.getEventDate())
+            .transactionUuid(transaction.getUuid())
+            .build());
+  }
+
+  private Transaction aTransaction(
+      final String uuid,
+      final OperationTypesEnumeration operationType,
+      final LocalDateTime eventDate,
+      final long amount) {
+    return Transaction.builder()
+        .uuid(fromString(uuid))
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .eventDate(eventDate)
+        .operationType(operationType)
+        .amount(amount)
+        .build();
+  }
+}
@@ -0,0 +1,73 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyKeyInsertRepositoryImplTest {
+
+  private static final String KEY = "6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52";
+  private static final UUID TRANSACTION_UUID = fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406");
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final LocalDateTime EVENT_DATE = now();
+  private static final long AMOUNT = 1_000L;
+  private static final String INSERT =
+      "insert into idempotency_key"
+          + "(idempotency_key, transaction_id, account_id, operation_type, event_date, amount) "
+          + "values (:key, :transactionUuid, :accountUuid, :operationType, :eventDate, :amount)";
+
+  @InjectMocks private IdempotencyKeyInsertRepositoryImpl idempotencyKeyInsertRepository;
+
+  @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<MapSqlParameterSource> parametersArgumentCaptor;
+
+  @Test
+  public void insertIssuesASingleStatement() {
+    var idempotencyKey =
+        IdempotencyKey.builder()
+            .key(KEY)
+            .transactionUuid(TRANSACTION_UUID)
+            .accountUuid(ACCOUNT_UUID)
+            .operationType(PAYMENT)
+            .eventDate(EVENT_DATE)
+            .amount(AMOUNT)
+            .build();
+
+    var actualIdempotencyKey = idempotencyKeyInsertRepository.insert(idempotencyKey);
+
+    verify(jdbcTemplate).update(eq(INSERT), parametersArgumentCaptor.capture());
+    verifyNoMoreInteractions(jdbcTemplate);
+    var parameters = parametersArgumentCaptor.getValue();
+    assertAll(
+        () -> assertThat(actualIdempotencyKey, is(sameInstance(idempotencyKey))),
+        () -> assertThat(parameters.getValue("key"), is(equalTo(KEY))),
+        () -> assertThat(parameters.getValue("transactionUuid"), is(equalTo(TRANSACTION_UUID))),
+        () -> assertThat(parameters.getValue("accountUuid"), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(parameters.getValue("operationType"), is(equalTo(PAYMENT.ordinal()))),
+        () -> assertThat(parameters.getValue("eventDate"), is(equalTo(EVENT_DATE))),
+        () -> assertThat(parameters.getValue("amount"), is(equalTo(AMOUNT))));
+  }
+}
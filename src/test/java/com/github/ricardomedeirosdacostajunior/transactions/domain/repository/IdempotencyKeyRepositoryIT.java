@@ -0,0 +1,81 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+
+@DataJpaTest
+public class IdempotencyKeyRepositoryIT {
+
+  private static final String KEY = "6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52";
+  private static final String OTHER_KEY = "0b4e5d9a-7c1f-4a2b-8e63-5d2f9c0a1b74";
+  private static final String RECENT_KEY = "c3a7f1e2-5b8d-4c9e-a016-2f4b7d8e9c31";
+
+  @Autowired private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Test
+  public void insert() {
+    idempotencyKeyRepository.insert(anIdempotencyKey());
+
+    var actualIdempotencyKey = idempotencyKeyRepository.findById(KEY).orElseThrow();
+    assertAll(
+        () -> assertThat(actualIdempotencyKey.getOperationType(), is(equalTo(PAYMENT))),
+        () -> assertThat(actualIdempotencyKey.getAmount(), is(equalTo(1_000L))),
+        () ->
+            assertThat(
+                actualIdempotencyKey.getTransactionUuid(),
+                is(equalTo(fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406")))));
+  }
+
+  @Test
+  public void insertWhenTheKeyIsStored() {
+    idempotencyKeyRepository.insert(anIdempotencyKey());
+
+    assertThrows(
+        DuplicateKeyException.class, () -> idempotencyKeyRepository.insert(anIdempotencyKey()));
+  }
+
+  @Test
+  public void deleteUsedBefore() {
+    idempotencyKeyRepository.insert(anIdempotencyKey(KEY, now().minusDays(2)));
+    idempotencyKeyRepository.insert(anIdempotencyKey(OTHER_KEY, now().minusDays(2)));
+    idempotencyKeyRepository.insert(anIdempotencyKey(RECENT_KEY, now()));
+
+    var deletedKeys = idempotencyKeyRepository.deleteUsedBefore(now().minusDays(1), 1);
+    var deletedAgainKeys = idempotencyKeyRepository.deleteUsedBefore(now().minusDays(1), 1);
+    var deletedAfterwardsKeys = idempotencyKeyRepository.deleteUsedBefore(now().minusDays(1), 1);
+
+    assertAll(
+        () -> assertThat(deletedKeys, is(equalTo(1))),
+        () -> assertThat(deletedAgainKeys, is(equalTo(1))),
+        () -> assertThat(deletedAfterwardsKeys, is(equalTo(0))),
+        () -> assertThat(idempotencyKeyRepository.existsById(RECENT_KEY), is(true)));
+  }
+
+  private IdempotencyKey anIdempotencyKey() {
+    return anIdempotencyKey(KEY, now());
+  }
+
+  private IdempotencyKey anIdempotencyKey(final String key, final LocalDateTime eventDate) {
+    return IdempotencyKey.builder()
+        .key(key)
+        .transactionUuid(fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406"))
+        .accountUuid(fromString("f080b248-5989-4fc4-80db-07025922bdc9"))
+        .operationType(PAYMENT)
+        .eventDate(eventDate)
+        .amount(1_000L)
+        .build();
+  }
+}
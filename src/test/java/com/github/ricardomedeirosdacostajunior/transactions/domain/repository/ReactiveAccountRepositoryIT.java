@@ -0,0 +1,82 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+public class ReactiveAccountRepositoryIT {
+
+  @Autowired private ReactiveAccountRepository reactiveAccountRepository;
+
+  @Test
+  public void insertAndFindById() {
+    var uuid = fromString("0b6f2c7e-8d1a-4e3b-9c5d-7f2a1b3c4d5e");
+
+    StepVerifier.create(
+            reactiveAccountRepository
+                .insert(account(uuid, 500_000L))
+                .then(reactiveAccountRepository.findById(uuid)))
+        .assertNext(
+            actualAccount ->
+                assertAll(
+                    () -> assertThat(actualAccount.getDocumentNumber(), is(equalTo("888"))),
+                    () ->
+                        assertThat(
+                            actualAccount.getAvailableCreditLimit(), is(equalTo(500_000L)))))
+        .verifyComplete();
+  }
+
+  @Test
+  public void findByIdWhenThereIsNoUUID() {
+    StepVerifier.create(
+            reactiveAccountRepository.findById(fromString("93a82d7a-5f59-4032-8942-a9dc9d8a90ce")))
+        .verifyComplete();
+  }
+
+  @Test
+  public void addToAvailableCreditLimit() {
+    var uuid = fromString("1c7a3d8f-9e2b-4f4c-8d6e-8a3b2c4d5e6f");
+
+    StepVerifier.create(
+            reactiveAccountRepository
+                .insert(account(uuid, 100_000L))
+                .then(reactiveAccountRepository.addToAvailableCreditLimit(uuid, -10_000L)))
+        .expectNext(1)
+        .verifyComplete();
+    StepVerifier.create(reactiveAccountRepository.findById(uuid))
+        .assertNext(
+            actualAccount ->
+                assertThat(actualAccount.getAvailableCreditLimit(), is(equalTo(90_000L))))
+        .verifyComplete();
+  }
+
+  @Test
+  public void addToAvailableCreditLimitWhenLimitIsInsufficient() {
+    var uuid = fromString("2d8b4e9a-af3c-4a5d-9e7f-9b4c3d5e6f7a");
+
+    StepVerifier.create(
+            reactiveAccountRepository
+                .insert(account(uuid, 100_000L))
+                .then(reactiveAccountRepository.addToAvailableCreditLimit(uuid, -100_000L)))
+        .expectNext(0)
+        .verifyComplete();
+  }
+
+  private Account account(final UUID uuid, final long availableCreditLimit) {
+    return Account.builder()
+        .uuid(uuid)
+        .documentNumber("888")
+        .availableCreditLimit(availableCreditLimit)
+        .build();
+  }
+}
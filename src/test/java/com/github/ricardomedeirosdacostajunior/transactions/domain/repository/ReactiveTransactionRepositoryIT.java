@@ -0,0 +1,47 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+public class ReactiveTransactionRepositoryIT {
+
+  @Autowired private ReactiveTransactionRepository reactiveTransactionRepository;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @Test
+  public void insert() {
+    var uuid = fromString("3e9c5fab-b04d-4b6e-af80-ac5d4e6f7a8b");
+    var transaction =
+        Transaction.builder()
+            .uuid(uuid)
+            .account(
+                Account.builder().uuid(fromString("f080b248-5989-4fc4-80db-07025922bdc9")).build())
+            .eventDate(now())
+            .operationType(PAYMENT)
+            .amount(1_000L)
+            .build();
+
+    StepVerifier.create(reactiveTransactionRepository.insert(transaction))
+        .expectNext(transaction)
+        .verifyComplete();
+
+    var actualTransaction = transactionRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(actualTransaction.getOperationType(), is(equalTo(PAYMENT))),
+        () -> assertThat(actualTransaction.getAmount(), is(equalTo(1_000L))));
+  }
+}
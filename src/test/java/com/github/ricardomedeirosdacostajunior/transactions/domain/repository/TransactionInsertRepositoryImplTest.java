@@ -0,0 +1,92 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.time.LocalDateTime.now;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionInsertRepositoryImplTest {
+
+  private static final UUID TRANSACTION_UUID = fromString("d1e59bc2-4246-42ea-b7f0-7e893db3d406");
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+  private static final LocalDateTime EVENT_DATE = now();
+  private static final long AMOUNT = 1_000L;
+  private static final String INSERT =
+      "insert into transaction(uuid, account_id, amount, event_date, operation_type) "
+          + "values (:uuid, :accountUuid, :amount, :eventDate, :operationType)";
+
+  @InjectMocks private TransactionInsertRepositoryImpl transactionInsertRepository;
+
+  @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<MapSqlParameterSource> parametersArgumentCaptor;
+
+  @Captor private ArgumentCaptor<SqlParameterSource[]> batchArgumentCaptor;
+
+  @Test
+  public void insertIssuesASingleStatement() {
+    var transaction =
+        Transaction.builder()
+            .uuid(TRANSACTION_UUID)
+            .account(Account.builder().uuid(ACCOUNT_UUID).build())
+            .eventDate(EVENT_DATE)
+            .operationType(PAYMENT)
+            .amount(AMOUNT)
+            .build();
+
+    var actualTransaction = transactionInsertRepository.insert(transaction);
+
+    verify(jdbcTemplate).update(eq(INSERT), parametersArgumentCaptor.capture());
+    verifyNoMoreInteractions(jdbcTemplate);
+    var parameters = parametersArgumentCaptor.getValue();
+    assertAll(
+        () -> assertThat(actualTransaction, is(sameInstance(transaction))),
+        () -> assertThat(parameters.getValue("uuid"), is(equalTo(TRANSACTION_UUID))),
+        () -> assertThat(parameters.getValue("accountUuid"), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(parameters.getValue("amount"), is(equalTo(AMOUNT))),
+        () -> assertThat(parameters.getValue("eventDate"), is(equalTo(EVENT_DATE))),
+        () -> assertThat(parameters.getValue("operationType"), is(equalTo(PAYMENT.ordinal()))));
+  }
+
+  @Test
+  public void insertAllIssuesASingleBatch() {
+    var transaction =
+        Transaction.builder()
+            .uuid(TRANSACTION_UUID)
+            .account(Account.builder().uuid(ACCOUNT_UUID).build())
+            .eventDate(EVENT_DATE)
+            .operationType(PAYMENT)
+            .amount(AMOUNT)
+            .build();
+
+    transactionInsertRepository.insertAll(List.of(transaction, transaction));
+
+    verify(jdbcTemplate).batchUpdate(eq(INSERT), batchArgumentCaptor.capture());
+    verifyNoMoreInteractions(jdbcTemplate);
+    assertThat(batchArgumentCaptor.getValue().length, is(equalTo(2)));
+  }
+}
@@ -1,15 +1,24 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.repository;
 
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
 import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
-import static java.math.BigDecimal.TEN;
 import static java.time.LocalDateTime.now;
 import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,6 +26,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 @DataJpaTest
 public class TransactionRepositoryIT {
 
+  private static final UUID ACCOUNT_UUID = fromString("f080b248-5989-4fc4-80db-07025922bdc9");
+
   @Autowired private TransactionRepository transactionRepository;
 
   @Test
@@ -28,11 +39,109 @@ public class TransactionRepositoryIT {
                 Account.builder().uuid(fromString("f080b248-5989-4fc4-80db-07025922bdc9")).build())
             .eventDate(now())
             .operationType(PAYMENT)
-            .amount(TEN)
+            .amount(1_000L)
             .build();
 
     var actualTransaction = transactionRepository.save(transaction);
 
     assertThat(actualTransaction, is(notNullValue()));
   }
+
+  @Test
+  public void insert() {
+    var uuid = fromString("2c5d8e1f-3a6b-4c9d-8e2f-5a8b1c4d7e0f");
+    var transaction =
+        Transaction.builder()
+            .uuid(uuid)
+            .account(
+                Account.builder().uuid(fromString("f080b248-5989-4fc4-80db-07025922bdc9")).build())
+            .eventDate(now())
+            .operationType(PAYMENT)
+            .amount(1_000L)
+            .build();
+
+    transactionRepository.insert(transaction);
+
+    var actualTransaction = transactionRepository.findById(uuid).orElseThrow();
+    assertAll(
+        () -> assertThat(actualTransaction.getOperationType(), is(equalTo(PAYMENT))),
+        () ->
+            assertThat(
+                actualTransaction.getAccount().getUuid(),
+                is(equalTo(fromString("f080b248-5989-4fc4-80db-07025922bdc9")))));
+  }
+
+  @Test
+  public void findPage() {
+    var eventDate = LocalDateTime.parse("2020-06-01T21:59:45.133455");
+    var newest = aTransaction("0f3e8f4a-6f42-4c39-9b0d-2f7c1a9e8d01", PAYMENT, eventDate);
+    var sameDate = aTransaction("0f3e8f4a-6f42-4c39-9b0d-2f7c1a9e8d00", IN_CASH, eventDate);
+    var oldest =
+        aTransaction("0f3e8f4a-6f42-4c39-9b0d-2f7c1a9e8d02", PAYMENT, eventDate.minusDays(1));
+    transactionRepository.insertAll(List.of(oldest, newest, sameDate));
+
+    var firstPage = transactionRepository.findPage(ACCOUNT_UUID, null, null, 2);
+    var secondPage =
+        transactionRepository.findPage(ACCOUNT_UUID, null, TransactionCursor.after(sameDate), 2);
+    var payments = transactionRepository.findPage(ACCOUNT_UUID, PAYMENT, null, 2);
+
+    assertAll(
+        () -> assertThat(uuids(firstPage), is(equalTo(uuids(List.of(newest, sameDate))))),
+        () -> assertThat(uuids(secondPage), is(equalTo(uuids(List.of(oldest))))),
+        () -> assertThat(uuids(payments), is(equalTo(uuids(List.of(newest, oldest))))),
+        () -> assertThat(firstPage.get(0).getAmount(), is(equalTo(1_000L))),
+        () -> assertThat(firstPage.get(0).getAccount().getUuid(), is(equalTo(ACCOUNT_UUID))));
+  }
+
+  @Test
+  public void export() {
+    var eventDate = LocalDateTime.parse("2020-06-01T21:59:45.133455");
+    var inRange = aTransaction("7b1d4c2e-9a3f-4e8b-8c6d-1f2a3b4c5d01", PAYMENT, eventDate);
+    var before =
+        aTransaction("7b1d4c2e-9a3f-4e8b-8c6d-1f2a3b4c5d02", PAYMENT, eventDate.minusDays(1));
+    transactionRepository.insertAll(List.of(inRange, before));
+    var all = new ArrayList<Transaction>();
+    var inRangeOnly = new ArrayList<Transaction>();
+
+    transactionRepository.export(null, null, null, all::add);
+    transactionRepository.export(
+        ACCOUNT_UUID, eventDate, eventDate.plusSeconds(1), inRangeOnly::add);
+
+    assertAll(
+        () -> assertThat(all.size(), is(equalTo(2))),
+        () -> assertThat(uuids(inRangeOnly), is(equalTo(uuids(List.of(inRange))))));
+  }
+
+  @Test
+  public void findTransactionsAfter() {
+    var eventDate = LocalDateTime.parse("2020-06-01T21:59:45.133455");
+    var first = aTransaction("5a2e7c14-8b3d-4f6a-9c1e-2d4f6a8b0c01", PAYMENT, eventDate);
+    var second = aTransaction("5a2e7c14-8b3d-4f6a-9c1e-2d4f6a8b0c02", IN_CASH, eventDate);
+    var unsettled =
+        aTransaction("5a2e7c14-8b3d-4f6a-9c1e-2d4f6a8b0c03", PAYMENT, eventDate.plusHours(1));
+    transactionRepository.insertAll(List.of(unsettled, second, first));
+
+    var transactions =
+        transactionRepository.findTransactionsAfter(
+            TransactionCursor.after(first), eventDate.plusHours(1), 10);
+
+    assertThat(uuids(transactions), is(equalTo(uuids(List.of(second)))));
+  }
+
+  private Transaction aTransaction(
+      final String uuid,
+      final OperationTypesEnumeration operationType,
+      final LocalDateTime eventDate) {
+    return Transaction.builder()
+        .uuid(fromString(uuid))
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .eventDate(eventDate)
+        .operationType(operationType)
+        .amount(1_000L)
+        .build();
+  }
+
+  private List<UUID> uuids(final List<Transaction> transactions) {
+    return transactions.stream().map(Transaction::getUuid).collect(Collectors.toList());
+  }
 }
@@ -1,8 +1,5 @@
 package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
 
-import static java.math.BigDecimal.ONE;
-import static java.math.BigDecimal.TEN;
-import static java.math.BigDecimal.valueOf;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.UUID.fromString;
@@ -11,19 +8,27 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.number.BigDecimalCloseTo.closeTo;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.github.ricardomedeirosdacostajunior.transactions.domain.cache.AccountCache;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAvailableLimitCreditException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.UuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.PrimaryReadRouter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.ReadRouter;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +37,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.stereotype.Service;
 
@@ -39,18 +45,27 @@ import org.springframework.stereotype.Service;
 public class AccountServiceTest {
 
   private static final String DOCUMENT_NUMBER = "12345678900";
-  private static final BigDecimal AVAILABLE_LIMIT_CREDIT = TEN;
-  private static final BigDecimal TRANSACTION_VALUE = ONE;
+  private static final long AVAILABLE_LIMIT_CREDIT = 1_000L;
+  private static final long TRANSACTION_AMOUNT = -100L;
+  private static final long NEW_LIMIT = 100L;
   private static final String aUUID = "3554cc7e-ae24-4ab7-b52d-fbfd53644bfe";
   private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
   private static final String ACCOUNT_LIMIT_CREDIT_MESSAGE =
       "Available limit credit invalid or not found";
+  private static final String INSUFFICIENT_LIMIT_CREDIT_MESSAGE =
+      "Insufficient available credit limit for this operation";
   private static final UUID REQUEST_UUID = fromString(aUUID);
 
   @InjectMocks private AccountService accountService;
 
   @Mock private AccountRepository accountRepository;
 
+  @Spy private UuidGenerator uuidGenerator = new TimeOrderedUuidGenerator();
+
+  @Spy private AccountCache accountCache = new AccountCache(100, Duration.ofMinutes(1));
+
+  @Spy private ReadRouter readRouter = new PrimaryReadRouter();
+
   @Captor private ArgumentCaptor<Account> accountArgumentCaptor;
 
   private Account account;
@@ -77,11 +92,11 @@ public class AccountServiceTest {
             .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
             .documentNumber(DOCUMENT_NUMBER)
             .build();
-    doReturn(account).when(accountRepository).save(any(Account.class));
+    doReturn(account).when(accountRepository).insert(any(Account.class));
 
     var actualAccountDTO = accountService.create(accountDTO);
 
-    verify(accountRepository).save(accountArgumentCaptor.capture());
+    verify(accountRepository).insert(accountArgumentCaptor.capture());
     var accountCaptured = accountArgumentCaptor.getValue();
     assertAll(
         () -> assertThat(accountCaptured.getUuid(), is(notNullValue())),
@@ -99,12 +114,47 @@ public class AccountServiceTest {
 
   @Test
   public void updateAvailableCreditLimit() {
-    accountService.updateAvailableCreditLimit(TRANSACTION_VALUE, account);
+    doReturn(1)
+        .when(accountRepository)
+        .addToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+
+    accountService.updateAvailableCreditLimit(TRANSACTION_AMOUNT, account);
+
+    verify(accountRepository).addToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+  }
+
+  @Test
+  public void updateAvailableCreditLimitWhenLimitIsInsufficient() {
+    doReturn(0)
+        .when(accountRepository)
+        .addToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+
+    var insufficientAvailableCreditLimitException =
+        assertThrows(
+            InsufficientAvailableCreditLimitException.class,
+            () -> accountService.updateAvailableCreditLimit(TRANSACTION_AMOUNT, account));
 
-    verify(accountRepository).save(accountArgumentCaptor.capture());
     assertThat(
-        accountArgumentCaptor.getValue().getAvailableCreditLimit(),
-        is(closeTo(valueOf(9), valueOf(1))));
+        insufficientAvailableCreditLimitException.getMessage(),
+        is(equalTo(INSUFFICIENT_LIMIT_CREDIT_MESSAGE)));
+  }
+
+  @Test
+  public void replaceAvailableCreditLimit() {
+    doReturn(1)
+        .when(accountRepository)
+        .replaceAvailableCreditLimit(REQUEST_UUID, AVAILABLE_LIMIT_CREDIT, NEW_LIMIT);
+
+    assertThat(accountService.replaceAvailableCreditLimit(account, NEW_LIMIT), is(true));
+  }
+
+  @Test
+  public void replaceAvailableCreditLimitWhenLimitChangedConcurrently() {
+    doReturn(0)
+        .when(accountRepository)
+        .replaceAvailableCreditLimit(REQUEST_UUID, AVAILABLE_LIMIT_CREDIT, NEW_LIMIT);
+
+    assertThat(accountService.replaceAvailableCreditLimit(account, NEW_LIMIT), is(false));
   }
 
   @Test
@@ -147,6 +197,51 @@ public class AccountServiceTest {
         () -> assertThat(actualAccountDTO.getDocumentNumber(), is(equalTo(DOCUMENT_NUMBER))));
   }
 
+  @Test
+  public void findTwiceReadsTheAccountOnce() {
+    doReturn(of(account)).when(accountRepository).findById(REQUEST_UUID);
+
+    accountService.find(REQUEST_UUID);
+    accountService.find(REQUEST_UUID);
+
+    verify(accountRepository, times(1)).findById(REQUEST_UUID);
+  }
+
+  @Test
+  public void forceUpdateAvailableCreditLimitDoesNotCheckTheLimit() {
+    doReturn(of(account)).when(accountRepository).findById(REQUEST_UUID);
+    doReturn(1)
+        .when(accountRepository)
+        .forceAddToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+
+    accountService.findOptional(REQUEST_UUID);
+    accountService.forceUpdateAvailableCreditLimit(TRANSACTION_AMOUNT, account);
+    accountService.findOptional(REQUEST_UUID);
+
+    verify(accountRepository).forceAddToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+    verify(accountRepository, never()).addToAvailableCreditLimit(any(), anyLong());
+    verify(accountRepository, times(2)).findById(REQUEST_UUID);
+  }
+
+  @Test
+  public void findAfterUpdateAvailableCreditLimitReadsTheAccountAgain() {
+    doReturn(of(account)).when(accountRepository).findById(REQUEST_UUID);
+    doReturn(1)
+        .when(accountRepository)
+        .addToAvailableCreditLimit(REQUEST_UUID, TRANSACTION_AMOUNT);
+
+    accountService.findOptional(REQUEST_UUID);
+    accountService.updateAvailableCreditLimit(TRANSACTION_AMOUNT, account);
+    accountService.findOptional(REQUEST_UUID);
+
+    verify(accountRepository, times(2)).findById(REQUEST_UUID);
+  }
+
+  @Test
+  public void findOptionalWhenUuidIsNull() {
+    assertThat(accountService.findOptional(null).isEmpty(), is(true));
+  }
+
   @Test
   public void findWhenThereIsNoAccount() {
     doReturn(empty()).when(accountRepository).findById(REQUEST_UUID);
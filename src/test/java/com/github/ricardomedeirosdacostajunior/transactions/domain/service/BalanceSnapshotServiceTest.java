@@ -0,0 +1,256 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot.OPENING_EVENT_DATE;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.BalanceSnapshot;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.BalanceSnapshotRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class BalanceSnapshotServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T21:59:45");
+  private static final long AVAILABLE_LIMIT_CREDIT = 10_000L;
+  private static final int BATCH_SIZE = 100;
+  private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+  private BalanceSnapshotService balanceSnapshotService;
+
+  @Mock private BalanceSnapshotRepository balanceSnapshotRepository;
+  @Mock private TransactionRepository transactionRepository;
+  @Mock private SnapshotWatermarkRepository snapshotWatermarkRepository;
+  @Mock private TransactionJournal transactionJournal;
+
+  @Captor private ArgumentCaptor<BalanceSnapshot> balanceSnapshotArgumentCaptor;
+  @Captor private ArgumentCaptor<SnapshotWatermark> snapshotWatermarkArgumentCaptor;
+
+  private BalanceSnapshot snapshot;
+  private Transaction first;
+  private Transaction last;
+
+  @BeforeEach
+  public void setup() {
+    balanceSnapshotService = balanceSnapshotService(empty());
+    snapshot =
+        BalanceSnapshot.builder()
+            .transactionUuid(fromString("35713a38-48d2-4b26-9dc1-751353d174ad"))
+            .accountUuid(ACCOUNT_UUID)
+            .eventDate(EVENT_DATE)
+            .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
+            .build();
+    first = aTransaction("6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52", EVENT_DATE.plusMinutes(1));
+    last = aTransaction("6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e53", EVENT_DATE.plusMinutes(2));
+  }
+
+  @Test
+  public void balanceSnapshotServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(BalanceSnapshotService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void findAsOfAddsTheTransactionsSinceTheNearestSnapshot() {
+    var asOf = EVENT_DATE.plusMinutes(5);
+    doReturn(of(snapshot)).when(balanceSnapshotRepository).findLatest(ACCOUNT_UUID, asOf);
+    doReturn(new TransactionTotal(2, -300))
+        .when(balanceSnapshotRepository)
+        .sumTransactionsAfter(snapshot, null, asOf);
+
+    var accountDTO = balanceSnapshotService.findAsOf(ACCOUNT_UUID, asOf);
+
+    assertAll(
+        () -> assertThat(accountDTO.getUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(accountDTO.getAvailableCreditLimit(), is(equalTo(9_700L))));
+  }
+
+  @Test
+  public void findAsOfWithoutSnapshotRewindsTheCurrentLimit() {
+    doReturn(empty()).when(balanceSnapshotRepository).findLatest(ACCOUNT_UUID, EVENT_DATE);
+    doReturn(of(500L))
+        .when(balanceSnapshotRepository)
+        .findAvailableCreditLimitBefore(ACCOUNT_UUID, EVENT_DATE);
+
+    var accountDTO = balanceSnapshotService.findAsOf(ACCOUNT_UUID, EVENT_DATE);
+
+    assertThat(accountDTO.getAvailableCreditLimit(), is(equalTo(500L)));
+  }
+
+  @Test
+  public void findAsOfWhenAccountWasNotFound() {
+    doReturn(empty()).when(balanceSnapshotRepository).findLatest(ACCOUNT_UUID, EVENT_DATE);
+    doReturn(empty())
+        .when(balanceSnapshotRepository)
+        .findAvailableCreditLimitBefore(ACCOUNT_UUID, EVENT_DATE);
+
+    assertThat(balanceSnapshotService.findAsOf(ACCOUNT_UUID, EVENT_DATE), is(nullValue()));
+  }
+
+  @Test
+  public void snapshotOpensTheAccountAndSnapshotsItsLastTransaction() {
+    doReturn(empty())
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.BALANCE_SNAPSHOT_ID);
+    doReturn(List.of(first, last))
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+    doReturn(empty()).when(balanceSnapshotRepository).findLatest(ACCOUNT_UUID, null);
+    doReturn(of(AVAILABLE_LIMIT_CREDIT))
+        .when(balanceSnapshotRepository)
+        .findAvailableCreditLimitBefore(ACCOUNT_UUID, null);
+    doReturn(new TransactionTotal(2, -300))
+        .when(balanceSnapshotRepository)
+        .sumTransactionsAfter(any(), eq(TransactionCursor.after(last)), isNull());
+
+    var walked = balanceSnapshotService.snapshot();
+
+    verify(balanceSnapshotRepository, times(2)).insert(balanceSnapshotArgumentCaptor.capture());
+    verify(snapshotWatermarkRepository).save(snapshotWatermarkArgumentCaptor.capture());
+    var opening = balanceSnapshotArgumentCaptor.getAllValues().get(0);
+    var latest = balanceSnapshotArgumentCaptor.getAllValues().get(1);
+    assertAll(
+        () -> assertThat(walked, is(equalTo(2))),
+        () -> assertThat(opening.getEventDate(), is(equalTo(OPENING_EVENT_DATE))),
+        () -> assertThat(opening.getAvailableCreditLimit(), is(equalTo(AVAILABLE_LIMIT_CREDIT))),
+        () -> assertThat(latest.getTransactionUuid(), is(equalTo(last.getUuid()))),
+        () -> assertThat(latest.getAvailableCreditLimit(), is(equalTo(9_700L))),
+        () ->
+            assertThat(
+                snapshotWatermarkArgumentCaptor.getValue().cursor(),
+                is(equalTo(TransactionCursor.after(last)))));
+  }
+
+  @Test
+  public void snapshotSkipsTheAccountsNotDue() {
+    doReturn(of(watermark()))
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.BALANCE_SNAPSHOT_ID);
+    doReturn(List.of(first, last))
+        .when(transactionRepository)
+        .findTransactionsAfter(eq(snapshot.cursor()), any(), eq(BATCH_SIZE));
+    doReturn(of(snapshot)).when(balanceSnapshotRepository).findLatest(ACCOUNT_UUID, null);
+    doReturn(new TransactionTotal(2, -300))
+        .when(balanceSnapshotRepository)
+        .sumTransactionsAfter(snapshot, TransactionCursor.after(last), null);
+
+    balanceSnapshotService.snapshot();
+
+    verify(balanceSnapshotRepository, never()).insert(any());
+    verify(snapshotWatermarkRepository).save(any());
+  }
+
+  @Test
+  public void snapshotWithNothingSettledKeepsTheWatermark() {
+    doReturn(of(watermark()))
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.BALANCE_SNAPSHOT_ID);
+    doReturn(List.of())
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    var walked = balanceSnapshotService.snapshot();
+
+    assertThat(walked, is(equalTo(0)));
+    verify(snapshotWatermarkRepository, never()).save(any());
+  }
+
+  @Test
+  public void snapshotStaysBehindTheOldestTransactionNotDrainedFromTheJournal() {
+    doReturn(of(EVENT_DATE)).when(transactionJournal).undrainedSince();
+    doReturn(List.of())
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    balanceSnapshotService(of(transactionJournal)).snapshot();
+
+    verify(transactionRepository)
+        .findTransactionsAfter(any(), eq(EVENT_DATE.minus(SETTLE_TIME)), eq(BATCH_SIZE));
+  }
+
+  @Test
+  public void snapshotOnScheduleCountsTheFailedBatches() {
+    var meterRegistry = new SimpleMeterRegistry();
+    balanceSnapshotService.bindTo(meterRegistry);
+    doThrow(new IllegalStateException("database down"))
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    balanceSnapshotService.snapshotOnSchedule();
+
+    assertThat(
+        meterRegistry.get("transactions.snapshot.failures").functionCounter().count(),
+        is(equalTo(1.0)));
+    verify(snapshotWatermarkRepository, never()).save(any());
+  }
+
+  private BalanceSnapshotService balanceSnapshotService(
+      final Optional<TransactionJournal> transactionJournal) {
+    return new BalanceSnapshotService(
+        balanceSnapshotRepository,
+        transactionRepository,
+        snapshotWatermarkRepository,
+        withoutTransaction(),
+        transactionJournal,
+        BATCH_SIZE,
+        1_000,
+        Duration.ofMinutes(10),
+        SETTLE_TIME,
+        Duration.ofMinutes(1));
+  }
+
+  private SnapshotWatermark watermark() {
+    return SnapshotWatermark.builder()
+        .id(SnapshotWatermark.BALANCE_SNAPSHOT_ID)
+        .eventDate(snapshot.getEventDate())
+        .transactionUuid(snapshot.getTransactionUuid())
+        .build();
+  }
+
+  private Transaction aTransaction(final String uuid, final LocalDateTime eventDate) {
+    return Transaction.builder()
+        .uuid(fromString(uuid))
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .operationType(IN_CASH)
+        .eventDate(eventDate)
+        .amount(-150L)
+        .build();
+  }
+}
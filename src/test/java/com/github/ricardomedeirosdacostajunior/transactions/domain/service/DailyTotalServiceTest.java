@@ -0,0 +1,260 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.DailyTotal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ExpiredMonthException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidDateRangeException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.DailyTotalRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class DailyTotalServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final LocalDateTime EVENT_DATE = LocalDateTime.parse("2020-06-01T21:59:45");
+  private static final LocalDate DAY = EVENT_DATE.toLocalDate();
+  private static final int BATCH_SIZE = 100;
+  private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+  private DailyTotalService dailyTotalService;
+
+  @Mock private AccountService accountService;
+  @Mock private TransactionRepository transactionRepository;
+  @Mock private DailyTotalRepository dailyTotalRepository;
+  @Mock private SnapshotWatermarkRepository snapshotWatermarkRepository;
+  @Mock private TransactionJournal transactionJournal;
+  @Mock private TransactionPartitionService transactionPartitionService;
+
+  @Captor private ArgumentCaptor<Collection<DailyTotal>> dailyTotalsArgumentCaptor;
+  @Captor private ArgumentCaptor<SnapshotWatermark> snapshotWatermarkArgumentCaptor;
+
+  @BeforeEach
+  public void setup() {
+    dailyTotalService = dailyTotalService(empty());
+  }
+
+  @Test
+  public void dailyTotalServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(DailyTotalService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void findMapsTheTotalsOfTheAccount() {
+    doReturn(of(Account.builder().uuid(ACCOUNT_UUID).build()))
+        .when(accountService)
+        .findOptional(ACCOUNT_UUID);
+    doReturn(List.of(DailyTotal.of(aTransaction(IN_CASH, EVENT_DATE, -1_000L))))
+        .when(dailyTotalRepository)
+        .findByDays(ACCOUNT_UUID, DAY, DAY.plusDays(30));
+
+    var dailyTotals = dailyTotalService.find(ACCOUNT_UUID, DAY, DAY.plusDays(30));
+
+    assertAll(
+        () -> assertThat(dailyTotals.size(), is(equalTo(1))),
+        () -> assertThat(dailyTotals.get(0).getDate(), is(equalTo(DAY))),
+        () -> assertThat(dailyTotals.get(0).getOperationType(), is(equalTo(1))),
+        () -> assertThat(dailyTotals.get(0).getTransactions(), is(equalTo(1L))),
+        () -> assertThat(dailyTotals.get(0).getAmount(), is(equalTo(-1_000L))));
+  }
+
+  @Test
+  public void findWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InvalidAccountException.class, () -> dailyTotalService.find(ACCOUNT_UUID, DAY, DAY));
+  }
+
+  @Test
+  public void findWhenTheRangeIsInvalid() {
+    assertAll(
+        () ->
+            assertThrows(
+                InvalidDateRangeException.class,
+                () -> dailyTotalService.find(ACCOUNT_UUID, DAY, DAY.minusDays(1))),
+        () ->
+            assertThrows(
+                InvalidDateRangeException.class,
+                () -> dailyTotalService.find(ACCOUNT_UUID, DAY, DAY.plusDays(31))));
+  }
+
+  @Test
+  public void foldAddsOneTotalPerAccountDayAndOperationType() {
+    var last = aTransaction(PAYMENT, EVENT_DATE.plusDays(1), 500L);
+    doReturn(empty())
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.DAILY_TOTAL_ID);
+    doReturn(
+            List.of(
+                aTransaction(IN_CASH, EVENT_DATE, -1_000L),
+                aTransaction(IN_CASH, EVENT_DATE.plusHours(1), -250L),
+                aTransaction(PAYMENT, EVENT_DATE.plusHours(1), 300L),
+                last))
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    var folded = dailyTotalService.fold();
+
+    verify(dailyTotalRepository).add(dailyTotalsArgumentCaptor.capture());
+    verify(snapshotWatermarkRepository).save(snapshotWatermarkArgumentCaptor.capture());
+    var dailyTotals = new ArrayList<>(dailyTotalsArgumentCaptor.getValue());
+    assertAll(
+        () -> assertThat(folded, is(equalTo(4))),
+        () -> assertThat(dailyTotals.size(), is(equalTo(3))),
+        () -> assertThat(dailyTotals.get(0).getTransactions(), is(equalTo(2L))),
+        () -> assertThat(dailyTotals.get(0).getAmount(), is(equalTo(-1_250L))),
+        () -> assertThat(dailyTotals.get(2).getEventDay(), is(equalTo(DAY.plusDays(1)))),
+        () ->
+            assertThat(
+                snapshotWatermarkArgumentCaptor.getValue().getId(),
+                is(equalTo(SnapshotWatermark.DAILY_TOTAL_ID))),
+        () ->
+            assertThat(
+                snapshotWatermarkArgumentCaptor.getValue().cursor(),
+                is(equalTo(TransactionCursor.after(last)))));
+  }
+
+  @Test
+  public void foldWithNothingSettledKeepsTheWatermark() {
+    doReturn(empty())
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.DAILY_TOTAL_ID);
+    doReturn(List.of())
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    assertThat(dailyTotalService.fold(), is(equalTo(0)));
+    verify(dailyTotalRepository, never()).add(any());
+    verify(snapshotWatermarkRepository, never()).save(any());
+  }
+
+  @Test
+  public void foldStaysBehindTheOldestTransactionNotDrainedFromTheJournal() {
+    doReturn(of(EVENT_DATE)).when(transactionJournal).undrainedSince();
+    doReturn(List.of())
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    dailyTotalService(of(transactionJournal)).fold();
+
+    verify(transactionRepository)
+        .findTransactionsAfter(any(), eq(EVENT_DATE.minus(SETTLE_TIME)), eq(BATCH_SIZE));
+  }
+
+  @Test
+  public void foldOnScheduleCountsTheFailedBatches() {
+    var meterRegistry = new SimpleMeterRegistry();
+    dailyTotalService.bindTo(meterRegistry);
+    doThrow(new IllegalStateException("database down"))
+        .when(transactionRepository)
+        .findTransactionsAfter(any(), any(), eq(BATCH_SIZE));
+
+    dailyTotalService.foldOnSchedule();
+
+    assertThat(
+        meterRegistry.get("transactions.daily-total.failures").functionCounter().count(),
+        is(equalTo(1.0)));
+    verify(snapshotWatermarkRepository, never()).save(any());
+  }
+
+  @Test
+  public void rebuildRecomputesEveryDayUpToTheWatermark() {
+    var watermark =
+        SnapshotWatermark.builder()
+            .id(SnapshotWatermark.DAILY_TOTAL_ID)
+            .eventDate(EVENT_DATE)
+            .transactionUuid(ACCOUNT_UUID)
+            .build();
+    doReturn(of(watermark))
+        .when(snapshotWatermarkRepository)
+        .findLockedById(SnapshotWatermark.DAILY_TOTAL_ID);
+    doReturn(2).when(dailyTotalRepository).rebuild(any(), eq(watermark.cursor()));
+
+    var rebuilt = dailyTotalService.rebuild(DAY, DAY.plusDays(2));
+
+    assertThat(rebuilt, is(equalTo(6L)));
+    verify(dailyTotalRepository, times(3)).rebuild(any(), eq(watermark.cursor()));
+  }
+
+  @Test
+  public void rebuildWhenTheMonthIsPastTheRetention() {
+    doReturn(true).when(transactionPartitionService).isExpired(YearMonth.from(DAY));
+
+    assertThrows(ExpiredMonthException.class, () -> dailyTotalService.rebuild(DAY, DAY));
+
+    verify(dailyTotalRepository, never()).rebuild(any(), any());
+  }
+
+  private DailyTotalService dailyTotalService(
+      final Optional<TransactionJournal> transactionJournal) {
+    return new DailyTotalService(
+        accountService,
+        transactionRepository,
+        dailyTotalRepository,
+        snapshotWatermarkRepository,
+        withoutTransaction(),
+        transactionJournal,
+        of(transactionPartitionService),
+        BATCH_SIZE,
+        SETTLE_TIME,
+        Duration.ofMinutes(1),
+        31);
+  }
+
+  private Transaction aTransaction(
+      final OperationTypesEnumeration operationType,
+      final LocalDateTime eventDate,
+      final long amount) {
+    return Transaction.builder()
+        .uuid(UUID.randomUUID())
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .operationType(operationType)
+        .eventDate(eventDate)
+        .amount(amount)
+        .build();
+  }
+}
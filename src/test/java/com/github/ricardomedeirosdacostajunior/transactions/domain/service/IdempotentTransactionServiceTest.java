@@ -0,0 +1,312 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.time.LocalDateTime.now;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.IdempotencyKey;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.IdempotencyKeyReusedException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionNotJournaledException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotentTransactionServiceTest {
+
+  private static final String IDEMPOTENCY_KEY = "6f1c2b0e-2a8d-4e8f-9a43-3b6f0c1d7e52";
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final UUID TRANSACTION_UUID = fromString("35713a38-48d2-4b26-9dc1-751353d174ad");
+  private static final long AMOUNT = 1_000L;
+  private static final LocalDateTime EVENT_DATE = now();
+  private static final int CONCURRENT_REQUESTS = 8;
+  private static final int SWEEP_BATCH_SIZE = 2;
+
+  private IdempotentTransactionService idempotentTransactionService;
+
+  @Mock private TransactionService transactionService;
+  @Mock private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Captor private ArgumentCaptor<IdempotencyKey> idempotencyKeyArgumentCaptor;
+
+  private TransactionDTO requestTransactionDTO;
+  private TransactionDTO createdTransactionDTO;
+  private Transaction transaction;
+
+  @BeforeEach
+  public void setup() {
+    idempotentTransactionService =
+        new IdempotentTransactionService(
+            transactionService,
+            idempotencyKeyRepository,
+            100,
+            Duration.ofMinutes(1),
+            Duration.ofDays(1),
+            Duration.ofMinutes(10),
+            SWEEP_BATCH_SIZE);
+    requestTransactionDTO =
+        TransactionDTO.builder().accountUuid(ACCOUNT_UUID).operationType(1).amount(AMOUNT).build();
+    createdTransactionDTO =
+        TransactionDTO.builder()
+            .uuid(TRANSACTION_UUID)
+            .accountUuid(ACCOUNT_UUID)
+            .operationType(1)
+            .amount(-AMOUNT)
+            .eventDate(EVENT_DATE)
+            .build();
+    transaction =
+        Transaction.builder()
+            .uuid(TRANSACTION_UUID)
+            .account(Account.builder().uuid(ACCOUNT_UUID).build())
+            .operationType(IN_CASH)
+            .eventDate(EVENT_DATE)
+            .amount(-AMOUNT)
+            .build();
+  }
+
+  @Test
+  public void idempotentTransactionServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(IdempotentTransactionService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void createWithoutKeyCallsTransactionServiceCreate() {
+    doReturn(createdTransactionDTO).when(transactionService).create(requestTransactionDTO);
+
+    var actualTransactionDTO = idempotentTransactionService.create(null, requestTransactionDTO);
+
+    assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO)));
+    verify(idempotencyKeyRepository, never()).findById(any());
+  }
+
+  @Test
+  public void createStoresTheKeyInThePosting() {
+    doReturn(empty()).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+    mockPosting();
+
+    var actualTransactionDTO =
+        idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+
+    verify(idempotencyKeyRepository).insert(idempotencyKeyArgumentCaptor.capture());
+    var idempotencyKey = idempotencyKeyArgumentCaptor.getValue();
+    assertAll(
+        () -> assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO))),
+        () -> assertThat(idempotencyKey.getKey(), is(equalTo(IDEMPOTENCY_KEY))),
+        () -> assertThat(idempotencyKey.getTransactionUuid(), is(equalTo(TRANSACTION_UUID))),
+        () -> assertThat(idempotencyKey.getAccountUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(idempotencyKey.getOperationType(), is(equalTo(IN_CASH))),
+        () -> assertThat(idempotencyKey.getEventDate(), is(equalTo(EVENT_DATE))),
+        () -> assertThat(idempotencyKey.getAmount(), is(equalTo(-AMOUNT))));
+  }
+
+  @Test
+  public void createTwiceWithTheSameKeyPostsOnce() {
+    doReturn(empty()).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+    mockPosting();
+
+    idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+    var actualTransactionDTO =
+        idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+
+    assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO)));
+    verify(transactionService, times(1)).create(eq(requestTransactionDTO), any());
+    verify(idempotencyKeyRepository, times(1)).findById(IDEMPOTENCY_KEY);
+  }
+
+  @Test
+  public void createWhenTheKeyIsStoredDoesNotPost() {
+    doReturn(of(idempotencyKey())).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+
+    var actualTransactionDTO =
+        idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+
+    assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO)));
+    verify(transactionService, never()).create(any(), any());
+  }
+
+  @Test
+  public void createWhenAnotherInstanceStoredTheKeyFirst() {
+    doReturn(empty(), of(idempotencyKey()))
+        .when(idempotencyKeyRepository)
+        .findById(IDEMPOTENCY_KEY);
+    doThrow(new DuplicateKeyException("idempotency_key_pk"))
+        .when(transactionService)
+        .create(eq(requestTransactionDTO), any());
+
+    var actualTransactionDTO =
+        idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+
+    assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO)));
+  }
+
+  @Test
+  public void createWithTheKeyOfAnotherTransaction() {
+    var anotherTransactionDTO =
+        TransactionDTO.builder()
+            .accountUuid(ACCOUNT_UUID)
+            .operationType(1)
+            .amount(AMOUNT + 1)
+            .build();
+    doReturn(of(idempotencyKey())).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+
+    assertThrows(
+        IdempotencyKeyReusedException.class,
+        () -> idempotentTransactionService.create(IDEMPOTENCY_KEY, anotherTransactionDTO));
+  }
+
+  @Test
+  public void createAfterARejectedPostingPostsAgain() {
+    doReturn(empty()).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+    doThrow(InsufficientAvailableCreditLimitException.INSTANCE)
+        .doReturn(createdTransactionDTO)
+        .when(transactionService)
+        .create(eq(requestTransactionDTO), any());
+
+    assertThrows(
+        InsufficientAvailableCreditLimitException.class,
+        () -> idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO));
+    var actualTransactionDTO =
+        idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO);
+
+    assertThat(actualTransactionDTO, is(equalTo(createdTransactionDTO)));
+    verify(transactionService, times(2)).create(eq(requestTransactionDTO), any());
+  }
+
+  @Test
+  public void createWhenTheTransactionIsNotJournaledDeletesTheKey() {
+    var transactionNotJournaledException =
+        new TransactionNotJournaledException(new IllegalStateException("disk full"));
+    doReturn(empty()).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+    doThrow(transactionNotJournaledException)
+        .when(transactionService)
+        .create(eq(requestTransactionDTO), any());
+
+    var actualException =
+        assertThrows(
+            TransactionNotJournaledException.class,
+            () -> idempotentTransactionService.create(IDEMPOTENCY_KEY, requestTransactionDTO));
+
+    assertThat(actualException, is(equalTo(transactionNotJournaledException)));
+    verify(idempotencyKeyRepository).deleteById(IDEMPOTENCY_KEY);
+  }
+
+  @Test
+  public void sweepOnScheduleDeletesBatchesUntilALastPartialOne() {
+    var meterRegistry = new SimpleMeterRegistry();
+    idempotentTransactionService.bindTo(meterRegistry);
+    doReturn(SWEEP_BATCH_SIZE, SWEEP_BATCH_SIZE, 1)
+        .when(idempotencyKeyRepository)
+        .deleteUsedBefore(any(), eq(SWEEP_BATCH_SIZE));
+
+    idempotentTransactionService.sweepOnSchedule();
+
+    verify(idempotencyKeyRepository, times(3)).deleteUsedBefore(any(), eq(SWEEP_BATCH_SIZE));
+    assertThat(
+        meterRegistry.get("transactions.idempotency.swept").functionCounter().count(),
+        is(equalTo(5.0)));
+  }
+
+  @Test
+  public void sweepOnScheduleCountsTheFailedSweeps() {
+    var meterRegistry = new SimpleMeterRegistry();
+    idempotentTransactionService.bindTo(meterRegistry);
+    doThrow(new IllegalStateException("connection refused"))
+        .when(idempotencyKeyRepository)
+        .deleteUsedBefore(any(), anyInt());
+
+    idempotentTransactionService.sweepOnSchedule();
+
+    assertThat(
+        meterRegistry.get("transactions.idempotency.sweep.failures").functionCounter().count(),
+        is(equalTo(1.0)));
+  }
+
+  @Test
+  public void createWithConcurrentDuplicatesPostsOnce() {
+    var executor = newFixedThreadPool(CONCURRENT_REQUESTS);
+    var barrier = new CyclicBarrier(CONCURRENT_REQUESTS);
+    doReturn(empty()).when(idempotencyKeyRepository).findById(IDEMPOTENCY_KEY);
+    mockPosting();
+
+    var actualTransactionDTOs =
+        IntStream.range(0, CONCURRENT_REQUESTS)
+            .mapToObj(
+                request ->
+                    supplyAsync(
+                        () -> {
+                          await(barrier);
+                          return idempotentTransactionService.create(
+                              IDEMPOTENCY_KEY, requestTransactionDTO);
+                        },
+                        executor))
+            .collect(Collectors.toList())
+            .stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toSet());
+    executor.shutdown();
+
+    assertThat(actualTransactionDTOs.size(), is(equalTo(1)));
+    verify(transactionService, times(1)).create(eq(requestTransactionDTO), any());
+  }
+
+  private void mockPosting() {
+    doAnswer(
+            invocation -> {
+              Consumer<Transaction> alsoPersist = invocation.getArgument(1);
+              alsoPersist.accept(transaction);
+              return createdTransactionDTO;
+            })
+        .when(transactionService)
+        .create(eq(requestTransactionDTO), any());
+  }
+
+  private IdempotencyKey idempotencyKey() {
+    return idempotentTransactionService.dtoToEntity(IDEMPOTENCY_KEY, transaction);
+  }
+
+  private void await(final CyclicBarrier barrier) {
+    try {
+      barrier.await();
+    } catch (Exception exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.cache.AccountCache;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.PrimaryReadRouter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveAccountRepository;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveAccountServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("3554cc7e-ae24-4ab7-b52d-fbfd53644bfe");
+  private static final String DOCUMENT_NUMBER = "12345678900";
+
+  @Mock private ReactiveAccountRepository reactiveAccountRepository;
+
+  private ReactiveAccountService reactiveAccountService;
+
+  @BeforeEach
+  public void setup() {
+    var accountService =
+        new AccountService(
+            null,
+            new TimeOrderedUuidGenerator(),
+            new AccountCache(100, Duration.ofMinutes(1)),
+            new PrimaryReadRouter());
+    reactiveAccountService = new ReactiveAccountService(accountService, reactiveAccountRepository);
+  }
+
+  @Test
+  public void reactiveAccountServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(ReactiveAccountService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void create() {
+    doAnswer(invocation -> Mono.just(invocation.getArgument(0)))
+        .when(reactiveAccountRepository)
+        .insert(any(Account.class));
+
+    StepVerifier.create(
+            reactiveAccountService.create(
+                AccountDTO.builder()
+                    .documentNumber(DOCUMENT_NUMBER)
+                    .availableCreditLimit(1_000L)
+                    .build()))
+        .assertNext(
+            accountDTO ->
+                assertAll(
+                    () -> assertThat(accountDTO.getUuid(), is(notNullValue())),
+                    () -> assertThat(accountDTO.getDocumentNumber(), is(equalTo(DOCUMENT_NUMBER)))))
+        .verifyComplete();
+  }
+
+  @Test
+  public void createMustFailWithInvalidAccountExceptionWhenDocumentNumberIsInvalid() {
+    var accountDTOWithInvalidAccount = AccountDTO.builder().availableCreditLimit(1_000L).build();
+
+    StepVerifier.create(reactiveAccountService.create(accountDTOWithInvalidAccount))
+        .verifyError(InvalidAccountException.class);
+
+    verify(reactiveAccountRepository, never()).insert(any(Account.class));
+  }
+
+  @Test
+  public void find() {
+    var account = Account.builder().uuid(ACCOUNT_UUID).documentNumber(DOCUMENT_NUMBER).build();
+    doReturn(Mono.just(account)).when(reactiveAccountRepository).findById(ACCOUNT_UUID);
+
+    StepVerifier.create(reactiveAccountService.find(ACCOUNT_UUID))
+        .assertNext(accountDTO -> assertThat(accountDTO.getUuid(), is(equalTo(ACCOUNT_UUID))))
+        .verifyComplete();
+  }
+
+  @Test
+  public void findWhenAccountIsNull() {
+    StepVerifier.create(reactiveAccountService.find(null)).verifyComplete();
+
+    verify(reactiveAccountRepository, never()).findById(any(UUID.class));
+  }
+}
@@ -0,0 +1,154 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.util.Optional.empty;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.DatabaseLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveAccountRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.ReactiveTransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTransactionServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final long AMOUNT = 1_000L;
+
+  @Mock private ReactiveAccountRepository reactiveAccountRepository;
+  @Mock private ReactiveTransactionRepository reactiveTransactionRepository;
+  @Mock private TransactionalOperator transactionalOperator;
+
+  @Captor private ArgumentCaptor<Transaction> transactionArgumentCaptor;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ReactiveTransactionService reactiveTransactionService;
+  private Account account;
+
+  @BeforeEach
+  public void setup() {
+    var transactionMetrics = new TransactionMetrics(meterRegistry);
+    var transactionService =
+        new TransactionService(
+            null,
+            null,
+            new DatabaseLedgerEngine(null),
+            new TimeOrderedUuidGenerator(),
+            transactionMetrics,
+            empty(),
+            empty());
+    reactiveTransactionService =
+        new ReactiveTransactionService(
+            transactionService,
+            reactiveAccountRepository,
+            reactiveTransactionRepository,
+            transactionalOperator,
+            transactionMetrics);
+    account = Account.builder().uuid(ACCOUNT_UUID).availableCreditLimit(10_000L).build();
+    lenient()
+        .doAnswer(invocation -> invocation.getArgument(0))
+        .when(transactionalOperator)
+        .transactional(any(Mono.class));
+  }
+
+  @Test
+  public void reactiveTransactionServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(ReactiveTransactionService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void create() {
+    doReturn(Mono.just(account)).when(reactiveAccountRepository).findById(ACCOUNT_UUID);
+    doReturn(Mono.just(1))
+        .when(reactiveAccountRepository)
+        .addToAvailableCreditLimit(ACCOUNT_UUID, -AMOUNT);
+    doAnswer(invocation -> Mono.just(invocation.getArgument(0)))
+        .when(reactiveTransactionRepository)
+        .insert(any(Transaction.class));
+
+    StepVerifier.create(reactiveTransactionService.create(transactionDTO()))
+        .assertNext(
+            transactionDTO ->
+                assertAll(
+                    () -> assertThat(transactionDTO.getAccountUuid(), is(equalTo(ACCOUNT_UUID))),
+                    () -> assertThat(transactionDTO.getAmount(), is(equalTo(-AMOUNT)))))
+        .verifyComplete();
+
+    verify(reactiveTransactionRepository).insert(transactionArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(transactionArgumentCaptor.getValue().getOperationType(), is(IN_CASH)),
+        () ->
+            assertThat(
+                meterRegistry
+                    .get("transactions.created")
+                    .tag("operation_type", "IN_CASH")
+                    .counter()
+                    .count(),
+                is(equalTo(1.0))));
+  }
+
+  @Test
+  public void createWhenAccountWasNotFound() {
+    doReturn(Mono.empty()).when(reactiveAccountRepository).findById(ACCOUNT_UUID);
+
+    StepVerifier.create(reactiveTransactionService.create(transactionDTO()))
+        .verifyError(InvalidAccountException.class);
+  }
+
+  @Test
+  public void createWhenAccountIsNull() {
+    StepVerifier.create(reactiveTransactionService.create(TransactionDTO.builder().build()))
+        .verifyError(InvalidAccountException.class);
+  }
+
+  @Test
+  public void createWhenAvailableCreditLimitIsInsufficient() {
+    doReturn(Mono.just(account)).when(reactiveAccountRepository).findById(ACCOUNT_UUID);
+    doReturn(Mono.just(0))
+        .when(reactiveAccountRepository)
+        .addToAvailableCreditLimit(ACCOUNT_UUID, -AMOUNT);
+
+    StepVerifier.create(reactiveTransactionService.create(transactionDTO()))
+        .verifyError(InsufficientAvailableCreditLimitException.class);
+
+    verify(reactiveTransactionRepository, never()).insert(any(Transaction.class));
+  }
+
+  private TransactionDTO transactionDTO() {
+    return TransactionDTO.builder()
+        .accountUuid(ACCOUNT_UUID)
+        .operationType(IN_CASH.getValue())
+        .amount(AMOUNT)
+        .build();
+  }
+}
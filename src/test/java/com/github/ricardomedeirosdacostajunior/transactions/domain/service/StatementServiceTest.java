@@ -0,0 +1,205 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Statement;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.StatementCheckpoint;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.ExpiredMonthException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.StatementCheckpointRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.StatementRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final UUID LAST_ACCOUNT_UUID = fromString("1f0a4c2e-3b5d-4e6f-8a9b-0c1d2e3f4a5b");
+  private static final YearMonth MONTH = YearMonth.of(2020, 6);
+  private static final LocalDateTime FROM = MONTH.atDay(1).atStartOfDay();
+  private static final LocalDateTime TO = MONTH.plusMonths(1).atDay(1).atStartOfDay();
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock private AccountRepository accountRepository;
+  @Mock private TransactionRepository transactionRepository;
+  @Mock private StatementRepository statementRepository;
+  @Mock private StatementCheckpointRepository statementCheckpointRepository;
+  @Mock private BalanceSnapshotService balanceSnapshotService;
+  @Mock private TransactionPartitionService transactionPartitionService;
+
+  @Captor private ArgumentCaptor<List<Statement>> statementsArgumentCaptor;
+  @Captor private ArgumentCaptor<StatementCheckpoint> checkpointArgumentCaptor;
+
+  @Test
+  public void statementServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(StatementService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void lowerBoundSplitsTheUuidsInRangesOfTheSameWidth() {
+    var statementService = statementService(4);
+
+    assertAll(
+        () -> assertThat(statementService.lowerBound(0), is(nullValue())),
+        () ->
+            assertThat(
+                statementService.lowerBound(1),
+                is(equalTo(fromString("40000000-0000-0000-0000-000000000000")))),
+        () ->
+            assertThat(
+                statementService.lowerBound(2),
+                is(equalTo(fromString("80000000-0000-0000-0000-000000000000")))),
+        () ->
+            assertThat(
+                statementService.lowerBound(3),
+                is(equalTo(fromString("c0000000-0000-0000-0000-000000000000")))),
+        () -> assertThat(statementService.lowerBound(4), is(nullValue())));
+  }
+
+  @Test
+  public void generateWritesTheStatementsAndTheCheckpointOfTheChunk() {
+    doReturn(empty()).when(statementCheckpointRepository).findById(any());
+    doReturn(List.of(ACCOUNT_UUID)).when(accountRepository).findUuids(null, null, null, CHUNK_SIZE);
+    doAnswer(
+            invocation -> {
+              Consumer<Transaction> transactions = invocation.getArgument(3);
+              transactions.accept(aTransaction(IN_CASH, FROM.plusDays(2), -1_000L));
+              transactions.accept(aTransaction(PAYMENT, FROM.plusDays(1), 250L));
+              return null;
+            })
+        .when(transactionRepository)
+        .export(eq(ACCOUNT_UUID), eq(FROM), eq(TO), any());
+    doReturn(AccountDTO.builder().uuid(ACCOUNT_UUID).availableCreditLimit(99_250L).build())
+        .when(balanceSnapshotService)
+        .findAsOf(ACCOUNT_UUID, FROM.plusDays(2));
+
+    var written = statementService(1).generate(MONTH);
+
+    verify(statementRepository).insertAll(statementsArgumentCaptor.capture());
+    verify(statementCheckpointRepository).save(checkpointArgumentCaptor.capture());
+    var statement = statementsArgumentCaptor.getValue().get(0);
+    var checkpoint = checkpointArgumentCaptor.getValue();
+    assertAll(
+        () -> assertThat(written, is(equalTo(1L))),
+        () -> assertThat(statement.getMonth(), is(equalTo(MONTH.atDay(1)))),
+        () -> assertThat(statement.getOpeningAvailableCreditLimit(), is(equalTo(100_000L))),
+        () -> assertThat(statement.getClosingAvailableCreditLimit(), is(equalTo(99_250L))),
+        () -> assertThat(statement.getTransactions(), is(equalTo(2L))),
+        () -> assertThat(statement.getInCash(), is(equalTo(-1_000L))),
+        () -> assertThat(statement.getPayment(), is(equalTo(250L))),
+        () -> assertThat(checkpoint.getLastAccountUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(checkpoint.isCompleted(), is(true)));
+  }
+
+  @Test
+  public void generateResumesAfterTheCheckpoint() {
+    doReturn(of(aCheckpoint(false)))
+        .when(statementCheckpointRepository)
+        .findById(any(StatementCheckpoint.Key.class));
+    doReturn(List.of())
+        .when(accountRepository)
+        .findUuids(null, null, LAST_ACCOUNT_UUID, CHUNK_SIZE);
+
+    var written = statementService(1).generate(MONTH);
+
+    verify(statementCheckpointRepository).save(checkpointArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(written, is(equalTo(0L))),
+        () ->
+            assertThat(
+                checkpointArgumentCaptor.getValue().getLastAccountUuid(),
+                is(equalTo(LAST_ACCOUNT_UUID))),
+        () -> assertThat(checkpointArgumentCaptor.getValue().isCompleted(), is(true)));
+  }
+
+  @Test
+  public void generateSkipsTheCompletedPartitions() {
+    doReturn(of(aCheckpoint(true)))
+        .when(statementCheckpointRepository)
+        .findById(any(StatementCheckpoint.Key.class));
+
+    var written = statementService(1).generate(MONTH);
+
+    verify(accountRepository, never()).findUuids(any(), any(), any(), anyInt());
+    assertThat(written, is(equalTo(0L)));
+  }
+
+  @Test
+  public void generateWhenTheMonthIsPastTheRetention() {
+    doReturn(true).when(transactionPartitionService).isExpired(MONTH);
+
+    assertThrows(ExpiredMonthException.class, () -> statementService(1).generate(MONTH));
+
+    verify(statementCheckpointRepository, never()).findById(any());
+  }
+
+  private StatementService statementService(final int partitions) {
+    return new StatementService(
+        accountRepository,
+        transactionRepository,
+        statementRepository,
+        statementCheckpointRepository,
+        balanceSnapshotService,
+        withoutTransaction(),
+        of(transactionPartitionService),
+        partitions,
+        1,
+        CHUNK_SIZE);
+  }
+
+  private StatementCheckpoint aCheckpoint(final boolean completed) {
+    return StatementCheckpoint.builder()
+        .month(MONTH.atDay(1))
+        .partitionIndex(0)
+        .lastAccountUuid(LAST_ACCOUNT_UUID)
+        .completed(completed)
+        .build();
+  }
+
+  private Transaction aTransaction(
+      final OperationTypesEnumeration operationType,
+      final LocalDateTime eventDate,
+      final long amount) {
+    return Transaction.builder()
+        .uuid(UUID.randomUUID())
+        .account(Account.builder().uuid(ACCOUNT_UUID).build())
+        .eventDate(eventDate)
+        .operationType(operationType)
+        .amount(amount)
+        .build();
+  }
+}
@@ -0,0 +1,262 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionBatchResultDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.UnreadableTransactionException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.DatabaseLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionBatchServiceTest {
+
+  private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
+  private static final String INSUFFICIENT_LIMIT_CREDIT_MESSAGE =
+      "Insufficient available credit limit for this operation";
+  private static final String INVALID_OPERATION_TYPE_MESSAGE = "Operation type is invalid";
+  private static final String INVALID_AMOUNT_MESSAGE = "Amount is invalid";
+  private static final String UNREADABLE_TRANSACTION_MESSAGE = "Transaction could not be read";
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final long AVAILABLE_LIMIT_CREDIT = 10_000L;
+  private static final long AMOUNT = 1_000L;
+  private static final int CHUNK_SIZE = 2;
+  private static final int IN_CASH = 1;
+  private static final int PAYMENT = 4;
+
+  @Mock private AccountService accountService;
+  @Mock private TransactionRepository transactionRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransactionMetrics transactionMetrics = new TransactionMetrics(meterRegistry);
+
+  @Captor private ArgumentCaptor<List<Transaction>> transactionsArgumentCaptor;
+
+  private TransactionBatchService transactionBatchService;
+  private Account account;
+  private List<TransactionBatchResultDTO> results;
+
+  @BeforeEach
+  public void setup() {
+    var transactionService =
+        new TransactionService(
+            accountService,
+            transactionRepository,
+            new DatabaseLedgerEngine(accountService),
+            new TimeOrderedUuidGenerator(),
+            transactionMetrics,
+            empty(),
+            empty());
+    transactionBatchService =
+        new TransactionBatchService(
+            accountService,
+            transactionService,
+            transactionRepository,
+            withoutTransaction(),
+            transactionMetrics,
+            CHUNK_SIZE);
+    account =
+        Account.builder()
+            .documentNumber("98457968")
+            .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
+            .uuid(ACCOUNT_UUID)
+            .build();
+    results = new ArrayList<>();
+  }
+
+  @Test
+  public void transactionBatchServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(TransactionBatchService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void createPersistsEveryChunkInOneBatch() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true).when(accountService).replaceAvailableCreditLimit(any(Account.class), anyLong());
+
+    transactionBatchService.create(
+        List.of(
+                transactionDTO(IN_CASH, AMOUNT),
+                transactionDTO(IN_CASH, AMOUNT),
+                transactionDTO(PAYMENT, AMOUNT))
+            .iterator(),
+        results::add);
+
+    verify(accountService).replaceAvailableCreditLimit(account, 8_000L);
+    verify(accountService).replaceAvailableCreditLimit(account, 11_000L);
+    verify(transactionRepository, times(2)).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(transactionsArgumentCaptor.getAllValues().get(0).size(), is(equalTo(2))),
+        () -> assertThat(transactionsArgumentCaptor.getAllValues().get(1).size(), is(equalTo(1))),
+        () -> assertThat(results.size(), is(equalTo(3))),
+        () -> assertThat(results.get(0).getLine(), is(equalTo(1L))),
+        () -> assertThat(results.get(1).getLine(), is(equalTo(2L))),
+        () -> assertThat(results.get(2).getLine(), is(equalTo(3L))),
+        () -> assertThat(results.get(0).getTransaction().getAmount(), is(equalTo(-AMOUNT))),
+        () -> assertThat(results.get(2).getTransaction().getAmount(), is(equalTo(AMOUNT))),
+        () -> assertThat(results.get(2).getError(), is(nullValue())));
+  }
+
+  @Test
+  public void createRefusesOnlyTheTransactionsOverTheLimit() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true).when(accountService).replaceAvailableCreditLimit(any(Account.class), anyLong());
+
+    transactionBatchService.create(
+        List.of(transactionDTO(IN_CASH, 6_000L), transactionDTO(IN_CASH, 6_000L)).iterator(),
+        results::add);
+
+    verify(accountService).replaceAvailableCreditLimit(account, 4_000L);
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(transactionsArgumentCaptor.getValue().size(), is(equalTo(1))),
+        () -> assertThat(results.get(0).getTransaction(), is(notNullValue())),
+        () ->
+            assertThat(results.get(1).getError(), is(equalTo(INSUFFICIENT_LIMIT_CREDIT_MESSAGE))));
+  }
+
+  @Test
+  public void createReportsInvalidTransactions() {
+    var unknownAccountUuid = fromString("c4682098-9778-4dca-ba45-fe77eed53279");
+    doReturn(empty()).when(accountService).findOptional(unknownAccountUuid);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    transactionBatchService.create(
+        List.of(
+                TransactionDTO.builder().operationType(IN_CASH).amount(AMOUNT).build(),
+                TransactionDTO.builder()
+                    .accountUuid(unknownAccountUuid)
+                    .operationType(IN_CASH)
+                    .amount(AMOUNT)
+                    .build(),
+                transactionDTO(9, AMOUNT))
+            .iterator(),
+        results::add);
+
+    verify(accountService, never()).replaceAvailableCreditLimit(any(Account.class), anyLong());
+    verify(transactionRepository, never()).insertAll(anyList());
+    assertAll(
+        () -> assertThat(results.get(0).getError(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE))),
+        () -> assertThat(results.get(1).getError(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE))),
+        () -> assertThat(results.get(2).getError(), is(equalTo(INVALID_OPERATION_TYPE_MESSAGE))));
+  }
+
+  @Test
+  public void createRetriesWhenTheLimitChangedConcurrently() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(false, true)
+        .when(accountService)
+        .replaceAvailableCreditLimit(any(Account.class), anyLong());
+
+    transactionBatchService.create(
+        List.of(transactionDTO(IN_CASH, AMOUNT)).iterator(), results::add);
+
+    verify(accountService, times(2)).findOptional(ACCOUNT_UUID);
+    verify(transactionRepository).insertAll(anyList());
+    assertThat(results.get(0).getTransaction(), is(notNullValue()));
+  }
+
+  @Test
+  public void createFallsBackToConditionalUpdatesWhenTheLimitKeepsChanging() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(false).when(accountService).replaceAvailableCreditLimit(any(Account.class), anyLong());
+    doThrow(InsufficientAvailableCreditLimitException.INSTANCE)
+        .when(accountService)
+        .updateAvailableCreditLimit(-AVAILABLE_LIMIT_CREDIT, account);
+
+    transactionBatchService.create(
+        List.of(transactionDTO(IN_CASH, AMOUNT), transactionDTO(IN_CASH, AVAILABLE_LIMIT_CREDIT))
+            .iterator(),
+        results::add);
+
+    verify(accountService, times(CompareAndSetRetry.MAXIMUM_ATTEMPTS + 1))
+        .findOptional(ACCOUNT_UUID);
+    verify(accountService).updateAvailableCreditLimit(-AMOUNT, account);
+    verify(transactionRepository).insertAll(transactionsArgumentCaptor.capture());
+    assertAll(
+        () -> assertThat(transactionsArgumentCaptor.getValue().size(), is(equalTo(1))),
+        () -> assertThat(results.get(0).getTransaction(), is(notNullValue())),
+        () ->
+            assertThat(results.get(1).getError(), is(equalTo(INSUFFICIENT_LIMIT_CREDIT_MESSAGE))));
+  }
+
+  @Test
+  public void createRefusesTheUnreadableTransactionsAndReadsOn() {
+    var lines =
+        Arrays.asList(
+                transactionDTO(IN_CASH, AMOUNT),
+                null,
+                TransactionDTO.builder().accountUuid(ACCOUNT_UUID).operationType(IN_CASH).build())
+            .iterator();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(true).when(accountService).replaceAvailableCreditLimit(any(Account.class), anyLong());
+
+    transactionBatchService.create(
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return lines.hasNext();
+          }
+
+          @Override
+          public TransactionDTO next() {
+            return Optional.ofNullable(lines.next())
+                .orElseThrow(() -> UnreadableTransactionException.INSTANCE);
+          }
+        },
+        results::add);
+
+    verify(accountService).replaceAvailableCreditLimit(account, 9_000L);
+    verify(transactionRepository).insertAll(anyList());
+    assertAll(
+        () -> assertThat(results.size(), is(equalTo(3))),
+        () -> assertThat(results.get(0).getTransaction(), is(notNullValue())),
+        () -> assertThat(results.get(1).getError(), is(equalTo(UNREADABLE_TRANSACTION_MESSAGE))),
+        () -> assertThat(results.get(2).getError(), is(equalTo(INVALID_AMOUNT_MESSAGE))));
+  }
+
+  private TransactionDTO transactionDTO(final Integer operationType, final long amount) {
+    return TransactionDTO.builder()
+        .accountUuid(ACCOUNT_UUID)
+        .operationType(operationType)
+        .amount(amount)
+        .build();
+  }
+}
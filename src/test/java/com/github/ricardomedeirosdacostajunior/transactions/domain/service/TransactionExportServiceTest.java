@@ -0,0 +1,94 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.ReflectionHelper.getDeclaredMethod;
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
+import static java.time.LocalDateTime.now;
+import static java.util.Optional.empty;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionExportServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final LocalDateTime FROM = now().minusDays(1);
+  private static final LocalDateTime TO = now();
+
+  private TransactionExportService transactionExportService;
+
+  @Mock private TransactionRepository transactionRepository;
+
+  @BeforeEach
+  public void setup() {
+    transactionExportService =
+        new TransactionExportService(
+            new TransactionService(null, null, null, null, null, empty(), empty()),
+            transactionRepository);
+  }
+
+  @Test
+  public void transactionExportServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(TransactionExportService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void exportMethodMustRunInAReadOnlyTransaction() {
+    var transactionalAnnotation =
+        getDeclaredMethod(TransactionExportService.class, "export")
+            .getAnnotation(Transactional.class);
+
+    assertThat(transactionalAnnotation.readOnly(), is(true));
+  }
+
+  @Test
+  public void exportHandsOverEveryTransaction() {
+    var transaction =
+        Transaction.builder()
+            .uuid(fromString("35713a38-48d2-4b26-9dc1-751353d174ad"))
+            .account(Account.builder().uuid(ACCOUNT_UUID).build())
+            .operationType(PAYMENT)
+            .eventDate(TO)
+            .amount(1_000L)
+            .build();
+    doAnswer(
+            invocation -> {
+              Consumer<Transaction> transactions = invocation.getArgument(3);
+              transactions.accept(transaction);
+              transactions.accept(transaction);
+              return null;
+            })
+        .when(transactionRepository)
+        .export(eq(ACCOUNT_UUID), eq(FROM), eq(TO), any());
+    var transactionDTOs = new ArrayList<TransactionDTO>();
+
+    var exported = transactionExportService.export(ACCOUNT_UUID, FROM, TO, transactionDTOs::add);
+
+    assertAll(
+        () -> assertThat(exported, is(equalTo(2L))),
+        () -> assertThat(transactionDTOs.size(), is(equalTo(2))),
+        () -> assertThat(transactionDTOs.get(0).getAmount(), is(equalTo(1_000L))),
+        () -> assertThat(transactionDTOs.get(0).getAccountUuid(), is(equalTo(ACCOUNT_UUID))));
+  }
+}
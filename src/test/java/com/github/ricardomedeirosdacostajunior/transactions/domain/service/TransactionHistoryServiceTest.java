@@ -0,0 +1,137 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
+import static java.time.LocalDateTime.now;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.pagination.TransactionCursor;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.replica.PrimaryReadRouter;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.stereotype.Service;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionHistoryServiceTest {
+
+  private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
+  private static final int DEFAULT_PAGE_SIZE = 2;
+  private static final int MAXIMUM_PAGE_SIZE = 3;
+
+  private TransactionHistoryService transactionHistoryService;
+
+  @Mock private AccountService accountService;
+  @Mock private TransactionRepository transactionRepository;
+
+  private Account account;
+
+  @BeforeEach
+  public void setup() {
+    transactionHistoryService =
+        new TransactionHistoryService(
+            accountService,
+            new TransactionService(null, null, null, null, null, empty(), empty()),
+            transactionRepository,
+            new PrimaryReadRouter(),
+            DEFAULT_PAGE_SIZE,
+            MAXIMUM_PAGE_SIZE);
+    account = Account.builder().uuid(ACCOUNT_UUID).build();
+  }
+
+  @Test
+  public void transactionHistoryServiceClassMustBeAnnotatedWithServiceAnnotation() {
+    assertThat(TransactionHistoryService.class.isAnnotationPresent(Service.class), is(true));
+  }
+
+  @Test
+  public void findWhenAccountWasNotFound() {
+    doReturn(empty()).when(accountService).findOptional(ACCOUNT_UUID);
+
+    assertThrows(
+        InvalidAccountException.class,
+        () -> transactionHistoryService.find(ACCOUNT_UUID, null, null, null));
+    verify(transactionRepository, never()).findPage(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  public void findWhenThereIsANextPage() {
+    var transactions = transactions(DEFAULT_PAGE_SIZE + 1);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(transactions)
+        .when(transactionRepository)
+        .findPage(ACCOUNT_UUID, null, null, DEFAULT_PAGE_SIZE + 1);
+
+    var page = transactionHistoryService.find(ACCOUNT_UUID, null, null, null);
+
+    assertAll(
+        () -> assertThat(page.getTransactions().size(), is(equalTo(DEFAULT_PAGE_SIZE))),
+        () ->
+            assertThat(
+                page.getNextCursor(),
+                is(equalTo(TransactionCursor.after(transactions.get(1)).encode()))));
+  }
+
+  @Test
+  public void findWhenItIsTheLastPage() {
+    var cursor = TransactionCursor.after(transactions(1).get(0));
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(transactions(1))
+        .when(transactionRepository)
+        .findPage(ACCOUNT_UUID, IN_CASH, cursor, DEFAULT_PAGE_SIZE + 1);
+
+    var page = transactionHistoryService.find(ACCOUNT_UUID, 1, cursor.encode(), null);
+
+    assertAll(
+        () -> assertThat(page.getTransactions().size(), is(equalTo(1))),
+        () -> assertThat(page.getNextCursor(), is(nullValue())));
+  }
+
+  @Test
+  public void findLimitsThePageSize() {
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doReturn(List.of())
+        .when(transactionRepository)
+        .findPage(ACCOUNT_UUID, null, null, MAXIMUM_PAGE_SIZE + 1);
+
+    var page = transactionHistoryService.find(ACCOUNT_UUID, null, null, 1_000);
+
+    assertThat(page.getTransactions().size(), is(equalTo(0)));
+  }
+
+  private List<Transaction> transactions(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            index ->
+                Transaction.builder()
+                    .uuid(fromString("35713a38-48d2-4b26-9dc1-751353d174a" + index))
+                    .account(account)
+                    .operationType(IN_CASH)
+                    .eventDate(now().minusSeconds(index))
+                    .amount(-1_000L)
+                    .build())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,141 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionOperations.withoutTransaction;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.SnapshotWatermark;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.SnapshotWatermarkRepository;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionPartitionServiceTest {
+
+  private static final YearMonth THIS_MONTH = YearMonth.now();
+
+  @Mock private TransactionRepository transactionRepository;
+  @Mock private SnapshotWatermarkRepository snapshotWatermarkRepository;
+
+  @Test
+  public void createsTheMissingPartitionsAhead() {
+    doReturn(List.of(THIS_MONTH, THIS_MONTH.plusMonths(1)))
+        .when(transactionRepository)
+        .findPartitions();
+
+    transactionPartitionService(0).maintain();
+
+    verify(transactionRepository).createPartition(THIS_MONTH.plusMonths(2));
+    verify(transactionRepository).createPartition(THIS_MONTH.plusMonths(3));
+    verify(transactionRepository, times(2)).createPartition(any());
+    verify(transactionRepository, never()).detachPartition(any());
+  }
+
+  @Test
+  public void detachesThePartitionsPastTheRetentionAndFolded() {
+    doReturn(partitions(THIS_MONTH.minusMonths(14))).when(transactionRepository).findPartitions();
+    doReturn(of(watermark(SnapshotWatermark.BALANCE_SNAPSHOT_ID, THIS_MONTH.minusMonths(13))))
+        .when(snapshotWatermarkRepository)
+        .findById(SnapshotWatermark.BALANCE_SNAPSHOT_ID);
+    doReturn(of(watermark(SnapshotWatermark.DAILY_TOTAL_ID, THIS_MONTH)))
+        .when(snapshotWatermarkRepository)
+        .findById(SnapshotWatermark.DAILY_TOTAL_ID);
+
+    transactionPartitionService(12).maintain();
+
+    // The next one is past the retention too, but the balance snapshots are still in it.
+    verify(transactionRepository).detachPartition(THIS_MONTH.minusMonths(14));
+    verify(transactionRepository).detachPartition(any());
+    verify(transactionRepository, never()).createPartition(any());
+  }
+
+  @Test
+  public void keepsThePartitionsNotFoldedYet() {
+    doReturn(partitions(THIS_MONTH.minusMonths(14))).when(transactionRepository).findPartitions();
+    doReturn(empty()).when(snapshotWatermarkRepository).findById(any());
+
+    transactionPartitionService(12).maintain();
+
+    verify(transactionRepository, never()).detachPartition(any());
+  }
+
+  @Test
+  public void isExpiredPastTheRetention() {
+    var transactionPartitionService = transactionPartitionService(12);
+
+    assertAll(
+        () ->
+            assertThat(
+                transactionPartitionService.isExpired(THIS_MONTH.minusMonths(13)), is(true)),
+        () ->
+            assertThat(
+                transactionPartitionService.isExpired(THIS_MONTH.minusMonths(12)), is(false)),
+        () ->
+            assertThat(
+                transactionPartitionService(0).isExpired(THIS_MONTH.minusMonths(120)), is(false)));
+  }
+
+  @Test
+  public void maintainOnScheduleCountsTheFailedRuns() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var transactionPartitionService = transactionPartitionService(0);
+    transactionPartitionService.bindTo(meterRegistry);
+    doThrow(new IllegalStateException("database down"))
+        .when(transactionRepository)
+        .findPartitions();
+
+    transactionPartitionService.maintainOnSchedule();
+
+    assertThat(
+        meterRegistry.get("transactions.partition.failures").functionCounter().count(),
+        is(equalTo(1.0)));
+    verify(transactionRepository, never()).createPartition(any());
+  }
+
+  private TransactionPartitionService transactionPartitionService(final int retentionMonths) {
+    return new TransactionPartitionService(
+        transactionRepository,
+        snapshotWatermarkRepository,
+        withoutTransaction(),
+        3,
+        retentionMonths,
+        Duration.ofHours(1));
+  }
+
+  /** Every month from {@code oldest} to the last one made ahead. */
+  private static List<YearMonth> partitions(final YearMonth oldest) {
+    return oldest
+        .atDay(1)
+        .datesUntil(THIS_MONTH.plusMonths(4).atDay(1), Period.ofMonths(1))
+        .map(YearMonth::from)
+        .collect(toList());
+  }
+
+  private static SnapshotWatermark watermark(final int id, final YearMonth month) {
+    return SnapshotWatermark.builder()
+        .id(id)
+        .eventDate(month.atDay(1).atStartOfDay())
+        .transactionUuid(new UUID(0, 0))
+        .build();
+  }
+}
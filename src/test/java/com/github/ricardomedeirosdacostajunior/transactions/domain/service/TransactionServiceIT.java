@@ -0,0 +1,54 @@
+package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.AccountDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.AccountRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "transactions.ledger.mode=sharded")
+public class TransactionServiceIT {
+
+  private static final Integer IN_CASH = 1;
+  private static final Integer PAYMENT = 4;
+
+  @Autowired private AccountService accountService;
+  @Autowired private TransactionService transactionService;
+  @Autowired private AccountRepository accountRepository;
+
+  // The limit used to be replaced by itself minus the new limit instead of moved by the amount.
+  @Test
+  public void createMovesTheAvailableCreditLimitByTheAmount() {
+    var accountUuid =
+        accountService
+            .create(
+                AccountDTO.builder()
+                    .documentNumber("06388715907")
+                    .availableCreditLimit(100_000L)
+                    .build())
+            .getUuid();
+
+    transactionService.create(transaction(accountUuid, IN_CASH, 30_000L));
+    transactionService.create(transaction(accountUuid, IN_CASH, 20_000L));
+    transactionService.create(transaction(accountUuid, PAYMENT, 5_000L));
+
+    assertThat(
+        accountRepository.findById(accountUuid).orElseThrow().getAvailableCreditLimit(),
+        is(equalTo(55_000L)));
+  }
+
+  private static TransactionDTO transaction(
+      final UUID accountUuid, final Integer operationType, final long amount) {
+    return TransactionDTO.builder()
+        .accountUuid(accountUuid)
+        .operationType(operationType)
+        .amount(amount)
+        .build();
+  }
+}
@@ -2,8 +2,6 @@ package com.github.ricardomedeirosdacostajunior.transactions.domain.service;
 
 import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.IN_CASH;
 import static com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration.PAYMENT;
-import static java.math.BigDecimal.TEN;
-import static java.math.BigDecimal.valueOf;
 import static java.time.LocalDateTime.now;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -12,27 +10,41 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.github.ricardomedeirosdacostajunior.transactions.domain.dto.TransactionDTO;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Account;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.entity.Transaction;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.enumeration.OperationTypesEnumeration;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InsufficientAvailableCreditLimitException;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAccountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.exception.InvalidAmountException;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.groupcommit.TransactionGroupCommit;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.identifier.TimeOrderedUuidGenerator;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.journal.TransactionJournal;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.ledger.DatabaseLedgerEngine;
+import com.github.ricardomedeirosdacostajunior.transactions.domain.metrics.TransactionMetrics;
 import com.github.ricardomedeirosdacostajunior.transactions.domain.repository.TransactionRepository;
-import java.math.BigDecimal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.UUID;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.stereotype.Service;
@@ -41,18 +53,24 @@ import org.springframework.stereotype.Service;
 public class TransactionServiceTest {
 
   private static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account invalid or not found";
+  private static final String INSUFFICIENT_LIMIT_CREDIT_MESSAGE =
+      "Insufficient available credit limit for this operation";
+  private static final String INVALID_AMOUNT_MESSAGE = "Amount is invalid";
   private static final UUID ACCOUNT_UUID = fromString("8e9b62a7-fac8-47fc-a4b2-8406e23d85b0");
   private static final UUID TRANSACTION_UUID = fromString("35713a38-48d2-4b26-9dc1-751353d174ad");
-  private static final BigDecimal AMOUNT = TEN;
-  private static final BigDecimal AVAILABLE_LIMIT_CREDIT = valueOf(100);
-  private static final BigDecimal NEW_AVAILABLE_LIMIT_CREDIT_FOR_NEGATIVE = valueOf(90);
-  private static final BigDecimal NEW_AVAILABLE_LIMIT_CREDIT_FOR_POSITIVE = valueOf(110);
+  private static final long AMOUNT = 1_000L;
+  private static final long AVAILABLE_LIMIT_CREDIT = 10_000L;
   private static final LocalDateTime EVENT_DATE = now();
 
-  @InjectMocks private TransactionService transactionService;
+  private TransactionService transactionService;
 
   @Mock private AccountService accountService;
   @Mock private TransactionRepository transactionRepository;
+  @Mock private TransactionJournal transactionJournal;
+  @Mock private TransactionGroupCommit transactionGroupCommit;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransactionMetrics transactionMetrics = new TransactionMetrics(meterRegistry);
 
   @Captor private ArgumentCaptor<Transaction> transactionArgumentCaptor;
 
@@ -64,15 +82,24 @@ public class TransactionServiceTest {
 
   @BeforeEach
   public void setup() {
+    transactionService =
+        new TransactionService(
+            accountService,
+            transactionRepository,
+            new DatabaseLedgerEngine(accountService),
+            new TimeOrderedUuidGenerator(),
+            transactionMetrics,
+            empty(),
+            empty());
     account =
         Account.builder()
             .documentNumber("98457968")
             .availableCreditLimit(AVAILABLE_LIMIT_CREDIT)
             .uuid(ACCOUNT_UUID)
             .build();
-    expectedNegativeTransactionDTO = buildTransactionDTO(1, AMOUNT.negate());
+    expectedNegativeTransactionDTO = buildTransactionDTO(1, -AMOUNT);
     expectedPositiveTransactionDTO = buildTransactionDTO(4, AMOUNT);
-    negativeTransaction = buildTransaction(IN_CASH, AMOUNT.negate());
+    negativeTransaction = buildTransaction(IN_CASH, -AMOUNT);
     positiveTransaction = buildTransaction(PAYMENT, AMOUNT);
   }
 
@@ -108,19 +135,33 @@ public class TransactionServiceTest {
     assertThat(invalidAccountException.getMessage(), is(equalTo(ACCOUNT_NOT_FOUND_MESSAGE)));
   }
 
+  @Test
+  public void createWhenAmountIsNull() {
+    var transactionDTOWithoutAmount =
+        TransactionDTO.builder().accountUuid(ACCOUNT_UUID).operationType(1).build();
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+
+    var invalidAmountException =
+        assertThrows(
+            InvalidAmountException.class,
+            () -> transactionService.create(transactionDTOWithoutAmount));
+
+    assertThat(invalidAmountException.getMessage(), is(equalTo(INVALID_AMOUNT_MESSAGE)));
+    verify(accountService, never()).updateAvailableCreditLimit(anyLong(), any());
+  }
+
   @Test
   public void createWithNegativeValue() {
-    var negativeTransactionDTO = buildTransactionDTO(1, AMOUNT.negate());
+    var negativeTransactionDTO = buildTransactionDTO(1, -AMOUNT);
     mockForCreate(negativeTransaction);
 
     var actualTransactionDTO = transactionService.create(negativeTransactionDTO);
 
     verifyAndAssertForCreate(
         IN_CASH,
-        AMOUNT.negate(),
+        -AMOUNT,
         actualTransactionDTO,
-        expectedNegativeTransactionDTO,
-        NEW_AVAILABLE_LIMIT_CREDIT_FOR_NEGATIVE);
+        expectedNegativeTransactionDTO);
   }
 
   @Test
@@ -134,18 +175,123 @@ public class TransactionServiceTest {
         PAYMENT,
         AMOUNT,
         actualTransactionDTO,
-        expectedPositiveTransactionDTO,
-        NEW_AVAILABLE_LIMIT_CREDIT_FOR_POSITIVE);
+        expectedPositiveTransactionDTO);
+  }
+
+  @Test
+  public void createHandsTheInsertedTransactionToAlsoPersist() {
+    var persistedTransactions = new ArrayList<Transaction>();
+    mockForCreate(positiveTransaction);
+
+    transactionService.create(buildTransactionDTO(4, AMOUNT), persistedTransactions::add);
+
+    assertThat(persistedTransactions, contains(positiveTransaction));
+  }
+
+  @Test
+  public void createRecordsTheStagesAndTheOperationType() {
+    mockForCreate(negativeTransaction);
+
+    transactionService.create(buildTransactionDTO(1, -AMOUNT));
+
+    assertAll(
+        () -> assertThat(createdCount("IN_CASH"), is(equalTo(1.0))),
+        () -> assertThat(createdCount("PAYMENT"), is(equalTo(0.0))),
+        () ->
+            assertThat(
+                meterRegistry.get("transactions.create.stage").timers().size(), is(equalTo(3))),
+        () ->
+            meterRegistry
+                .get("transactions.create.stage")
+                .timers()
+                .forEach(timer -> assertThat(timer.count(), is(equalTo(1L)))));
+  }
+
+  @Test
+  public void createWhenAvailableCreditLimitIsInsufficient() {
+    var negativeTransactionDTO = buildTransactionDTO(1, -AMOUNT);
+    doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
+    doThrow(InsufficientAvailableCreditLimitException.INSTANCE)
+        .when(accountService)
+        .updateAvailableCreditLimit(-AMOUNT, account);
+
+    var insufficientAvailableCreditLimitException =
+        assertThrows(
+            InsufficientAvailableCreditLimitException.class,
+            () -> transactionService.create(negativeTransactionDTO));
+
+    verify(transactionRepository, never()).insert(any(Transaction.class));
+    assertThat(
+        insufficientAvailableCreditLimitException.getMessage(),
+        is(equalTo(INSUFFICIENT_LIMIT_CREDIT_MESSAGE)));
+  }
+
+  @Test
+  public void createInJournalModeAppendsToTheJournal() {
+    var journalTransactionService =
+        new TransactionService(
+            accountService,
+            transactionRepository,
+            new DatabaseLedgerEngine(accountService),
+            new TimeOrderedUuidGenerator(),
+            transactionMetrics,
+            of(transactionJournal),
+            empty());
+    doAnswer(
+            invocation -> {
+              Function<Account, Transaction> toTransaction = invocation.getArgument(1);
+              return toTransaction.apply(account);
+            })
+        .when(transactionJournal)
+        .append(eq(ACCOUNT_UUID), any(), any());
+
+    var actualTransactionDTO = journalTransactionService.create(buildTransactionDTO(1, AMOUNT));
+
+    verify(accountService, never()).updateAvailableCreditLimit(anyLong(), any());
+    verify(transactionRepository, never()).insert(any(Transaction.class));
+    assertAll(
+        () -> assertThat(actualTransactionDTO.getAccountUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(actualTransactionDTO.getAmount(), is(equalTo(-AMOUNT))),
+        () -> assertThat(createdCount("IN_CASH"), is(equalTo(1.0))));
+  }
+
+  @Test
+  public void createInGroupCommitModeSubmitsToTheGroupCommit() {
+    var groupCommitTransactionService =
+        new TransactionService(
+            accountService,
+            transactionRepository,
+            new DatabaseLedgerEngine(accountService),
+            new TimeOrderedUuidGenerator(),
+            transactionMetrics,
+            empty(),
+            of(transactionGroupCommit));
+    doAnswer(
+            invocation -> {
+              Function<Account, Transaction> toTransaction = invocation.getArgument(1);
+              return toTransaction.apply(account);
+            })
+        .when(transactionGroupCommit)
+        .submit(eq(ACCOUNT_UUID), any(), any());
+
+    var actualTransactionDTO =
+        groupCommitTransactionService.create(buildTransactionDTO(4, AMOUNT));
+
+    verify(accountService, never()).updateAvailableCreditLimit(anyLong(), any());
+    verify(transactionRepository, never()).insert(any(Transaction.class));
+    assertAll(
+        () -> assertThat(actualTransactionDTO.getAccountUuid(), is(equalTo(ACCOUNT_UUID))),
+        () -> assertThat(actualTransactionDTO.getAmount(), is(equalTo(AMOUNT))),
+        () -> assertThat(createdCount("PAYMENT"), is(equalTo(1.0))));
   }
 
   private void verifyAndAssertForCreate(
       final OperationTypesEnumeration operationTypesEnumeration,
-      final BigDecimal amount,
+      final long amount,
       final TransactionDTO actualTransactionDTO,
-      final TransactionDTO expectedTransactionDTO,
-      final BigDecimal expectedAvailableLimitCredit) {
-    verify(accountService).updateAvailableCreditLimit(expectedAvailableLimitCredit, account);
-    verify(transactionRepository).save(transactionArgumentCaptor.capture());
+      final TransactionDTO expectedTransactionDTO) {
+    verify(accountService).updateAvailableCreditLimit(amount, account);
+    verify(transactionRepository).insert(transactionArgumentCaptor.capture());
     var transactionCaptured = transactionArgumentCaptor.getValue();
     assertAll(
         () -> assertThat(transactionCaptured.getAccount(), is(equalTo(account))),
@@ -173,13 +319,21 @@ public class TransactionServiceTest {
         () -> assertThat(actualTransactionDTO.getEventDate(), is(notNullValue())));
   }
 
+  private double createdCount(final String operationType) {
+    return meterRegistry
+        .get("transactions.created")
+        .tag("operation_type", operationType)
+        .counter()
+        .count();
+  }
+
   private void mockForCreate(final Transaction transaction) {
     doReturn(of(account)).when(accountService).findOptional(ACCOUNT_UUID);
-    doReturn(transaction).when(transactionRepository).save(any(Transaction.class));
+    doReturn(transaction).when(transactionRepository).insert(any(Transaction.class));
   }
 
   private Transaction buildTransaction(
-      final OperationTypesEnumeration operationTypesEnumeration, final BigDecimal amount) {
+      final OperationTypesEnumeration operationTypesEnumeration, final long amount) {
     return Transaction.builder()
         .uuid(TRANSACTION_UUID)
         .operationType(operationTypesEnumeration)
@@ -189,7 +343,7 @@ public class TransactionServiceTest {
         .build();
   }
 
-  private TransactionDTO buildTransactionDTO(final Integer operationType, final BigDecimal amount) {
+  private TransactionDTO buildTransactionDTO(final Integer operationType, final long amount) {
     return TransactionDTO.builder()
         .uuid(TRANSACTION_UUID)
         .accountUuid(ACCOUNT_UUID)
@@ -1,2 +1,2 @@
 insert into account(uuid, document_number, available_credit_limit) values
-('f080b248-5989-4fc4-80db-07025922bdc9', '06388715907', 1000.00);
\ No newline at end of file
+('f080b248-5989-4fc4-80db-07025922bdc9', '06388715907', 100000);
\ No newline at end of file